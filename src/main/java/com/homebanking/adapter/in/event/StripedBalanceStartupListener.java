@@ -0,0 +1,46 @@
+package com.homebanking.adapter.in.event;
+
+import com.homebanking.port.in.account.EnableStripedBalanceInputPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Activa el saldo en stripes para las cuentas calientes configuradas
+ * (account.striped-balance.cbus). Un CBU inválido no frena a los demás.
+ */
+@Component
+@Slf4j
+public class StripedBalanceStartupListener {
+
+    private final EnableStripedBalanceInputPort enableStripedBalanceUseCase;
+    private final List<String> cbus;
+    private final int stripes;
+
+    public StripedBalanceStartupListener(
+            EnableStripedBalanceInputPort enableStripedBalanceUseCase,
+            @Value("${account.striped-balance.cbus:}") List<String> cbus,
+            @Value("${account.striped-balance.stripes:16}") int stripes) {
+        this.enableStripedBalanceUseCase = enableStripedBalanceUseCase;
+        this.cbus = cbus;
+        this.stripes = stripes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void enableConfiguredAccounts() {
+        for (String cbu : cbus) {
+            if (cbu.isBlank()) {
+                continue;
+            }
+            try {
+                enableStripedBalanceUseCase.enableStripedBalance(cbu.trim(), stripes);
+            } catch (RuntimeException ex) {
+                log.error("No se pudo activar saldo en stripes para cbu={}: {}", cbu, ex.getMessage());
+            }
+        }
+    }
+}
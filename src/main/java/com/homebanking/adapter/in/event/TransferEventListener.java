@@ -1,11 +1,12 @@
 package com.homebanking.adapter.in.event;
 
+import com.homebanking.application.service.transfer.ScheduledTransferService;
+import com.homebanking.application.service.transfer.TransferDispatchQueue;
 import com.homebanking.domain.event.TransferCreatedEvent;
-import com.homebanking.port.in.transfer.ProcessTransferInputPort;
+import com.homebanking.domain.event.TransferScheduledEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,14 +14,26 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class TransferEventListener {
 
-    private final ProcessTransferInputPort processTransferUseCase;
+    private final TransferDispatchQueue transferDispatchQueue;
+    private final ScheduledTransferService scheduledTransferService;
 
-    @Async
+    /**
+     * Solo encola (O(1)): el procesamiento ocurre en el worker pool de la cola.
+     */
     @EventListener
     public void handle(TransferCreatedEvent event) {
         log.info("Received transfer created event for transferId: {}", event.transferId());
-        processTransferUseCase.processTransfer(event.transferId());
+        transferDispatchQueue.enqueue(event.transferId(), event.originAccountId(), event.amount());
     }
-}
-
 
+    /**
+     * Agendada: entra al timing wheel (se procesa recién al vencer).
+     */
+    @EventListener
+    public void handle(TransferScheduledEvent event) {
+        log.info("Received transfer scheduled event for transferId: {}, executeAt: {}",
+                event.transferId(), event.executeAt());
+        scheduledTransferService.register(
+                event.transferId(), event.originAccountId(), event.amount(), event.executeAt());
+    }
+}
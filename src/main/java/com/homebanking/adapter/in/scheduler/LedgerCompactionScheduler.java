@@ -0,0 +1,39 @@
+package com.homebanking.adapter.in.scheduler;
+
+import com.homebanking.application.service.account.LedgerCompactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Adapter in: disparo periódico de la compactación del ledger de cuentas.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerCompactionScheduler {
+
+    private final LedgerCompactionService ledgerCompactionService;
+
+    @Value("${account.ledger.compaction.enabled:true}")
+    private boolean compactionEnabled;
+
+    @Scheduled(
+            fixedDelayString = "${account.ledger.compaction.fixed-delay:60000}",
+            initialDelayString = "${account.ledger.compaction.initial-delay:30000}"
+    )
+    public void compactLedger() {
+        if (!compactionEnabled) {
+            return;
+        }
+        try {
+            ledgerCompactionService.compact(LocalDateTime.now());
+        } catch (Exception ex) {
+            log.error("Error en compactación del ledger: {}", ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.homebanking.adapter.in.scheduler;
+
+import com.homebanking.application.service.event.OutboxRelayService;
+import com.homebanking.port.out.event.EventOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Adapter in: disparo del relay del outbox.
+
+ * - Despertar inmediato: tras el commit de cada append (sin esperar al polling)
+ * - Polling de respaldo: eventos de otros nodos o señales perdidas
+ * - Purga periódica de eventos ya entregados
+
+ * Las señales se coalescen: si un drain está en curso, se marca pendiente
+ * y el mismo hilo vuelve a drenar al terminar.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelayScheduler {
+
+    private final OutboxRelayService outboxRelayService;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean drainRequested = new AtomicBoolean(false);
+
+    @Value("${outbox.relay.enabled:true}")
+    private boolean relayEnabled;
+
+    @Value("${outbox.relay.retention-hours:24}")
+    private long retentionHours;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppended(EventOutbox.AppendedSignal signal) {
+        drain();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${outbox.relay.fixed-delay:1000}",
+            initialDelayString = "${outbox.relay.initial-delay:5000}"
+    )
+    public void poll() {
+        drain();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${outbox.relay.purge-delay:3600000}",
+            initialDelayString = "${outbox.relay.purge-delay:3600000}"
+    )
+    public void purge() {
+        if (!relayEnabled) {
+            return;
+        }
+        outboxRelayService.purgePublished(Duration.ofHours(retentionHours));
+    }
+
+    private void drain() {
+        if (!relayEnabled) {
+            return;
+        }
+        drainRequested.set(true);
+        while (drainRequested.get() && draining.compareAndSet(false, true)) {
+            try {
+                drainRequested.set(false);
+                int relayed;
+                do {
+                    relayed = outboxRelayService.relayBatch();
+                } while (relayed == outboxRelayService.getBatchSize());
+            } catch (Exception ex) {
+                log.error("Error drenando outbox: {}", ex.getMessage(), ex);
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+}
@@ -1,18 +1,36 @@
 package com.homebanking.adapter.in.scheduler;
 
+import com.homebanking.application.dto.transfer.response.TransferBatchStats;
+import com.homebanking.application.service.transfer.AdaptiveBatchController;
+import com.homebanking.application.service.transfer.ScheduledTransferService;
+import com.homebanking.application.service.transfer.StandingOrderGenerationService;
 import com.homebanking.application.service.transfer.TransferBatchProcessingService;
+import com.homebanking.application.service.transfer.TransferDispatchQueue;
+import com.homebanking.application.service.transfer.TransferLeaseReaperService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Adapter in: Scheduler for transfer processing.
 
  * Mantiene el scheduling fuera de la capa de aplicacion.
+ * Las PENDING llegan por evento a la cola de dispatch; este polling solo
+ * hace backfill de lo que se perdio.
+
+ * Agendadas: solo se recarga la ventana del timing wheel; la liberación
+ * la hace el hilo de ScheduledTransferService en cada tick.
+
+ * Órdenes permanentes: una corrida diaria por cron, en su propio hilo;
+ * los chunks y su paralelismo los maneja StandingOrderGenerationService.
+
+ * Reintentos: el tick es corto ("adaptive.tick") y AdaptiveBatchController
+ * decide si toca correr y con qué lote/concurrencia.
  */
 @Component
 @RequiredArgsConstructor
@@ -20,8 +38,16 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class TransferProcessingScheduler {
 
     private final TransferBatchProcessingService transferBatchProcessingService;
-    private final AtomicBoolean processingRunning = new AtomicBoolean(false);
+    private final TransferDispatchQueue transferDispatchQueue;
+    private final TransferLeaseReaperService transferLeaseReaperService;
+    private final AdaptiveBatchController adaptiveBatchController;
+    private final ScheduledTransferService scheduledTransferService;
+    private final StandingOrderGenerationService standingOrderGenerationService;
+    private final AtomicBoolean backfillRunning = new AtomicBoolean(false);
     private final AtomicBoolean retryRunning = new AtomicBoolean(false);
+    private final AtomicBoolean reaperRunning = new AtomicBoolean(false);
+    private final AtomicBoolean scheduledLoadRunning = new AtomicBoolean(false);
+    private final AtomicBoolean standingOrdersRunning = new AtomicBoolean(false);
 
     @Value("${transfer.processor.scheduler-enabled:true}")
     private boolean schedulerEnabled;
@@ -30,32 +56,89 @@ public class TransferProcessingScheduler {
             fixedDelayString = "${transfer.processor.fixed-delay:5000}",
             initialDelayString = "${transfer.processor.initial-delay:10000}"
     )
-    public void processTransfers() {
-        if (!schedulerEnabled || !processingRunning.compareAndSet(false, true)) {
+    public void backfillPendingTransfers() {
+        if (!schedulerEnabled || !backfillRunning.compareAndSet(false, true)) {
             return;
         }
         try {
-            transferBatchProcessingService.processTransfers();
+            transferDispatchQueue.backfill();
         } finally {
-            processingRunning.set(false);
+            backfillRunning.set(false);
         }
     }
 
     @Scheduled(
-            fixedDelayString = "${transfer.processor.retry.fixed-delay:30000}",
+            fixedDelayString = "${transfer.processor.adaptive.tick:1000}",
             initialDelayString = "${transfer.processor.retry.initial-delay:30000}"
     )
     public void retryFailedTransfers() {
-        if (!schedulerEnabled || !retryRunning.compareAndSet(false, true)) {
+        if (!schedulerEnabled || !adaptiveBatchController.isDue() || !retryRunning.compareAndSet(false, true)) {
             return;
         }
         try {
-            transferBatchProcessingService.retryFailedTransfers();
+            TransferBatchStats stats = transferBatchProcessingService.retryFailedTransfers(
+                    adaptiveBatchController.getBatchSize(),
+                    adaptiveBatchController.getConcurrency());
+            adaptiveBatchController.onBatchCompleted(stats);
         } finally {
             retryRunning.set(false);
         }
     }
-}
 
+    @Scheduled(
+            fixedDelayString = "${transfer.processor.reaper.fixed-delay:30000}",
+            initialDelayString = "${transfer.processor.reaper.initial-delay:60000}"
+    )
+    public void reclaimExpiredLeases() {
+        if (!schedulerEnabled || !reaperRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            transferLeaseReaperService.reclaimExpiredLeases();
+        } finally {
+            reaperRunning.set(false);
+        }
+    }
 
+    @Scheduled(
+            fixedDelayString = "${transfer.scheduled.load-interval:300000}",
+            initialDelayString = "${transfer.scheduled.load-interval:300000}"
+    )
+    public void loadScheduledWindow() {
+        if (!schedulerEnabled || !scheduledLoadRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduledTransferService.loadWindow();
+        } finally {
+            scheduledLoadRunning.set(false);
+        }
+    }
 
+    /**
+     * La corrida puede tardar minutos: va en su propio virtual thread y no
+     * ocupa uno de los hilos del pool de @Scheduled, que comparten los
+     * demás jobs.
+     */
+    @Scheduled(cron = "${transfer.standing-order.cron:0 0 1 * * *}")
+    public void generateStandingOrders() {
+        if (!schedulerEnabled || !standingOrdersRunning.compareAndSet(false, true)) {
+            return;
+        }
+        LocalDate runDate = LocalDate.now();
+        try {
+            Thread.ofVirtual().name("standing-order-run").start(() -> {
+                try {
+                    standingOrderGenerationService.generate(runDate);
+                } catch (RuntimeException ex) {
+                    log.error("Error en la corrida de órdenes permanentes {}", runDate, ex);
+                } finally {
+                    standingOrdersRunning.set(false);
+                }
+            });
+        } catch (RuntimeException ex) {
+            standingOrdersRunning.set(false);
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.homebanking.adapter.in.web.controller;
+
+import com.homebanking.adapter.in.web.annotation.Auditable;
+import com.homebanking.adapter.in.web.response.AccountBalanceAtResponse;
+import com.homebanking.application.dto.account.response.AccountBalanceAtOutputResponse;
+import com.homebanking.port.in.account.GetAccountBalanceAtInputPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/accounts")
+@RequiredArgsConstructor
+public class AccountController {
+
+    private final GetAccountBalanceAtInputPort getAccountBalanceAtUseCase;
+
+    @GetMapping("/{id}/balance")
+    @Auditable(action = "account.balance.get")
+    public ResponseEntity<AccountBalanceAtResponse> getBalanceEndpoint(
+            @PathVariable("id") UUID accountId,
+            @RequestParam(name = "at", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        AccountBalanceAtOutputResponse output = getAccountBalanceAtUseCase.getBalanceAt(
+                accountId,
+                at != null ? at : LocalDateTime.now(),
+                userDetails.getUsername());
+        return ResponseEntity.ok(new AccountBalanceAtResponse(
+                output.accountId(),
+                output.at(),
+                output.balance()
+        ));
+    }
+}
@@ -0,0 +1,51 @@
+package com.homebanking.adapter.in.web.controller;
+
+import com.homebanking.adapter.in.web.annotation.Auditable;
+import com.homebanking.adapter.in.web.mapper.TransferWebMapper;
+import com.homebanking.adapter.in.web.request.CreateStandingOrderRequest;
+import com.homebanking.adapter.in.web.response.StandingOrderResponse;
+import com.homebanking.application.dto.transfer.response.StandingOrderOutputResponse;
+import com.homebanking.port.in.transfer.CancelStandingOrderInputPort;
+import com.homebanking.port.in.transfer.CreateStandingOrderInputPort;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/standing-orders")
+@RequiredArgsConstructor
+@Validated
+public class StandingOrderController {
+
+    private final CreateStandingOrderInputPort createStandingOrderUseCase;
+    private final CancelStandingOrderInputPort cancelStandingOrderUseCase;
+    private final TransferWebMapper transferWebMapper;
+
+    @PostMapping
+    @Auditable(action = "standing-order.create")
+    public ResponseEntity<StandingOrderResponse> createStandingOrder(
+            @Valid @RequestBody CreateStandingOrderRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        StandingOrderOutputResponse output = createStandingOrderUseCase.createStandingOrder(
+                transferWebMapper.toStandingOrderInputRequest(request), userDetails.getUsername());
+        return ResponseEntity
+                .created(URI.create("/api/standing-orders/" + output.id()))
+                .body(transferWebMapper.toStandingOrderResponse(output));
+    }
+
+    @DeleteMapping("/{id}")
+    @Auditable(action = "standing-order.cancel")
+    public ResponseEntity<StandingOrderResponse> cancelStandingOrder(
+            @PathVariable("id") UUID standingOrderId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(transferWebMapper.toStandingOrderResponse(
+                cancelStandingOrderUseCase.cancelStandingOrder(standingOrderId, userDetails.getUsername())));
+    }
+}
@@ -0,0 +1,80 @@
+package com.homebanking.adapter.in.web.controller;
+
+import com.homebanking.adapter.in.web.annotation.Auditable;
+import com.homebanking.adapter.in.web.mapper.TransferBatchNdjsonReader;
+import com.homebanking.adapter.in.web.mapper.TransferWebMapper;
+import com.homebanking.adapter.in.web.request.CreateTransferBatchRequest;
+import com.homebanking.adapter.in.web.response.TransferBatchResponse;
+import com.homebanking.adapter.in.web.response.TransferBatchStatusResponse;
+import com.homebanking.application.dto.transfer.response.TransferBatchOutputResponse;
+import com.homebanking.port.in.transfer.CreateTransferBatchInputPort;
+import com.homebanking.port.in.transfer.GetTransferBatchInputPort;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/transfers/batch")
+@RequiredArgsConstructor
+@Validated
+public class TransferBatchController {
+
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final CreateTransferBatchInputPort createTransferBatchUseCase;
+    private final GetTransferBatchInputPort getTransferBatchUseCase;
+    private final TransferWebMapper transferWebMapper;
+    private final TransferBatchNdjsonReader ndjsonReader;
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Auditable(action = "transfer.batch.create")
+    public ResponseEntity<TransferBatchResponse> createTransferBatch(
+            @RequestHeader("Idempotency-Key") @NotBlank String idempotencyKey,
+            @Valid @RequestBody CreateTransferBatchRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return accepted(request.originAccountId(), request.items(), idempotencyKey, userDetails);
+    }
+
+    @PostMapping(consumes = APPLICATION_NDJSON)
+    @Auditable(action = "transfer.batch.create")
+    public ResponseEntity<TransferBatchResponse> createTransferBatchFromStream(
+            @RequestHeader("Idempotency-Key") @NotBlank String idempotencyKey,
+            @RequestParam("originAccountId") UUID originAccountId,
+            InputStream body,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return accepted(originAccountId, ndjsonReader.read(body), idempotencyKey, userDetails);
+    }
+
+    @GetMapping("/{id}")
+    @Auditable(action = "transfer.batch.get")
+    public ResponseEntity<TransferBatchStatusResponse> getTransferBatch(
+            @PathVariable("id") UUID batchId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(transferWebMapper.toBatchStatusResponse(
+                getTransferBatchUseCase.getTransferBatch(batchId, userDetails.getUsername())));
+    }
+
+    private ResponseEntity<TransferBatchResponse> accepted(
+            UUID originAccountId,
+            List<CreateTransferBatchRequest.Item> items,
+            String idempotencyKey,
+            UserDetails userDetails) {
+        TransferBatchOutputResponse output = createTransferBatchUseCase.createTransferBatch(
+                transferWebMapper.toBatchInputRequest(originAccountId, items, idempotencyKey, userDetails.getUsername()));
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/transfers/batch/" + output.batchId()))
+                .body(transferWebMapper.toBatchResponse(output));
+    }
+}
@@ -5,6 +5,8 @@ import com.homebanking.domain.exception.account.InsufficientFundsException;
 import com.homebanking.domain.exception.transfer.DestinationAccountNotFoundException;
 import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
 import com.homebanking.domain.exception.transfer.SameAccountTransferException;
+import com.homebanking.domain.exception.transfer.StandingOrderNotFoundException;
+import com.homebanking.domain.exception.transfer.TransferBatchNotFoundException;
 import com.homebanking.domain.exception.transfer.TransferNotFoundException;
 import com.homebanking.domain.exception.transfer.TransferProcessingException;
 import lombok.extern.slf4j.Slf4j;
@@ -80,6 +82,48 @@ public class TransferExceptionHandler {
                 .body(error);
     }
 
+    /**
+     * Manejar: TransferBatchNotFoundException
+
+     * Status: 404 Not Found
+     */
+    @ExceptionHandler(TransferBatchNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleTransferBatchNotFound(
+            TransferBatchNotFoundException ex) {
+
+        log.warn("Lote de transferencias no encontrado: {}", ex.getBatchId());
+
+        ErrorResponse error = ErrorResponse.of(
+                "TRANSFER_BATCH_NOT_FOUND",
+                "El lote de transferencias especificado no existe"
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(error);
+    }
+
+    /**
+     * Manejar: StandingOrderNotFoundException
+
+     * Status: 404 Not Found
+     */
+    @ExceptionHandler(StandingOrderNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleStandingOrderNotFound(
+            StandingOrderNotFoundException ex) {
+
+        log.warn("Orden permanente no encontrada: {}", ex.getStandingOrderId());
+
+        ErrorResponse error = ErrorResponse.of(
+                "STANDING_ORDER_NOT_FOUND",
+                "La orden permanente especificada no existe"
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(error);
+    }
+
     /**
      * Manejar: DestinationAccountNotFoundException
 
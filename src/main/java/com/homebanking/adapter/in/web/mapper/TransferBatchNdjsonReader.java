@@ -0,0 +1,53 @@
+package com.homebanking.adapter.in.web.mapper;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.homebanking.adapter.in.web.request.CreateTransferBatchRequest;
+import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mapper: TransferBatchNdjsonReader
+
+ * Lee un lote en formato NDJSON (application/x-ndjson): un ítem por línea.
+
+ * Características:
+ * ✓ Parseo en streaming: nunca arma el árbol JSON del body completo
+ * ✓ Corta al superar "transfer.batch.max-items" (lee uno de más para que
+ *   el caso de uso rechace el lote por tamaño sin consumir el resto)
+ * ✓ Líneas en blanco ignoradas
+ */
+@Component
+public class TransferBatchNdjsonReader {
+
+    private final ObjectReader itemReader;
+    private final int maxItems;
+
+    public TransferBatchNdjsonReader(@Value("${transfer.batch.max-items:10000}") int maxItems) {
+        this.itemReader = new ObjectMapper().readerFor(CreateTransferBatchRequest.Item.class);
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * @throws InvalidTransferDataException Si alguna línea no es un ítem JSON válido
+     */
+    public List<CreateTransferBatchRequest.Item> read(InputStream body) {
+        List<CreateTransferBatchRequest.Item> items = new ArrayList<>();
+        try (MappingIterator<CreateTransferBatchRequest.Item> lines = itemReader.readValues(body)) {
+            while (items.size() <= maxItems && lines.hasNextValue()) {
+                items.add(lines.nextValue());
+            }
+        } catch (IOException ex) {
+            throw new InvalidTransferDataException(DomainErrorMessages.TRANSFER_BATCH_MALFORMED);
+        }
+        return items;
+    }
+}
@@ -1,12 +1,25 @@
 
 package com.homebanking.adapter.in.web.mapper;
 
+import com.homebanking.adapter.in.web.request.CreateStandingOrderRequest;
+import com.homebanking.adapter.in.web.request.CreateTransferBatchRequest;
 import com.homebanking.adapter.in.web.request.CreateTransferRequest;
+import com.homebanking.adapter.in.web.response.StandingOrderResponse;
+import com.homebanking.adapter.in.web.response.TransferBatchResponse;
+import com.homebanking.adapter.in.web.response.TransferBatchStatusResponse;
 import com.homebanking.adapter.in.web.response.TransferResponse;
+import com.homebanking.application.dto.transfer.request.CreateStandingOrderInputRequest;
+import com.homebanking.application.dto.transfer.request.CreateTransferBatchInputRequest;
 import com.homebanking.application.dto.transfer.request.CreateTransferInputRequest;
+import com.homebanking.application.dto.transfer.response.StandingOrderOutputResponse;
+import com.homebanking.application.dto.transfer.response.TransferBatchOutputResponse;
+import com.homebanking.application.dto.transfer.response.TransferBatchProgressResponse;
 import com.homebanking.application.dto.transfer.response.TransferOutputResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Mapper: TransferWebMapper
 
@@ -40,7 +53,8 @@ public class TransferWebMapper {
                 request.targetCbu(),
                 request.amount(),
                 request.description(),
-                idempotencyKey
+                idempotencyKey,
+                request.executeAt()
         );
     }
 
@@ -56,9 +70,102 @@ public class TransferWebMapper {
                 output.amount(),
                 output.description(),
                 output.status(),
-                output.createdAt()
+                output.createdAt(),
+                output.executeAt()
+        );
+    }
+
+    /**
+     * Convierte ítems de lote (JSON o NDJSON) a CreateTransferBatchInputRequest.
+     */
+    public CreateTransferBatchInputRequest toBatchInputRequest(
+            UUID originAccountId,
+            List<CreateTransferBatchRequest.Item> items,
+            String idempotencyKey,
+            String requesterEmail) {
+        return new CreateTransferBatchInputRequest(
+                originAccountId,
+                items.stream()
+                        .map(item -> item == null ? null : new CreateTransferBatchInputRequest.Item(
+                                item.targetCbu(),
+                                item.amount(),
+                                item.description()))
+                        .toList(),
+                idempotencyKey,
+                requesterEmail
+        );
+    }
+
+    /**
+     * Convierte TransferBatchOutputResponse a TransferBatchResponse HTTP.
+     */
+    public TransferBatchResponse toBatchResponse(TransferBatchOutputResponse output) {
+        return new TransferBatchResponse(
+                output.batchId(),
+                output.idempotencyKey(),
+                output.originAccountId(),
+                output.totalItems(),
+                output.acceptedItems(),
+                output.rejectedItems(),
+                output.totalAmount(),
+                output.createdAt(),
+                output.items().stream()
+                        .map(item -> new TransferBatchResponse.ItemResult(
+                                item.index(),
+                                item.transferId(),
+                                item.outcome(),
+                                item.error()))
+                        .toList()
+        );
+    }
+
+    /**
+     * Convierte TransferBatchProgressResponse a TransferBatchStatusResponse HTTP.
+     */
+    public TransferBatchStatusResponse toBatchStatusResponse(TransferBatchProgressResponse output) {
+        return new TransferBatchStatusResponse(
+                output.batchId(),
+                output.originAccountId(),
+                output.totalItems(),
+                output.acceptedItems(),
+                output.rejectedItems(),
+                output.totalAmount(),
+                output.createdAt(),
+                output.transfersByStatus(),
+                output.finished()
         );
     }
-}
 
+    /**
+     * Convierte CreateStandingOrderRequest HTTP a CreateStandingOrderInputRequest.
+     */
+    public CreateStandingOrderInputRequest toStandingOrderInputRequest(CreateStandingOrderRequest request) {
+        return new CreateStandingOrderInputRequest(
+                request.originAccountId(),
+                request.targetCbu(),
+                request.amount(),
+                request.description(),
+                request.frequency(),
+                request.day(),
+                request.startDate()
+        );
+    }
 
+    /**
+     * Convierte StandingOrderOutputResponse a StandingOrderResponse HTTP.
+     */
+    public StandingOrderResponse toStandingOrderResponse(StandingOrderOutputResponse output) {
+        return new StandingOrderResponse(
+                output.id(),
+                output.originAccountId(),
+                output.targetCbu(),
+                output.amount(),
+                output.description(),
+                output.frequency(),
+                output.day(),
+                output.nextExecutionDate(),
+                output.active(),
+                output.createdAt()
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package com.homebanking.adapter.in.web.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Request: CreateStandingOrderRequest
+
+ * Mapea el body JSON del alta de una orden permanente.
+ * Validaciones:
+ * - Campos requeridos
+ * - Formato de CBU y recurrencia (se validan en dominio)
+ * - frequency: WEEKLY (day 1..7, lunes = 1) o MONTHLY (day 1..31;
+ *   en meses más cortos cae el último día)
+ * - startDate opcional: primera fecha desde la que vence (default hoy)
+
+ * Ejemplo JSON:
+ * {
+ *   "originAccountId": "a4b6b0c2-9b1a-4b0e-8b0a-4b0c2d9b1a4b",
+ *   "targetCbu": "1234567890123456789012",
+ *   "amount": 85000.00,
+ *   "description": "Alquiler",
+ *   "frequency": "MONTHLY",
+ *   "day": 1,
+ *   "startDate": "2024-02-01"
+ * }
+ */
+public record CreateStandingOrderRequest(
+        @NotNull UUID originAccountId,
+        @NotBlank String targetCbu,
+        @NotNull @DecimalMin("0.01") BigDecimal amount,
+        @NotBlank String description,
+        @NotBlank String frequency,
+        @NotNull Integer day,
+        LocalDate startDate
+) {
+}
@@ -0,0 +1,40 @@
+package com.homebanking.adapter.in.web.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request: CreateTransferBatchRequest
+
+ * Mapea el body JSON de un alta masiva de transferencias.
+ * Validaciones:
+ * - Cuenta origen e ítems requeridos
+ * - Cada ítem se valida en dominio: uno inválido vuelve como REJECTED
+ *   sin rechazar el lote
+ * - idempotencyKey via header "Idempotency-Key"
+
+ * Para lotes grandes, el mismo endpoint acepta application/x-ndjson
+ * (un Item por línea, originAccountId como query param).
+
+ * Ejemplo JSON:
+ * {
+ *   "originAccountId": "a4b6b0c2-9b1a-4b0e-8b0a-4b0c2d9b1a4b",
+ *   "items": [
+ *     { "targetCbu": "1234567890123456789012", "amount": 100.50, "description": "Sueldo" }
+ *   ]
+ * }
+ */
+public record CreateTransferBatchRequest(
+        @NotNull UUID originAccountId,
+        @NotEmpty List<Item> items
+) {
+
+    public record Item(
+            String targetCbu,
+            BigDecimal amount,
+            String description
+    ) {}
+}
@@ -1,11 +1,13 @@
 package com.homebanking.adapter.in.web.request;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -16,6 +18,7 @@ import java.util.UUID;
  * - Campos requeridos
  * - Formato de CBU (se valida en dominio)
  * - Monto positivo
+ * - executeAt opcional y futuro: agenda la transferencia (SCHEDULED)
  * - idempotencyKey via header "Idempotency-Key"
 
  * Ejemplo JSON:
@@ -23,14 +26,21 @@ import java.util.UUID;
  *   "originAccountId": "a4b6b0c2-9b1a-4b0e-8b0a-4b0c2d9b1a4b",
  *   "targetCbu": "1234567890123456789012",
  *   "amount": 100.50,
- *   "description": "Pago de servicios"
+ *   "description": "Pago de servicios",
+ *   "executeAt": "2024-02-01T09:00:00"
  * }
  */
 public record CreateTransferRequest(
         @NotNull UUID originAccountId,
         @NotBlank String targetCbu,
         @NotNull @DecimalMin("0.01") BigDecimal amount,
-        @NotBlank String description
-) {}
+        @NotBlank String description,
+        @Future LocalDateTime executeAt
+) {
+
+    public CreateTransferRequest(UUID originAccountId, String targetCbu, BigDecimal amount, String description) {
+        this(originAccountId, targetCbu, amount, description, null);
+    }
+}
 
 
@@ -0,0 +1,17 @@
+package com.homebanking.adapter.in.web.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AccountBalanceAtResponse(
+        @JsonProperty("accountId")
+        UUID accountId,
+
+        @JsonProperty("at")
+        LocalDateTime at,
+
+        @JsonProperty("balance")
+        BigDecimal balance
+) {}
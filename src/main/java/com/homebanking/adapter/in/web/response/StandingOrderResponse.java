@@ -0,0 +1,57 @@
+package com.homebanking.adapter.in.web.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Response: StandingOrderResponse
+
+ * Orden permanente y su próxima fecha de ejecución.
+
+ * Ejemplo JSON:
+ * {
+ *   "id": "6a1f0c9e-3b2d-4e5f-8a7b-1c2d3e4f5a6b",
+ *   "originAccountId": "a4b6b0c2-9b1a-4b0e-8b0a-4b0c2d9b1a4b",
+ *   "targetCbu": "1234567890123456789012",
+ *   "amount": 85000.00,
+ *   "description": "Alquiler",
+ *   "frequency": "MONTHLY",
+ *   "day": 1,
+ *   "nextExecutionDate": "2024-02-01",
+ *   "active": true,
+ *   "createdAt": "2024-01-21T15:30:00"
+ * }
+ */
+public record StandingOrderResponse(
+        @JsonProperty("id")
+        UUID id,
+
+        @JsonProperty("originAccountId")
+        UUID originAccountId,
+
+        @JsonProperty("targetCbu")
+        String targetCbu,
+
+        @JsonProperty("amount")
+        BigDecimal amount,
+
+        @JsonProperty("description")
+        String description,
+
+        @JsonProperty("frequency")
+        String frequency,
+
+        @JsonProperty("day")
+        int day,
+
+        @JsonProperty("nextExecutionDate")
+        String nextExecutionDate,
+
+        @JsonProperty("active")
+        boolean active,
+
+        @JsonProperty("createdAt")
+        String createdAt
+) {
+}
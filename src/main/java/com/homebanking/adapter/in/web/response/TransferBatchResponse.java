@@ -0,0 +1,73 @@
+package com.homebanking.adapter.in.web.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response: TransferBatchResponse
+
+ * Respuesta del alta masiva: id del lote y resultado por ítem.
+ * Las transferencias aceptadas quedan PENDING; el progreso se consulta
+ * en GET /api/transfers/batch/{id}.
+
+ * Ejemplo JSON:
+ * {
+ *   "batchId": "0f1e2d3c-4b5a-6978-8796-a5b4c3d2e1f0",
+ *   "idempotencyKey": "550e8400-e29b-41d4-a716-446655440000",
+ *   "originAccountId": "a4b6b0c2-9b1a-4b0e-8b0a-4b0c2d9b1a4b",
+ *   "totalItems": 2,
+ *   "acceptedItems": 1,
+ *   "rejectedItems": 1,
+ *   "totalAmount": 100.50,
+ *   "createdAt": "2024-01-21T15:30:00",
+ *   "items": [
+ *     { "index": 0, "transferId": "...", "outcome": "ACCEPTED", "error": null },
+ *     { "index": 1, "transferId": null, "outcome": "REJECTED", "error": "La cuenta especificada no existe" }
+ *   ]
+ * }
+ */
+public record TransferBatchResponse(
+        @JsonProperty("batchId")
+        UUID batchId,
+
+        @JsonProperty("idempotencyKey")
+        String idempotencyKey,
+
+        @JsonProperty("originAccountId")
+        UUID originAccountId,
+
+        @JsonProperty("totalItems")
+        int totalItems,
+
+        @JsonProperty("acceptedItems")
+        int acceptedItems,
+
+        @JsonProperty("rejectedItems")
+        int rejectedItems,
+
+        @JsonProperty("totalAmount")
+        BigDecimal totalAmount,
+
+        @JsonProperty("createdAt")
+        String createdAt,
+
+        @JsonProperty("items")
+        List<ItemResult> items
+) {
+
+    public record ItemResult(
+            @JsonProperty("index")
+            int index,
+
+            @JsonProperty("transferId")
+            UUID transferId,
+
+            @JsonProperty("outcome")
+            String outcome,
+
+            @JsonProperty("error")
+            String error
+    ) {}
+}
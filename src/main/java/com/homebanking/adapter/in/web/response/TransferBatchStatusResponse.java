@@ -0,0 +1,55 @@
+package com.homebanking.adapter.in.web.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Response: TransferBatchStatusResponse
+
+ * Progreso de un lote de transferencias.
+ * finished = ninguna transferencia del lote sigue PENDING o PROCESSING
+ * (las FAILED pueden volver a intentarse).
+
+ * Ejemplo JSON:
+ * {
+ *   "batchId": "0f1e2d3c-4b5a-6978-8796-a5b4c3d2e1f0",
+ *   "originAccountId": "a4b6b0c2-9b1a-4b0e-8b0a-4b0c2d9b1a4b",
+ *   "totalItems": 1000,
+ *   "acceptedItems": 998,
+ *   "rejectedItems": 2,
+ *   "totalAmount": 1500000.00,
+ *   "createdAt": "2024-01-21T15:30:00",
+ *   "transfersByStatus": { "PENDING": 10, "PROCESSING": 20, "COMPLETED": 968, "FAILED": 0, "REJECTED": 0 },
+ *   "finished": false
+ * }
+ */
+public record TransferBatchStatusResponse(
+        @JsonProperty("batchId")
+        UUID batchId,
+
+        @JsonProperty("originAccountId")
+        UUID originAccountId,
+
+        @JsonProperty("totalItems")
+        int totalItems,
+
+        @JsonProperty("acceptedItems")
+        int acceptedItems,
+
+        @JsonProperty("rejectedItems")
+        int rejectedItems,
+
+        @JsonProperty("totalAmount")
+        BigDecimal totalAmount,
+
+        @JsonProperty("createdAt")
+        String createdAt,
+
+        @JsonProperty("transfersByStatus")
+        Map<String, Long> transfersByStatus,
+
+        @JsonProperty("finished")
+        boolean finished
+) {}
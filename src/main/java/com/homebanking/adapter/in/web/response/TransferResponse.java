@@ -20,7 +20,8 @@ import java.util.UUID;
  *   "amount": 100.50,
  *   "description": "Pago de servicios",
  *   "status": "PENDING",
- *   "createdAt": "2024-01-21T15:30:00"
+ *   "createdAt": "2024-01-21T15:30:00",
+ *   "executeAt": null
  * }
  */
 public record TransferResponse(
@@ -46,6 +47,9 @@ public record TransferResponse(
         String status,
 
         @JsonProperty("createdAt")
-        String createdAt
+        String createdAt,
+
+        @JsonProperty("executeAt")
+        String executeAt
 ) {}
 
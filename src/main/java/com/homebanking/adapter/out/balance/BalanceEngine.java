@@ -0,0 +1,495 @@
+package com.homebanking.adapter.out.balance;
+
+import com.homebanking.domain.enums.LedgerDirection;
+import com.homebanking.domain.valueobject.account.LedgerEntry;
+import com.homebanking.port.out.account.BalanceProjection;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Motor de saldos en memoria (account.balance-engine.enabled).
+
+ * Estado:
+ * - BalanceTable: saldos en centavos en arrays primitivos; validar y
+ *   reservar un débito es una búsqueda en el hash, sin ir a la base
+ * - BalanceJournal: cada movimiento se escribe al journal mapeado y se
+ *   espera el group fsync antes del commit de la base
+ * - snapshots periódicos; el journal anterior al snapshot se poda
+
+ * La base es una proyección asíncrona: un hilo de mantenimiento aplica por
+ * lotes los deltas a accounts y los movimientos al ledger (BalanceProjection).
+
+ * Atomicidad con la transacción de base (ver BalanceEngineAccountRepository):
+ * prepare (journal durable) → marca recordCommit + commit de la base →
+ * COMMIT en el journal. Si el proceso cae entre el commit de la base y el
+ * COMMIT, al arrancar la transacción queda en duda y decide la marca.
+
+ * Arranque (start): último snapshot + replay del journal + resolución de
+ * transacciones en duda + reencolado de lo confirmado y no proyectado.
+ * Las cuentas que no están en memoria se registran al leerlas de la base
+ * (register): mientras no pasaron por el motor, la fila es la verdad.
+
+ * Una sola instancia escribe: con el motor activo el saldo vigente está en
+ * memoria de este proceso. Si se desactiva, hay que borrar el directorio
+ * antes de volver a activarlo (la base pudo cambiar sin el motor).
+ */
+@Slf4j
+public class BalanceEngine {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final BalanceEngineSettings settings;
+    private final BalanceProjection projection;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<Long, EngineTransaction> prepared = new HashMap<>();
+    private final ArrayDeque<CommittedTransaction> unprojected = new ArrayDeque<>();
+    private BalanceTable table;
+    private BalanceJournal journal;
+    private long lastTxId;
+    private long snapshotSeq;
+
+    private volatile boolean running;
+    private Thread maintenance;
+
+    public BalanceEngine(BalanceEngineSettings settings, BalanceProjection projection) {
+        this.settings = settings;
+        this.projection = projection;
+    }
+
+    public void start() {
+        long started = System.nanoTime();
+        recover();
+        running = true;
+        maintenance = Thread.ofVirtual().name("balance-engine-maintenance").start(this::maintenanceLoop);
+        log.info("Motor de saldos listo: {} cuentas, recuperado en {} ms",
+                accounts(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Proyecta lo pendiente y deja un snapshot: el próximo arranque no
+     * necesita replay.
+     */
+    public void stop() {
+        running = false;
+        if (maintenance != null) {
+            maintenance.interrupt();
+            try {
+                maintenance.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (journal == null) {
+            // start no llegó a recuperar: no hay nada que proyectar ni cerrar
+            return;
+        }
+        try {
+            while (project() > 0) {
+                // drena la cola de proyección
+            }
+            snapshot();
+        } catch (RuntimeException ex) {
+            log.warn("Motor de saldos detenido con proyección o snapshot pendiente: {}", ex.getMessage());
+        }
+        journal.close();
+    }
+
+    /**
+     * Disponible = saldo confirmado - débitos reservados por transacciones abiertas.
+     */
+    public Optional<BigDecimal> available(UUID accountId) {
+        lock.lock();
+        try {
+            int slot = table.slot(accountId.getMostSignificantBits(), accountId.getLeastSignificantBits());
+            return slot < 0 ? Optional.empty() : Optional.of(toAmount(table.available(slot)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Alta de una cuenta con el saldo leído de la base. Si ya estaba gana
+     * el motor (puede tener movimientos todavía no proyectados).
+     *
+     * @return disponible de la cuenta en el motor
+     */
+    public BigDecimal register(UUID accountId, BigDecimal balance) {
+        long msb = accountId.getMostSignificantBits();
+        long lsb = accountId.getLeastSignificantBits();
+        lock.lock();
+        try {
+            int slot = table.slot(msb, lsb);
+            if (slot >= 0) {
+                return toAmount(table.available(slot));
+            }
+            long cents = toCents(balance);
+            // Sin esperar fsync: un movimiento posterior de la cuenta va
+            // después en el journal y su prepare lo cubre
+            journal.append(JournalRecord.open(0, msb, lsb, cents));
+            table.insert(msb, lsb, cents);
+            return balance;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public EngineTransaction begin() {
+        lock.lock();
+        try {
+            return new EngineTransaction(this, ++lastTxId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int accounts() {
+        lock.lock();
+        try {
+            return table.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean stage(EngineTransaction tx, UUID accountId, List<LedgerEntry> entries) {
+        long msb = accountId.getMostSignificantBits();
+        long lsb = accountId.getLeastSignificantBits();
+        List<JournalRecord> mutations = new ArrayList<>(entries.size());
+        long net = 0;
+        for (LedgerEntry entry : entries) {
+            long cents = toCents(entry.signedAmount());
+            net += cents;
+            mutations.add(new JournalRecord(0, JournalRecord.MUTATION, tx.id(), msb, lsb, cents,
+                    ChronoUnit.MICROS.between(EPOCH, entry.occurredAt()), entry.reference()));
+        }
+
+        lock.lock();
+        try {
+            if (tx.state != EngineTransaction.State.OPEN) {
+                throw new IllegalStateException("Transacción del motor " + tx.id() + " en estado " + tx.state);
+            }
+            int slot = table.slot(msb, lsb);
+            if (slot < 0) {
+                throw new IllegalStateException("Cuenta " + accountId + " no registrada en el motor de saldos");
+            }
+            if (net < 0) {
+                if (table.available(slot) + net < 0) {
+                    return false;
+                }
+                table.reserve(slot, -net);
+                tx.reservations.merge(accountId, -net, Long::sum);
+            }
+            tx.mutations.addAll(mutations);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void prepare(EngineTransaction tx) {
+        long lastSeq;
+        lock.lock();
+        try {
+            if (tx.state != EngineTransaction.State.OPEN) {
+                throw new IllegalStateException("Transacción del motor " + tx.id() + " en estado " + tx.state);
+            }
+            if (tx.mutations.isEmpty()) {
+                tx.state = EngineTransaction.State.PREPARED;
+                return;
+            }
+            lastSeq = 0;
+            for (JournalRecord mutation : tx.mutations) {
+                lastSeq = journal.append(mutation);
+                if (tx.firstSeq == 0) {
+                    tx.firstSeq = lastSeq;
+                    prepared.put(tx.id(), tx);
+                }
+            }
+            tx.state = EngineTransaction.State.PREPARED;
+        } finally {
+            lock.unlock();
+        }
+        journal.awaitDurable(lastSeq);
+    }
+
+    void commit(EngineTransaction tx) {
+        if (tx.state == EngineTransaction.State.OPEN) {
+            prepare(tx);
+        }
+        lock.lock();
+        try {
+            if (tx.state != EngineTransaction.State.PREPARED) {
+                throw new IllegalStateException("Transacción del motor " + tx.id() + " en estado " + tx.state);
+            }
+            tx.state = EngineTransaction.State.COMMITTED;
+            if (tx.mutations.isEmpty()) {
+                return;
+            }
+            long commitSeq = journal.append(JournalRecord.outcome(0, JournalRecord.COMMIT, tx.id()));
+            apply(tx.mutations);
+            releaseReservations(tx);
+            prepared.remove(tx.id());
+            unprojected.add(new CommittedTransaction(commitSeq, tx.id(), tx.firstSeq, tx.mutations));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void abort(EngineTransaction tx) {
+        lock.lock();
+        try {
+            if (tx.state == EngineTransaction.State.ABORTED) {
+                return;
+            }
+            if (tx.state == EngineTransaction.State.COMMITTED) {
+                throw new IllegalStateException("Transacción del motor " + tx.id() + " ya confirmada");
+            }
+            tx.state = EngineTransaction.State.ABORTED;
+            releaseReservations(tx);
+            if (tx.firstSeq != 0) {
+                journal.append(JournalRecord.outcome(0, JournalRecord.ABORT, tx.id()));
+                prepared.remove(tx.id());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Proyecta a la base el próximo lote de transacciones confirmadas.
+     * Solo lo llama el hilo de mantenimiento (o stop, ya sin él).
+     *
+     * @return transacciones proyectadas
+     */
+    int project() {
+        List<CommittedTransaction> chunk = new ArrayList<>();
+        lock.lock();
+        try {
+            for (CommittedTransaction committed : unprojected) {
+                if (chunk.size() == settings.projectionBatchSize()) {
+                    break;
+                }
+                chunk.add(committed);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, BigDecimal> deltas = new LinkedHashMap<>();
+        List<BalanceProjection.LedgerMutation> ledger = new ArrayList<>();
+        List<Long> transactionIds = new ArrayList<>(chunk.size());
+        for (CommittedTransaction committed : chunk) {
+            transactionIds.add(committed.txId());
+            for (JournalRecord mutation : committed.mutations()) {
+                UUID accountId = new UUID(mutation.msb(), mutation.lsb());
+                BigDecimal amount = toAmount(mutation.cents());
+                deltas.merge(accountId, amount, BigDecimal::add);
+                ledger.add(new BalanceProjection.LedgerMutation(accountId, new LedgerEntry(
+                        amount.signum() < 0 ? LedgerDirection.DEBIT : LedgerDirection.CREDIT,
+                        amount.abs(),
+                        mutation.reference(),
+                        EPOCH.plus(mutation.occurredAtMicros(), ChronoUnit.MICROS))));
+            }
+        }
+        projection.project(new BalanceProjection.Batch(
+                deltas, ledger, transactionIds, chunk.getLast().commitSeq()));
+
+        lock.lock();
+        try {
+            for (int i = 0; i < chunk.size(); i++) {
+                unprojected.pollFirst();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return chunk.size();
+    }
+
+    /**
+     * Escribe un snapshot de los saldos confirmados y poda el journal.
+     * Se conservan los segmentos que todavía necesita una transacción
+     * preparada o una confirmada sin proyectar.
+     */
+    public void snapshot() {
+        long seq;
+        long txId;
+        long[][] balances;
+        lock.lock();
+        try {
+            journal.roll();
+            seq = journal.lastSeq();
+            txId = lastTxId;
+            balances = table.copyBalances();
+        } finally {
+            lock.unlock();
+        }
+        BalanceSnapshots.write(settings.directory(), seq, txId, balances);
+
+        long cutoff;
+        lock.lock();
+        try {
+            snapshotSeq = seq;
+            cutoff = seq + 1;
+            for (EngineTransaction tx : prepared.values()) {
+                cutoff = Math.min(cutoff, tx.firstSeq);
+            }
+            for (CommittedTransaction committed : unprojected) {
+                cutoff = Math.min(cutoff, committed.firstSeq());
+            }
+        } finally {
+            lock.unlock();
+        }
+        journal.deleteSegmentsBefore(cutoff);
+        BalanceSnapshots.deleteOlderThan(settings.directory(), seq);
+        log.debug("Snapshot de saldos en seq {}: {} cuentas", seq, balances[0].length);
+    }
+
+    private void recover() {
+        Optional<BalanceSnapshots.Snapshot> snapshot = BalanceSnapshots.loadLatest(settings.directory());
+        table = new BalanceTable(Math.max(settings.expectedAccounts(),
+                snapshot.map(s -> s.balances()[0].length).orElse(0)));
+        snapshot.ifPresent(s -> {
+            long[][] balances = s.balances();
+            for (int i = 0; i < balances[0].length; i++) {
+                table.insert(balances[0][i], balances[1][i], balances[2][i]);
+            }
+            snapshotSeq = s.seq();
+            lastTxId = s.lastTxId();
+        });
+        long projectedSeq = projection.lastProjectedSeq();
+
+        Map<Long, List<JournalRecord>> pending = new LinkedHashMap<>();
+        long lastSeq = BalanceJournal.replay(settings.directory(), record -> {
+            switch (record.type()) {
+                case JournalRecord.OPEN -> {
+                    if (record.seq() > snapshotSeq && table.slot(record.msb(), record.lsb()) < 0) {
+                        table.insert(record.msb(), record.lsb(), record.cents());
+                    }
+                }
+                case JournalRecord.MUTATION -> {
+                    lastTxId = Math.max(lastTxId, record.txId());
+                    pending.computeIfAbsent(record.txId(), id -> new ArrayList<>()).add(record);
+                }
+                case JournalRecord.COMMIT -> {
+                    List<JournalRecord> mutations = pending.remove(record.txId());
+                    if (mutations != null) {
+                        if (record.seq() > snapshotSeq) {
+                            apply(mutations);
+                        }
+                        if (record.seq() > projectedSeq) {
+                            unprojected.add(new CommittedTransaction(
+                                    record.seq(), record.txId(), mutations.getFirst().seq(), mutations));
+                        }
+                    }
+                }
+                case JournalRecord.ABORT -> pending.remove(record.txId());
+                default -> throw new IllegalStateException("Registro de journal desconocido: " + record.type());
+            }
+        });
+        lastSeq = Math.max(lastSeq, snapshotSeq);
+        if (projectedSeq > lastSeq) {
+            throw new IllegalStateException("La base proyectó hasta seq " + projectedSeq
+                    + " pero el journal termina en " + lastSeq + ": directorio del motor perdido o ajeno");
+        }
+
+        journal = BalanceJournal.open(settings.directory(), settings.segmentSize(), lastSeq + 1);
+        resolveInDoubt(pending);
+    }
+
+    /**
+     * Transacciones preparadas sin COMMIT ni ABORT: el proceso cayó entre
+     * el prepare y el desenlace. Si la base confirmó (marca presente) se
+     * confirman; si no, se descartan.
+     */
+    private void resolveInDoubt(Map<Long, List<JournalRecord>> pending) {
+        long lastSeq = journal.lastSeq();
+        int committed = 0;
+        for (Map.Entry<Long, List<JournalRecord>> inDoubt : pending.entrySet()) {
+            long txId = inDoubt.getKey();
+            List<JournalRecord> mutations = inDoubt.getValue();
+            if (projection.isCommitted(txId)) {
+                lastSeq = journal.append(JournalRecord.outcome(0, JournalRecord.COMMIT, txId));
+                apply(mutations);
+                unprojected.add(new CommittedTransaction(lastSeq, txId, mutations.getFirst().seq(), mutations));
+                committed++;
+            } else {
+                lastSeq = journal.append(JournalRecord.outcome(0, JournalRecord.ABORT, txId));
+            }
+        }
+        journal.awaitDurable(lastSeq);
+        if (!pending.isEmpty()) {
+            log.warn("Motor de saldos: {} transacciones en duda, {} confirmadas por la base",
+                    pending.size(), committed);
+        }
+    }
+
+    private void apply(List<JournalRecord> mutations) {
+        for (JournalRecord mutation : mutations) {
+            int slot = table.slot(mutation.msb(), mutation.lsb());
+            if (slot < 0) {
+                throw new IllegalStateException("Movimiento de una cuenta no registrada: "
+                        + new UUID(mutation.msb(), mutation.lsb()));
+            }
+            table.add(slot, mutation.cents());
+        }
+    }
+
+    private void releaseReservations(EngineTransaction tx) {
+        tx.reservations.forEach((accountId, cents) -> table.release(
+                table.slot(accountId.getMostSignificantBits(), accountId.getLeastSignificantBits()), cents));
+        tx.reservations.clear();
+    }
+
+    private void maintenanceLoop() {
+        long nextSnapshot = System.nanoTime() + settings.snapshotInterval().toNanos();
+        while (running) {
+            try {
+                Thread.sleep(settings.projectionInterval());
+            } catch (InterruptedException ex) {
+                return;
+            }
+            try {
+                while (project() == settings.projectionBatchSize()) {
+                    // lote lleno: hay más pendiente
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Proyección de saldos fallida, se reintenta: {}", ex.getMessage());
+            }
+            if (System.nanoTime() >= nextSnapshot) {
+                try {
+                    snapshot();
+                } catch (RuntimeException ex) {
+                    log.error("Snapshot de saldos fallido: {}", ex.getMessage(), ex);
+                }
+                nextSnapshot = System.nanoTime() + settings.snapshotInterval().toNanos();
+            }
+        }
+    }
+
+    static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private record CommittedTransaction(long commitSeq, long txId, long firstSeq, List<JournalRecord> mutations) {
+    }
+}
@@ -0,0 +1,237 @@
+package com.homebanking.adapter.out.balance;
+
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.account.BalanceProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Adapter: BalanceEngineAccountRepository
+
+ * AccountRepository con el saldo en BalanceEngine. Envuelve al adapter de
+ * persistencia: los datos de la cuenta se siguen leyendo de la base, el
+ * saldo sale del motor.
+
+ * Lecturas:
+ * - el saldo devuelto es el disponible del motor; una cuenta que el motor
+ *   todavía no tiene se registra con el saldo de la fila
+ * - las cuentas se devuelven sin stripes: con el motor los créditos no
+ *   compiten por una fila
+
+ * Escrituras (save, saveDebit, saveCredit, saveAll):
+ * - los movimientos pendientes de la cuenta se reservan en el motor, sin
+ *   tocar la fila; los saldos y el ledger llegan a la base por proyección
+ * - dentro de una transacción de base, una transacción del motor la
+ *   acompaña: antes del commit se graba la marca y el journal (durable),
+ *   después del commit se confirma; si la base hace rollback se aborta
+ * - fuera de una transacción se confirma en el momento
+ * - las cuentas nuevas se insertan en la base como siempre y se registran
+ *   en el motor después del commit
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceEngineAccountRepository implements AccountRepository {
+
+    private final AccountRepository delegate;
+    private final BalanceEngine engine;
+    private final BalanceProjection projection;
+
+    @Override
+    public Account save(Account account) {
+        if (account.getId() == null) {
+            Account saved = delegate.save(account);
+            afterCommit(() -> engine.register(saved.getId(), saved.getBalance().value()));
+            return saved;
+        }
+        if (!stage(account)) {
+            // Mismo contrato que el UPDATE versionado: el saldo cambió desde que se leyó
+            throw new ObjectOptimisticLockingFailureException(Account.class, account.getId());
+        }
+        return account;
+    }
+
+    @Override
+    public void saveCredit(Account account, BigDecimal amount, UUID creditKey) {
+        stage(account);
+    }
+
+    @Override
+    public boolean saveDebit(Account account, BigDecimal amount) {
+        return stage(account);
+    }
+
+    @Override
+    public List<Account> saveAll(List<Account> accounts) {
+        return accounts.stream().map(this::save).toList();
+    }
+
+    @Override
+    public Optional<Account> findById(UUID id) {
+        return delegate.findById(id).map(this::overlay);
+    }
+
+    @Override
+    public List<Account> findAllById(Collection<UUID> ids) {
+        return overlay(delegate.findAllById(ids));
+    }
+
+    @Override
+    public List<Account> findByUserId(UUID userId) {
+        return overlay(delegate.findByUserId(userId));
+    }
+
+    @Override
+    public Optional<Account> findByCbu(Cbu cbu) {
+        return delegate.findByCbu(cbu).map(this::overlay);
+    }
+
+    @Override
+    public List<Account> findAllByCbu(Collection<Cbu> cbus) {
+        return overlay(delegate.findAllByCbu(cbus));
+    }
+
+    @Override
+    public boolean existsByCbu(Cbu cbu) {
+        return delegate.existsByCbu(cbu);
+    }
+
+    @Override
+    public List<Account> lockForTransfer(UUID originAccountId, Cbu targetCbu) {
+        return overlay(delegate.lockForTransfer(originAccountId, targetCbu));
+    }
+
+    @Override
+    public List<Account> lockForTransfers(Collection<UUID> originAccountIds, Collection<Cbu> targetCbus) {
+        return overlay(delegate.lockForTransfers(originAccountIds, targetCbus));
+    }
+
+    @Override
+    public Set<Cbu> findExistingCbus(Collection<Cbu> cbus) {
+        return delegate.findExistingCbus(cbus);
+    }
+
+    /**
+     * Reserva los movimientos pendientes de la cuenta en la transacción del
+     * motor; si no alcanza el disponible no se reserva nada.
+     */
+    private boolean stage(Account account) {
+        if (!account.hasLedgerEntries()) {
+            return true;
+        }
+        ensureRegistered(account.getId());
+        EngineTransaction tx = currentTransaction();
+        if (!tx.stage(account.getId(), account.getLedgerEntries())) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                tx.abort();
+            }
+            return false;
+        }
+        account.clearLedgerEntries();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tx.commit();
+        }
+        return true;
+    }
+
+    /**
+     * Transacción del motor atada a la transacción de base en curso (una
+     * por transacción de base); sin transacción, una nueva por llamada.
+     */
+    private EngineTransaction currentTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return engine.begin();
+        }
+        EngineTransaction tx = (EngineTransaction) TransactionSynchronizationManager.getResource(engine);
+        if (tx == null) {
+            EngineTransaction created = engine.begin();
+            TransactionSynchronizationManager.bindResource(engine, created);
+            TransactionSynchronizationManager.registerSynchronization(new EngineTransactionSynchronization(created));
+            tx = created;
+        }
+        return tx;
+    }
+
+    private void ensureRegistered(UUID accountId) {
+        if (engine.available(accountId).isEmpty()) {
+            delegate.findById(accountId)
+                    .ifPresent(account -> engine.register(accountId, account.getBalance().value()));
+        }
+    }
+
+    private Account overlay(Account account) {
+        BigDecimal available = engine.register(account.getId(), account.getBalance().value());
+        return Account.reconstruct(
+                account.getId(),
+                account.getUserId(),
+                account.getCbu().value(),
+                account.getAlias().value(),
+                available,
+                account.getCreatedAt(),
+                account.getVersion());
+    }
+
+    private List<Account> overlay(List<Account> accounts) {
+        return accounts.stream().map(this::overlay).toList();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private final class EngineTransactionSynchronization implements TransactionSynchronization {
+
+        private final EngineTransaction tx;
+
+        private EngineTransactionSynchronization(EngineTransaction tx) {
+            this.tx = tx;
+        }
+
+        /**
+         * Dentro de la transacción de base: la marca va con el commit y el
+         * journal queda durable antes de confirmar la base.
+         */
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (tx.hasMutations()) {
+                projection.recordCommit(tx.id());
+            }
+            tx.prepare();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(engine);
+            try {
+                if (status == STATUS_COMMITTED) {
+                    tx.commit();
+                } else {
+                    tx.abort();
+                }
+            } catch (RuntimeException ex) {
+                // La base ya decidió: el próximo arranque resuelve por la marca
+                log.error("Motor de saldos: no se pudo cerrar la transacción {}: {}", tx.id(), ex.getMessage(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.homebanking.adapter.out.balance;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuración de BalanceEngine (account.balance-engine.*).
+ *
+ * @param directory           journal y snapshots; uno por instancia
+ * @param segmentSize         bytes por segmento del journal
+ * @param expectedAccounts    tamaño inicial de la tabla (crece sola)
+ * @param projectionInterval  cada cuánto se proyecta a la base
+ * @param projectionBatchSize transacciones confirmadas por lote proyectado
+ * @param snapshotInterval    cada cuánto se escribe un snapshot
+ */
+public record BalanceEngineSettings(
+        Path directory,
+        int segmentSize,
+        int expectedAccounts,
+        Duration projectionInterval,
+        int projectionBatchSize,
+        Duration snapshotInterval) {
+}
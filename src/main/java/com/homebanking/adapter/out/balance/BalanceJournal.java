@@ -0,0 +1,333 @@
+package com.homebanking.adapter.out.balance;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Write-ahead journal del motor de saldos, en segmentos mapeados en memoria.
+
+ * Escritura:
+ * - append copia el registro al segmento mapeado (sin syscall) y le asigna
+ *   el siguiente seq; lo llama BalanceEngine con su lock tomado, así el
+ *   orden del journal es el orden en que se aplicaron los cambios
+ * - group fsync: un hilo flusher hace force() de todo lo escrito hasta el
+ *   momento; awaitDurable(seq) espera a que un force cubra ese seq. Con
+ *   muchas transacciones en vuelo un solo force las cubre a todas
+
+ * Segmentos:
+ * - journal-{primer seq}.log, de tamaño fijo y preasignado (ceros)
+ * - roll() cierra el segmento actual (con force) y abre otro; se rota al
+ *   llenarse y en cada snapshot, así los segmentos viejos se pueden borrar
+ * - al abrir siempre se empieza un segmento nuevo: un segmento con la
+ *   cola rota por un crash no se vuelve a escribir
+ */
+@Slf4j
+final class BalanceJournal {
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition written = lock.newCondition();
+    private final Condition durable = lock.newCondition();
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long nextSeq;
+    private long writtenSeq;
+    private long durableSeq;
+    private IOException flushFailure;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    private BalanceJournal(Path directory, int segmentSize, long nextSeq) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.nextSeq = nextSeq;
+        this.writtenSeq = nextSeq - 1;
+        this.durableSeq = nextSeq - 1;
+    }
+
+    /**
+     * Abre el journal para escribir a partir de nextSeq (el siguiente al
+     * último registro válido que dejó replay).
+     */
+    static BalanceJournal open(Path directory, int segmentSize, long nextSeq) {
+        BalanceJournal journal = new BalanceJournal(directory, segmentSize, nextSeq);
+        journal.startSegment();
+        journal.running = true;
+        journal.flusher = Thread.ofPlatform().name("balance-journal-flusher").daemon().start(journal::flushLoop);
+        return journal;
+    }
+
+    /**
+     * Recorre los registros válidos de todos los segmentos, en orden de seq.
+     * Un segmento termina en su primer registro inválido (cola rota por un
+     * crash: nunca se confirmó como durable). Un salto de seq entre
+     * segmentos es pérdida de datos y corta el arranque.
+     *
+     * @return último seq leído (0 si no hay registros)
+     */
+    static long replay(Path directory, Consumer<JournalRecord> consumer) {
+        long lastSeq = 0;
+        for (Path path : segments(directory)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                JournalRecord record;
+                while ((record = JournalRecord.readFrom(buffer)) != null) {
+                    if (lastSeq != 0 && record.seq() != lastSeq + 1) {
+                        throw new IllegalStateException(
+                                "Journal de saldos discontinuo en " + path + ": seq " + record.seq()
+                                        + " después de " + lastSeq);
+                    }
+                    consumer.accept(record);
+                    lastSeq = record.seq();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return lastSeq;
+    }
+
+    /**
+     * Escribe el registro (con seq asignado por el journal) sin esperar a
+     * que sea durable.
+     *
+     * @return seq asignado
+     */
+    long append(JournalRecord record) {
+        lock.lock();
+        try {
+            return appendLocked(record);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long appendLocked(JournalRecord record) {
+        JournalRecord sequenced = new JournalRecord(
+                nextSeq, record.type(), record.txId(), record.msb(), record.lsb(),
+                record.cents(), record.occurredAtMicros(), record.reference());
+        int size = sequenced.encodedSize();
+        if (size + Integer.BYTES > segmentSize) {
+            throw new IllegalArgumentException("Registro de " + size + " bytes no entra en un segmento");
+        }
+        if (segment.remaining() < size + Integer.BYTES) {
+            rollLocked();
+        }
+        sequenced.writeTo(segment);
+        writtenSeq = nextSeq++;
+        written.signal();
+        return writtenSeq;
+    }
+
+    /**
+     * Espera a que un force() cubra seq (group fsync).
+     */
+    void awaitDurable(long seq) {
+        lock.lock();
+        try {
+            while (durableSeq < seq) {
+                if (flushFailure != null) {
+                    throw new UncheckedIOException("Falló el fsync del journal de saldos", flushFailure);
+                }
+                if (!running) {
+                    throw new IllegalStateException("Journal de saldos cerrado");
+                }
+                durable.await();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando el fsync del journal", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cierra el segmento actual (durable) y empieza otro en el seq siguiente.
+     */
+    void roll() {
+        lock.lock();
+        try {
+            rollLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long lastSeq() {
+        lock.lock();
+        try {
+            return writtenSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Borra los segmentos cuyos registros son todos anteriores a seq (el
+     * segmento siguiente empieza en seq o antes). El segmento actual nunca.
+     */
+    int deleteSegmentsBefore(long seq) {
+        List<Path> segments;
+        lock.lock();
+        try {
+            segments = segments(directory);
+        } finally {
+            lock.unlock();
+        }
+        int deleted = 0;
+        for (int i = 0; i < segments.size() - 1; i++) {
+            if (firstSeq(segments.get(i + 1)) > seq) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(segments.get(i));
+                deleted++;
+            } catch (IOException ex) {
+                log.warn("No se pudo borrar el segmento {}: {}", segments.get(i), ex.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    void close() {
+        lock.lock();
+        try {
+            running = false;
+            written.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (flusher != null) {
+            try {
+                flusher.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        lock.lock();
+        try {
+            segment.force();
+            markDurable(writtenSeq);
+            closeChannel();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            MappedByteBuffer target;
+            long covered;
+            lock.lock();
+            try {
+                while (running && writtenSeq == durableSeq) {
+                    written.awaitUninterruptibly();
+                }
+                if (!running) {
+                    return;
+                }
+                target = segment;
+                covered = writtenSeq;
+            } finally {
+                lock.unlock();
+            }
+            // Fuera del lock: mientras dura el force se siguen escribiendo
+            // registros, que entran en el próximo
+            try {
+                target.force();
+            } catch (RuntimeException ex) {
+                lock.lock();
+                try {
+                    flushFailure = ex.getCause() instanceof IOException io ? io : new IOException(ex);
+                    durable.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                log.error("Falló el fsync del journal de saldos", ex);
+                return;
+            }
+            lock.lock();
+            try {
+                markDurable(covered);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void rollLocked() {
+        segment.force();
+        markDurable(writtenSeq);
+        closeChannel();
+        startSegment();
+    }
+
+    private void markDurable(long seq) {
+        if (seq > durableSeq) {
+            durableSeq = seq;
+            durable.signalAll();
+        }
+    }
+
+    private void startSegment() {
+        Path path = directory.resolve(SEGMENT_PREFIX + String.format("%020d", nextSeq) + SEGMENT_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            Files.deleteIfExists(path);
+            channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            log.warn("Error cerrando segmento del journal: {}", ex.getMessage());
+        }
+    }
+
+    private static List<Path> segments(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static long firstSeq(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
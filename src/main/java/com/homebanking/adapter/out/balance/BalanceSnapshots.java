@@ -0,0 +1,153 @@
+package com.homebanking.adapter.out.balance;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Snapshots del motor de saldos: saldos confirmados hasta un seq del journal.
+
+ * Formato de snapshot-{seq}.bin: [magic][seq][último txId][cantidad]
+ * y por cuenta [msb][lsb][centavos], cerrado con el crc32c de todo lo
+ * anterior. Se escribe a un .tmp, se hace fsync y se renombra: un
+ * snapshot a medio escribir nunca queda con el nombre final.
+
+ * Se conserva solo el último: el journal ya se podó en base a él, un
+ * snapshot inválido corta el arranque en vez de recuperar de uno viejo.
+ */
+final class BalanceSnapshots {
+
+    private static final int MAGIC = 0x42414C31;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+
+    private BalanceSnapshots() {
+    }
+
+    record Snapshot(long seq, long lastTxId, long[][] balances) {
+    }
+
+    /**
+     * @param balances [msbs, lsbs, centavos], como BalanceTable.copyBalances
+     */
+    static void write(Path directory, long seq, long lastTxId, long[][] balances) {
+        Path target = directory.resolve(PREFIX + String.format("%020d", seq) + SUFFIX);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        int count = balances[0].length;
+        try {
+            Files.createDirectories(directory);
+            CRC32C crc = new CRC32C();
+            try (OutputStream file = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(
+                         new BufferedOutputStream(new CheckedOutputStream(file, crc), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeLong(seq);
+                out.writeLong(lastTxId);
+                out.writeInt(count);
+                for (int i = 0; i < count; i++) {
+                    out.writeLong(balances[0][i]);
+                    out.writeLong(balances[1][i]);
+                    out.writeLong(balances[2][i]);
+                }
+                out.flush();
+                new DataOutputStream(file).writeInt((int) crc.getValue());
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static Optional<Snapshot> loadLatest(Path directory) {
+        List<Path> snapshots = snapshots(directory);
+        if (snapshots.isEmpty()) {
+            return Optional.empty();
+        }
+        Path latest = snapshots.getLast();
+        CRC32C crc = new CRC32C();
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(latest), 1 << 16);
+             DataInputStream in = new DataInputStream(new CheckedInputStream(file, crc))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("Snapshot de saldos inválido: " + latest);
+            }
+            long seq = in.readLong();
+            long lastTxId = in.readLong();
+            int count = in.readInt();
+            long[][] balances = new long[3][count];
+            for (int i = 0; i < count; i++) {
+                balances[0][i] = in.readLong();
+                balances[1][i] = in.readLong();
+                balances[2][i] = in.readLong();
+            }
+            int expected = (int) crc.getValue();
+            if (new DataInputStream(file).readInt() != expected) {
+                throw new IllegalStateException("Snapshot de saldos con crc inválido: " + latest);
+            }
+            return Optional.of(new Snapshot(seq, lastTxId, balances));
+        } catch (EOFException ex) {
+            throw new IllegalStateException("Snapshot de saldos truncado: " + latest, ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Borra los snapshots anteriores a seq y los .tmp que dejó un crash.
+     */
+    static void deleteOlderThan(Path directory, long seq) {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                String name = path.getFileName().toString();
+                boolean staleTemp = name.startsWith(PREFIX) && name.endsWith(".tmp");
+                boolean older = name.startsWith(PREFIX) && name.endsWith(SUFFIX) && seqOf(path) < seq;
+                if (staleTemp || older) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static List<Path> snapshots(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static long seqOf(Path snapshot) {
+        String name = snapshot.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.homebanking.adapter.out.balance;
+
+/**
+ * Saldos por cuenta en arrays primitivos: hash abierto con sondeo lineal
+ * sobre los dos longs del UUID, sin un objeto por cuenta ni boxing.
+
+ * Por slot:
+ * - balance: saldo confirmado, en centavos (lo que va al snapshot)
+ * - reserved: débitos de transacciones abiertas, todavía sin confirmar;
+ *   disponible = balance - reserved
+
+ * Los slots cambian al crecer la tabla: se buscan por cuenta cada vez.
+ * No es thread-safe: lo protege el lock de BalanceEngine.
+ */
+final class BalanceTable {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] msbs;
+    private long[] lsbs;
+    private long[] balances;
+    private long[] reserved;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    BalanceTable(int expectedAccounts) {
+        allocate(capacityFor(expectedAccounts));
+    }
+
+    /**
+     * @return slot de la cuenta, o -1 si no está
+     */
+    int slot(long msb, long lsb) {
+        int index = index(msb, lsb);
+        while (used[index]) {
+            if (msbs[index] == msb && lsbs[index] == lsb) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Alta de una cuenta que no está en la tabla.
+     *
+     * @return slot asignado
+     */
+    int insert(long msb, long lsb, long balance) {
+        if ((size + 1) * 2 > used.length) {
+            grow();
+        }
+        int index = index(msb, lsb);
+        while (used[index]) {
+            index = (index + 1) & mask;
+        }
+        used[index] = true;
+        msbs[index] = msb;
+        lsbs[index] = lsb;
+        balances[index] = balance;
+        size++;
+        return index;
+    }
+
+    long balance(int slot) {
+        return balances[slot];
+    }
+
+    long available(int slot) {
+        return balances[slot] - reserved[slot];
+    }
+
+    void add(int slot, long cents) {
+        balances[slot] += cents;
+    }
+
+    void reserve(int slot, long cents) {
+        reserved[slot] += cents;
+    }
+
+    void release(int slot, long cents) {
+        reserved[slot] -= cents;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Copia compacta de los saldos confirmados (sin reservas), para el
+     * snapshot: [msbs, lsbs, balances] de largo size().
+     */
+    long[][] copyBalances() {
+        long[][] copy = new long[3][size];
+        int next = 0;
+        for (int index = 0; index < used.length; index++) {
+            if (used[index]) {
+                copy[0][next] = msbs[index];
+                copy[1][next] = lsbs[index];
+                copy[2][next] = balances[index];
+                next++;
+            }
+        }
+        return copy;
+    }
+
+    private void grow() {
+        long[] oldMsbs = msbs;
+        long[] oldLsbs = lsbs;
+        long[] oldBalances = balances;
+        long[] oldReserved = reserved;
+        boolean[] oldUsed = used;
+        allocate(oldUsed.length * 2);
+        size = 0;
+        for (int index = 0; index < oldUsed.length; index++) {
+            if (oldUsed[index]) {
+                int slot = insert(oldMsbs[index], oldLsbs[index], oldBalances[index]);
+                reserved[slot] = oldReserved[index];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        msbs = new long[capacity];
+        lsbs = new long[capacity];
+        balances = new long[capacity];
+        reserved = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    private int index(long msb, long lsb) {
+        long hash = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedAccounts) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedAccounts * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,66 @@
+package com.homebanking.adapter.out.balance;
+
+import com.homebanking.domain.valueobject.account.LedgerEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Transacción del motor de saldos, atada a una transacción de base.
+
+ * Ciclo:
+ * - stage: valida y reserva los débitos en memoria (sin journal); los
+ *   créditos no se ven hasta el commit
+ * - prepare: escribe los movimientos al journal y espera el fsync; va
+ *   antes del commit de la base (write-ahead)
+ * - commit: COMMIT al journal, aplica saldos y libera reservas
+ * - abort: libera reservas; si ya se preparó, ABORT al journal
+ */
+public final class EngineTransaction {
+
+    enum State { OPEN, PREPARED, COMMITTED, ABORTED }
+
+    private final BalanceEngine engine;
+    private final long id;
+
+    final List<JournalRecord> mutations = new ArrayList<>();
+    final Map<UUID, Long> reservations = new HashMap<>();
+    long firstSeq;
+    State state = State.OPEN;
+
+    EngineTransaction(BalanceEngine engine, long id) {
+        this.engine = engine;
+        this.id = id;
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public boolean hasMutations() {
+        return !mutations.isEmpty();
+    }
+
+    /**
+     * @return false si el disponible de la cuenta no cubre el neto de los
+     *         movimientos (no se reserva nada)
+     */
+    public boolean stage(UUID accountId, List<LedgerEntry> entries) {
+        return engine.stage(this, accountId, entries);
+    }
+
+    public void prepare() {
+        engine.prepare(this);
+    }
+
+    public void commit() {
+        engine.commit(this);
+    }
+
+    public void abort() {
+        engine.abort(this);
+    }
+}
@@ -0,0 +1,114 @@
+package com.homebanking.adapter.out.balance;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * Registro del journal del motor de saldos.
+
+ * Tipos:
+ * - OPEN: alta de una cuenta con su saldo absoluto (cents)
+ * - MUTATION: un movimiento de una transacción (cents con signo), con
+ *   la fecha y la referencia que después van al ledger
+ * - COMMIT / ABORT: desenlace de la transacción txId
+
+ * Formato: [largo int][seq][type][txId][msb][lsb][cents][micros]
+ * [largo referencia short, -1 = null][referencia UTF-8][crc32c int].
+ * El crc cubre todo lo que está entre el largo y el crc; un largo 0 o un
+ * crc que no coincide marcan el final escrito del segmento.
+ */
+record JournalRecord(
+        long seq,
+        byte type,
+        long txId,
+        long msb,
+        long lsb,
+        long cents,
+        long occurredAtMicros,
+        String reference) {
+
+    static final byte OPEN = 1;
+    static final byte MUTATION = 2;
+    static final byte COMMIT = 3;
+    static final byte ABORT = 4;
+
+    private static final int FIXED_BODY = 8 + 1 + 8 + 8 + 8 + 8 + 8 + 2;
+
+    static JournalRecord open(long seq, long msb, long lsb, long cents) {
+        return new JournalRecord(seq, OPEN, 0, msb, lsb, cents, 0, null);
+    }
+
+    static JournalRecord outcome(long seq, byte type, long txId) {
+        return new JournalRecord(seq, type, txId, 0, 0, 0, 0, null);
+    }
+
+    /**
+     * Bytes que ocupa en el segmento, largo y crc incluidos.
+     */
+    int encodedSize() {
+        return Integer.BYTES + FIXED_BODY + referenceBytes().length + Integer.BYTES;
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        byte[] referenceBytes = referenceBytes();
+        int start = buffer.position();
+        buffer.putInt(FIXED_BODY + referenceBytes.length + Integer.BYTES);
+        buffer.putLong(seq)
+                .put(type)
+                .putLong(txId)
+                .putLong(msb)
+                .putLong(lsb)
+                .putLong(cents)
+                .putLong(occurredAtMicros)
+                .putShort((short) (reference == null ? -1 : referenceBytes.length))
+                .put(referenceBytes);
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + Integer.BYTES, FIXED_BODY + referenceBytes.length));
+        buffer.putInt((int) crc.getValue());
+    }
+
+    /**
+     * Lee el registro en la posición actual y avanza el buffer.
+     *
+     * @return null si no hay registro completo y válido (fin de lo escrito)
+     */
+    static JournalRecord readFrom(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES) {
+            return null;
+        }
+        int start = buffer.position();
+        int length = buffer.getInt(start);
+        if (length < FIXED_BODY + Integer.BYTES || length > buffer.remaining() - Integer.BYTES) {
+            return null;
+        }
+        int bodyLength = length - Integer.BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + Integer.BYTES, bodyLength));
+        if ((int) crc.getValue() != buffer.getInt(start + Integer.BYTES + bodyLength)) {
+            return null;
+        }
+
+        buffer.position(start + Integer.BYTES);
+        long seq = buffer.getLong();
+        byte type = buffer.get();
+        long txId = buffer.getLong();
+        long msb = buffer.getLong();
+        long lsb = buffer.getLong();
+        long cents = buffer.getLong();
+        long micros = buffer.getLong();
+        short referenceLength = buffer.getShort();
+        String reference = null;
+        if (referenceLength >= 0) {
+            byte[] referenceBytes = new byte[referenceLength];
+            buffer.get(referenceBytes);
+            reference = new String(referenceBytes, StandardCharsets.UTF_8);
+        }
+        buffer.position(start + Integer.BYTES + length);
+        return new JournalRecord(seq, type, txId, msb, lsb, cents, micros, reference);
+    }
+
+    private byte[] referenceBytes() {
+        return reference == null ? new byte[0] : reference.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -24,7 +24,7 @@ public class BillProcessorAdapter implements BillProcessorOutputPort {
                 payment.getId(),
                 payment.getBillerCode(),
                 payment.getReference(),
-                payment.getAmount(),
+                payment.getAmount().toBigDecimal(),
                 payment.getIdempotencyKey()
         );
     }
@@ -1,13 +1,22 @@
 package com.homebanking.adapter.out.external.payment.adapter;
 
 import com.homebanking.adapter.out.external.payment.client.TransferProcessorClient;
+import com.homebanking.adapter.out.external.payment.resilience.Bulkhead;
+import com.homebanking.adapter.out.external.payment.resilience.CircuitBreaker;
 import com.homebanking.domain.entity.Transfer;
 import com.homebanking.domain.exception.transfer.TransferProcessingException;
+import com.homebanking.port.out.metrics.TransferMetrics;
 import com.homebanking.port.out.transfer.TransferProcessorOutputPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Adapter: TransferProcessorAdapter
@@ -22,17 +31,26 @@ import java.util.Random;
  * ✓ Logging de integración
 
  * Resiliencia:
- * • Timeouts bien definidos
- * • Reintentos en capas superiores (TransferProcessorService)
- * • Circuit breaker (podría implementarse con "Resilience 4j")
- * • Graceful degradation si el servicio externo está fuera
+ * • Bulkhead: tope de llamadas en vuelo contra el procesador
+ * • Circuit breaker: con el procesador caído no se llama
+ * • Rechazo por breaker o bulkhead: NOT_SUBMITTED, la transferencia vuelve
+ *   a su estado anterior sin gastar un reintento (nunca llegó al procesador)
+ * • Reintentos con backoff en capas superiores (RetryPolicy)
+ * • Solo los errores temporales cuentan como fallo para el breaker:
+ *   un rechazo permanente es una respuesta válida del procesador
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TransferProcessorAdapter implements TransferProcessorOutputPort {
 
+    static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+    static final String BULKHEAD_FULL = "BULKHEAD_FULL";
+
     private final TransferProcessorClient transferProcessorClient;
+    private final CircuitBreaker transferProcessorCircuitBreaker;
+    private final Bulkhead transferProcessorBulkhead;
+    private final TransferMetrics transferMetrics;
     private final Random random = new Random();
 
     /**
@@ -40,23 +58,23 @@ public class TransferProcessorAdapter implements TransferProcessorOutputPort {
      *
      * @param transfer Transferencia a procesar
      * @return true si fue procesada exitosamente, false si fallo recuperable
-     * @throws TransferProcessingException Si error irrecuperable
+     * @throws TransferProcessingException Si error irrecuperable, o no enviada
+     *         (isSubmitted = false) si el breaker está abierto / el bulkhead lleno
      */
     @Override
     public boolean processTransfer(Transfer transfer) {
+        String rejection = acquire(transferProcessorBulkhead.tryAcquire());
+        if (rejection != null) {
+            throw TransferProcessingException.notSubmitted(rejectionMessage(rejection), rejection);
+        }
+
         log.info("Procesando transferencia en sistema externo: id={}, targetCbu={}, amount={}",
                 transfer.getId(), transfer.getTargetCbu().value(), transfer.getAmount().value());
 
         try {
             // Llamar al cliente externo con timeout
-            boolean result = transferProcessorClient.submitTransfer(
-                    transfer.getId(),
-                    transfer.getOriginAccountId(),
-                    transfer.getTargetCbu().value(),
-                    transfer.getAmount().value(),
-                    transfer.getDescription().value(),
-                    transfer.getIdempotencyKey().value()
-            );
+            boolean result = transferProcessorClient.submitTransfer(toSubmission(transfer));
+            transferProcessorCircuitBreaker.onSuccess();
 
             log.debug("Procesamiento externo completado: id={}, result={}",
                     transfer.getId(), result);
@@ -66,6 +84,7 @@ public class TransferProcessorAdapter implements TransferProcessorOutputPort {
         } catch (TransferProcessorClient.TemporaryException ex) {
             // Error temporal: red lenta, timeout, etc.
             // Debe ser reintentado
+            transferProcessorCircuitBreaker.onFailure();
             log.warn("Error temporal procesando transferencia: id={}, {}",
                     transfer.getId(), ex.getMessage());
 
@@ -78,6 +97,7 @@ public class TransferProcessorAdapter implements TransferProcessorOutputPort {
         } catch (TransferProcessorClient.PermanentException ex) {
             // Error permanente: CBU inválido, datos rechazados, etc.
             // NO debe ser reintentado
+            transferProcessorCircuitBreaker.onSuccess();
             log.error("Error permanente procesando transferencia: id={}, {}",
                     transfer.getId(), ex.getMessage());
 
@@ -86,9 +106,113 @@ public class TransferProcessorAdapter implements TransferProcessorOutputPort {
                     false,  // recoverable = false
                     ex.getErrorCode()
             );
+
+        } catch (RuntimeException ex) {
+            transferProcessorCircuitBreaker.onFailure();
+            throw ex;
+
+        } finally {
+            transferProcessorBulkhead.release();
         }
     }
-}
 
+    /**
+     * Envía el lote en una sola llamada al cliente externo.
+     * Un error temporal del lote completo deja todas sus transferencias
+     * como fallo recuperable; items sin respuesta también.
+     *
+     * @param transfers Transferencias a procesar
+     * @return Resultado por transferencia, en el mismo orden
+     */
+    @Override
+    public List<SubmissionResult> processTransfers(List<Transfer> transfers) {
+        if (transfers.isEmpty()) {
+            return List.of();
+        }
+        String rejection = acquire(transferProcessorBulkhead.tryAcquire());
+        if (rejection != null) {
+            return transfers.stream()
+                    .map(transfer -> SubmissionResult.notSubmitted(
+                            transfer.getId(), rejection, rejectionMessage(rejection)))
+                    .toList();
+        }
+        log.info("Procesando lote de {} transferencias en sistema externo", transfers.size());
 
+        Map<UUID, TransferProcessorClient.BatchItemResult> byId;
+        try {
+            byId = transferProcessorClient.submitBatch(transfers.stream().map(this::toSubmission).toList())
+                    .stream()
+                    .collect(Collectors.toMap(
+                            TransferProcessorClient.BatchItemResult::transferId,
+                            Function.identity(),
+                            (first, ignored) -> first));
+            transferProcessorCircuitBreaker.onSuccess();
+        } catch (TransferProcessorClient.TemporaryException ex) {
+            transferProcessorCircuitBreaker.onFailure();
+            log.warn("Error temporal procesando lote de {} transferencias: {}", transfers.size(), ex.getMessage());
+            return transfers.stream()
+                    .map(transfer -> SubmissionResult.retryableFailure(
+                            transfer.getId(), "Error temporal al procesar lote: " + ex.getMessage()))
+                    .toList();
+        } catch (RuntimeException ex) {
+            transferProcessorCircuitBreaker.onFailure();
+            throw ex;
+        } finally {
+            transferProcessorBulkhead.release();
+        }
 
+        return transfers.stream()
+                .map(transfer -> toSubmissionResult(transfer.getId(), byId.get(transfer.getId())))
+                .toList();
+    }
+
+    /**
+     * Bulkhead primero y después breaker: si el breaker rechaza, se devuelve
+     * el lugar del bulkhead.
+     *
+     * @param bulkheadAcquired resultado de pedir lugar al bulkhead
+     * @return null si se puede llamar; si no, el motivo del rechazo
+     */
+    private String acquire(boolean bulkheadAcquired) {
+        if (!bulkheadAcquired) {
+            transferMetrics.recordProcessorCallRejected(BULKHEAD_FULL);
+            return BULKHEAD_FULL;
+        }
+        if (!transferProcessorCircuitBreaker.tryAcquirePermission()) {
+            transferProcessorBulkhead.release();
+            transferMetrics.recordProcessorCallRejected(CIRCUIT_OPEN);
+            return CIRCUIT_OPEN;
+        }
+        return null;
+    }
+
+    private String rejectionMessage(String rejection) {
+        return CIRCUIT_OPEN.equals(rejection)
+                ? "Procesador externo no disponible (circuit breaker abierto)"
+                : "Procesador externo saturado (bulkhead lleno)";
+    }
+
+    private SubmissionResult toSubmissionResult(UUID transferId, TransferProcessorClient.BatchItemResult item) {
+        if (item == null) {
+            log.warn("Lote sin respuesta para transferencia: id={}", transferId);
+            return SubmissionResult.retryableFailure(transferId, "Sin respuesta del sistema externo");
+        }
+        return switch (item.status()) {
+            case ACCEPTED -> SubmissionResult.accepted(transferId);
+            case TEMPORARY_ERROR -> SubmissionResult.retryableFailure(transferId, item.message());
+            case PERMANENT_ERROR -> SubmissionResult.permanentFailure(
+                    transferId, item.errorCode(), "Error al procesar transferencia: " + item.message());
+        };
+    }
+
+    private TransferProcessorClient.TransferSubmission toSubmission(Transfer transfer) {
+        return new TransferProcessorClient.TransferSubmission(
+                transfer.getId(),
+                transfer.getOriginAccountId(),
+                transfer.getTargetCbu().value(),
+                transfer.getAmount().value(),
+                transfer.getDescription().value(),
+                transfer.getIdempotencyKey().value()
+        );
+    }
+}
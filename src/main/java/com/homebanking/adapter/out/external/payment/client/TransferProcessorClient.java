@@ -12,6 +12,8 @@ package com.homebanking.adapter.out.external.payment.client;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 
@@ -39,14 +41,8 @@ public class TransferProcessorClient {
      * @throws TemporaryException Si error temporal (reintentable)
      * @throws PermanentException Si error permanente (no reintentable)
      */
-    public boolean submitTransfer(
-            UUID transferId,
-            UUID originAccountId,
-            String targetCbu,
-            BigDecimal amount,
-            String description,
-            String idempotencyKey) throws TemporaryException, PermanentException {
-
+    public boolean submitTransfer(TransferSubmission submission) throws TemporaryException, PermanentException {
+        UUID transferId = submission.transferId();
         log.debug("Llamando servicio externo para transferencia: id={}", transferId);
 
         // Simulación de comportamiento del sistema externo
@@ -74,6 +70,57 @@ public class TransferProcessorClient {
         );
     }
 
+    /**
+     * Envía un lote de transferencias en una sola llamada (un round trip).
+     * El sistema externo responde un resultado por item; un error de red
+     * afecta al lote completo.
+     *
+     * @return Resultado por transferencia, en el orden recibido
+     * @throws TemporaryException Si el lote completo falló (timeout, red)
+     */
+    public List<BatchItemResult> submitBatch(List<TransferSubmission> submissions) throws TemporaryException {
+        log.debug("Llamando servicio externo para lote de {} transferencias", submissions.size());
+
+        List<BatchItemResult> results = new ArrayList<>(submissions.size());
+        for (TransferSubmission submission : submissions) {
+            try {
+                submitTransfer(submission);
+                results.add(new BatchItemResult(submission.transferId(), BatchItemStatus.ACCEPTED, null, null));
+            } catch (TemporaryException ex) {
+                results.add(new BatchItemResult(
+                        submission.transferId(), BatchItemStatus.TEMPORARY_ERROR, null, ex.getMessage()));
+            } catch (PermanentException ex) {
+                results.add(new BatchItemResult(
+                        submission.transferId(), BatchItemStatus.PERMANENT_ERROR, ex.getErrorCode(), ex.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Datos de una transferencia tal como los recibe el sistema externo.
+     */
+    public record TransferSubmission(
+            UUID transferId,
+            UUID originAccountId,
+            String targetCbu,
+            BigDecimal amount,
+            String description,
+            String idempotencyKey) {
+    }
+
+    public enum BatchItemStatus {
+        ACCEPTED,
+        TEMPORARY_ERROR,
+        PERMANENT_ERROR
+    }
+
+    /**
+     * Resultado de un item dentro de un lote.
+     */
+    public record BatchItemResult(UUID transferId, BatchItemStatus status, String errorCode, String message) {
+    }
+
     /**
      * Excepción para errores temporales (reintentables).
      */
@@ -0,0 +1,51 @@
+package com.homebanking.adapter.out.external.payment.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resiliencia: Bulkhead
+
+ * Limita las llamadas en vuelo contra un sistema externo.
+ * Si el procesador se pone lento, a lo sumo "maxConcurrentCalls" workers
+ * quedan esperándolo; el resto no entra y sigue por el camino de reintento.
+ */
+public class Bulkhead {
+
+    private final Semaphore permits;
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+
+    public Bulkhead(int maxConcurrentCalls, Duration maxWait) {
+        this.maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+        this.permits = new Semaphore(this.maxConcurrentCalls);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Espera hasta maxWait por un lugar.
+     *
+     * @return true si obtuvo lugar (hay que liberarlo con release)
+     */
+    public boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+}
@@ -0,0 +1,165 @@
+package com.homebanking.adapter.out.external.payment.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Resiliencia: CircuitBreaker
+
+ * Corta las llamadas a un sistema externo caído para no gastar workers
+ * ni conexiones esperando timeouts.
+
+ * Estados:
+ * • CLOSED: deja pasar todo; registra el resultado en una ventana
+ *   deslizante de las últimas "windowSize" llamadas
+ * • OPEN: rechaza sin llamar; tras "openDuration" pasa a HALF_OPEN
+ * • HALF_OPEN: deja pasar una única llamada de prueba;
+ *   éxito → CLOSED (ventana limpia), fallo → OPEN otra vez
+
+ * Abre cuando hay al menos "minimumCalls" en la ventana y la tasa de
+ * error alcanza "failureRateThreshold".
+
+ * Thread-safe: los métodos son synchronized; el costo es despreciable
+ * frente a una llamada de red.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final String name;
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(
+            String name,
+            int windowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            Duration openDuration) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(
+            String name,
+            int windowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            Duration openDuration,
+            LongSupplier nanoClock) {
+        this.name = name;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.window.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Pide permiso para llamar al sistema externo.
+     * Si devuelve true, el llamador DEBE informar el resultado con
+     * onSuccess/onFailure (o releasePermission si finalmente no llamó).
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    /**
+     * Devuelve un permiso sin registrar resultado (la llamada no se hizo).
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && failureRate() >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Tasa de error de la ventana actual (0 si está vacía).
+     */
+    public synchronized double failureRate() {
+        return windowCount == 0 ? 0.0 : (double) windowFailures / windowCount;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("Circuit breaker {}: {} -> {} (failureRate={})",
+                name, state, next, String.format("%.2f", failureRate()));
+        state = next;
+        probeInFlight = false;
+        if (next == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.homebanking.adapter.out.metrics;
+
+import com.homebanking.port.out.metrics.TransferMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Adapter: MicrometerTransferMetrics
+
+ * Implementación del puerto TransferMetrics sobre Micrometer.
+ * Expuesto vía Actuator en /actuator/metrics.
+
+ * Métricas:
+ * • transfer.reaper.reclaimed (counter, tag outcome)
+ * • transfer.reaper.overdue (timer, tag outcome): lease vencido → recuperada
+ * • transfer.dispatch.queue.depth (gauge): transferencias encoladas
+ * • transfer.dispatch.latency (timer, tag lane): encolado → procesada
+ * • transfer.processor.circuit.state (gauge): 0 closed, 1 half-open, 2 open
+ * • transfer.processor.bulkhead.available (gauge): llamadas que aún pueden entrar
+ * • transfer.processor.rejected (counter, tag reason): llamadas cortadas por breaker/bulkhead
+ * • transfer.scheduler.batch.size / .concurrency / .poll.delay (gauges): límites del scheduler adaptativo
+ * • transfer.scheduler.decisions (counter, tag decision): decisiones del scheduler adaptativo
+ * • transfer.scheduled.wheel.size (gauge): agendadas cargadas en el timing wheel
+ * • transfer.scheduled.release.delay (timer): executeAt → liberada a PENDING
+ * • transfer.standing-order.occurrences (counter, tag outcome): ocurrencias generadas/salteadas/repetidas
+ * • transfer.standing-order.chunk (timer, tag outcome): duración de cada chunk
+ * • transfer.standing-order.run (timer) / .run.throughput (summary): corrida completa
+ */
+@Component
+@RequiredArgsConstructor
+public class MicrometerTransferMetrics implements TransferMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void recordLeaseReclaimed(String outcome, Duration overdue) {
+        Counter.builder("transfer.reaper.reclaimed")
+                .description("Transferencias PROCESSING recuperadas por lease vencido")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+        Timer.builder("transfer.reaper.overdue")
+                .description("Tiempo desde el vencimiento del lease hasta la recuperación")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(overdue);
+    }
+
+    @Override
+    public void registerDispatchQueueDepth(IntSupplier depth) {
+        Gauge.builder("transfer.dispatch.queue.depth", depth, IntSupplier::getAsInt)
+                .description("Transferencias encoladas esperando worker")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordDispatchLatency(String lane, Duration latency) {
+        Timer.builder("transfer.dispatch.latency")
+                .description("Latencia de punta a punta desde el encolado hasta el fin del procesamiento")
+                .tag("lane", lane)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(latency);
+    }
+
+    @Override
+    public void registerProcessorCircuitState(IntSupplier state) {
+        Gauge.builder("transfer.processor.circuit.state", state, IntSupplier::getAsInt)
+                .description("Estado del circuit breaker del procesador externo (0 closed, 1 half-open, 2 open)")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void registerProcessorBulkheadAvailable(IntSupplier available) {
+        Gauge.builder("transfer.processor.bulkhead.available", available, IntSupplier::getAsInt)
+                .description("Llamadas al procesador externo que aún pueden entrar al bulkhead")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordProcessorCallRejected(String reason) {
+        Counter.builder("transfer.processor.rejected")
+                .description("Llamadas al procesador externo rechazadas sin salir a la red")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void registerSchedulerLimits(IntSupplier batchSize, IntSupplier concurrency, LongSupplier pollDelayMillis) {
+        Gauge.builder("transfer.scheduler.batch.size", batchSize, IntSupplier::getAsInt)
+                .description("Tamaño de lote vigente del scheduler de reintentos")
+                .strongReference(true)
+                .register(meterRegistry);
+        Gauge.builder("transfer.scheduler.concurrency", concurrency, IntSupplier::getAsInt)
+                .description("Chunks en vuelo permitidos al scheduler de reintentos")
+                .strongReference(true)
+                .register(meterRegistry);
+        Gauge.builder("transfer.scheduler.poll.delay", pollDelayMillis, LongSupplier::getAsLong)
+                .description("Intervalo de polling vigente del scheduler de reintentos")
+                .baseUnit("milliseconds")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordSchedulerDecision(String decision) {
+        Counter.builder("transfer.scheduler.decisions")
+                .description("Decisiones del scheduler adaptativo por lote")
+                .tag("decision", decision)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void registerScheduledWheelSize(IntSupplier size) {
+        Gauge.builder("transfer.scheduled.wheel.size", size, IntSupplier::getAsInt)
+                .description("Transferencias agendadas cargadas en el timing wheel")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordScheduledReleaseDelay(Duration delay) {
+        Timer.builder("transfer.scheduled.release.delay")
+                .description("Atraso entre executeAt y el pase a PENDING")
+                .register(meterRegistry)
+                .record(delay);
+    }
+
+    @Override
+    public void recordStandingOrderOccurrences(String outcome, int count) {
+        Counter.builder("transfer.standing-order.occurrences")
+                .description("Ocurrencias de órdenes permanentes procesadas")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    @Override
+    public void recordStandingOrderChunk(String outcome, Duration elapsed) {
+        Timer.builder("transfer.standing-order.chunk")
+                .description("Duración de cada chunk de la generación de órdenes permanentes")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed);
+    }
+
+    @Override
+    public void recordStandingOrderRun(Duration elapsed, double throughputPerSecond) {
+        Timer.builder("transfer.standing-order.run")
+                .description("Duración de la corrida de generación de órdenes permanentes")
+                .register(meterRegistry)
+                .record(elapsed);
+        DistributionSummary.builder("transfer.standing-order.run.throughput")
+                .description("Transferencias materializadas por segundo en cada corrida")
+                .baseUnit("transfers/s")
+                .register(meterRegistry)
+                .record(throughputPerSecond);
+    }
+}
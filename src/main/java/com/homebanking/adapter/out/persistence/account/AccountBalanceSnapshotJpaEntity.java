@@ -0,0 +1,49 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Saldo materializado de una cuenta: suma de los movimientos del ledger
+ * con created_at anterior a as_of. Lo escribe solo la compactación.
+ */
+@Entity
+@Table(name = "account_balance_snapshots")
+@IdClass(AccountBalanceSnapshotJpaEntity.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+class AccountBalanceSnapshotJpaEntity {
+
+    @Id
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Id
+    @Column(name = "as_of", nullable = false)
+    private LocalDateTime asOf;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    static class Key implements Serializable {
+        private UUID accountId;
+        private LocalDateTime asOf;
+    }
+}
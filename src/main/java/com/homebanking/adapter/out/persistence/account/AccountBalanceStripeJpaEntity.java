@@ -0,0 +1,56 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Sub-saldo de créditos de una cuenta con saldo en stripes.
+ * Sin @Version: los créditos son incrementos atómicos en la base
+ * (amount = amount + x), dos créditos en stripes distintas no compiten.
+ */
+@Entity
+@Table(name = "account_balance_stripes")
+@IdClass(AccountBalanceStripeJpaEntity.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+class AccountBalanceStripeJpaEntity {
+
+    @Id
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Id
+    @Column(nullable = false)
+    private int stripe;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    @Setter(AccessLevel.PACKAGE)
+    private BigDecimal amount;
+
+    AccountBalanceStripeJpaEntity(UUID accountId, int stripe) {
+        this.accountId = accountId;
+        this.stripe = stripe;
+        this.amount = BigDecimal.ZERO;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    static class Key implements Serializable {
+        private UUID accountId;
+        private int stripe;
+    }
+}
@@ -2,6 +2,7 @@ package com.homebanking.adapter.out.persistence.account;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -37,8 +38,18 @@ class AccountJpaEntity {
 
     @Column(name = "version", nullable = false)
     @Version
+    @Setter(AccessLevel.PACKAGE)
     private Long version;
 
+    /**
+     * 0 = saldo en esta fila. N > 0: balance es el saldo consolidado y los
+     * créditos caen en N filas de account_balance_stripes.
+     */
+    @Column(name = "balance_stripes", nullable = false)
+    @ColumnDefault("0")
+    @Setter(AccessLevel.PACKAGE)
+    private int balanceStripes;
+
     public AccountJpaEntity(UUID userId, String cbu, String alias,
                             BigDecimal balance, LocalDateTime createdAt) {
         this.userId = userId;
@@ -0,0 +1,62 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import com.homebanking.domain.enums.LedgerDirection;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity: AccountLedgerEntryJpaEntity
+
+ * Movimiento del ledger de una cuenta.
+
+ * Características:
+ * ✓ append-only: solo INSERT, nunca se actualiza ni se borra
+ * ✓ (account_id, created_at): cola de una cuenta desde su último snapshot
+ * ✓ created_at: cuentas con movimientos en la ventana de compactación
+ */
+@Entity
+@Table(name = "account_ledger_entries", indexes = {
+        @Index(name = "idx_ledger_account_created", columnList = "account_id, created_at"),
+        @Index(name = "idx_ledger_created", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class AccountLedgerEntryJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private UUID accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 10)
+    private LedgerDirection direction;
+
+    @Column(nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(updatable = false, length = 100)
+    private String reference;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    static AccountLedgerEntryJpaEntity of(
+            UUID accountId,
+            LedgerDirection direction,
+            BigDecimal amount,
+            String reference,
+            LocalDateTime createdAt) {
+        return new AccountLedgerEntryJpaEntity(null, accountId, direction, amount, reference, createdAt);
+    }
+}
@@ -0,0 +1,113 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import com.homebanking.port.out.account.AccountLedger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter: AccountLedgerPersistenceAdapter
+
+ * Snapshots:
+ * - un snapshot (account_id, as_of) guarda la suma de los movimientos con
+ *   created_at < as_of; el siguiente se arma desde el anterior más la cola
+ * - cuentas con saldo previo al ledger: el primer snapshot es de apertura
+ *   (as_of = OPENING_AS_OF) con saldo actual - neto de todo el ledger,
+ *   calculado con la fila y las stripes bloqueadas para que ningún
+ *   movimiento quede contado a medias
+ * - sin snapshot todavía, balanceAt reconstruye hacia atrás desde el
+ *   saldo actual
+ */
+@Repository
+@RequiredArgsConstructor
+class AccountLedgerPersistenceAdapter implements AccountLedger {
+
+    static final LocalDateTime OPENING_AS_OF = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SpringDataAccountLedgerEntryRepository entryRepository;
+    private final SpringDataAccountBalanceSnapshotRepository snapshotRepository;
+    private final SpringDataAccountRepository accountRepository;
+    private final SpringDataAccountBalanceStripeRepository stripeRepository;
+
+    @Override
+    public BigDecimal balanceAt(UUID accountId, LocalDateTime at) {
+        Optional<AccountBalanceSnapshotJpaEntity> snapshot = snapshotRepository
+                .findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(accountId, at);
+        if (snapshot.isPresent()) {
+            AccountBalanceSnapshotJpaEntity base = snapshot.get();
+            return base.getBalance().add(entryRepository.netFromUpTo(accountId, base.getAsOf(), at));
+        }
+        return accountRepository.findById(accountId)
+                .map(account -> currentBalance(account).subtract(entryRepository.netAfter(accountId, at)))
+                .orElse(BigDecimal.ZERO);
+    }
+
+    @Override
+    public Optional<LocalDateTime> lastCompactedAt() {
+        return snapshotRepository.findLastAsOf();
+    }
+
+    @Override
+    public List<UUID> findAccountsWithEntries(
+            LocalDateTime from, LocalDateTime until, UUID afterAccountId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return afterAccountId == null
+                ? entryRepository.findFirstAccountsWithEntries(from, until, page)
+                : entryRepository.findAccountsWithEntriesAfter(from, until, afterAccountId, page);
+    }
+
+    @Override
+    @Transactional
+    public int compact(Collection<UUID> accountIds, LocalDateTime cutoff) {
+        int written = 0;
+        for (UUID accountId : accountIds) {
+            AccountBalanceSnapshotJpaEntity previous = snapshotRepository
+                    .findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(accountId, cutoff)
+                    .orElseGet(() -> openingSnapshot(accountId));
+            if (previous == null || !previous.getAsOf().isBefore(cutoff)) {
+                continue;
+            }
+            BigDecimal balance = previous.getBalance()
+                    .add(entryRepository.netBetween(accountId, previous.getAsOf(), cutoff));
+            snapshotRepository.save(new AccountBalanceSnapshotJpaEntity(accountId, cutoff, balance));
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * Con la fila y las stripes bloqueadas no hay débitos ni créditos en
+     * vuelo: saldo actual y neto del ledger son del mismo instante.
+     */
+    private AccountBalanceSnapshotJpaEntity openingSnapshot(UUID accountId) {
+        return accountRepository.lockById(accountId)
+                .map(account -> {
+                    BigDecimal current = account.getBalance();
+                    if (account.getBalanceStripes() > 0) {
+                        for (AccountBalanceStripeJpaEntity stripe
+                                : stripeRepository.findByAccountIdOrderByStripe(accountId)) {
+                            current = current.add(stripe.getAmount());
+                        }
+                    }
+                    BigDecimal opening = current.subtract(entryRepository.netTotal(accountId));
+                    return snapshotRepository.save(
+                            new AccountBalanceSnapshotJpaEntity(accountId, OPENING_AS_OF, opening));
+                })
+                .orElse(null);
+    }
+
+    private BigDecimal currentBalance(AccountJpaEntity account) {
+        if (account.getBalanceStripes() == 0) {
+            return account.getBalance();
+        }
+        return account.getBalance().add(stripeRepository.sumByAccountId(account.getId()));
+    }
+}
@@ -3,6 +3,14 @@ package com.homebanking.adapter.out.persistence.account;
 import com.homebanking.domain.entity.Account;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+
+/**
+ * Mapper: AccountMapper
+
+ * Fila → Account por Account.reconstruct: los datos se validaron al
+ * escribirse, leerlos no vuelve a correr regex ni rangos.
+ */
 @Component
 class AccountMapper {
 
@@ -18,18 +26,57 @@ class AccountMapper {
         if (account.getId() != null) {
             entity.setId(account.getId());
         }
+        // null = nueva: Spring Data la inserta sin merge
+        entity.setVersion(account.getVersion());
 
         return entity;
     }
 
     public Account toDomain(AccountJpaEntity entity) {
-        return Account.withId(
+        return Account.reconstruct(
                 entity.getId(),
                 entity.getUserId(),
                 entity.getCbu(),
                 entity.getAlias(),
                 entity.getBalance(),
-                entity.getCreatedAt()
+                entity.getCreatedAt(),
+                entity.getVersion()
+        );
+    }
+
+    /**
+     * La misma cuenta tras un UPDATE versionado (version + 1), sin releerla.
+     */
+    public Account toDomainUpdated(Account account) {
+        return Account.reconstruct(
+                account.getId(),
+                account.getUserId(),
+                account.getCbu().value(),
+                account.getAlias().value(),
+                account.getBalance().value(),
+                account.getCreatedAt(),
+                account.getVersion() + 1
+        );
+    }
+
+    /**
+     * Cuenta con saldo en stripes: el total visible es la fila (consolidado)
+     * más la suma de sus stripes.
+     */
+    public Account toDomain(AccountJpaEntity entity, BigDecimal stripedCredits) {
+        if (entity.getBalanceStripes() == 0) {
+            return toDomain(entity);
+        }
+        return Account.reconstruct(
+                entity.getId(),
+                entity.getUserId(),
+                entity.getCbu(),
+                entity.getAlias(),
+                entity.getBalance().add(stripedCredits),
+                entity.getCreatedAt(),
+                entity.getBalanceStripes(),
+                stripedCredits,
+                entity.getVersion()
         );
     }
 }
@@ -1,21 +1,64 @@
 package com.homebanking.adapter.out.persistence.account;
 
 import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.exception.account.InsufficientFundsException;
+import com.homebanking.domain.util.DomainErrorMessages;
 import com.homebanking.domain.valueobject.common.Cbu;
 import com.homebanking.port.out.account.AccountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+/**
+ * Adapter: AccountPersistenceAdapter
+
+ * Guardado (save): la cuenta trae la versión con la que se cargó; sin
+ * stripes es un único UPDATE con version en el WHERE, sin findById previo.
+ * saveAll y las cuentas con stripes leen una vez y validan esa misma versión.
+
+ * Débitos y créditos (saveDebit / saveCredit):
+ * - un único UPDATE atómico sobre el saldo, sin findById previo; el
+ *   débito lleva la guarda balance >= amount en la misma sentencia
+
+ * Saldo en stripes (balanceStripes > 0):
+ * - la fila de la cuenta guarda el saldo consolidado; los créditos
+ *   (saveCredit) suman atómicamente sobre una de N filas de
+ *   account_balance_stripes, sin leer ni versionar la fila de la cuenta
+ * - las lecturas devuelven consolidado + suma de stripes: el saldo visible
+ *   es el mismo que en modo normal
+ * - un débito que deja el consolidado negativo rebalancea: bloquea la
+ *   fila, después las stripes, y las vuelca a la fila (los créditos
+ *   concurrentes esperan ese lock, no se pierden); si ni con las stripes
+ *   alcanza, saveDebit devuelve false sin aplicar nada
+ * - lockForTransfer(s) no bloquea los destinos con stripes: una
+ *   liquidación interna bloquea solo el origen y acredita en una stripe
+ *
+ * Ledger:
+ * - los movimientos pendientes de la cuenta se insertan en la misma
+ *   transacción que el saldo (save, saveAll, saveCredit y saveDebit) y se
+ *   limpian
+ */
 @Repository
 @RequiredArgsConstructor
 class AccountPersistenceAdapter implements AccountRepository {
 
     private final SpringDataAccountRepository springDataAccountRepository;
+    private final SpringDataAccountBalanceStripeRepository stripeRepository;
+    private final SpringDataAccountLedgerEntryRepository ledgerEntryRepository;
     private final AccountMapper accountMapper;
 
     @Override
@@ -23,41 +66,291 @@ class AccountPersistenceAdapter implements AccountRepository {
         if (account.getId() == null) {
             AccountJpaEntity entity = accountMapper.toJpaEntity(account);
             AccountJpaEntity saved = springDataAccountRepository.save(entity);
-            return accountMapper.toDomain(saved);
+            if (account.hasStripedBalance()) {
+                applyBalance(saved, account);
+            }
+            appendLedger(saved.getId(), account);
+            return toDomain(saved);
+        }
+
+        if (account.getVersion() != null && !account.hasStripedBalance()) {
+            if (springDataAccountRepository.updateBalance(
+                    account.getId(), account.getBalance().value(), account.getVersion()) == 0) {
+                throw new ObjectOptimisticLockingFailureException(AccountJpaEntity.class, account.getId());
+            }
+            appendLedger(account.getId(), account);
+            return accountMapper.toDomainUpdated(account);
         }
 
-        AccountJpaEntity existing = springDataAccountRepository.findById(account.getId())
-                .orElseGet(() -> accountMapper.toJpaEntity(account));
+        // Con stripes, fila antes que stripes: el mismo orden que una
+        // liquidación, que ya tiene la fila del origen bloqueada
+        Optional<AccountJpaEntity> current = account.hasStripedBalance()
+                ? springDataAccountRepository.lockById(account.getId())
+                : springDataAccountRepository.findById(account.getId());
+        AccountJpaEntity existing = current.orElseGet(() -> accountMapper.toJpaEntity(account));
 
-        existing.setBalance(account.getBalance().value());
+        checkVersion(existing, account);
+        applyBalance(existing, account);
 
         AccountJpaEntity saved = springDataAccountRepository.save(existing);
-        return accountMapper.toDomain(saved);
+        appendLedger(saved.getId(), account);
+        return toDomain(saved);
+    }
+
+    @Override
+    public void saveCredit(Account account, BigDecimal amount, UUID creditKey) {
+        if (!account.hasStripedBalance()) {
+            if (springDataAccountRepository.credit(account.getId(), amount) == 0) {
+                save(account);
+                return;
+            }
+            appendLedger(account.getId(), account);
+            return;
+        }
+        int stripe = Math.floorMod(creditKey.hashCode(), account.getBalanceStripes());
+        if (stripeRepository.addToStripe(account.getId(), stripe, amount) == 0) {
+            // Stripes todavía no creadas: el crédito va al consolidado
+            save(account);
+            return;
+        }
+        appendLedger(account.getId(), account);
+    }
+
+    @Override
+    public boolean saveDebit(Account account, BigDecimal amount) {
+        if (springDataAccountRepository.debitIfSufficient(account.getId(), amount) == 1) {
+            appendLedger(account.getId(), account);
+            return true;
+        }
+        if (!account.hasStripedBalance()) {
+            return false;
+        }
+        // El consolidado no alcanza pero el dominio ya validó el total con
+        // las stripes: se rebalancea por el camino normal
+        try {
+            save(account);
+        } catch (InsufficientFundsException ex) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public List<Account> saveAll(List<Account> accounts) {
+        List<UUID> ids = accounts.stream().map(Account::getId).filter(Objects::nonNull).toList();
+        boolean striped = !ids.isEmpty() && accounts.stream().anyMatch(Account::hasStripedBalance);
+        Map<UUID, AccountJpaEntity> existing = (striped
+                ? springDataAccountRepository.lockAllById(ids)
+                : springDataAccountRepository.findAllById(ids))
+                .stream()
+                .collect(Collectors.toMap(AccountJpaEntity::getId, Function.identity()));
+
+        List<AccountJpaEntity> entities = accounts.stream()
+                .map(account -> {
+                    AccountJpaEntity entity = account.getId() != null ? existing.get(account.getId()) : null;
+                    if (entity == null) {
+                        return accountMapper.toJpaEntity(account);
+                    }
+                    checkVersion(entity, account);
+                    applyBalance(entity, account);
+                    return entity;
+                })
+                .toList();
+
+        List<AccountJpaEntity> saved = springDataAccountRepository.saveAll(entities);
+        List<AccountLedgerEntryJpaEntity> ledger = new ArrayList<>();
+        for (int i = 0; i < accounts.size(); i++) {
+            ledger.addAll(ledgerEntries(saved.get(i).getId(), accounts.get(i)));
+        }
+        if (!ledger.isEmpty()) {
+            ledgerEntryRepository.saveAll(ledger);
+        }
+        return toDomain(saved);
     }
 
     @Override
     public Optional<Account> findById(UUID id) {
         return springDataAccountRepository.findById(id)
-                .map(accountMapper::toDomain);
+                .map(this::toDomain);
+    }
+
+    @Override
+    public List<Account> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return toDomain(springDataAccountRepository.findAllById(ids));
     }
 
     @Override
     public List<Account> findByUserId(UUID userId) {
-        return springDataAccountRepository.findByUserId(userId)
-                .stream()
-                .map(accountMapper::toDomain)
-                .collect(Collectors.toList());
+        return toDomain(springDataAccountRepository.findByUserId(userId));
     }
 
     @Override
     public Optional<Account> findByCbu(Cbu cbu) {
-        return springDataAccountRepository.findByCbu(cbu.value()).map(accountMapper::toDomain);
+        return springDataAccountRepository.findByCbu(cbu.value()).map(this::toDomain);
+    }
+
+    @Override
+    public List<Account> findAllByCbu(Collection<Cbu> cbus) {
+        if (cbus.isEmpty()) {
+            return List.of();
+        }
+        List<String> values = cbus.stream().map(Cbu::value).distinct().toList();
+        return toDomain(springDataAccountRepository.findByCbuIn(values));
     }
 
     @Override
     public boolean existsByCbu(Cbu cbu) {
         return springDataAccountRepository.existsByCbu(cbu.value());
     }
-}
 
+    @Override
+    public List<Account> lockForTransfer(UUID originAccountId, Cbu targetCbu) {
+        List<AccountJpaEntity> locked = springDataAccountRepository.lockForTransfer(originAccountId, targetCbu.value());
+        return toDomain(withUnlockedTargets(locked, List.of(targetCbu.value())));
+    }
 
+    @Override
+    public List<Account> lockForTransfers(Collection<UUID> originAccountIds, Collection<Cbu> targetCbus) {
+        if (targetCbus.isEmpty()) {
+            return originAccountIds.isEmpty()
+                    ? List.of()
+                    : toDomain(springDataAccountRepository.lockAllById(originAccountIds));
+        }
+        List<String> cbus = targetCbus.stream().map(Cbu::value).distinct().toList();
+        // Sin orígenes, un id que no existe: IN () no es SQL válido en todas las bases
+        Collection<UUID> origins = originAccountIds.isEmpty() ? List.of(new UUID(0, 0)) : originAccountIds;
+        return toDomain(withUnlockedTargets(springDataAccountRepository.lockForTransfers(origins, cbus), cbus));
+    }
+
+    /**
+     * Los destinos con stripes quedan fuera del FOR UPDATE: se leen sin
+     * lock y se suman al resultado, que sigue ordenado por id.
+     */
+    private List<AccountJpaEntity> withUnlockedTargets(List<AccountJpaEntity> locked, Collection<String> targetCbus) {
+        Set<String> lockedCbus = locked.stream().map(AccountJpaEntity::getCbu).collect(Collectors.toSet());
+        List<String> missing = targetCbus.stream().filter(cbu -> !lockedCbus.contains(cbu)).toList();
+        if (missing.isEmpty()) {
+            return locked;
+        }
+        List<AccountJpaEntity> unlocked = springDataAccountRepository.findByCbuIn(missing);
+        if (unlocked.isEmpty()) {
+            return locked;
+        }
+        List<AccountJpaEntity> accounts = new ArrayList<>(locked);
+        accounts.addAll(unlocked);
+        accounts.sort(Comparator.comparing(AccountJpaEntity::getId));
+        return accounts;
+    }
+
+    @Override
+    public Set<Cbu> findExistingCbus(Collection<Cbu> cbus) {
+        if (cbus.isEmpty()) {
+            return Set.of();
+        }
+        List<String> values = cbus.stream().map(Cbu::value).distinct().toList();
+        return springDataAccountRepository.findCbusIn(values)
+                .stream()
+                .map(Cbu::of)
+                .collect(Collectors.toSet());
+    }
+
+    private void appendLedger(UUID accountId, Account account) {
+        List<AccountLedgerEntryJpaEntity> ledger = ledgerEntries(accountId, account);
+        if (!ledger.isEmpty()) {
+            ledgerEntryRepository.saveAll(ledger);
+        }
+    }
+
+    private List<AccountLedgerEntryJpaEntity> ledgerEntries(UUID accountId, Account account) {
+        List<AccountLedgerEntryJpaEntity> ledger = account.getLedgerEntries().stream()
+                .map(entry -> AccountLedgerEntryJpaEntity.of(
+                        accountId, entry.direction(), entry.amount(), entry.reference(), entry.occurredAt()))
+                .toList();
+        account.clearLedgerEntries();
+        return ledger;
+    }
+
+    /**
+     * Caminos con lectura (saveAll, stripes): la versión con la que se cargó
+     * la cuenta tiene que seguir vigente, igual que en el UPDATE versionado.
+     */
+    private void checkVersion(AccountJpaEntity entity, Account account) {
+        if (account.getVersion() != null && entity.getVersion() != null
+                && !account.getVersion().equals(entity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(AccountJpaEntity.class, account.getId());
+        }
+    }
+
+    /**
+     * Sin stripes la fila guarda el total. Con stripes guarda el
+     * consolidado; si quedó negativo se vuelcan las stripes a la fila.
+     */
+    private void applyBalance(AccountJpaEntity entity, Account account) {
+        if (!account.hasStripedBalance()) {
+            entity.setBalance(account.getBalance().value());
+            return;
+        }
+        if (account.getBalanceStripes() > entity.getBalanceStripes()) {
+            createStripes(entity.getId(), entity.getBalanceStripes(), account.getBalanceStripes());
+            entity.setBalanceStripes(account.getBalanceStripes());
+        }
+        BigDecimal consolidated = account.consolidatedBalance();
+        if (consolidated.signum() < 0) {
+            consolidated = consolidated.add(drainStripes(entity.getId(), consolidated.negate()));
+        }
+        entity.setBalance(consolidated);
+    }
+
+    private void createStripes(UUID accountId, int fromStripe, int toStripe) {
+        stripeRepository.saveAll(IntStream.range(fromStripe, toStripe)
+                .mapToObj(stripe -> new AccountBalanceStripeJpaEntity(accountId, stripe))
+                .toList());
+    }
+
+    /**
+     * Rebalanceo: con las stripes bloqueadas, suma y las deja en cero.
+     * Si entre todas no cubren el faltante no toca ninguna: la cuenta se
+     * cargó con créditos que ya no están.
+     */
+    private BigDecimal drainStripes(UUID accountId, BigDecimal shortfall) {
+        List<AccountBalanceStripeJpaEntity> stripes = stripeRepository.findByAccountIdOrderByStripe(accountId);
+        BigDecimal drained = BigDecimal.ZERO;
+        for (AccountBalanceStripeJpaEntity stripe : stripes) {
+            drained = drained.add(stripe.getAmount());
+        }
+        if (drained.compareTo(shortfall) < 0) {
+            throw new InsufficientFundsException(DomainErrorMessages.INSUFFICIENT_FUNDS, accountId, shortfall, drained);
+        }
+        stripes.forEach(stripe -> stripe.setAmount(BigDecimal.ZERO));
+        return drained;
+    }
+
+    private Account toDomain(AccountJpaEntity entity) {
+        if (entity.getBalanceStripes() == 0) {
+            return accountMapper.toDomain(entity);
+        }
+        return accountMapper.toDomain(entity, stripeRepository.sumByAccountId(entity.getId()));
+    }
+
+    /**
+     * Listas: una sola consulta agrupada para las sumas de las cuentas con stripes.
+     */
+    private List<Account> toDomain(List<AccountJpaEntity> entities) {
+        List<UUID> stripedIds = entities.stream()
+                .filter(entity -> entity.getBalanceStripes() > 0)
+                .map(AccountJpaEntity::getId)
+                .toList();
+        if (stripedIds.isEmpty()) {
+            return entities.stream().map(accountMapper::toDomain).toList();
+        }
+        Map<UUID, BigDecimal> sums = stripeRepository.sumByAccountIds(stripedIds)
+                .stream()
+                .collect(Collectors.toMap(row -> (UUID) row[0], row -> (BigDecimal) row[1]));
+        return entities.stream()
+                .map(entity -> accountMapper.toDomain(entity, sums.getOrDefault(entity.getId(), BigDecimal.ZERO)))
+                .toList();
+    }
+}
@@ -0,0 +1,24 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Marca de una transacción del motor de saldos confirmada junto con la
+ * transacción de base. Vive hasta que la transacción se proyecta.
+ */
+@Entity
+@Table(name = "balance_engine_transactions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+class BalanceEngineTransactionJpaEntity {
+
+    @Id
+    @Column(name = "tx_id", nullable = false)
+    private Long txId;
+}
@@ -0,0 +1,31 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Marca de agua de la proyección del motor de saldos: seq del journal del
+ * último COMMIT aplicado a la base. Una fila por proyección (name).
+ */
+@Entity
+@Table(name = "balance_engine_projection")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+class BalanceProjectionJpaEntity {
+
+    @Id
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(name = "last_seq", nullable = false)
+    @Setter(AccessLevel.PACKAGE)
+    private long lastSeq;
+}
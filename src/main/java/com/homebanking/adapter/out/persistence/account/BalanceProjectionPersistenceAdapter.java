@@ -0,0 +1,72 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import com.homebanking.port.out.account.BalanceProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adapter: BalanceProjectionPersistenceAdapter
+
+ * Proyección del motor de saldos sobre accounts y el ledger:
+ * - deltas: UPDATE relativo por cuenta (balance = balance + delta), un
+ *   solo UPDATE por cuenta y lote aunque haya muchas transacciones
+ * - movimientos: INSERT en lote al ledger, con la fecha en que ocurrieron
+ *   (la compactación ya deja margen para inserciones tardías)
+ * - marca de agua y borrado de marcas en la misma transacción: un lote se
+ *   aplica entero o no se aplica
+ */
+@Repository
+@RequiredArgsConstructor
+class BalanceProjectionPersistenceAdapter implements BalanceProjection {
+
+    static final String PROJECTION_NAME = "accounts";
+
+    private final SpringDataAccountRepository accountRepository;
+    private final SpringDataAccountLedgerEntryRepository ledgerEntryRepository;
+    private final SpringDataBalanceEngineTransactionRepository transactionRepository;
+    private final SpringDataBalanceProjectionRepository projectionRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCommit(long txId) {
+        transactionRepository.insert(txId);
+    }
+
+    @Override
+    public boolean isCommitted(long txId) {
+        return transactionRepository.existsById(txId);
+    }
+
+    @Override
+    public long lastProjectedSeq() {
+        return projectionRepository.findById(PROJECTION_NAME)
+                .map(BalanceProjectionJpaEntity::getLastSeq)
+                .orElse(0L);
+    }
+
+    @Override
+    @Transactional
+    public void project(Batch batch) {
+        batch.balanceDeltas().forEach((accountId, delta) -> {
+            if (delta.signum() != 0) {
+                accountRepository.applyBalanceDelta(accountId, delta);
+            }
+        });
+        ledgerEntryRepository.saveAll(batch.ledgerEntries().stream()
+                .map(mutation -> AccountLedgerEntryJpaEntity.of(
+                        mutation.accountId(),
+                        mutation.entry().direction(),
+                        mutation.entry().amount(),
+                        mutation.entry().reference(),
+                        mutation.entry().occurredAt()))
+                .toList());
+        transactionRepository.deleteAllByIdInBatch(batch.transactionIds());
+
+        BalanceProjectionJpaEntity watermark = projectionRepository.findById(PROJECTION_NAME)
+                .orElseGet(() -> new BalanceProjectionJpaEntity(PROJECTION_NAME, 0));
+        watermark.setLastSeq(batch.throughSeq());
+        projectionRepository.save(watermark);
+    }
+}
@@ -0,0 +1,23 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+interface SpringDataAccountBalanceSnapshotRepository
+        extends JpaRepository<AccountBalanceSnapshotJpaEntity, AccountBalanceSnapshotJpaEntity.Key> {
+
+    /**
+     * Último snapshot de la cuenta con as_of <= at.
+     */
+    Optional<AccountBalanceSnapshotJpaEntity> findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(
+            UUID accountId, LocalDateTime at);
+
+    @Query("SELECT MAX(s.asOf) FROM AccountBalanceSnapshotJpaEntity s")
+    Optional<LocalDateTime> findLastAsOf();
+}
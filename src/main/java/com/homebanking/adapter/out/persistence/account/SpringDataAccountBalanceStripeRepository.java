@@ -0,0 +1,54 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+interface SpringDataAccountBalanceStripeRepository
+        extends JpaRepository<AccountBalanceStripeJpaEntity, AccountBalanceStripeJpaEntity.Key> {
+
+    /**
+     * Crédito atómico sobre una stripe: lock de fila solo sobre esa stripe
+     * y solo hasta el commit. No toca la fila de la cuenta.
+     */
+    @Modifying
+    @Query("""
+            UPDATE AccountBalanceStripeJpaEntity s
+            SET s.amount = s.amount + :amount
+            WHERE s.accountId = :accountId AND s.stripe = :stripe
+            """)
+    int addToStripe(
+            @Param("accountId") UUID accountId,
+            @Param("stripe") int stripe,
+            @Param("amount") BigDecimal amount);
+
+    @Query("SELECT COALESCE(SUM(s.amount), 0) FROM AccountBalanceStripeJpaEntity s WHERE s.accountId = :accountId")
+    BigDecimal sumByAccountId(@Param("accountId") UUID accountId);
+
+    /**
+     * Suma por cuenta en una sola consulta: [accountId, total].
+     */
+    @Query("""
+            SELECT s.accountId, SUM(s.amount) FROM AccountBalanceStripeJpaEntity s
+            WHERE s.accountId IN :accountIds
+            GROUP BY s.accountId
+            """)
+    List<Object[]> sumByAccountIds(@Param("accountIds") Collection<UUID> accountIds);
+
+    /**
+     * Rebalanceo: bloquea todas las stripes de la cuenta (en orden) para
+     * volcarlas al saldo consolidado sin perder créditos concurrentes.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<AccountBalanceStripeJpaEntity> findByAccountIdOrderByStripe(UUID accountId);
+}
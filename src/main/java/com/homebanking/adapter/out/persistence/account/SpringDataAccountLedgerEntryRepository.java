@@ -0,0 +1,89 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+interface SpringDataAccountLedgerEntryRepository extends JpaRepository<AccountLedgerEntryJpaEntity, Long> {
+
+    /**
+     * Neto (créditos - débitos) de los movimientos con from <= created_at < until.
+     */
+    @Query("""
+            SELECT COALESCE(SUM(CASE WHEN e.direction = com.homebanking.domain.enums.LedgerDirection.CREDIT
+                                     THEN e.amount ELSE -e.amount END), 0)
+            FROM AccountLedgerEntryJpaEntity e
+            WHERE e.accountId = :accountId AND e.createdAt >= :from AND e.createdAt < :until
+            """)
+    BigDecimal netBetween(
+            @Param("accountId") UUID accountId,
+            @Param("from") LocalDateTime from,
+            @Param("until") LocalDateTime until);
+
+    /**
+     * Neto de los movimientos con from <= created_at <= at (cola de una lectura histórica).
+     */
+    @Query("""
+            SELECT COALESCE(SUM(CASE WHEN e.direction = com.homebanking.domain.enums.LedgerDirection.CREDIT
+                                     THEN e.amount ELSE -e.amount END), 0)
+            FROM AccountLedgerEntryJpaEntity e
+            WHERE e.accountId = :accountId AND e.createdAt >= :from AND e.createdAt <= :at
+            """)
+    BigDecimal netFromUpTo(
+            @Param("accountId") UUID accountId,
+            @Param("from") LocalDateTime from,
+            @Param("at") LocalDateTime at);
+
+    @Query("""
+            SELECT COALESCE(SUM(CASE WHEN e.direction = com.homebanking.domain.enums.LedgerDirection.CREDIT
+                                     THEN e.amount ELSE -e.amount END), 0)
+            FROM AccountLedgerEntryJpaEntity e
+            WHERE e.accountId = :accountId
+            """)
+    BigDecimal netTotal(@Param("accountId") UUID accountId);
+
+    /**
+     * Neto de los movimientos posteriores a at (para reconstruir hacia atrás).
+     */
+    @Query("""
+            SELECT COALESCE(SUM(CASE WHEN e.direction = com.homebanking.domain.enums.LedgerDirection.CREDIT
+                                     THEN e.amount ELSE -e.amount END), 0)
+            FROM AccountLedgerEntryJpaEntity e
+            WHERE e.accountId = :accountId AND e.createdAt > :at
+            """)
+    BigDecimal netAfter(@Param("accountId") UUID accountId, @Param("at") LocalDateTime at);
+
+    @Query("""
+            SELECT DISTINCT e.accountId FROM AccountLedgerEntryJpaEntity e
+            WHERE e.createdAt >= :from AND e.createdAt < :until
+            ORDER BY e.accountId
+            """)
+    List<UUID> findFirstAccountsWithEntries(
+            @Param("from") LocalDateTime from,
+            @Param("until") LocalDateTime until,
+            Pageable pageable);
+
+    /**
+     * Keyset: cuentas con movimientos en [from, until) después de la última
+     * del chunk anterior, sin OFFSET.
+     */
+    @Query("""
+            SELECT DISTINCT e.accountId FROM AccountLedgerEntryJpaEntity e
+            WHERE e.createdAt >= :from AND e.createdAt < :until
+              AND e.accountId > :after
+            ORDER BY e.accountId
+            """)
+    List<UUID> findAccountsWithEntriesAfter(
+            @Param("from") LocalDateTime from,
+            @Param("until") LocalDateTime until,
+            @Param("after") UUID after,
+            Pageable pageable);
+}
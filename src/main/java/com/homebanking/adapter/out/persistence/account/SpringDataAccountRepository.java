@@ -1,7 +1,15 @@
 package com.homebanking.adapter.out.persistence.account;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,7 +18,92 @@ import java.util.UUID;
 interface SpringDataAccountRepository extends JpaRepository<AccountJpaEntity, UUID> {
     List<AccountJpaEntity> findByUserId(UUID userId);
     Optional<AccountJpaEntity> findByCbu(String cbu);
+    List<AccountJpaEntity> findByCbuIn(Collection<String> cbus);
     boolean existsByCbu(String cbu);
 
-}
+    @Query("SELECT a.cbu FROM AccountJpaEntity a WHERE a.cbu IN :cbus")
+    List<String> findCbusIn(@Param("cbus") Collection<String> cbus);
+
+    /**
+     * ORDER BY id: las filas se bloquean en el orden en que se leen, el
+     * mismo para cualquier par de cuentas sin importar cuál es el origen.
+     * Un destino con stripes no se bloquea: el crédito va a una stripe.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT a FROM AccountJpaEntity a
+            WHERE a.id = :originId OR (a.cbu = :targetCbu AND a.balanceStripes = 0)
+            ORDER BY a.id
+            """)
+    List<AccountJpaEntity> lockForTransfer(
+            @Param("originId") UUID originId,
+            @Param("targetCbu") String targetCbu);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT a FROM AccountJpaEntity a
+            WHERE a.id IN :originIds OR (a.cbu IN :targetCbus AND a.balanceStripes = 0)
+            ORDER BY a.id
+            """)
+    List<AccountJpaEntity> lockForTransfers(
+            @Param("originIds") Collection<UUID> originIds,
+            @Param("targetCbus") Collection<String> targetCbus);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AccountJpaEntity a WHERE a.id IN :ids ORDER BY a.id")
+    List<AccountJpaEntity> lockAllById(@Param("ids") Collection<UUID> ids);
 
+    /**
+     * Guardado versionado en una sola sentencia: 0 filas = otra transacción
+     * modificó la cuenta desde que se cargó.
+     * Estos UPDATE no pasan por el contexto de persistencia: se vacía
+     * después, así una lectura posterior en la misma transacción (varias
+     * transferencias de un grupo) ve el saldo y la version nuevos.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE AccountJpaEntity a
+            SET a.balance = :balance, a.version = a.version + 1
+            WHERE a.id = :id AND a.version = :version
+            """)
+    int updateBalance(
+            @Param("id") UUID id,
+            @Param("balance") BigDecimal balance,
+            @Param("version") Long version);
+
+    /**
+     * Débito condicionado en una sola sentencia: 0 filas = saldo insuficiente.
+     * Incrementa version para que un save optimista concurrente lo detecte.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE AccountJpaEntity a
+            SET a.balance = a.balance - :amount, a.version = a.version + 1
+            WHERE a.id = :id AND a.balance >= :amount
+            """)
+    int debitIfSufficient(@Param("id") UUID id, @Param("amount") BigDecimal amount);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE AccountJpaEntity a
+            SET a.balance = a.balance + :amount, a.version = a.version + 1
+            WHERE a.id = :id
+            """)
+    int credit(@Param("id") UUID id, @Param("amount") BigDecimal amount);
+
+    /**
+     * Proyección del motor de saldos: el motor ya validó el saldo, acá solo
+     * se aplica el neto del lote (puede ser negativo).
+     */
+    @Modifying
+    @Query("""
+            UPDATE AccountJpaEntity a
+            SET a.balance = a.balance + :delta, a.version = a.version + 1
+            WHERE a.id = :id
+            """)
+    int applyBalanceDelta(@Param("id") UUID id, @Param("delta") BigDecimal delta);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AccountJpaEntity a WHERE a.id = :id")
+    Optional<AccountJpaEntity> lockById(@Param("id") UUID id);
+}
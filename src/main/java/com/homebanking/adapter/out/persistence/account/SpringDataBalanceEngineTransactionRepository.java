@@ -0,0 +1,19 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+interface SpringDataBalanceEngineTransactionRepository
+        extends JpaRepository<BalanceEngineTransactionJpaEntity, Long> {
+
+    /**
+     * INSERT directo: save() con id asignado haría un SELECT previo (merge).
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO balance_engine_transactions (tx_id) VALUES (:txId)")
+    void insert(@Param("txId") long txId);
+}
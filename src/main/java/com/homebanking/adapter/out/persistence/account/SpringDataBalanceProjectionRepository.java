@@ -0,0 +1,8 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+interface SpringDataBalanceProjectionRepository extends JpaRepository<BalanceProjectionJpaEntity, String> {
+}
@@ -25,12 +25,12 @@ public class CardPersistenceMapper {
                 card.getType(),
                 card.getColor(),
                 card.isActive(),
-                0L
+                card.getVersion()
         );
     }
 
     public Card toDomain(CardJpaEntity entity) {
-        return Card.withId(
+        return Card.reconstruct(
                 entity.getId(),
                 entity.getAccountId(),
                 cardDataProtector.decrypt(entity.getEncryptedNumber()),
@@ -40,7 +40,8 @@ public class CardPersistenceMapper {
                 entity.getThruDate(),
                 entity.getType(),
                 entity.getColor(),
-                entity.isActive()
+                entity.isActive(),
+                entity.getVersion()
         );
     }
 }
@@ -0,0 +1,66 @@
+package com.homebanking.adapter.out.persistence.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity: OutboxEventJpaEntity
+
+ * Fila del transactional outbox.
+
+ * Características:
+ * ✓ id secuencial: define el orden de entrega
+ * ✓ event_id único: dedupe de eventos repetidos
+ * ✓ published_at nulo = pendiente de entrega
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_event_id", columnList = "event_id", unique = true),
+        @Index(name = "idx_outbox_pending", columnList = "published_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, unique = true)
+    private UUID eventId;
+
+    @Column(name = "event_type", nullable = false, length = 200)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    // ==================== FACTORY METHOD ====================
+
+    /**
+     * Factory method: Crea un evento pendiente de entrega.
+     */
+    public static OutboxEventJpaEntity pending(UUID eventId, String eventType, String payload) {
+        return new OutboxEventJpaEntity(
+                null,                     // id (generado por la BD)
+                eventId,
+                eventType,
+                payload,
+                LocalDateTime.now(),
+                null                      // publishedAt (pendiente)
+        );
+    }
+}
@@ -0,0 +1,143 @@
+package com.homebanking.adapter.out.persistence.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.homebanking.port.out.event.EventOutbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adapter: OutboxPersistenceAdapter
+
+ * Implementación del puerto EventOutbox sobre JPA.
+
+ * Responsabilidades:
+ * - Serializar eventos de dominio a JSON (tipo + payload)
+ * - Dedupe: event_id = UUID determinístico de tipo + payload
+ * - Lectura de lotes pendientes con SKIP LOCKED (multi-nodo)
+ * - Publicar la señal de "append" para que el relay despierte tras el commit
+
+ * Solo deserializa eventos del paquete de dominio (no instancia clases arbitrarias).
+ */
+@Repository
+@Slf4j
+class OutboxPersistenceAdapter implements EventOutbox {
+
+    private static final String ALLOWED_EVENT_PACKAGE = "com.homebanking.domain.event.";
+
+    private final SpringDataOutboxEventRepository springDataRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    OutboxPersistenceAdapter(
+            SpringDataOutboxEventRepository springDataRepository,
+            ApplicationEventPublisher applicationEventPublisher) {
+        this.springDataRepository = springDataRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Object event) {
+        OutboxEventJpaEntity entity = toPendingEntity(event);
+
+        if (springDataRepository.existsByEventId(entity.getEventId())) {
+            log.debug("Evento duplicado ignorado en outbox: type={}, eventId={}",
+                    entity.getEventType(), entity.getEventId());
+            return;
+        }
+
+        springDataRepository.save(entity);
+        applicationEventPublisher.publishEvent(new AppendedSignal());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<?> events) {
+        Map<UUID, OutboxEventJpaEntity> pending = new LinkedHashMap<>();
+        for (Object event : events) {
+            OutboxEventJpaEntity entity = toPendingEntity(event);
+            pending.putIfAbsent(entity.getEventId(), entity);
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        springDataRepository.findExistingEventIds(pending.keySet()).forEach(pending::remove);
+        if (pending.isEmpty()) {
+            log.debug("Lote de {} eventos duplicados ignorado en outbox", events.size());
+            return;
+        }
+
+        springDataRepository.saveAll(pending.values());
+        applicationEventPublisher.publishEvent(new AppendedSignal());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<OutboxMessage> lockNextBatch(int limit) {
+        List<OutboxMessage> messages = new ArrayList<>();
+        for (OutboxEventJpaEntity entity : springDataRepository.lockPending(PageRequest.of(0, limit))) {
+            messages.add(new OutboxMessage(entity.getEventId(), deserialize(entity)));
+        }
+        return messages;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markPublished(List<UUID> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        springDataRepository.markPublished(eventIds, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public int purgePublishedBefore(LocalDateTime cutoff) {
+        return springDataRepository.deletePublishedBefore(cutoff);
+    }
+
+    private OutboxEventJpaEntity toPendingEntity(Object event) {
+        String eventType = event.getClass().getName();
+        String payload = serialize(event);
+        UUID eventId = UUID.nameUUIDFromBytes((eventType + ":" + payload).getBytes(StandardCharsets.UTF_8));
+        return OutboxEventJpaEntity.pending(eventId, eventType, payload);
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(
+                    "No se pudo serializar evento " + event.getClass().getName(), ex);
+        }
+    }
+
+    private Object deserialize(OutboxEventJpaEntity entity) {
+        if (!entity.getEventType().startsWith(ALLOWED_EVENT_PACKAGE)) {
+            throw new IllegalStateException("Tipo de evento no permitido en outbox: " + entity.getEventType());
+        }
+        try {
+            return objectMapper.readValue(entity.getPayload(), Class.forName(entity.getEventType()));
+        } catch (JsonProcessingException | ClassNotFoundException ex) {
+            throw new IllegalStateException(
+                    "No se pudo deserializar evento de outbox: eventId=" + entity.getEventId(), ex);
+        }
+    }
+}
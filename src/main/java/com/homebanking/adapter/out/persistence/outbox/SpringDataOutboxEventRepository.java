@@ -0,0 +1,48 @@
+package com.homebanking.adapter.out.persistence.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+interface SpringDataOutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    boolean existsByEventId(UUID eventId);
+
+    @Query("SELECT o.eventId FROM OutboxEventJpaEntity o WHERE o.eventId IN :eventIds")
+    List<UUID> findExistingEventIds(@Param("eventIds") Collection<UUID> eventIds);
+
+    /**
+     * Timeout de lock -2 = SKIP LOCKED: cada relay toma un lote distinto.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT o FROM OutboxEventJpaEntity o
+            WHERE o.publishedAt IS NULL
+            ORDER BY o.id ASC
+            """)
+    List<OutboxEventJpaEntity> lockPending(Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEventJpaEntity o SET o.publishedAt = :publishedAt WHERE o.eventId IN :eventIds")
+    int markPublished(
+            @Param("eventIds") Collection<UUID> eventIds,
+            @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventJpaEntity o WHERE o.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -12,13 +12,13 @@ public class BillPaymentPersistenceMapper {
                 payment.getAccountId(),
                 payment.getBillerCode(),
                 payment.getReference(),
-                payment.getAmount(),
+                payment.getAmount().toBigDecimal(),
                 payment.getIdempotencyKey(),
                 payment.getStatus(),
                 payment.getFailureReason(),
                 payment.getCreatedAt(),
                 payment.getProcessedAt(),
-                0L
+                payment.getVersion()
         );
     }
 
@@ -33,7 +33,8 @@ public class BillPaymentPersistenceMapper {
                 entity.getStatus(),
                 entity.getFailureReason(),
                 entity.getCreatedAt(),
-                entity.getProcessedAt()
+                entity.getProcessedAt(),
+                entity.getVersion()
         );
     }
 }
@@ -0,0 +1,52 @@
+package com.homebanking.adapter.out.persistence.transfer;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+interface SpringDataStandingOrderRepository extends JpaRepository<StandingOrderJpaEntity, UUID> {
+
+    @Query("""
+            SELECT DISTINCT s.originAccountId FROM StandingOrderJpaEntity s
+            WHERE s.active = true
+              AND s.nextExecutionDate <= :runDate
+            ORDER BY s.originAccountId
+            """)
+    List<UUID> findFirstOriginAccountsDue(
+            @Param("runDate") LocalDate runDate,
+            Pageable pageable);
+
+    /**
+     * Keyset: arranca después de la última cuenta del chunk anterior, sin OFFSET.
+     */
+    @Query("""
+            SELECT DISTINCT s.originAccountId FROM StandingOrderJpaEntity s
+            WHERE s.active = true
+              AND s.nextExecutionDate <= :runDate
+              AND s.originAccountId > :after
+            ORDER BY s.originAccountId
+            """)
+    List<UUID> findOriginAccountsDueAfter(
+            @Param("runDate") LocalDate runDate,
+            @Param("after") UUID after,
+            Pageable pageable);
+
+    @Query("""
+            SELECT s FROM StandingOrderJpaEntity s
+            WHERE s.originAccountId IN :accountIds
+              AND s.active = true
+              AND s.nextExecutionDate <= :runDate
+            ORDER BY s.originAccountId, s.nextExecutionDate, s.id
+            """)
+    List<StandingOrderJpaEntity> findDueByOriginAccounts(
+            @Param("accountIds") Collection<UUID> accountIds,
+            @Param("runDate") LocalDate runDate);
+}
@@ -0,0 +1,38 @@
+package com.homebanking.adapter.out.persistence.transfer;
+
+import com.homebanking.domain.enums.TransferStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+interface SpringDataTransferBatchRepository extends JpaRepository<TransferBatchJpaEntity, UUID> {
+
+    Optional<TransferBatchJpaEntity> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Progreso del lote en una consulta: agrupa por estado las transferencias
+     * aceptadas, sin traerlas a memoria.
+     */
+    @Query("""
+            SELECT t.status AS status, COUNT(t) AS total
+            FROM TransferJpaEntity t
+            WHERE t.id IN (
+                SELECT i.transferId FROM TransferBatchJpaEntity b JOIN b.items i
+                WHERE b.id = :batchId AND i.transferId IS NOT NULL
+            )
+            GROUP BY t.status
+            """)
+    List<StatusCount> countTransfersByStatus(@Param("batchId") UUID batchId);
+
+    interface StatusCount {
+        TransferStatus getStatus();
+
+        Long getTotal();
+    }
+}
@@ -1,10 +1,19 @@
 package com.homebanking.adapter.out.persistence.transfer;
 
 import com.homebanking.domain.enums.TransferStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,17 +21,176 @@ import java.util.UUID;
 @Repository
 interface SpringDataTransferRepository extends JpaRepository<TransferJpaEntity, UUID> {
 
+    /**
+     * Timeout de lock -2 = SKIP LOCKED. Hibernate lo traduce según el dialecto
+     * y emite FOR UPDATE simple donde la base no lo soporta.
+     */
+    String SKIP_LOCKED = "-2";
+
     Optional<TransferJpaEntity> findByIdempotencyKey(String idempotencyKey);
 
+    @Query("SELECT t.idempotencyKey FROM TransferJpaEntity t WHERE t.idempotencyKey IN :keys")
+    List<String> findIdempotencyKeysIn(@Param("keys") Collection<String> keys);
+
     List<TransferJpaEntity> findByOriginAccountId(UUID originAccountId);
 
-    List<TransferJpaEntity> findByStatusOrderByCreatedAtAsc(
-            TransferStatus status,
-            Pageable pageable);
+    /**
+     * Selección justa entre cuentas: numera las candidatas de cada cuenta
+     * origen (ROW_NUMBER por origin_account_id) y toma primero la más vieja
+     * de cada cuenta, después la segunda, etc. Una cuenta con miles de
+     * pendientes no desplaza a las demás del lote; si está sola, lo llena.
+     * Sin FOR UPDATE (no se combina con window functions): la exclusión
+     * entre nodos la da el compare-and-set de acquireLease.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT ranked.* FROM (
+                SELECT t.*,
+                       ROW_NUMBER() OVER (PARTITION BY t.origin_account_id ORDER BY t.created_at) AS account_rank
+                FROM transfers t
+                WHERE t.status = :status
+                  AND (t.lease_expires_at IS NULL OR t.lease_expires_at < :now)
+            ) ranked
+            ORDER BY ranked.account_rank, ranked.created_at
+            LIMIT :limit
+            """)
+    List<TransferJpaEntity> findFairClaimable(
+            @Param("status") String status,
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
 
-    List<TransferJpaEntity> findByStatusAndRetryCountLessThanOrderByLastRetryAtAsc(
+    List<TransferJpaEntity> findByStatusAndRetryCountLessThanAndNextRetryAtLessThanEqualOrderByNextRetryAtAsc(
             TransferStatus status,
             Integer retryCount,
+            LocalDateTime now,
+            Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("""
+            SELECT t FROM TransferJpaEntity t
+            WHERE t.status = :status
+              AND (t.leaseExpiresAt IS NULL OR t.leaseExpiresAt < :now)
+            ORDER BY t.createdAt ASC
+            """)
+    List<TransferJpaEntity> lockClaimableByStatus(
+            @Param("status") TransferStatus status,
+            @Param("now") LocalDateTime now,
             Pageable pageable);
-}
 
+    /**
+     * Solo reintentos vencidos: range scan sobre idx_status_next_retry
+     * (status, next_retry_at). Las que todavía esperan su backoff no se leen.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("""
+            SELECT t FROM TransferJpaEntity t
+            WHERE t.status = :status
+              AND t.nextRetryAt <= :now
+              AND t.retryCount < :maxRetries
+              AND (t.leaseExpiresAt IS NULL OR t.leaseExpiresAt < :now)
+            ORDER BY t.nextRetryAt ASC
+            """)
+    List<TransferJpaEntity> lockClaimableRetries(
+            @Param("status") TransferStatus status,
+            @Param("maxRetries") Integer maxRetries,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /**
+     * Compare-and-set del lease: solo gana filas que siguen en el estado esperado
+     * y sin lease vigente de otro worker (el propio dueño puede renovarlo).
+     * No incrementa @Version (el claim no es un cambio de negocio).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE TransferJpaEntity t
+            SET t.leaseOwner = :owner, t.leaseExpiresAt = :expiresAt
+            WHERE t.id IN :ids
+              AND t.status = :status
+              AND (t.leaseExpiresAt IS NULL OR t.leaseExpiresAt < :now OR t.leaseOwner = :owner)
+            """)
+    int acquireLease(
+            @Param("ids") Collection<UUID> ids,
+            @Param("status") TransferStatus status,
+            @Param("owner") String owner,
+            @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Ventana de agendadas: range scan sobre idx_status_execute_at, con
+     * keyset (execute_at, id) para que los empates no repitan la página.
+     */
+    @Query("""
+            SELECT t FROM TransferJpaEntity t
+            WHERE t.status = :status
+              AND t.executeAt <= :until
+              AND (t.executeAt > :afterAt OR (t.executeAt = :afterAt AND t.id > :afterId))
+            ORDER BY t.executeAt, t.id
+            """)
+    List<TransferJpaEntity> findScheduledAfter(
+            @Param("status") TransferStatus status,
+            @Param("afterAt") LocalDateTime afterAt,
+            @Param("afterId") UUID afterId,
+            @Param("until") LocalDateTime until,
+            Pageable pageable);
+
+    /**
+     * Compare-and-set SCHEDULED → PENDING solo para las ya vencidas: si dos
+     * nodos liberan la misma, una sola fila cambia. Es un cambio de negocio,
+     * incrementa version.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE TransferJpaEntity t
+            SET t.status = :released, t.version = t.version + 1
+            WHERE t.id IN :ids
+              AND t.status = :scheduled
+              AND t.executeAt <= :now
+            """)
+    int releaseScheduled(
+            @Param("ids") Collection<UUID> ids,
+            @Param("scheduled") TransferStatus scheduled,
+            @Param("released") TransferStatus released,
+            @Param("now") LocalDateTime now);
+
+    List<TransferJpaEntity> findByIdInAndLeaseOwnerAndLeaseExpiresAt(
+            Collection<UUID> ids,
+            String leaseOwner,
+            LocalDateTime leaseExpiresAt);
+
+    /**
+     * Guardado versionado en una sola sentencia (como updateBalance de
+     * cuentas): solo el estado que cambia después de crearla. 0 filas =
+     * otra transacción la modificó desde que se cargó.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE TransferJpaEntity t
+            SET t.status = :status,
+                t.executedAt = :executedAt,
+                t.failedAt = :failedAt,
+                t.failureReason = :failureReason,
+                t.retryCount = :retryCount,
+                t.lastRetryAt = :lastRetryAt,
+                t.nextRetryAt = :nextRetryAt,
+                t.leaseOwner = :leaseOwner,
+                t.leaseExpiresAt = :leaseExpiresAt,
+                t.executeAt = :executeAt,
+                t.version = t.version + 1
+            WHERE t.id = :id AND t.version = :version
+            """)
+    int updateState(
+            @Param("id") UUID id,
+            @Param("status") TransferStatus status,
+            @Param("executedAt") LocalDateTime executedAt,
+            @Param("failedAt") LocalDateTime failedAt,
+            @Param("failureReason") String failureReason,
+            @Param("retryCount") Integer retryCount,
+            @Param("lastRetryAt") LocalDateTime lastRetryAt,
+            @Param("nextRetryAt") LocalDateTime nextRetryAt,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("executeAt") LocalDateTime executeAt,
+            @Param("version") Long version);
+}
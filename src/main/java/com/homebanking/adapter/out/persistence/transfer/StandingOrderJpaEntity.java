@@ -0,0 +1,95 @@
+package com.homebanking.adapter.out.persistence.transfer;
+
+import com.homebanking.domain.entity.StandingOrder;
+import com.homebanking.domain.enums.RecurrenceFrequency;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity: StandingOrderJpaEntity
+
+ * Mapeo O/R de una orden permanente.
+
+ * Características:
+ * ✓ Índice (origin_account_id, next_execution_date): la generación
+ *   recorre cuentas en orden y filtra las vencidas sobre el mismo índice
+ * ✓ @Version: dos corridas simultáneas no avanzan la misma orden dos veces
+ * ✓ Solo next_execution_date y active cambian después del alta
+ */
+@Entity
+@Table(name = "standing_orders", indexes = {
+        @Index(name = "idx_standing_order_origin_next", columnList = "origin_account_id, next_execution_date")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StandingOrderJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "origin_account_id", nullable = false)
+    private UUID originAccountId;
+
+    @Column(name = "target_cbu", nullable = false, length = 22)
+    private String targetCbu;
+
+    @Column(name = "amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "description", nullable = false, length = 255)
+    private String description;
+
+    @Column(name = "frequency", nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private RecurrenceFrequency frequency;
+
+    @Column(name = "recurrence_day", nullable = false)
+    private int recurrenceDay;
+
+    @Setter(AccessLevel.PACKAGE)
+    @Column(name = "next_execution_date", nullable = false)
+    private LocalDate nextExecutionDate;
+
+    @Setter(AccessLevel.PACKAGE)
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // ==================== FACTORY METHOD ====================
+
+    /**
+     * Factory method: Crea StandingOrderJpaEntity desde StandingOrder domain (alta).
+     */
+    public static StandingOrderJpaEntity fromDomain(StandingOrder domain) {
+        return new StandingOrderJpaEntity(
+                domain.getId(),
+                domain.getOriginAccountId(),
+                domain.getTargetCbu().value(),
+                domain.getAmount().value(),
+                domain.getDescription().value(),
+                domain.getRecurrence().frequency(),
+                domain.getRecurrence().day(),
+                domain.getNextExecutionDate(),
+                domain.isActive(),
+                domain.getCreatedAt(),
+                null
+        );
+    }
+}
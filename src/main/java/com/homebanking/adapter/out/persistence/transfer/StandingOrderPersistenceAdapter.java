@@ -0,0 +1,104 @@
+package com.homebanking.adapter.out.persistence.transfer;
+
+import com.homebanking.domain.entity.StandingOrder;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.RecurrenceRule;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.out.transfer.StandingOrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter: StandingOrderPersistenceAdapter
+
+ * Implementación del puerto StandingOrderRepository sobre JPA.
+ * Las actualizaciones se aplican sobre la entidad cargada (una lectura
+ * por lote), así @Version detecta corridas concurrentes.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+class StandingOrderPersistenceAdapter implements StandingOrderRepository {
+
+    private final SpringDataStandingOrderRepository springDataRepository;
+
+    @Override
+    public StandingOrder save(StandingOrder standingOrder) {
+        return saveAll(List.of(standingOrder)).getFirst();
+    }
+
+    @Override
+    public List<StandingOrder> saveAll(List<StandingOrder> standingOrders) {
+        Map<UUID, StandingOrderJpaEntity> existing = springDataRepository
+                .findAllById(standingOrders.stream().map(StandingOrder::getId).filter(Objects::nonNull).toList())
+                .stream()
+                .collect(Collectors.toMap(StandingOrderJpaEntity::getId, Function.identity()));
+
+        List<StandingOrderJpaEntity> entities = standingOrders.stream()
+                .map(order -> {
+                    StandingOrderJpaEntity entity = order.getId() != null ? existing.get(order.getId()) : null;
+                    if (entity == null) {
+                        return StandingOrderJpaEntity.fromDomain(order);
+                    }
+                    entity.setNextExecutionDate(order.getNextExecutionDate());
+                    entity.setActive(order.isActive());
+                    return entity;
+                })
+                .toList();
+
+        List<StandingOrderJpaEntity> saved = springDataRepository.saveAll(entities);
+        log.debug("{} órdenes permanentes persistidas", saved.size());
+        return saved.stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public Optional<StandingOrder> findById(UUID id) {
+        return springDataRepository.findById(id).map(this::toDomain);
+    }
+
+    @Override
+    public List<UUID> findOriginAccountsWithDueOrders(LocalDate runDate, UUID afterAccountId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return afterAccountId == null
+                ? springDataRepository.findFirstOriginAccountsDue(runDate, page)
+                : springDataRepository.findOriginAccountsDueAfter(runDate, afterAccountId, page);
+    }
+
+    @Override
+    public List<StandingOrder> findDueByOriginAccounts(Collection<UUID> originAccountIds, LocalDate runDate) {
+        if (originAccountIds.isEmpty()) {
+            return List.of();
+        }
+        return springDataRepository.findDueByOriginAccounts(originAccountIds, runDate)
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    private StandingOrder toDomain(StandingOrderJpaEntity entity) {
+        return StandingOrder.reconstruct(
+                entity.getId(),
+                entity.getOriginAccountId(),
+                Cbu.reconstruct(entity.getTargetCbu()),
+                TransferAmount.reconstruct(entity.getAmount()),
+                TransferDescription.reconstruct(entity.getDescription()),
+                new RecurrenceRule(entity.getFrequency(), entity.getRecurrenceDay()),
+                entity.getNextExecutionDate(),
+                entity.isActive(),
+                entity.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package com.homebanking.adapter.out.persistence.transfer;
+
+import com.homebanking.domain.entity.TransferBatch;
+import com.homebanking.domain.valueobject.transfer.TransferBatchItem;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * JPA Entity: TransferBatchJpaEntity
+
+ * Mapeo O/R de un lote de transferencias.
+
+ * Características:
+ * ✓ idempotency_key único: reenviar el lote devuelve el mismo registro
+ * ✓ Ítems como colección de valores (transfer_batch_items), en orden
+ * ✓ Inmutable una vez creado: el progreso se lee de transfers
+ */
+@Entity
+@Table(name = "transfer_batches", indexes = {
+        @Index(name = "idx_batch_idempotency_key", columnList = "idempotency_key", unique = true),
+        @Index(name = "idx_batch_origin_account", columnList = "origin_account_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransferBatchJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 36)
+    private String idempotencyKey;
+
+    @Column(name = "origin_account_id", nullable = false)
+    private UUID originAccountId;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @ElementCollection
+    @CollectionTable(name = "transfer_batch_items", joinColumns = @JoinColumn(name = "batch_id"))
+    @OrderBy("itemIndex ASC")
+    private List<Item> items = new ArrayList<>();
+
+    // ==================== FACTORY METHOD ====================
+
+    /**
+     * Factory method: Crea TransferBatchJpaEntity desde TransferBatch domain.
+     */
+    public static TransferBatchJpaEntity fromDomain(TransferBatch domain) {
+        return new TransferBatchJpaEntity(
+                domain.getId(),
+                domain.getIdempotencyKey().value(),
+                domain.getOriginAccountId(),
+                domain.getTotalAmount(),
+                domain.getCreatedAt(),
+                domain.getItems().stream().map(Item::fromDomain).collect(Collectors.toCollection(ArrayList::new))
+        );
+    }
+
+    /**
+     * Resultado de un ítem del lote.
+     */
+    @Embeddable
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Item {
+
+        @Column(name = "item_index", nullable = false)
+        private int itemIndex;
+
+        @Column(name = "transfer_id")
+        private UUID transferId;
+
+        @Column(name = "outcome", nullable = false, length = 20)
+        @Enumerated(EnumType.STRING)
+        private TransferBatchItem.Outcome outcome;
+
+        @Column(name = "error_message", length = 255)
+        private String errorMessage;
+
+        static Item fromDomain(TransferBatchItem item) {
+            return new Item(item.index(), item.transferId(), item.outcome(), item.errorMessage());
+        }
+
+        TransferBatchItem toDomain() {
+            return new TransferBatchItem(itemIndex, transferId, outcome, errorMessage);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.homebanking.adapter.out.persistence.transfer;
+
+import com.homebanking.domain.entity.TransferBatch;
+import com.homebanking.domain.enums.TransferStatus;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.port.out.transfer.TransferBatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter: TransferBatchPersistenceAdapter
+
+ * Implementación del puerto TransferBatchRepository sobre JPA.
+ * El lote se guarda una vez; su progreso se calcula contra transfers.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+class TransferBatchPersistenceAdapter implements TransferBatchRepository {
+
+    private final SpringDataTransferBatchRepository springDataRepository;
+
+    @Override
+    public TransferBatch save(TransferBatch batch) {
+        TransferBatchJpaEntity saved = springDataRepository.save(TransferBatchJpaEntity.fromDomain(batch));
+
+        log.debug("Lote de transferencias persistido: id={}, items={}", saved.getId(), saved.getItems().size());
+
+        return toDomain(saved);
+    }
+
+    @Override
+    public Optional<TransferBatch> findById(UUID id) {
+        return springDataRepository.findById(id).map(this::toDomain);
+    }
+
+    @Override
+    public Optional<TransferBatch> findByIdempotencyKey(String idempotencyKey) {
+        return springDataRepository.findByIdempotencyKey(idempotencyKey).map(this::toDomain);
+    }
+
+    @Override
+    public Map<TransferStatus, Long> countTransfersByStatus(UUID batchId) {
+        Map<TransferStatus, Long> counts = new EnumMap<>(TransferStatus.class);
+        springDataRepository.countTransfersByStatus(batchId)
+                .forEach(row -> counts.put(row.getStatus(), row.getTotal()));
+        return counts;
+    }
+
+    private TransferBatch toDomain(TransferBatchJpaEntity entity) {
+        return TransferBatch.reconstruct(
+                entity.getId(),
+                IdempotencyKey.reconstruct(entity.getIdempotencyKey()),
+                entity.getOriginAccountId(),
+                entity.getTotalAmount(),
+                entity.getCreatedAt(),
+                entity.getItems().stream().map(TransferBatchJpaEntity.Item::toDomain).toList()
+        );
+    }
+}
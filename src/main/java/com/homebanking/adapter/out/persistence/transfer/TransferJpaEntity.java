@@ -36,7 +36,11 @@ import lombok.NoArgsConstructor;
         @Index(name = "idx_idempotency_key", columnList = "idempotency_key", unique = true),
         @Index(name = "idx_origin_account", columnList = "origin_account_id"),
         @Index(name = "idx_status", columnList = "status"),
-        @Index(name = "idx_created_at", columnList = "created_at")
+        @Index(name = "idx_created_at", columnList = "created_at"),
+        @Index(name = "idx_status_lease", columnList = "status, lease_expires_at"),
+        @Index(name = "idx_status_next_retry", columnList = "status, next_retry_at"),
+        @Index(name = "idx_status_origin_created", columnList = "status, origin_account_id, created_at"),
+        @Index(name = "idx_status_execute_at", columnList = "status, execute_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -84,6 +88,18 @@ public class TransferJpaEntity {
     @Column(name = "last_retry_at")
     private LocalDateTime lastRetryAt;
 
+    @Column(name = "next_retry_at")
+    private LocalDateTime nextRetryAt;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "execute_at")
+    private LocalDateTime executeAt;
+
     @Column(name = "version", nullable = false)
     @Version
     private Long version;
@@ -115,7 +131,11 @@ public class TransferJpaEntity {
                 domain.getFailureReason(),                // failureReason
                 domain.getRetryCount(),                   // retryCount
                 domain.getLastRetryAt(),                  // lastRetryAt
-                0L                                        // version (nueva entidad = 0)
+                domain.getNextRetryAt(),                  // nextRetryAt
+                domain.getLeaseOwner(),                   // leaseOwner
+                domain.getLeaseExpiresAt(),               // leaseExpiresAt
+                domain.getExecuteAt(),                    // executeAt
+                domain.getVersion()                       // version (null = nueva: INSERT directo)
         );
     }
 }
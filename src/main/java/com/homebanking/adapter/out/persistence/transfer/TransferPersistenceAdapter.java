@@ -3,15 +3,29 @@ package com.homebanking.adapter.out.persistence.transfer;
 
 import com.homebanking.domain.entity.Transfer;
 import com.homebanking.domain.enums.TransferStatus;
+import com.homebanking.domain.valueobject.transfer.RetryPolicy;
 import com.homebanking.port.out.transfer.TransferRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Adapter: TransferPersistenceAdapter
@@ -24,6 +38,22 @@ import java.util.stream.Collectors;
  * - Usar Spring Data Repository para acceso a BD
  * - Logging de operaciones
 
+ * Claim multi-nodo (claimXxx):
+ * 1. SELECT ... FOR UPDATE SKIP LOCKED de candidatas sin lease vigente
+ * 2. UPDATE compare-and-set del lease (owner + expiración)
+ * 3. Relectura de las filas efectivamente ganadas
+ * El paso 2 es el que garantiza exclusión: en bases sin SKIP LOCKED (H2)
+ * dos nodos pueden leer la misma candidata, pero solo uno gana el UPDATE.
+ * PENDING se elige en ronda justa entre cuentas origen (sin lock en el
+ * paso 1, ver findFairClaimable); reintentos y leases vencidos, FIFO.
+ * Los leases vencidos vuelven con el vencimiento anterior al claim.
+ * Agendadas: SCHEDULED → PENDING con un UPDATE compare-and-set por lote.
+
+ * Guardado (save): la transferencia trae la versión con la que se cargó;
+ * es un único UPDATE con version en el WHERE, sin leer la fila antes.
+ * saveAll sigue por merge (batching JDBC) y también rechaza una versión
+ * vieja.
+
  * No conoce detalles de:
  * - Lógica de negocio (eso es del "use case")
  * - Cómo se serializan los datos (eso es de JPA)
@@ -36,8 +66,32 @@ class TransferPersistenceAdapter implements TransferRepository {
     private final SpringDataTransferRepository springDataRepository;
     private final TransferPersistenceMapper transferMapper;
 
+    /**
+     * Con version conocida es un único UPDATE condicionado a ella (sin el
+     * SELECT que haría merge de una entidad detached); nueva, un INSERT.
+     */
     @Override
     public Transfer save(Transfer transfer) {
+        if (transfer.getId() != null && transfer.getVersion() != null) {
+            if (springDataRepository.updateState(
+                    transfer.getId(),
+                    transfer.getStatus(),
+                    transfer.getExecutedAt(),
+                    transfer.getFailedAt(),
+                    transfer.getFailureReason(),
+                    transfer.getRetryCount(),
+                    transfer.getLastRetryAt(),
+                    transfer.getNextRetryAt(),
+                    transfer.getLeaseOwner(),
+                    transfer.getLeaseExpiresAt(),
+                    transfer.getExecuteAt(),
+                    transfer.getVersion()) == 0) {
+                throw new ObjectOptimisticLockingFailureException(TransferJpaEntity.class, transfer.getId());
+            }
+            log.debug("Transferencia actualizada: id={}, version={}", transfer.getId(), transfer.getVersion() + 1);
+            return transferMapper.toDomainUpdated(transfer);
+        }
+
         TransferJpaEntity entity = transferMapper.toJpaEntity(transfer);
         TransferJpaEntity saved = springDataRepository.save(entity);
 
@@ -47,18 +101,49 @@ class TransferPersistenceAdapter implements TransferRepository {
         return transferMapper.toDomain(saved);
     }
 
+    @Override
+    public List<Transfer> saveAll(List<Transfer> transfers) {
+        List<TransferJpaEntity> saved = springDataRepository.saveAll(
+                transfers.stream().map(transferMapper::toJpaEntity).toList());
+
+        log.debug("Lote de {} transferencias persistido", saved.size());
+
+        return saved.stream()
+                .map(transferMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Transfer> findById(UUID id) {
         return springDataRepository.findById(id)
                 .map(transferMapper::toDomain);
     }
 
+    @Override
+    public List<Transfer> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return springDataRepository.findAllById(ids)
+                .stream()
+                .map(transferMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Transfer> findByIdempotencyKey(String idempotencyKey) {
         return springDataRepository.findByIdempotencyKey(idempotencyKey)
                 .map(transferMapper::toDomain);
     }
 
+    @Override
+    public Set<String> findExistingIdempotencyKeys(Collection<String> idempotencyKeys) {
+        if (idempotencyKeys.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(springDataRepository.findIdempotencyKeysIn(idempotencyKeys));
+    }
+
     @Override
     public List<Transfer> findByOriginAccountId(UUID accountId) {
         return springDataRepository.findByOriginAccountId(accountId)
@@ -70,9 +155,7 @@ class TransferPersistenceAdapter implements TransferRepository {
 
     @Override
     public List<Transfer> findPendingTransfers(int limit) {
-        return springDataRepository.findByStatusOrderByCreatedAtAsc(
-                        TransferStatus.PENDING,
-                        PageRequest.of(0, limit))
+        return springDataRepository.findFairClaimable(TransferStatus.PENDING.name(), now(), limit)
                 .stream()
                 .map(transferMapper::toDomain)
                 .collect(Collectors.toList());
@@ -81,15 +164,122 @@ class TransferPersistenceAdapter implements TransferRepository {
     @Override
     public List<Transfer> findRetryableTransfers(int limit) {
         return springDataRepository
-                .findByStatusAndRetryCountLessThanOrderByLastRetryAtAsc(
+                .findByStatusAndRetryCountLessThanAndNextRetryAtLessThanEqualOrderByNextRetryAtAsc(
                         TransferStatus.FAILED,
-                        3,
+                        RetryPolicy.MAX_RETRIES,
+                        now(),
                         PageRequest.of(0, limit)
                 )
                 .stream()
                 .map(transferMapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional
+    public List<Transfer> claimPendingTransfers(int limit, String workerId, Duration leaseDuration) {
+        LocalDateTime now = now();
+        List<UUID> candidates = ids(springDataRepository.findFairClaimable(
+                TransferStatus.PENDING.name(), now, limit));
+        return claim(candidates, TransferStatus.PENDING, workerId, now, leaseDuration);
+    }
+
+    @Override
+    @Transactional
+    public List<Transfer> claimRetryableTransfers(int limit, String workerId, Duration leaseDuration) {
+        LocalDateTime now = now();
+        List<UUID> candidates = ids(springDataRepository.lockClaimableRetries(
+                TransferStatus.FAILED, RetryPolicy.MAX_RETRIES, now, PageRequest.of(0, limit)));
+        return claim(candidates, TransferStatus.FAILED, workerId, now, leaseDuration);
+    }
+
+    @Override
+    @Transactional
+    public List<ExpiredLease> claimExpiredProcessingTransfers(int limit, String workerId, Duration leaseDuration) {
+        LocalDateTime now = now();
+        // El vencimiento anterior se lee con la fila bloqueada, antes de que el claim lo pise
+        List<TransferJpaEntity> locked = springDataRepository.lockClaimableByStatus(
+                TransferStatus.PROCESSING, now, PageRequest.of(0, limit));
+        Map<UUID, LocalDateTime> expiredAt = new HashMap<>();
+        locked.forEach(entity -> expiredAt.put(entity.getId(), entity.getLeaseExpiresAt()));
+        List<UUID> candidates = ids(locked);
+        return claim(candidates, TransferStatus.PROCESSING, workerId, now, leaseDuration)
+                .stream()
+                .map(transfer -> new ExpiredLease(transfer, expiredAt.get(transfer.getId())))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean claimTransfer(UUID transferId, String workerId, Duration leaseDuration) {
+        LocalDateTime now = now();
+        int updated = springDataRepository.acquireLease(
+                List.of(transferId), TransferStatus.PENDING, workerId, now.plus(leaseDuration), now);
+        return updated == 1;
+    }
+
+    @Override
+    public List<Transfer> findScheduledTransfers(
+            LocalDateTime afterExecuteAt, UUID afterId, LocalDateTime until, int limit) {
+        return springDataRepository
+                .findScheduledAfter(TransferStatus.SCHEDULED, afterExecuteAt, afterId, until, PageRequest.of(0, limit))
+                .stream()
+                .map(transferMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public int releaseScheduledTransfers(Collection<UUID> transferIds, LocalDateTime now) {
+        if (transferIds.isEmpty()) {
+            return 0;
+        }
+        return springDataRepository.releaseScheduled(
+                transferIds, TransferStatus.SCHEDULED, TransferStatus.PENDING, now);
+    }
+
+    private List<Transfer> claim(
+            List<UUID> candidates,
+            TransferStatus expectedStatus,
+            String workerId,
+            LocalDateTime now,
+            Duration leaseDuration) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime expiresAt = now.plus(leaseDuration);
+        int updated = springDataRepository.acquireLease(candidates, expectedStatus, workerId, expiresAt, now);
+        if (updated < candidates.size()) {
+            log.debug("Claim parcial: candidatas={}, ganadas={}, worker={}",
+                    candidates.size(), updated, workerId);
+        }
+        if (updated == 0) {
+            return List.of();
+        }
+
+        // Mantiene el orden de las candidatas (FIFO o ronda justa entre cuentas)
+        Map<UUID, Integer> order = IntStream.range(0, candidates.size())
+                .boxed()
+                .collect(Collectors.toMap(candidates::get, Function.identity()));
+        return springDataRepository.findByIdInAndLeaseOwnerAndLeaseExpiresAt(candidates, workerId, expiresAt)
+                .stream()
+                .sorted(Comparator.comparing(entity -> order.get(entity.getId())))
+                .map(transferMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private List<UUID> ids(List<TransferJpaEntity> entities) {
+        return entities.stream().map(TransferJpaEntity::getId).toList();
+    }
+
+    /**
+     * Precisión de milisegundos: el lease se relee por igualdad y la columna
+     * TIMESTAMP puede truncar nanosegundos según la base.
+     */
+    private LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
 }
 
 
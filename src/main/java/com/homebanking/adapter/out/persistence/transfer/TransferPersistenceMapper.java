@@ -18,6 +18,7 @@ import org.springframework.stereotype.Component;
  * ✓ toDomain(): Reconstruye Transfer desde JpaEntity
  * ✓ Sin lógica de construcción (todo en factory method)
  * ✓ Únicamente mapeo de datos
+ * ✓ version ida y vuelta: el UPDATE se condiciona a la versión cargada
  */
 @Component
 public class TransferPersistenceMapper {
@@ -39,7 +40,8 @@ public class TransferPersistenceMapper {
      * Convierte TransferJpaEntity (persistence) → Transfer (domain)
 
      * Reconstruye la entidad de dominio desde los datos persistidos.
-     * Crea todos los Value Objects a partir de valores primitivos.
+     * Crea todos los Value Objects a partir de valores primitivos, por
+     * reconstruct: ya se validaron al crear la transferencia.
      *
      * @param entity TransferJpaEntity desde la base de datos
      * @return Transfer domain entity reconstituyida
@@ -47,20 +49,50 @@ public class TransferPersistenceMapper {
     public Transfer toDomain(TransferJpaEntity entity) {
         return Transfer.reconstruct(
                 entity.getId(),
-                IdempotencyKey.of(entity.getIdempotencyKey()),
+                IdempotencyKey.reconstruct(entity.getIdempotencyKey()),
                 entity.getOriginAccountId(),
-                Cbu.of(entity.getTargetCbu()),
-                TransferAmount.of(entity.getAmount()),
-                TransferDescription.of(entity.getDescription()),
+                Cbu.reconstruct(entity.getTargetCbu()),
+                TransferAmount.reconstruct(entity.getAmount()),
+                TransferDescription.reconstruct(entity.getDescription()),
                 entity.getStatus(),
                 entity.getCreatedAt(),
                 entity.getExecutedAt(),
                 entity.getFailureReason(),
                 entity.getFailedAt(),
                 entity.getRetryCount(),
-                entity.getLastRetryAt()
+                entity.getLastRetryAt(),
+                entity.getNextRetryAt(),
+                entity.getLeaseOwner(),
+                entity.getLeaseExpiresAt(),
+                entity.getExecuteAt(),
+                entity.getVersion()
         );
     }
-}
-
 
+    /**
+     * Transferencia después del UPDATE versionado: mismo estado, version + 1,
+     * sin releer la fila.
+     */
+    public Transfer toDomainUpdated(Transfer transfer) {
+        return Transfer.reconstruct(
+                transfer.getId(),
+                transfer.getIdempotencyKey(),
+                transfer.getOriginAccountId(),
+                transfer.getTargetCbu(),
+                transfer.getAmount(),
+                transfer.getDescription(),
+                transfer.getStatus(),
+                transfer.getCreatedAt(),
+                transfer.getExecutedAt(),
+                transfer.getFailureReason(),
+                transfer.getFailedAt(),
+                transfer.getRetryCount(),
+                transfer.getLastRetryAt(),
+                transfer.getNextRetryAt(),
+                transfer.getLeaseOwner(),
+                transfer.getLeaseExpiresAt(),
+                transfer.getExecuteAt(),
+                transfer.getVersion() + 1
+        );
+    }
+}
@@ -29,7 +29,7 @@ class UserMapper {
     }
 
     public User toDomainEntity(UserJpaEntity entity) {
-        return User.withId(
+        return User.reconstruct(
                 entity.getId(),
                 entity.getEmail(),
                 entity.getPassword(),
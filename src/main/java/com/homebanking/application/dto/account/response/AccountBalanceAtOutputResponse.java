@@ -0,0 +1,11 @@
+package com.homebanking.application.dto.account.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AccountBalanceAtOutputResponse(
+        UUID accountId,
+        LocalDateTime at,
+        BigDecimal balance
+) {}
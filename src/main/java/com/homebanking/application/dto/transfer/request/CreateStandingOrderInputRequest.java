@@ -0,0 +1,23 @@
+package com.homebanking.application.dto.transfer.request;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO: CreateStandingOrderInputRequest
+
+ * Entrada al caso de uso para crear una orden permanente.
+ * frequency: WEEKLY (day 1..7, lunes = 1) o MONTHLY (day 1..31).
+ * startDate null = desde hoy.
+ */
+public record CreateStandingOrderInputRequest(
+        UUID originAccountId,
+        String targetCbu,
+        BigDecimal amount,
+        String description,
+        String frequency,
+        int day,
+        LocalDate startDate
+) {
+}
@@ -0,0 +1,27 @@
+package com.homebanking.application.dto.transfer.request;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO: CreateTransferBatchInputRequest
+
+ * Entrada al caso de uso para crear un lote de transferencias desde una cuenta.
+ * Los ítems no se validan acá: cada ítem inválido vuelve como REJECTED
+ * en la respuesta en lugar de rechazar el lote completo.
+ * requesterEmail: usuario autenticado; debe ser el dueño de la cuenta origen.
+ */
+public record CreateTransferBatchInputRequest(
+        UUID originAccountId,
+        List<Item> items,
+        String idempotencyKey,
+        String requesterEmail
+) {
+
+    public record Item(
+            String targetCbu,
+            BigDecimal amount,
+            String description
+    ) {}
+}
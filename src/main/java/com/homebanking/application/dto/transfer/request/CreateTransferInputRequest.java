@@ -4,6 +4,7 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -11,6 +12,7 @@ import java.util.UUID;
 
  * Entrada al caso de uso para crear una transferencia.
  * Contiene solo datos de negocio, no técnicos.
+ * executeAt null = inmediata; con valor, la transferencia queda agendada.
  */
 public record CreateTransferInputRequest(
         @NotNull(message = "El ID de la cuenta origen es obligatorio")
@@ -27,6 +29,18 @@ public record CreateTransferInputRequest(
         String description,
 
         @NotBlank(message = "La idempotency key es obligatoria")
-        String idempotencyKey
-) {}
+        String idempotencyKey,
+
+        LocalDateTime executeAt
+) {
+
+    public CreateTransferInputRequest(
+            UUID originAccountId,
+            String targetCbu,
+            BigDecimal amount,
+            String description,
+            String idempotencyKey) {
+        this(originAccountId, targetCbu, amount, description, idempotencyKey, null);
+    }
+}
 
@@ -0,0 +1,21 @@
+package com.homebanking.application.dto.transfer.response;
+
+/**
+ * DTO: StandingOrderChunkResult
+
+ * Resultado de generar las ocurrencias vencidas de un chunk de cuentas.
+ * • materialized: transferencias creadas
+ * • rejected: ocurrencias salteadas (saldo insuficiente u otra regla de dominio)
+ * • duplicates: ocurrencias que ya tenían transferencia (corrida repetida)
+ */
+public record StandingOrderChunkResult(
+        int accounts,
+        int materialized,
+        int rejected,
+        int duplicates
+) {
+
+    public static StandingOrderChunkResult empty() {
+        return new StandingOrderChunkResult(0, 0, 0, 0);
+    }
+}
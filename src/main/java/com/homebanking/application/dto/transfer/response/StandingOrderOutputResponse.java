@@ -0,0 +1,23 @@
+package com.homebanking.application.dto.transfer.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO: StandingOrderOutputResponse
+
+ * Salida de los casos de uso de órdenes permanentes.
+ */
+public record StandingOrderOutputResponse(
+        UUID id,
+        UUID originAccountId,
+        String targetCbu,
+        BigDecimal amount,
+        String description,
+        String frequency,
+        int day,
+        String nextExecutionDate,
+        boolean active,
+        String createdAt
+) {
+}
@@ -0,0 +1,26 @@
+package com.homebanking.application.dto.transfer.response;
+
+/**
+ * DTO: StandingOrderRunStats
+
+ * Resumen de una corrida de generación de órdenes permanentes.
+ * Un chunk fallido no corta la corrida: sus órdenes siguen vencidas y
+ * la próxima corrida las toma (catch-up).
+ */
+public record StandingOrderRunStats(
+        int chunks,
+        int failedChunks,
+        int accounts,
+        int materialized,
+        int rejected,
+        int duplicates,
+        long elapsedMillis
+) {
+
+    public double throughputPerSecond() {
+        if (elapsedMillis <= 0) {
+            return materialized;
+        }
+        return materialized * 1000.0 / elapsedMillis;
+    }
+}
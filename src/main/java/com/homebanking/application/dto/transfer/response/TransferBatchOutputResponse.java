@@ -0,0 +1,31 @@
+package com.homebanking.application.dto.transfer.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO: TransferBatchOutputResponse
+
+ * Salida del caso de uso para crear un lote de transferencias.
+ * Un resultado por ítem, en el orden recibido.
+ */
+public record TransferBatchOutputResponse(
+        UUID batchId,
+        String idempotencyKey,
+        UUID originAccountId,
+        int totalItems,
+        int acceptedItems,
+        int rejectedItems,
+        BigDecimal totalAmount,
+        String createdAt,
+        List<ItemResult> items
+) {
+
+    public record ItemResult(
+            int index,
+            UUID transferId,
+            String outcome,
+            String error
+    ) {}
+}
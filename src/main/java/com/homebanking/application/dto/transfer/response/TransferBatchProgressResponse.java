@@ -0,0 +1,23 @@
+package com.homebanking.application.dto.transfer.response;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO: TransferBatchProgressResponse
+
+ * Progreso de un lote: cuántas de sus transferencias hay en cada estado.
+ * finished = ninguna transferencia aceptada sigue PENDING o PROCESSING.
+ */
+public record TransferBatchProgressResponse(
+        UUID batchId,
+        UUID originAccountId,
+        int totalItems,
+        int acceptedItems,
+        int rejectedItems,
+        BigDecimal totalAmount,
+        String createdAt,
+        Map<String, Long> transfersByStatus,
+        boolean finished
+) {}
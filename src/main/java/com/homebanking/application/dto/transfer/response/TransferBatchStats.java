@@ -0,0 +1,37 @@
+package com.homebanking.application.dto.transfer.response;
+
+/**
+ * DTO: TransferBatchStats
+
+ * Resumen de la ejecucion de un lote del scheduler.
+ * Permite observar throughput y tasa de error por lote.
+ * meanCallMillis es la latencia media de cada llamada al procesador
+ * (un chunk), independiente del tamaño del lote.
+ */
+public record TransferBatchStats(
+        int total,
+        int succeeded,
+        int failed,
+        long elapsedMillis,
+        long meanCallMillis
+) {
+
+    public static TransferBatchStats empty() {
+        return new TransferBatchStats(0, 0, 0, 0L, 0L);
+    }
+
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    public double throughputPerSecond() {
+        if (elapsedMillis <= 0) {
+            return total;
+        }
+        return total * 1000.0 / elapsedMillis;
+    }
+
+    public double errorRate() {
+        return total == 0 ? 0.0 : (double) failed / total;
+    }
+}
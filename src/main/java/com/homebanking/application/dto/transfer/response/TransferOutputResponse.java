@@ -8,6 +8,7 @@ import java.util.UUID;
 
  * Salida del caso de uso para crear transferencia.
  * Información completa de la transferencia creada.
+ * executeAt solo viene en transferencias agendadas.
  */
 public record TransferOutputResponse(
         UUID id,
@@ -17,6 +18,7 @@ public record TransferOutputResponse(
         BigDecimal amount,
         String description,
         String status,
-        String createdAt
+        String createdAt,
+        String executeAt
 ) {}
 
@@ -9,7 +9,8 @@ public record TransferProcessingResult(
     public enum Outcome {
         SUCCESS,
         RECOVERABLE_FAILURE,
-        NON_RECOVERABLE_FAILURE
+        NON_RECOVERABLE_FAILURE,
+        NOT_SUBMITTED
     }
 
     public static TransferProcessingResult success() {
@@ -20,6 +21,13 @@ public record TransferProcessingResult(
         return new TransferProcessingResult(Outcome.RECOVERABLE_FAILURE, Optional.empty());
     }
 
+    /**
+     * No llegó al procesador (breaker abierto, bulkhead lleno): el intento no cuenta.
+     */
+    public static TransferProcessingResult notSubmitted() {
+        return new TransferProcessingResult(Outcome.NOT_SUBMITTED, Optional.empty());
+    }
+
     public static TransferProcessingResult nonRecoverableFailure(String errorMessage) {
         return new TransferProcessingResult(Outcome.NON_RECOVERABLE_FAILURE, Optional.of(errorMessage));
     }
@@ -13,7 +13,7 @@ public class BillPaymentMapper {
                 payment.getAccountId(),
                 payment.getBillerCode(),
                 payment.getReference(),
-                payment.getAmount(),
+                payment.getAmount().toBigDecimal(),
                 payment.getStatus().name(),
                 payment.getFailureReason(),
                 payment.getCreatedAt() == null ? null : payment.getCreatedAt().toString(),
@@ -1,10 +1,18 @@
 package com.homebanking.application.mapper;
 
+import com.homebanking.application.dto.transfer.response.StandingOrderOutputResponse;
+import com.homebanking.application.dto.transfer.response.TransferBatchOutputResponse;
+import com.homebanking.application.dto.transfer.response.TransferBatchProgressResponse;
 import com.homebanking.application.dto.transfer.response.TransferOutputResponse;
+import com.homebanking.domain.entity.StandingOrder;
 import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.entity.TransferBatch;
+import com.homebanking.domain.enums.TransferStatus;
 import org.springframework.stereotype.Component;
 
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
 public class TransferMapper {
@@ -21,9 +29,73 @@ public class TransferMapper {
                 transfer.getAmount().value(),
                 transfer.getDescription().value(),
                 transfer.getStatus().name(),
-                transfer.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                transfer.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                transfer.getExecuteAt() != null
+                        ? transfer.getExecuteAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                        : null
         );
     }
-}
 
+    public TransferBatchOutputResponse toDto(TransferBatch batch) {
+        if (batch == null) {
+            return null;
+        }
+        return new TransferBatchOutputResponse(
+                batch.getId(),
+                batch.getIdempotencyKey().value(),
+                batch.getOriginAccountId(),
+                batch.totalItems(),
+                batch.acceptedItems(),
+                batch.rejectedItems(),
+                batch.getTotalAmount(),
+                batch.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                batch.getItems().stream()
+                        .map(item -> new TransferBatchOutputResponse.ItemResult(
+                                item.index(),
+                                item.transferId(),
+                                item.outcome().name(),
+                                item.errorMessage()))
+                        .toList()
+        );
+    }
+
+    public StandingOrderOutputResponse toDto(StandingOrder standingOrder) {
+        if (standingOrder == null) {
+            return null;
+        }
+        return new StandingOrderOutputResponse(
+                standingOrder.getId(),
+                standingOrder.getOriginAccountId(),
+                standingOrder.getTargetCbu().value(),
+                standingOrder.getAmount().value(),
+                standingOrder.getDescription().value(),
+                standingOrder.getRecurrence().frequency().name(),
+                standingOrder.getRecurrence().day(),
+                standingOrder.getNextExecutionDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                standingOrder.isActive(),
+                standingOrder.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+        );
+    }
 
+    public TransferBatchProgressResponse toProgressDto(
+            TransferBatch batch,
+            Map<TransferStatus, Long> transfersByStatus) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (TransferStatus status : TransferStatus.values()) {
+            byStatus.put(status.name(), transfersByStatus.getOrDefault(status, 0L));
+        }
+        boolean finished = byStatus.get(TransferStatus.PENDING.name()) == 0
+                && byStatus.get(TransferStatus.PROCESSING.name()) == 0;
+        return new TransferBatchProgressResponse(
+                batch.getId(),
+                batch.getOriginAccountId(),
+                batch.totalItems(),
+                batch.acceptedItems(),
+                batch.rejectedItems(),
+                batch.getTotalAmount(),
+                batch.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                byStatus,
+                finished
+        );
+    }
+}
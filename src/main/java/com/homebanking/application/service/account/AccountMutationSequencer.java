@@ -0,0 +1,114 @@
+package com.homebanking.application.service.account;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Service: AccountMutationSequencer
+
+ * Un único escritor por cuenta dentro del proceso: las mutaciones de saldo
+ * de una misma cuenta pasan por el mismo lane y se aplican de a una, en
+ * orden de llegada. Sin carreras entre ellas no hay conflictos de @Version
+ * ni reintentos.
+
+ * Lanes:
+ * - N executors de un solo virtual thread; la cuenta elige lane por hash
+ *   de su id (como las stripes, dos cuentas pueden compartir lane)
+ * - cuentas en lanes distintos avanzan en paralelo
+ * - cada lane corre una transacción por vez: a lo sumo N conexiones en
+ *   mutaciones; "lanes" va por debajo del pool de Hikari, que también
+ *   atiende lecturas y schedulers
+ * - un lane no espera I/O externa: lo que llama a otro sistema (pago de
+ *   servicios) queda fuera, o un proveedor lento frena todas las cuentas
+ *   del lane
+
+ * Fuera de los lanes (sin conflictos de versión que evitar, o sin una
+ * sola cuenta por transacción):
+ * - créditos de la liquidación interna y de la completion: un UPDATE
+ *   atómico (o una stripe) sin versión
+ * - pago de servicios: débito condicionado (saveDebit)
+ * - órdenes permanentes: un chunk debita muchas cuentas en una transacción
+
+ * El llamador espera el resultado y recibe las excepciones de la mutación
+ * tal cual. Una mutación anidada (ya dentro de un lane) corre en el mismo
+ * hilo: esperar otro lane desde un lane podría trabarlos entre sí.
+
+ * Es por proceso: entre nodos siguen valiendo las guardas de la base
+ * (UPDATE versionado, débito condicionado).
+ * lanes = 0 lo desactiva: la mutación corre en el hilo del llamador.
+ */
+public class AccountMutationSequencer {
+
+    private static final ThreadLocal<Boolean> IN_LANE = ThreadLocal.withInitial(() -> false);
+
+    private final List<ExecutorService> lanes;
+
+    public AccountMutationSequencer(int laneCount) {
+        this.lanes = IntStream.range(0, Math.max(0, laneCount))
+                .mapToObj(lane -> Executors.newSingleThreadExecutor(
+                        Thread.ofVirtual().name("account-lane-" + lane).factory()))
+                .toList();
+    }
+
+    /**
+     * Ejecuta la mutación en el lane de la cuenta y espera su resultado.
+     * La transacción la tiene que abrir la mutación (ya dentro del lane):
+     * una transacción abierta en el llamador no se propaga al lane.
+     *
+     * @param accountId cuenta mutada (null = sin secuenciar)
+     */
+    public <T> T execute(UUID accountId, Supplier<T> mutation) {
+        if (lanes.isEmpty() || accountId == null || IN_LANE.get()) {
+            return mutation.get();
+        }
+        Future<T> result = laneFor(accountId).submit(() -> inLane(mutation));
+        try {
+            return result.get();
+        } catch (ExecutionException ex) {
+            throw propagate(ex.getCause());
+        } catch (InterruptedException ex) {
+            // Si ya empezó, la mutación termina igual: el resultado lo
+            // resuelve la idempotencia del reintento
+            result.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando el lane de la cuenta " + accountId, ex);
+        }
+    }
+
+    public int laneCount() {
+        return lanes.size();
+    }
+
+    public void shutdown() {
+        lanes.forEach(ExecutorService::shutdown);
+    }
+
+    private ExecutorService laneFor(UUID accountId) {
+        return lanes.get(Math.floorMod(accountId.hashCode(), lanes.size()));
+    }
+
+    private static <T> T inLane(Supplier<T> mutation) {
+        IN_LANE.set(true);
+        try {
+            return mutation.get();
+        } finally {
+            IN_LANE.remove();
+        }
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
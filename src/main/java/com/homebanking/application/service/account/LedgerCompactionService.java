@@ -0,0 +1,72 @@
+package com.homebanking.application.service.account;
+
+import com.homebanking.port.out.account.AccountLedger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service: LedgerCompactionService
+
+ * Materializa snapshots de saldo desde el ledger para que las lecturas
+ * históricas sumen solo la cola desde el último snapshot.
+
+ * Cada corrida:
+ * - cutoff = ahora - lag, en segundos enteros: los movimientos de
+ *   transacciones todavía abiertas (created_at anterior al commit) no
+ *   quedan afuera del snapshot, y as_of se guarda igual que se comparó
+ *   (sin depender de la precisión de TIMESTAMP de la base)
+ * - recorre por keyset las cuentas con movimientos en [marca de agua, cutoff)
+ * - una transacción por chunk; si un chunk falla, esas cuentas siguen
+ *   leyéndose bien (snapshot anterior + cola más larga)
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerCompactionService {
+
+    static final LocalDateTime LEDGER_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final AccountLedger accountLedger;
+    private final Duration lag;
+    private final int chunkSize;
+
+    public int compact(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(lag).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime from = accountLedger.lastCompactedAt().orElse(LEDGER_START);
+        if (!from.isBefore(cutoff)) {
+            return 0;
+        }
+
+        int written = 0;
+        UUID after = null;
+        List<UUID> chunk;
+        do {
+            chunk = accountLedger.findAccountsWithEntries(from, cutoff, after, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            written += compactChunk(chunk, cutoff);
+            after = chunk.getLast();
+        } while (chunk.size() == chunkSize);
+
+        if (written > 0) {
+            log.info("Ledger compactado hasta {}: {} snapshots", cutoff, written);
+        }
+        return written;
+    }
+
+    private int compactChunk(List<UUID> accountIds, LocalDateTime cutoff) {
+        try {
+            return accountLedger.compact(accountIds, cutoff);
+        } catch (RuntimeException ex) {
+            log.error("Error compactando ledger de {} cuentas desde {}: {}",
+                    accountIds.size(), accountIds.getFirst(), ex.getMessage(), ex);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.homebanking.application.service.event;
+
+import com.homebanking.port.out.event.EventOutbox;
+import com.homebanking.port.out.event.EventOutbox.OutboxMessage;
+import com.homebanking.port.out.event.EventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service: OutboxRelayService
+
+ * Entrega los eventos del outbox a los listeners, en orden de inserción.
+
+ * Garantías:
+ * - at-least-once: se marcan entregados recién después de publicarlos;
+ *   si el nodo muere antes del commit, el lote se vuelve a entregar
+ * - orden: ante un error se confirma solo el prefijo entregado y el resto
+ *   queda para el siguiente lote
+ * - dedupe: el outbox ignora eventos idénticos y los consumidores de
+ *   transferencias son idempotentes (claim por estado)
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelayService {
+
+    private final EventOutbox eventOutbox;
+    private final EventPublisher eventPublisher;
+    private final int batchSize;
+
+    /**
+     * Entrega un lote de eventos pendientes.
+     *
+     * @return cantidad de eventos entregados; igual a batchSize si puede haber más pendientes
+     */
+    @Transactional
+    public int relayBatch() {
+        List<OutboxMessage> batch = eventOutbox.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> published = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            try {
+                eventPublisher.publish(message.event());
+                published.add(message.eventId());
+            } catch (Exception ex) {
+                log.error("Error entregando evento de outbox eventId={}: {}",
+                        message.eventId(), ex.getMessage(), ex);
+                break;
+            }
+        }
+
+        eventOutbox.markPublished(published);
+        log.debug("Outbox: {} de {} eventos entregados", published.size(), batch.size());
+        return published.size();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Elimina eventos ya entregados más antiguos que la retención.
+     */
+    public int purgePublished(Duration retention) {
+        int purged = eventOutbox.purgePublishedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Outbox: {} eventos entregados purgados", purged);
+        }
+        return purged;
+    }
+}
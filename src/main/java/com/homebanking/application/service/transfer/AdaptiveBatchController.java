@@ -0,0 +1,147 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.application.dto.transfer.response.TransferBatchStats;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Service: AdaptiveBatchController
+
+ * Ajusta en runtime el lote de reintentos del scheduler (AIMD):
+ * tamaño de lote, chunks en vuelo e intervalo de polling, siempre
+ * dentro de AdaptiveBatchSettings.
+
+ * Decisiones tras cada lote:
+ * • DECREASE: tasa de error o latencia media por llamada sobre el objetivo
+ *   → lote y concurrencia a la mitad, intervalo al doble
+ * • INCREASE: lote lleno y procesador sano (probable backlog)
+ *   → lote + batchIncrement, concurrencia + 1, intervalo al mínimo
+ * • HOLD: lote parcial y sano (backlog drenado) → intervalo a la mitad
+ * • IDLE: nada para reintentar → intervalo al doble
+
+ * El scheduler corre con un tick corto y consulta isDue(); así el
+ * intervalo efectivo lo decide el controller, no la anotación @Scheduled.
+
+ * Thread-safe: los métodos son synchronized (una decisión por lote).
+ */
+@Slf4j
+public class AdaptiveBatchController {
+
+    public enum Decision {
+        INCREASE,
+        DECREASE,
+        HOLD,
+        IDLE
+    }
+
+    private final AdaptiveBatchSettings settings;
+    private final TransferMetrics transferMetrics;
+    private final LongSupplier nanoClock;
+
+    private int batchSize;
+    private int concurrency;
+    private long pollDelayMillis;
+    private long lastRunAtNanos;
+    private boolean ranOnce;
+
+    public AdaptiveBatchController(
+            AdaptiveBatchSettings settings,
+            int initialBatchSize,
+            int initialConcurrency,
+            Duration initialPollDelay,
+            TransferMetrics transferMetrics) {
+        this(settings, initialBatchSize, initialConcurrency, initialPollDelay, transferMetrics, System::nanoTime);
+    }
+
+    AdaptiveBatchController(
+            AdaptiveBatchSettings settings,
+            int initialBatchSize,
+            int initialConcurrency,
+            Duration initialPollDelay,
+            TransferMetrics transferMetrics,
+            LongSupplier nanoClock) {
+        this.settings = settings;
+        this.transferMetrics = transferMetrics;
+        this.nanoClock = nanoClock;
+        this.batchSize = clamp(initialBatchSize, settings.minBatchSize(), settings.maxBatchSize());
+        this.concurrency = clamp(initialConcurrency, settings.minConcurrency(), settings.maxConcurrency());
+        this.pollDelayMillis = clamp(initialPollDelay.toMillis(),
+                settings.minPollDelay().toMillis(), settings.maxPollDelay().toMillis());
+        transferMetrics.registerSchedulerLimits(this::getBatchSize, this::getConcurrency, this::getPollDelayMillis);
+    }
+
+    /**
+     * @return true si ya pasó el intervalo de polling desde el último lote
+     */
+    public synchronized boolean isDue() {
+        return !ranOnce || nanoClock.getAsLong() - lastRunAtNanos >= Duration.ofMillis(pollDelayMillis).toNanos();
+    }
+
+    /**
+     * Registra el resultado de un lote y ajusta los límites del próximo.
+     */
+    public synchronized Decision onBatchCompleted(TransferBatchStats stats) {
+        ranOnce = true;
+        lastRunAtNanos = nanoClock.getAsLong();
+
+        Decision decision = decide(stats);
+        switch (decision) {
+            case DECREASE -> {
+                batchSize = clamp(batchSize / 2, settings.minBatchSize(), settings.maxBatchSize());
+                concurrency = clamp(concurrency / 2, settings.minConcurrency(), settings.maxConcurrency());
+                pollDelayMillis = clampDelay(pollDelayMillis * 2);
+            }
+            case INCREASE -> {
+                batchSize = clamp(batchSize + settings.batchIncrement(), settings.minBatchSize(), settings.maxBatchSize());
+                concurrency = clamp(concurrency + 1, settings.minConcurrency(), settings.maxConcurrency());
+                pollDelayMillis = settings.minPollDelay().toMillis();
+            }
+            case HOLD -> pollDelayMillis = clampDelay(pollDelayMillis / 2);
+            case IDLE -> pollDelayMillis = clampDelay(pollDelayMillis * 2);
+        }
+
+        transferMetrics.recordSchedulerDecision(decision.name());
+        log.debug("Scheduler adaptativo: decision={}, total={}, errorRate={}, meanCallMs={} -> batchSize={}, concurrency={}, pollDelayMs={}",
+                decision, stats.total(), String.format("%.2f", stats.errorRate()), stats.meanCallMillis(),
+                batchSize, concurrency, pollDelayMillis);
+        return decision;
+    }
+
+    public synchronized int getBatchSize() {
+        return batchSize;
+    }
+
+    public synchronized int getConcurrency() {
+        return concurrency;
+    }
+
+    public synchronized long getPollDelayMillis() {
+        return pollDelayMillis;
+    }
+
+    private Decision decide(TransferBatchStats stats) {
+        if (stats.isEmpty()) {
+            return Decision.IDLE;
+        }
+        if (stats.errorRate() > settings.maxErrorRate()
+                || stats.meanCallMillis() > settings.targetCallLatency().toMillis()) {
+            return Decision.DECREASE;
+        }
+        return stats.total() >= batchSize ? Decision.INCREASE : Decision.HOLD;
+    }
+
+    private long clampDelay(long delayMillis) {
+        return clamp(delayMillis, settings.minPollDelay().toMillis(), settings.maxPollDelay().toMillis());
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,37 @@
+package com.homebanking.application.service.transfer;
+
+import java.time.Duration;
+
+/**
+ * Settings: AdaptiveBatchSettings
+
+ * Límites dentro de los cuales AdaptiveBatchController mueve tamaño de
+ * lote, concurrencia e intervalo de polling, y las señales que considera
+ * "procesador degradado" (latencia por llamada y tasa de error).
+ */
+public record AdaptiveBatchSettings(
+        int minBatchSize,
+        int maxBatchSize,
+        int batchIncrement,
+        int minConcurrency,
+        int maxConcurrency,
+        Duration minPollDelay,
+        Duration maxPollDelay,
+        Duration targetCallLatency,
+        double maxErrorRate
+) {
+
+    /**
+     * Límites colapsados sobre valores fijos: el controller nunca se mueve
+     * (equivale al comportamiento estático previo).
+     */
+    public static AdaptiveBatchSettings fixed(int batchSize, int concurrency, Duration pollDelay) {
+        return new AdaptiveBatchSettings(
+                batchSize, batchSize, 0,
+                concurrency, concurrency,
+                pollDelay, pollDelay,
+                Duration.ofMillis(Long.MAX_VALUE),
+                1.0
+        );
+    }
+}
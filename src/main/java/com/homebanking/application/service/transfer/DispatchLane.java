@@ -0,0 +1,23 @@
+package com.homebanking.application.service.transfer;
+
+import java.math.BigDecimal;
+
+/**
+ * Settings: DispatchLane
+
+ * Carril de prioridad de la cola de dispatch.
+ * Una transferencia entra al primer lane cuyo maxAmount la admite
+ * (maxAmount null = acepta cualquier monto); cada lane tiene a lo sumo
+ * maxInFlight chunks en el worker pool, así un lote masivo no ocupa
+ * la capacidad reservada a los montos chicos.
+ */
+public record DispatchLane(String name, BigDecimal maxAmount, int maxInFlight) {
+
+    public static DispatchLane unbounded(String name, int maxInFlight) {
+        return new DispatchLane(name, null, maxInFlight);
+    }
+
+    public boolean accepts(BigDecimal amount) {
+        return maxAmount == null || (amount != null && amount.compareTo(maxAmount) <= 0);
+    }
+}
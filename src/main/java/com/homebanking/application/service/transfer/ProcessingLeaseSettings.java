@@ -0,0 +1,20 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.domain.valueobject.transfer.ProcessingLease;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Settings: ProcessingLeaseSettings
+
+ * Identidad de este nodo y duracion de los leases que toma.
+ * Compartido por el lote, la preparacion y el reaper para que todos
+ * firmen los leases con el mismo worker.
+ */
+public record ProcessingLeaseSettings(String workerId, Duration leaseDuration) {
+
+    public ProcessingLease leaseFrom(LocalDateTime now) {
+        return ProcessingLease.of(workerId, now.plus(leaseDuration));
+    }
+}
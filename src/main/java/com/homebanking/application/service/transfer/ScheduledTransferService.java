@@ -0,0 +1,299 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import com.homebanking.port.out.transfer.TransferRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Service: ScheduledTransferService
+
+ * Libera transferencias SCHEDULED al pipeline (PENDING + cola de dispatch)
+ * en el momento en que vencen, sin pollear la tabla por vencidas.
+
+ * Funcionamiento:
+ * - loadWindow(): una consulta indexada por (status, execute_at) trae las
+ *   agendadas hasta now + loadWindow y las carga en un TimingWheel; pagina
+ *   por keyset (execute_at, id), así más de loadBatchSize agendadas en el
+ *   mismo instante no traban la carga en la misma página
+ * - un hilo avanza la rueda cada tick; lo vencido pasa a PENDING con un
+ *   UPDATE compare-and-set y se encola en TransferDispatchQueue
+ * - register(): las agendadas nuevas entran por evento si caen dentro de
+ *   la ventana ya cargada; si no, las trae la próxima carga
+
+ * Reinicio: la rueda vive en memoria; start() la reconstruye con una
+ * carga de ventana (solo las próximas loadWindow, no toda la tabla).
+
+ * Multi-nodo: varios nodos pueden cargar la misma transferencia; el
+ * compare-and-set decide quién la libera y el claim de la cola, quién la procesa.
+ * Si un evento se pierde, la barrida de vencidas en cada carga la libera
+ * con a lo sumo un intervalo de carga de atraso.
+ */
+@Slf4j
+public class ScheduledTransferService {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    // Extremos del orden por id (la base compara los UUID sin signo)
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final UUID LAST_ID = new UUID(-1L, -1L);
+
+    private final TransferRepository transferRepository;
+    private final TransferDispatchQueue transferDispatchQueue;
+    private final TransferMetrics transferMetrics;
+    private final Duration tick;
+    private final Duration loadWindow;
+    private final int loadBatchSize;
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TimingWheel<ScheduledEntry> wheel;
+    private final Map<UUID, ScheduledEntry> loaded = new HashMap<>();
+    private LocalDateTime loadedThrough = BEGINNING;
+    private UUID loadedThroughId = FIRST_ID;
+
+    private volatile boolean running;
+    private Thread ticker;
+
+    public ScheduledTransferService(
+            TransferRepository transferRepository,
+            TransferDispatchQueue transferDispatchQueue,
+            TransferMetrics transferMetrics,
+            Duration tick,
+            int wheelSize,
+            Duration loadWindow,
+            int loadBatchSize) {
+        this(transferRepository, transferDispatchQueue, transferMetrics,
+                tick, wheelSize, loadWindow, loadBatchSize, System::currentTimeMillis);
+    }
+
+    ScheduledTransferService(
+            TransferRepository transferRepository,
+            TransferDispatchQueue transferDispatchQueue,
+            TransferMetrics transferMetrics,
+            Duration tick,
+            int wheelSize,
+            Duration loadWindow,
+            int loadBatchSize,
+            LongSupplier clock) {
+        this.transferRepository = transferRepository;
+        this.transferDispatchQueue = transferDispatchQueue;
+        this.transferMetrics = transferMetrics;
+        this.tick = tick;
+        this.loadWindow = loadWindow;
+        this.loadBatchSize = loadBatchSize;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(tick.toMillis(), wheelSize, clock.getAsLong());
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        transferMetrics.registerScheduledWheelSize(this::size);
+        try {
+            loadWindow();
+        } catch (RuntimeException ex) {
+            log.error("No se pudo cargar la ventana inicial de agendadas, se reintenta en la próxima carga", ex);
+        }
+        ticker = Thread.ofVirtual().name("transfer-timing-wheel").start(this::tickLoop);
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (ticker != null) {
+            ticker.interrupt();
+        }
+    }
+
+    /**
+     * Agendada nueva (evento de creación).
+     *
+     * @return true si entró a la rueda o se liberó en el acto; false si queda para la próxima carga
+     */
+    public boolean register(UUID transferId, UUID originAccountId, BigDecimal amount, LocalDateTime executeAt) {
+        ScheduledEntry entry = new ScheduledEntry(transferId, originAccountId, amount, executeAt);
+        lock.lock();
+        try {
+            if (executeAt.isAfter(loadedThrough) || loaded.containsKey(transferId)) {
+                return false;
+            }
+            if (schedule(entry)) {
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        release(List.of(entry));
+        return true;
+    }
+
+    /**
+     * Carga en la rueda las agendadas hasta now + loadWindow y libera las
+     * vencidas que no estaban cargadas.
+     *
+     * @return cantidad de transferencias nuevas en la rueda o liberadas
+     */
+    public int loadWindow() {
+        LocalDateTime now = toLocalDateTime(clock.getAsLong());
+        LocalDateTime until = now.plus(loadWindow);
+        LocalDateTime from;
+        UUID fromId;
+        lock.lock();
+        try {
+            from = loadedThrough;
+            fromId = loadedThroughId;
+        } finally {
+            lock.unlock();
+        }
+
+        List<Transfer> overdue = from.isAfter(BEGINNING)
+                ? transferRepository.findScheduledTransfers(BEGINNING, FIRST_ID, now, loadBatchSize)
+                : List.of();
+        List<Transfer> window = transferRepository.findScheduledTransfers(from, fromId, until, loadBatchSize);
+
+        List<ScheduledEntry> due = new ArrayList<>();
+        int added = 0;
+        lock.lock();
+        try {
+            for (Transfer transfer : overdue) {
+                if (!loaded.containsKey(transfer.getId())) {
+                    due.add(toEntry(transfer));
+                }
+            }
+            for (Transfer transfer : window) {
+                ScheduledEntry entry = toEntry(transfer);
+                if (loaded.containsKey(entry.transferId())) {
+                    continue;
+                }
+                if (schedule(entry)) {
+                    added++;
+                } else {
+                    due.add(entry);
+                }
+            }
+            // Ventana truncada por loadBatchSize: la próxima carga sigue después
+            // de la última cargada (executeAt e id), aunque haya empates
+            boolean truncated = window.size() >= loadBatchSize;
+            LocalDateTime reached = truncated ? window.getLast().getExecuteAt() : until;
+            UUID reachedId = truncated ? window.getLast().getId() : LAST_ID;
+            boolean unchanged = loadedThrough.equals(from) && loadedThroughId.equals(fromId);
+            if (unchanged || reached.isAfter(loadedThrough)) {
+                loadedThrough = reached;
+                loadedThroughId = reachedId;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        release(due);
+        if (added + due.size() > 0) {
+            log.info("Ventana de agendadas cargada hasta {}: {} en la rueda, {} liberadas",
+                    loadedThrough, added, due.size());
+        }
+        return added + due.size();
+    }
+
+    /**
+     * Avanza la rueda hasta ahora y libera lo vencido.
+     *
+     * @return cantidad de transferencias liberadas
+     */
+    public int releaseDue() {
+        List<ScheduledEntry> due;
+        lock.lock();
+        try {
+            due = wheel.advance(clock.getAsLong());
+            due.forEach(entry -> loaded.remove(entry.transferId()));
+        } finally {
+            lock.unlock();
+        }
+        return release(due);
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void tickLoop() {
+        while (running) {
+            try {
+                Thread.sleep(tick);
+                releaseDue();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                // Lo que no se pudo liberar sigue SCHEDULED: lo levanta la barrida de vencidas
+                log.error("Error liberando transferencias agendadas: {}", ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * Guardado por lock.
+     *
+     * @return false si ya venció (no entra a la rueda)
+     */
+    private boolean schedule(ScheduledEntry entry) {
+        if (!wheel.add(entry, toEpochMillis(entry.executeAt()))) {
+            return false;
+        }
+        loaded.put(entry.transferId(), entry);
+        return true;
+    }
+
+    private int release(List<ScheduledEntry> due) {
+        if (due.isEmpty()) {
+            return 0;
+        }
+        long nowMillis = clock.getAsLong();
+        int released = transferRepository.releaseScheduledTransfers(
+                due.stream().map(ScheduledEntry::transferId).toList(), toLocalDateTime(nowMillis));
+        for (ScheduledEntry entry : due) {
+            transferMetrics.recordScheduledReleaseDelay(
+                    Duration.ofMillis(Math.max(0, nowMillis - toEpochMillis(entry.executeAt()))));
+            // Si la liberó otro nodo, el claim de la cola decide quién la procesa
+            transferDispatchQueue.enqueue(entry.transferId(), entry.originAccountId(), entry.amount());
+        }
+        log.debug("Agendadas vencidas: {}, liberadas por este nodo: {}", due.size(), released);
+        return released;
+    }
+
+    private ScheduledEntry toEntry(Transfer transfer) {
+        return new ScheduledEntry(
+                transfer.getId(),
+                transfer.getOriginAccountId(),
+                transfer.getAmount().value(),
+                transfer.getExecuteAt());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record ScheduledEntry(UUID transferId, UUID originAccountId, BigDecimal amount, LocalDateTime executeAt) {
+    }
+}
@@ -0,0 +1,196 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.application.dto.transfer.response.StandingOrderChunkResult;
+import com.homebanking.application.dto.transfer.response.StandingOrderRunStats;
+import com.homebanking.port.in.transfer.GenerateStandingOrderTransfersInputPort;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import com.homebanking.port.out.transfer.StandingOrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service: StandingOrderGenerationService
+
+ * Corrida diaria de órdenes permanentes (el día 1 del mes vence casi
+ * toda la base).
+
+ * Streaming por chunks:
+ * - keyset sobre cuentas origen con órdenes vencidas, de a "chunkSize"
+ *   cuentas; en memoria solo los ids del chunk, nunca la base completa
+ * - cada chunk es una transacción propia (GenerateStandingOrderTransfersInputPort):
+ *   un fallo revierte solo ese chunk y sus órdenes siguen vencidas
+ * - un chunk que falla se reintenta en la misma corrida de a una cuenta
+ *   (una transacción por cuenta): un conflicto de versión en una cuenta
+ *   no deja a las otras del chunk esperando a la corrida siguiente
+ * - hasta "parallelism" chunks en vuelo en el worker pool; la lectura
+ *   del siguiente chunk espera lugar (backpressure)
+
+ * Chunks por cuenta: todas las órdenes de una cuenta caen en el mismo
+ * chunk, así dos chunks en paralelo nunca debitan la misma cuenta.
+
+ * Repetir la corrida (o correrla en dos nodos) no duplica débitos: las
+ * órdenes ya avanzadas no vencen y las keys derivadas se verifican antes
+ * de insertar.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class StandingOrderGenerationService {
+
+    static final String MATERIALIZED = "MATERIALIZED";
+    static final String REJECTED = "REJECTED";
+    static final String DUPLICATE = "DUPLICATE";
+    static final String RETRIED = "RETRIED";
+
+    private final StandingOrderRepository standingOrderRepository;
+    private final GenerateStandingOrderTransfersInputPort generateUseCase;
+    private final TransferMetrics transferMetrics;
+    private final Executor workerExecutor;
+    private final int chunkSize;
+    private final int parallelism;
+
+    /**
+     * Genera las ocurrencias vencidas hasta runDate inclusive.
+     */
+    public StandingOrderRunStats generate(LocalDate runDate) {
+        long startedAt = System.nanoTime();
+        Semaphore inFlight = new Semaphore(Math.max(1, parallelism));
+        Totals totals = new Totals();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+        UUID lastAccountId = null;
+        while (true) {
+            inFlight.acquireUninterruptibly();
+            List<UUID> accountIds;
+            try {
+                accountIds = standingOrderRepository.findOriginAccountsWithDueOrders(
+                        runDate, lastAccountId, chunkSize);
+            } catch (RuntimeException ex) {
+                inFlight.release();
+                log.error("Error leyendo cuentas con órdenes permanentes vencidas, se corta la corrida", ex);
+                break;
+            }
+            if (accountIds.isEmpty()) {
+                inFlight.release();
+                break;
+            }
+            lastAccountId = accountIds.getLast();
+            totals.chunks.incrementAndGet();
+            try {
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        executeIsolated(accountIds, runDate, totals);
+                    } finally {
+                        inFlight.release();
+                    }
+                }, workerExecutor));
+            } catch (RejectedExecutionException ex) {
+                inFlight.release();
+                totals.failedChunks.incrementAndGet();
+                log.error("Worker pool rechazo chunk de {} cuentas", accountIds.size(), ex);
+            }
+            if (accountIds.size() < chunkSize) {
+                break;
+            }
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+
+        StandingOrderRunStats stats = totals.toStats(
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        transferMetrics.recordStandingOrderRun(
+                Duration.ofMillis(stats.elapsedMillis()), stats.throughputPerSecond());
+        log.info("Órdenes permanentes {}: chunks={}, fallidos={}, cuentas={}, generadas={}, "
+                        + "salteadas={}, repetidas={}, elapsedMs={}, throughput={}/s",
+                runDate, stats.chunks(), stats.failedChunks(), stats.accounts(), stats.materialized(),
+                stats.rejected(), stats.duplicates(), stats.elapsedMillis(),
+                String.format("%.1f", stats.throughputPerSecond()));
+        return stats;
+    }
+
+    private void executeIsolated(List<UUID> accountIds, LocalDate runDate, Totals totals) {
+        long startedAt = System.nanoTime();
+        String outcome = "OK";
+        try {
+            record(generateUseCase.generate(accountIds, runDate), totals);
+        } catch (Exception ex) {
+            log.warn("Error generando chunk de {} cuentas, se reintenta por cuenta: {}",
+                    accountIds.size(), ex.getMessage());
+            if (retryPerAccount(accountIds, runDate, totals) == 0) {
+                outcome = RETRIED;
+            } else {
+                outcome = "FAILED";
+                totals.failedChunks.incrementAndGet();
+            }
+        } finally {
+            transferMetrics.recordStandingOrderChunk(outcome, Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+
+    /**
+     * El chunk ya se revirtió entero: cada cuenta va en su propia
+     * transacción y solo las que vuelven a fallar quedan para la próxima
+     * corrida.
+     *
+     * @return cantidad de cuentas que no se pudieron generar
+     */
+    private int retryPerAccount(List<UUID> accountIds, LocalDate runDate, Totals totals) {
+        int failed = 0;
+        for (UUID accountId : accountIds) {
+            try {
+                record(generateUseCase.generate(List.of(accountId), runDate), totals);
+            } catch (Exception ex) {
+                failed++;
+                log.error("Error generando órdenes permanentes de la cuenta {}, queda para la próxima corrida: {}",
+                        accountId, ex.getMessage(), ex);
+            }
+        }
+        return failed;
+    }
+
+    private void record(StandingOrderChunkResult result, Totals totals) {
+        totals.add(result);
+        transferMetrics.recordStandingOrderOccurrences(MATERIALIZED, result.materialized());
+        transferMetrics.recordStandingOrderOccurrences(REJECTED, result.rejected());
+        transferMetrics.recordStandingOrderOccurrences(DUPLICATE, result.duplicates());
+    }
+
+    private static final class Totals {
+
+        private final AtomicInteger chunks = new AtomicInteger();
+        private final AtomicInteger failedChunks = new AtomicInteger();
+        private final AtomicInteger accounts = new AtomicInteger();
+        private final AtomicInteger materialized = new AtomicInteger();
+        private final AtomicInteger rejected = new AtomicInteger();
+        private final AtomicInteger duplicates = new AtomicInteger();
+
+        private void add(StandingOrderChunkResult result) {
+            accounts.addAndGet(result.accounts());
+            materialized.addAndGet(result.materialized());
+            rejected.addAndGet(result.rejected());
+            duplicates.addAndGet(result.duplicates());
+        }
+
+        private StandingOrderRunStats toStats(long elapsedMillis) {
+            return new StandingOrderRunStats(
+                    chunks.get(),
+                    failedChunks.get(),
+                    accounts.get(),
+                    materialized.get(),
+                    rejected.get(),
+                    duplicates.get(),
+                    elapsedMillis
+            );
+        }
+    }
+}
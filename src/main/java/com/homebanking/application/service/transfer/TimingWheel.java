@@ -0,0 +1,169 @@
+package com.homebanking.application.service.transfer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Service: TimingWheel
+
+ * Timing wheel jerárquico: agenda elementos por deadline con costo O(1)
+ * por alta y por tick, sin importar cuántos haya agendados.
+
+ * Estructura:
+ * - nivel 0: wheelSize buckets de tickMillis cada uno
+ * - nivel n+1: wheelSize buckets del tamaño de una vuelta completa del nivel n
+ *   (se crea recién cuando algún deadline cae más allá del nivel n)
+ * - al empezar cada bucket de un nivel superior, su contenido baja al nivel
+ *   inferior; solo el nivel 0 libera
+
+ * Precisión: un elemento se libera al terminar el tick de su deadline
+ * (nunca antes, a lo sumo tickMillis después).
+
+ * No es thread-safe: el dueño (ScheduledTransferService) lo guarda con su lock.
+ */
+public class TimingWheel<T> {
+
+    private final Level root;
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis debe ser > 0 y wheelSize >= 2");
+        }
+        this.root = new Level(tickMillis, wheelSize, startMillis);
+    }
+
+    /**
+     * @return false si el deadline ya pasó (no se agenda: el llamador lo libera en el acto)
+     */
+    public boolean add(T item, long deadlineMillis) {
+        if (!root.add(new Entry<>(item, deadlineMillis))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Avanza el reloj hasta nowMillis.
+     *
+     * @return elementos cuyo deadline venció, en orden de tick
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        if (size == 0) {
+            root.skipTo(nowMillis);
+            return expired;
+        }
+        root.advance(nowMillis, entry -> expired.add(entry.item()));
+        size -= expired.size();
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private record Entry<T>(T item, long deadlineMillis) {
+    }
+
+    private final class Level {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long intervalMillis;
+        private final List<ArrayDeque<Entry<T>>> buckets;
+        private long currentTime;
+        private Level overflow;
+
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.intervalMillis = Math.multiplyExact(tickMillis, wheelSize);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayDeque<>());
+            }
+            this.currentTime = align(startMillis);
+        }
+
+        /**
+         * Cubre [currentTime, currentTime + intervalMillis); lo que sigue va al nivel superior.
+         */
+        private boolean add(Entry<T> entry) {
+            if (entry.deadlineMillis() < currentTime) {
+                return false;
+            }
+            if (entry.deadlineMillis() < currentTime + intervalMillis) {
+                bucket(entry.deadlineMillis()).addLast(entry);
+                return true;
+            }
+            return overflow().add(entry);
+        }
+
+        /**
+         * Solo nivel 0: libera cada tick ya transcurrido por completo.
+         */
+        private void advance(long nowMillis, Consumer<Entry<T>> expired) {
+            while (currentTime + tickMillis <= nowMillis) {
+                drain(bucket(currentTime), expired);
+                currentTime += tickMillis;
+                if (overflow != null) {
+                    overflow.onLowerTick(currentTime, this);
+                }
+            }
+        }
+
+        /**
+         * Si el nivel inferior llegó al inicio de un bucket de este nivel,
+         * primero baja lo del nivel superior y después reparte el bucket abajo.
+         */
+        private void onLowerTick(long time, Level lower) {
+            if (Math.floorMod(time, tickMillis) != 0) {
+                return;
+            }
+            currentTime = time;
+            if (overflow != null) {
+                overflow.onLowerTick(time, this);
+            }
+            drain(bucket(time), lower::add);
+        }
+
+        /**
+         * Rueda vacía: salta directo a nowMillis sin recorrer ticks.
+         */
+        private void skipTo(long nowMillis) {
+            long aligned = align(nowMillis);
+            if (aligned > currentTime) {
+                currentTime = aligned;
+            }
+            if (overflow != null) {
+                overflow.skipTo(nowMillis);
+            }
+        }
+
+        private Level overflow() {
+            if (overflow == null) {
+                overflow = new Level(intervalMillis, wheelSize, currentTime);
+            }
+            return overflow;
+        }
+
+        private ArrayDeque<Entry<T>> bucket(long timeMillis) {
+            return buckets.get((int) Math.floorMod(Math.floorDiv(timeMillis, tickMillis), (long) wheelSize));
+        }
+
+        private long align(long timeMillis) {
+            return timeMillis - Math.floorMod(timeMillis, tickMillis);
+        }
+
+        private void drain(ArrayDeque<Entry<T>> bucket, Consumer<Entry<T>> target) {
+            Entry<T> entry;
+            while ((entry = bucket.pollFirst()) != null) {
+                target.accept(entry);
+            }
+        }
+    }
+}
@@ -1,19 +1,45 @@
 package com.homebanking.application.service.transfer;
 
+import com.homebanking.application.dto.transfer.response.TransferBatchStats;
 import com.homebanking.domain.entity.Transfer;
 import com.homebanking.port.in.transfer.ProcessTransferInputPort;
-import com.homebanking.port.in.transfer.RetryTransferInputPort;
 import com.homebanking.port.out.transfer.TransferRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Service: TransferBatchProcessingService
 
- * Orquesta procesamiento en background (scheduler).
+ * Orquesta procesamiento en background:
+ * - reintentos de transferencias FAILED (lote del scheduler)
+ * - transferencias PENDING despachadas por TransferDispatchQueue
+
+ * Envío por chunks: las transferencias se agrupan de a "submitChunkSize"
+ * y cada chunk viaja en una sola llamada al procesador externo.
+
+ * Ejecucion:
+ * - concurrency <= 1: chunks secuenciales en el hilo del scheduler
+ * - concurrency > 1: worker pool acotado por semaforo (maximo "concurrency" chunks en vuelo)
+ * - el scheduler puede pasar tamaño de lote y concurrencia por corrida
+ *   (AdaptiveBatchController); sin argumentos se usan los configurados
+
+ * Multi-nodo: todo se obtiene con claim (lease a nombre de workerId), asi
+ * dos instancias nunca toman la misma fila.
+
+ * Cada chunk se ejecuta aislado: un fallo no corta el resto del lote.
+ * Las transacciones viven en los use cases (REQUIRES_NEW), no en el lote,
+ * para no retener una conexion durante todo el fan-out.
  */
 @RequiredArgsConstructor
 @Slf4j
@@ -21,62 +47,137 @@ public class TransferBatchProcessingService {
 
     private final TransferRepository transferRepository;
     private final ProcessTransferInputPort processTransferUseCase;
-    private final RetryTransferInputPort retryFailedTransferUseCase;
     private final int maxBatchSize;
+    private final int submitChunkSize;
+    private final Executor workerExecutor;
+    private final int concurrency;
+    private final ProcessingLeaseSettings leaseSettings;
+
+    /**
+     * Reintenta las transferencias FAILED cuyo backoff venció.
+     * El claim ya filtra las reintentables, así que van directo al procesamiento.
+     */
+    public TransferBatchStats retryFailedTransfers() {
+        return retryFailedTransfers(maxBatchSize, concurrency);
+    }
 
-    @Transactional
-    public void processTransfers() {
-        List<Transfer> pendingTransfers = transferRepository.findPendingTransfers(maxBatchSize);
+    /**
+     * Igual que retryFailedTransfers(), con límites decididos por el llamador.
+     *
+     * @param batchSize máximo de transferencias a reclamar
+     * @param workers máximo de chunks en vuelo
+     */
+    public TransferBatchStats retryFailedTransfers(int batchSize, int workers) {
+        List<Transfer> retryableTransfers =
+                transferRepository.claimRetryableTransfers(
+                        batchSize, leaseSettings.workerId(), leaseSettings.leaseDuration());
+
+        if (retryableTransfers.isEmpty()) {
+            log.debug("No hay transferencias para reintentar");
+            return TransferBatchStats.empty();
+        }
 
-        processBatch(
-                pendingTransfers,
-                "No hay transferencias pendientes para procesar",
-                "Procesando {} transferencias pendientes",
-                transfer -> processTransferUseCase.processTransfer(transfer.getId()),
-                "Error procesando transferencia id={}: {}"
+        log.info("Reintentando {} transferencias fallidas", retryableTransfers.size());
+        long startedAt = System.nanoTime();
+
+        List<List<UUID>> chunks = chunk(retryableTransfers.stream().map(Transfer::getId).toList());
+        LongAdder callNanos = new LongAdder();
+        int failures = workers <= 1
+                ? runSequentially(chunks, callNanos)
+                : runConcurrently(chunks, workers, callNanos);
+
+        TransferBatchStats stats = new TransferBatchStats(
+                retryableTransfers.size(),
+                retryableTransfers.size() - failures,
+                failures,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt),
+                TimeUnit.NANOSECONDS.toMillis(callNanos.sum() / chunks.size())
         );
+        log.info("Lote finalizado: total={}, ok={}, error={}, elapsedMs={}, throughput={}/s",
+                stats.total(), stats.succeeded(), stats.failed(), stats.elapsedMillis(),
+                String.format("%.1f", stats.throughputPerSecond()));
+        return stats;
     }
 
-    @Transactional
-    public void retryFailedTransfers() {
-        List<Transfer> retryableTransfers = transferRepository.findRetryableTransfers(maxBatchSize);
+    /**
+     * Reclama cada transferencia PENDING del chunk y procesa juntas las ganadas.
+     * Las que otro worker ya tiene (o aun no son visibles) se omiten.
+     *
+     * @return cantidad de transferencias que este worker proceso
+     */
+    public int processClaimedTransfers(List<UUID> transferIds) {
+        List<UUID> claimed = new ArrayList<>(transferIds.size());
+        for (UUID transferId : transferIds) {
+            if (transferRepository.claimTransfer(
+                    transferId, leaseSettings.workerId(), leaseSettings.leaseDuration())) {
+                claimed.add(transferId);
+            } else {
+                log.debug("Transferencia id={} no reclamada por worker={}, se omite",
+                        transferId, leaseSettings.workerId());
+            }
+        }
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        processTransferUseCase.processTransfers(claimed);
+        return claimed.size();
+    }
 
-        processBatch(
-                retryableTransfers,
-                "No hay transferencias para reintentar",
-                "Reintentando {} transferencias fallidas",
-                transfer -> retryFailedTransferUseCase.retryFailedTransfer(transfer.getId()),
-                "Error reintentando transferencia id={}: {}"
-        );
+    private List<List<UUID>> chunk(List<UUID> transferIds) {
+        int size = Math.max(1, submitChunkSize);
+        List<List<UUID>> chunks = new ArrayList<>((transferIds.size() + size - 1) / size);
+        for (int from = 0; from < transferIds.size(); from += size) {
+            chunks.add(transferIds.subList(from, Math.min(from + size, transferIds.size())));
+        }
+        return chunks;
     }
 
-    private void processBatch(
-            List<Transfer> transfers,
-            String emptyMessage,
-            String startMessage,
-            TransferBatchAction action,
-            String errorMessage
-    ) {
-        if (transfers.isEmpty()) {
-            log.debug(emptyMessage);
-            return;
+    private int runSequentially(List<List<UUID>> chunks, LongAdder callNanos) {
+        int failures = 0;
+        for (List<UUID> chunk : chunks) {
+            failures += executeIsolated(chunk, callNanos);
         }
+        return failures;
+    }
 
-        log.info(startMessage, transfers.size());
+    private int runConcurrently(List<List<UUID>> chunks, int workers, LongAdder callNanos) {
+        Semaphore inFlight = new Semaphore(workers);
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(chunks.size());
 
-        transfers.forEach(transfer -> {
+        for (List<UUID> chunk : chunks) {
+            inFlight.acquireUninterruptibly();
             try {
-                action.execute(transfer);
-            } catch (Exception ex) {
-                log.error(errorMessage, transfer.getId(), ex.getMessage(), ex);
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        failures.addAndGet(executeIsolated(chunk, callNanos));
+                    } finally {
+                        inFlight.release();
+                    }
+                }, workerExecutor));
+            } catch (RejectedExecutionException ex) {
+                inFlight.release();
+                failures.addAndGet(chunk.size());
+                log.error("Worker pool rechazo chunk de {} transferencias", chunk.size(), ex);
             }
-        });
-    }
-
-    @FunctionalInterface
-    private interface TransferBatchAction {
-        void execute(Transfer transfer);
-    }}
-
+        }
 
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        return failures.get();
+    }
 
+    /**
+     * @return cantidad de transferencias del chunk que no llegaron a finalizarse
+     */
+    private int executeIsolated(List<UUID> chunk, LongAdder callNanos) {
+        long startedAt = System.nanoTime();
+        try {
+            return chunk.size() - processTransferUseCase.processTransfers(chunk).size();
+        } catch (Exception ex) {
+            log.error("Error reintentando chunk de {} transferencias: {}", chunk.size(), ex.getMessage(), ex);
+            return chunk.size();
+        } finally {
+            callNanos.add(System.nanoTime() - startedAt);
+        }
+    }
+}
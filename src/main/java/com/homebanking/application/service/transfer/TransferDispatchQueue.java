@@ -0,0 +1,332 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import com.homebanking.port.out.transfer.TransferRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service: TransferDispatchQueue
+
+ * Unica puerta de entrada al procesamiento de transferencias PENDING.
+
+ * Productores:
+ * - TransferCreatedEvent (via outbox): camino normal, latencia de milisegundos
+ * - backfill(): polling de respaldo para lo que se perdio (reinicio, cola llena)
+
+ * Consumidor:
+ * - un hilo dispatcher que alimenta el worker pool
+ * - cada chunk junta lo que haya en cola de un mismo lane (hasta
+ *   submitChunkSize) y viaja en un solo envío al procesador; bajo carga
+ *   los chunks crecen solos
+
+ * Equidad:
+ * - lanes por monto (DispatchLane), en orden de prioridad; cada lane tiene
+ *   a lo sumo maxInFlight chunks en vuelo, así un lote masivo no ocupa la
+ *   capacidad reservada a los montos chicos
+ * - dentro de un lane, ronda entre cuentas origen: una cuenta con 50k
+ *   encoladas aporta una transferencia por vuelta, igual que las demás
+
+ * Dedupe por transferId: una transferencia encolada o en vuelo no se vuelve
+ * a encolar. Entre nodos decide el claim (lease) al momento de procesar.
+ * La cola es en memoria: si se pierde, el backfill la reconstruye desde la BD.
+ */
+@Slf4j
+public class TransferDispatchQueue {
+
+    private final TransferRepository transferRepository;
+    private final TransferBatchProcessingService processingService;
+    private final TransferMetrics transferMetrics;
+    private final Executor workerExecutor;
+    private final ProcessingLeaseSettings leaseSettings;
+    private final int capacity;
+    private final int submitChunkSize;
+    private final int backfillBatchSize;
+
+    private final List<LaneQueue> lanes;
+    private final Set<UUID> queuedOrInFlight = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dispatchable = lock.newCondition();
+    private int size;
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    /**
+     * Un único lane sin tope de monto: ronda entre cuentas, sin prioridades.
+     */
+    public TransferDispatchQueue(
+            TransferRepository transferRepository,
+            TransferBatchProcessingService processingService,
+            TransferMetrics transferMetrics,
+            Executor workerExecutor,
+            ProcessingLeaseSettings leaseSettings,
+            int concurrency,
+            int capacity,
+            int submitChunkSize,
+            int backfillBatchSize) {
+        this(transferRepository, processingService, transferMetrics, workerExecutor, leaseSettings,
+                List.of(DispatchLane.unbounded("default", concurrency)),
+                capacity, submitChunkSize, backfillBatchSize);
+    }
+
+    /**
+     * @param lanes en orden de prioridad; el último debería aceptar cualquier monto
+     *              (si ninguno acepta, la transferencia va al último)
+     */
+    public TransferDispatchQueue(
+            TransferRepository transferRepository,
+            TransferBatchProcessingService processingService,
+            TransferMetrics transferMetrics,
+            Executor workerExecutor,
+            ProcessingLeaseSettings leaseSettings,
+            List<DispatchLane> lanes,
+            int capacity,
+            int submitChunkSize,
+            int backfillBatchSize) {
+        this.transferRepository = transferRepository;
+        this.processingService = processingService;
+        this.transferMetrics = transferMetrics;
+        this.workerExecutor = workerExecutor;
+        this.leaseSettings = leaseSettings;
+        this.capacity = capacity;
+        this.submitChunkSize = Math.max(1, submitChunkSize);
+        this.backfillBatchSize = backfillBatchSize;
+        this.lanes = lanes.stream().map(LaneQueue::new).toList();
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        transferMetrics.registerDispatchQueueDepth(this::size);
+        dispatcher = Thread.ofVirtual().name("transfer-dispatcher").start(this::dispatchLoop);
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    /**
+     * Encola sin datos de lane/cuenta: va al último lane y cuenta como
+     * cuenta propia.
+     *
+     * @return false si ya estaba encolada/en vuelo o la cola esta llena
+     */
+    public boolean enqueue(UUID transferId) {
+        return enqueue(transferId, null, null);
+    }
+
+    /**
+     * Encola una transferencia para procesar.
+     *
+     * @param originAccountId cuenta origen, para la ronda entre cuentas (null = propia)
+     * @param amount monto, para elegir lane (null = último lane)
+     * @return false si ya estaba encolada/en vuelo o la cola esta llena
+     */
+    public boolean enqueue(UUID transferId, UUID originAccountId, BigDecimal amount) {
+        if (!queuedOrInFlight.add(transferId)) {
+            log.debug("Transferencia id={} ya encolada, se ignora", transferId);
+            return false;
+        }
+        lock.lock();
+        try {
+            if (size >= capacity) {
+                queuedOrInFlight.remove(transferId);
+                log.warn("Cola de dispatch llena, transferencia id={} queda para el backfill", transferId);
+                return false;
+            }
+            laneFor(amount).add(new DispatchEntry(
+                    transferId,
+                    originAccountId != null ? originAccountId : transferId,
+                    System.nanoTime()));
+            size++;
+            dispatchable.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Backfill: reclama transferencias PENDING que no llegaron por evento
+     * y las encola. Las que ya estaban encoladas se descartan por dedupe
+     * (el lease es reentrante, el dispatch las vuelve a reclamar sin conflicto).
+     *
+     * @return cantidad de transferencias encoladas
+     */
+    public int backfill() {
+        List<Transfer> missed = transferRepository.claimPendingTransfers(
+                backfillBatchSize, leaseSettings.workerId(), leaseSettings.leaseDuration());
+
+        int enqueued = 0;
+        for (Transfer transfer : missed) {
+            if (enqueue(transfer.getId(), transfer.getOriginAccountId(), transfer.getAmount().value())) {
+                enqueued++;
+            }
+        }
+        if (enqueued > 0) {
+            log.info("Backfill: {} transferencias pendientes encoladas", enqueued);
+        }
+        return enqueued;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            LaneQueue lane;
+            List<DispatchEntry> chunk;
+            try {
+                lock.lockInterruptibly();
+                try {
+                    while ((lane = nextReadyLane()) == null) {
+                        dispatchable.await();
+                    }
+                    chunk = lane.drain(submitChunkSize);
+                    lane.inFlight++;
+                    size -= chunk.size();
+                } finally {
+                    lock.unlock();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            dispatch(lane, chunk);
+        }
+    }
+
+    /**
+     * Primer lane (por prioridad) con transferencias y lugar en el worker pool.
+     */
+    private LaneQueue nextReadyLane() {
+        for (LaneQueue lane : lanes) {
+            if (lane.isReady()) {
+                return lane;
+            }
+        }
+        return null;
+    }
+
+    private LaneQueue laneFor(BigDecimal amount) {
+        if (amount != null) {
+            for (LaneQueue lane : lanes) {
+                if (lane.settings.accepts(amount)) {
+                    return lane;
+                }
+            }
+        }
+        return lanes.getLast();
+    }
+
+    private void dispatch(LaneQueue lane, List<DispatchEntry> chunk) {
+        try {
+            workerExecutor.execute(() -> process(lane, chunk));
+        } catch (RejectedExecutionException ex) {
+            complete(lane, chunk);
+            log.error("Worker pool rechazo chunk de {} transferencias, quedan para el backfill", chunk.size(), ex);
+        }
+    }
+
+    private void process(LaneQueue lane, List<DispatchEntry> chunk) {
+        try {
+            processingService.processClaimedTransfers(chunk.stream().map(DispatchEntry::transferId).toList());
+        } catch (Exception ex) {
+            log.error("Error procesando chunk de {} transferencias: {}", chunk.size(), ex.getMessage(), ex);
+        } finally {
+            complete(lane, chunk);
+            long now = System.nanoTime();
+            chunk.forEach(entry -> transferMetrics.recordDispatchLatency(
+                    lane.settings.name(), Duration.ofNanos(now - entry.enqueuedAtNanos())));
+        }
+    }
+
+    private void complete(LaneQueue lane, List<DispatchEntry> chunk) {
+        chunk.forEach(entry -> queuedOrInFlight.remove(entry.transferId()));
+        lock.lock();
+        try {
+            lane.inFlight--;
+            dispatchable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record DispatchEntry(UUID transferId, UUID accountKey, long enqueuedAtNanos) {
+    }
+
+    /**
+     * Cola de un lane: una sub-cola FIFO por cuenta y una ronda de cuentas
+     * con pendientes. Guardada por el lock de la cola de dispatch.
+     */
+    private static final class LaneQueue {
+
+        private final DispatchLane settings;
+        private final Map<UUID, ArrayDeque<DispatchEntry>> byAccount = new HashMap<>();
+        private final ArrayDeque<UUID> accountRound = new ArrayDeque<>();
+        private int size;
+        private int inFlight;
+
+        private LaneQueue(DispatchLane settings) {
+            this.settings = settings;
+        }
+
+        private void add(DispatchEntry entry) {
+            byAccount.computeIfAbsent(entry.accountKey(), account -> {
+                accountRound.addLast(account);
+                return new ArrayDeque<>();
+            }).addLast(entry);
+            size++;
+        }
+
+        private boolean isReady() {
+            return size > 0 && inFlight < Math.max(1, settings.maxInFlight());
+        }
+
+        /**
+         * Una transferencia por cuenta y por vuelta, hasta completar el chunk.
+         */
+        private List<DispatchEntry> drain(int maxEntries) {
+            List<DispatchEntry> chunk = new ArrayList<>(Math.min(maxEntries, size));
+            while (chunk.size() < maxEntries && !accountRound.isEmpty()) {
+                UUID account = accountRound.pollFirst();
+                ArrayDeque<DispatchEntry> pending = byAccount.get(account);
+                chunk.add(pending.pollFirst());
+                size--;
+                if (pending.isEmpty()) {
+                    byAccount.remove(account);
+                } else {
+                    accountRound.addLast(account);
+                }
+            }
+            return chunk;
+        }
+    }
+}
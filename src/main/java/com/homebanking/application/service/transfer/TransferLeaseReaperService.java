@@ -0,0 +1,108 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.application.dto.transfer.response.TransferProcessingResult;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import com.homebanking.port.out.transfer.TransferProcessorOutputPort;
+import com.homebanking.port.out.transfer.TransferProcessorOutputPort.ExternalStatus;
+import com.homebanking.port.out.transfer.TransferRepository;
+import com.homebanking.port.out.transfer.TransferRepository.ExpiredLease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service: TransferLeaseReaperService
+
+ * Recupera transferencias que quedaron PROCESSING porque el nodo murio
+ * entre prepareForProcessing y finalizeProcessing.
+
+ * Por cada lease vencido:
+ * - consulta al procesador externo el resultado real
+ * - ACCEPTED: se completa (acredita destino)
+ * - REJECTED: se rechaza (devuelve fondos al origen)
+ * - UNKNOWN: vuelve a FAILED reintentable; el reenvio es seguro porque
+ *   el procesador deduplica por idempotency key
+
+ * Métrica: tiempo desde el vencimiento del lease hasta la recuperación
+ * (no la antigüedad de la transferencia, que incluye la espera en cola).
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class TransferLeaseReaperService {
+
+    private static final String REJECTED_BY_PROCESSOR =
+            "Rechazada por el procesador externo (recuperada por lease vencido)";
+
+    private final TransferRepository transferRepository;
+    private final TransferProcessorOutputPort transferProcessor;
+    private final TransferStateTransitionService stateService;
+    private final TransferMetrics transferMetrics;
+    private final ProcessingLeaseSettings leaseSettings;
+    private final int maxBatchSize;
+
+    public int reclaimExpiredLeases() {
+        List<ExpiredLease> stuckTransfers = transferRepository.claimExpiredProcessingTransfers(
+                maxBatchSize, leaseSettings.workerId(), leaseSettings.leaseDuration());
+
+        if (stuckTransfers.isEmpty()) {
+            log.debug("No hay transferencias con lease vencido");
+            return 0;
+        }
+
+        log.warn("Recuperando {} transferencias PROCESSING con lease vencido", stuckTransfers.size());
+        int reclaimed = 0;
+        for (ExpiredLease stuck : stuckTransfers) {
+            if (reclaim(stuck)) {
+                reclaimed++;
+            }
+        }
+        return reclaimed;
+    }
+
+    private boolean reclaim(ExpiredLease stuck) {
+        Transfer transfer = stuck.transfer();
+        try {
+            TransferProcessingResult result = resolveOutcome(transfer);
+            stateService.finalizeProcessing(transfer.getId(), result);
+
+            Duration overdue = overdue(stuck);
+            transferMetrics.recordLeaseReclaimed(result.outcome().name(), overdue);
+            log.info("Transferencia recuperada: id={}, outcome={}, overdueMs={}",
+                    transfer.getId(), result.outcome(), overdue.toMillis());
+            return true;
+        } catch (Exception ex) {
+            log.error("Error recuperando transferencia id={}: {}", transfer.getId(), ex.getMessage(), ex);
+            return false;
+        }
+    }
+
+    /**
+     * Cuánto estuvo trabada: desde que venció el lease hasta ahora. Sin lease
+     * (fila PROCESSING vieja) no hay referencia mejor que la creación.
+     */
+    private Duration overdue(ExpiredLease stuck) {
+        LocalDateTime since = stuck.expiredAt() != null ? stuck.expiredAt() : stuck.transfer().getCreatedAt();
+        Duration overdue = Duration.between(since, LocalDateTime.now());
+        return overdue.isNegative() ? Duration.ZERO : overdue;
+    }
+
+    private TransferProcessingResult resolveOutcome(Transfer transfer) {
+        ExternalStatus status;
+        try {
+            status = transferProcessor.queryStatus(transfer);
+        } catch (RuntimeException ex) {
+            log.warn("No se pudo consultar estado externo de id={}: {}", transfer.getId(), ex.getMessage());
+            status = ExternalStatus.UNKNOWN;
+        }
+
+        return switch (status) {
+            case ACCEPTED -> TransferProcessingResult.success();
+            case REJECTED -> TransferProcessingResult.nonRecoverableFailure(REJECTED_BY_PROCESSOR);
+            case UNKNOWN -> TransferProcessingResult.recoverableFailure();
+        };
+    }
+}
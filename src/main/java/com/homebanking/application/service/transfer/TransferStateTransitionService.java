@@ -2,24 +2,34 @@ package com.homebanking.application.service.transfer;
 
 import com.homebanking.application.dto.transfer.response.TransferProcessingResult;
 import com.homebanking.application.service.transfer.action.TransferProcessingAction;
+import com.homebanking.domain.entity.Account;
 import com.homebanking.domain.entity.Transfer;
 import com.homebanking.domain.exception.account.InvalidAccountDataException;
 import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
 import com.homebanking.domain.exception.transfer.TransferNotFoundException;
+import com.homebanking.domain.policy.transition.MarkAsCompletedTransition;
 import com.homebanking.domain.policy.transition.MarkAsRejectedTransition;
 import com.homebanking.domain.policy.transition.TakeForProcessingTransition;
 import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.domain.valueobject.common.Cbu;
 import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.event.EventOutbox;
 import com.homebanking.port.out.transfer.TransferRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +38,8 @@ public class TransferStateTransitionService {
     private final TransferRepository transferRepository;
     private final AccountRepository accountRepository;
     private final List<TransferProcessingAction> actions;
+    private final ProcessingLeaseSettings leaseSettings;
+    private final EventOutbox eventOutbox;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public Transfer prepareForProcessing(UUID transferId) {
@@ -35,6 +47,8 @@ public class TransferStateTransitionService {
                 .orElseThrow(() -> new TransferNotFoundException(DomainErrorMessages.TRANSFER_NOT_FOUND, transferId));
 
         new TakeForProcessingTransition().execute(transfer);
+        // Todo PROCESSING lleva lease vigente: si el nodo muere, el reaper la recupera
+        transfer.assignLease(leaseSettings.leaseFrom(LocalDateTime.now()));
 
         if (!accountRepository.existsByCbu(transfer.getTargetCbu())) {
             new MarkAsRejectedTransition(DomainErrorMessages.ACCOUNT_NOT_FOUND).execute(transfer);
@@ -50,14 +64,90 @@ public class TransferStateTransitionService {
         Transfer transfer = transferRepository.findById(transferId)
                 .orElseThrow(() -> new TransferNotFoundException(DomainErrorMessages.TRANSFER_NOT_FOUND, transferId));
 
+        resolveAction(buildActionMap(), result).apply(transfer, result);
+        Transfer saved = transferRepository.save(transfer);
+        appendDomainEvents(transfer);
+        return saved;
+    }
+
+    /**
+     * Finaliza un lote en una sola transacción.
+     * Cada transferencia registra su propio resultado (estado + evento),
+     * pero los créditos de las completadas se agrupan por CBU destino: una
+     * cuenta que recibe cientos de transferencias del lote se lee y se
+     * escribe una sola vez, con la suma (en el ledger queda un movimiento
+     * por transferencia).
+     * Cualquier fallo revierte el lote entero; el llamador puede caer a
+     * finalizeProcessing por transferencia para aislarlo.
+     *
+     * @return Transferencias finalizadas (las que no existen se omiten)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Transfer> finalizeBatch(Map<UUID, TransferProcessingResult> results) {
+        List<Transfer> transfers = transferRepository.findAllById(results.keySet());
         Map<TransferProcessingResult.Outcome, TransferProcessingAction> actionMap = buildActionMap();
+        Map<Cbu, List<Transfer>> credits = new LinkedHashMap<>();
+
+        for (Transfer transfer : transfers) {
+            TransferProcessingResult result = results.get(transfer.getId());
+            if (result.outcome() == TransferProcessingResult.Outcome.SUCCESS) {
+                new MarkAsCompletedTransition().execute(transfer);
+                credits.computeIfAbsent(transfer.getTargetCbu(), cbu -> new ArrayList<>()).add(transfer);
+            } else {
+                resolveAction(actionMap, result).apply(transfer, result);
+            }
+        }
+
+        applyCredits(credits);
+        List<Transfer> saved = transferRepository.saveAll(transfers);
+        transfers.forEach(this::appendDomainEvents);
+        return saved;
+    }
+
+    /**
+     * Un crédito por cuenta destino con el total del lote, por saveCredit:
+     * UPDATE atómico sin versión (o una stripe), así un débito o crédito
+     * concurrente sobre una cuenta caliente no revierte el lote.
+     */
+    private void applyCredits(Map<Cbu, List<Transfer>> credits) {
+        if (credits.isEmpty()) {
+            return;
+        }
+        Map<Cbu, Account> destinations = accountRepository.findAllByCbu(credits.keySet())
+                .stream()
+                .collect(Collectors.toMap(Account::getCbu, Function.identity()));
+
+        credits.forEach((cbu, creditedTransfers) -> {
+            Account destination = destinations.get(cbu);
+            if (destination == null) {
+                throw new InvalidAccountDataException(DomainErrorMessages.ACCOUNT_NOT_FOUND);
+            }
+            BigDecimal total = BigDecimal.ZERO;
+            for (Transfer transfer : creditedTransfers) {
+                destination.credit(transfer.getAmount().amount(), transfer.getIdempotencyKey().value());
+                total = total.add(transfer.getAmount().value());
+            }
+            accountRepository.saveCredit(destination, total, creditedTransfers.getFirst().getId());
+        });
+    }
+
+    private TransferProcessingAction resolveAction(
+            Map<TransferProcessingResult.Outcome, TransferProcessingAction> actionMap,
+            TransferProcessingResult result) {
         TransferProcessingAction action = actionMap.get(result.outcome());
         if (action == null) {
             throw new InvalidTransferDataException("Resultado de procesamiento invalido: " + result.outcome());
         }
+        return action;
+    }
 
-        action.apply(transfer, result);
-        return transferRepository.save(transfer);
+    /**
+     * Los eventos de dominio (completada/fallida) se persisten en el outbox
+     * dentro de la misma transacción que el cambio de estado.
+     */
+    private void appendDomainEvents(Transfer transfer) {
+        transfer.getDomainEvents().forEach(eventOutbox::append);
+        transfer.clearDomainEvents();
     }
 
     private Map<TransferProcessingResult.Outcome, TransferProcessingAction> buildActionMap() {
@@ -26,8 +26,9 @@ public class CompleteTransferAction implements TransferProcessingAction {
         new MarkAsCompletedTransition().execute(transfer);
         Account destinationAccount = accountRepository.findByCbu(transfer.getTargetCbu())
                 .orElseThrow(() -> new InvalidAccountDataException(DomainErrorMessages.ACCOUNT_NOT_FOUND));
-        destinationAccount.deposit(transfer.getAmount().value());
-        accountRepository.save(destinationAccount);
+        // Cuentas con saldo en stripes: el crédito no toca la fila de la cuenta
+        destinationAccount.credit(transfer.getAmount().amount(), transfer.getIdempotencyKey().value());
+        accountRepository.saveCredit(destinationAccount, transfer.getAmount().value(), transfer.getId());
     }
 }
 
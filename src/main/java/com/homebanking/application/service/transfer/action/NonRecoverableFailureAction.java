@@ -29,8 +29,9 @@ public class NonRecoverableFailureAction implements TransferProcessingAction {
 
         Account originAccount = accountRepository.findById(transfer.getOriginAccountId())
                 .orElseThrow(() -> new InvalidAccountDataException(DomainErrorMessages.ACCOUNT_NOT_FOUND));
-        originAccount.deposit(transfer.getAmount().value());
-        accountRepository.save(originAccount);
+        // Reintegro: crédito atómico, sin reescribir la fila leída
+        originAccount.credit(transfer.getAmount().amount(), transfer.getIdempotencyKey().value());
+        accountRepository.saveCredit(originAccount, transfer.getAmount().value(), transfer.getId());
     }
 }
 
@@ -0,0 +1,24 @@
+package com.homebanking.application.service.transfer.action;
+
+import com.homebanking.application.dto.transfer.response.TransferProcessingResult;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.policy.transition.ReleaseUnsubmittedTransition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class ReleaseUnsubmittedAction implements TransferProcessingAction {
+
+    @Override
+    public TransferProcessingResult.Outcome outcome() {
+        return TransferProcessingResult.Outcome.NOT_SUBMITTED;
+    }
+
+    @Override
+    public void apply(Transfer transfer, TransferProcessingResult result) {
+        new ReleaseUnsubmittedTransition().execute(transfer);
+        log.info("Transferencia no enviada al procesador, vuelve sin gastar intento: id={}, status={}, retryCount={}",
+                transfer.getId(), transfer.getStatus(), transfer.getRetryCount());
+    }
+}
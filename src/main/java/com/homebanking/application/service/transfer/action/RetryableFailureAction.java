@@ -19,8 +19,8 @@ public class RetryableFailureAction implements TransferProcessingAction {
     public void apply(Transfer transfer, TransferProcessingResult result) {
         new MarkAsFailedTransition("Error temporal durante procesamiento. Se reintentara automaticamente.")
                 .execute(transfer);
-        log.warn("Transferencia marcada para reintento: id={}, attempt={}",
-                transfer.getId(), transfer.getRetryCount());
+        log.warn("Transferencia marcada para reintento: id={}, attempt={}, nextRetryAt={}",
+                transfer.getId(), transfer.getRetryCount(), transfer.getNextRetryAt());
     }
 }
 
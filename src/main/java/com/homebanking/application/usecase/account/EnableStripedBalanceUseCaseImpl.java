@@ -0,0 +1,31 @@
+package com.homebanking.application.usecase.account;
+
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.exception.account.InvalidAccountDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.port.in.account.EnableStripedBalanceInputPort;
+import com.homebanking.port.out.account.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Slf4j
+public class EnableStripedBalanceUseCaseImpl implements EnableStripedBalanceInputPort {
+
+    private final AccountRepository accountRepository;
+
+    @Override
+    @Transactional
+    public void enableStripedBalance(String cbu, int stripes) {
+        Account account = accountRepository.findByCbu(Cbu.of(cbu))
+                .orElseThrow(() -> new InvalidAccountDataException(DomainErrorMessages.ACCOUNT_NOT_FOUND));
+        if (account.getBalanceStripes() == stripes) {
+            return;
+        }
+        account.enableStripedBalance(stripes);
+        accountRepository.save(account);
+        log.info("Saldo en stripes activado: accountId={}, stripes={}", account.getId(), stripes);
+    }
+}
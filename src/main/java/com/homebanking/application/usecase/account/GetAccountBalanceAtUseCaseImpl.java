@@ -0,0 +1,48 @@
+package com.homebanking.application.usecase.account;
+
+import com.homebanking.application.dto.account.response.AccountBalanceAtOutputResponse;
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.entity.User;
+import com.homebanking.domain.exception.account.AccountNotFoundException;
+import com.homebanking.domain.exception.security.AccessDeniedException;
+import com.homebanking.domain.exception.user.InvalidUserDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.port.in.account.GetAccountBalanceAtInputPort;
+import com.homebanking.port.out.account.AccountLedger;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Use Case: GetAccountBalanceAtUseCaseImpl
+
+ * Saldo histórico desde el ledger: último snapshot anterior a at + cola
+ * de movimientos. No lee ni bloquea la fila de saldo de la cuenta.
+ */
+@RequiredArgsConstructor
+public class GetAccountBalanceAtUseCaseImpl implements GetAccountBalanceAtInputPort {
+
+    private final AccountRepository accountRepository;
+    private final UserRepository userRepository;
+    private final AccountLedger accountLedger;
+
+    @Override
+    @Transactional(readOnly = true)
+    public AccountBalanceAtOutputResponse getBalanceAt(UUID accountId, LocalDateTime at, String requesterEmail) {
+        User user = userRepository.findByEmail(requesterEmail)
+                .orElseThrow(() -> new InvalidUserDataException(DomainErrorMessages.USER_NOT_FOUND));
+
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(DomainErrorMessages.ACCOUNT_NOT_FOUND, accountId));
+
+        if (!account.getUserId().equals(user.getId())) {
+            throw new AccessDeniedException(DomainErrorMessages.ACCESS_DENIED);
+        }
+
+        return new AccountBalanceAtOutputResponse(accountId, at, accountLedger.balanceAt(accountId, at));
+    }
+}
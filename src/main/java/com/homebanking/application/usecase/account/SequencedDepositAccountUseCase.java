@@ -0,0 +1,26 @@
+package com.homebanking.application.usecase.account;
+
+import com.homebanking.application.dto.account.request.DepositAccountInputRequest;
+import com.homebanking.application.dto.account.response.DepositAccountOutputResponse;
+import com.homebanking.application.service.account.AccountMutationSequencer;
+import com.homebanking.port.in.account.DepositAccountInputPort;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Use Case: SequencedDepositAccountUseCase
+
+ * Decorador: el depósito se aplica en el lane de la cuenta
+ * (AccountMutationSequencer). El caso de uso decorado abre la transacción
+ * ya dentro del lane.
+ */
+@RequiredArgsConstructor
+public class SequencedDepositAccountUseCase implements DepositAccountInputPort {
+
+    private final DepositAccountInputPort delegate;
+    private final AccountMutationSequencer sequencer;
+
+    @Override
+    public DepositAccountOutputResponse deposit(DepositAccountInputRequest request) {
+        return sequencer.execute(request.accountId(), () -> delegate.deposit(request));
+    }
+}
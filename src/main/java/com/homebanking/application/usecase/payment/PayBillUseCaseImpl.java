@@ -45,21 +45,27 @@ public class PayBillUseCaseImpl implements PayBillInputPort {
                 ));
         validateOwnership(account, request.requesterEmail());
 
-        BillPayment payment = BillPayment.create(
+        // Se sigue con el pago persistido (id y versión asignados)
+        BillPayment payment = billPaymentRepository.save(BillPayment.create(
                 request.accountId(),
                 request.billerCode(),
                 request.reference(),
                 request.amount(),
                 request.idempotencyKey()
-        );
-        billPaymentRepository.save(payment);
+        ));
 
         try {
             boolean accepted = billProcessorOutputPort.process(payment);
             if (accepted) {
-                account.debit(request.amount());
+                account.debit(payment.getAmount(), payment.getIdempotencyKey());
+                if (!accountRepository.saveDebit(account, request.amount())) {
+                    throw new InsufficientFundsException(
+                            DomainErrorMessages.INSUFFICIENT_FUNDS,
+                            account.getId(),
+                            request.amount(),
+                            account.getBalance().value().add(request.amount()));
+                }
                 payment.markAsPaid();
-                accountRepository.save(account);
             } else {
                 payment.markAsFailed("Pago rechazado por procesador externo");
             }
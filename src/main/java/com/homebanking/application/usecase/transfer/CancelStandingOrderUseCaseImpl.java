@@ -0,0 +1,65 @@
+package com.homebanking.application.usecase.transfer;
+
+import com.homebanking.application.dto.transfer.response.StandingOrderOutputResponse;
+import com.homebanking.application.mapper.TransferMapper;
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.entity.StandingOrder;
+import com.homebanking.domain.entity.User;
+import com.homebanking.domain.exception.account.AccountNotFoundException;
+import com.homebanking.domain.exception.security.AccessDeniedException;
+import com.homebanking.domain.exception.transfer.StandingOrderNotFoundException;
+import com.homebanking.domain.exception.user.InvalidUserDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.port.in.transfer.CancelStandingOrderInputPort;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.transfer.StandingOrderRepository;
+import com.homebanking.port.out.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Slf4j
+public class CancelStandingOrderUseCaseImpl implements CancelStandingOrderInputPort {
+
+    private final StandingOrderRepository standingOrderRepository;
+    private final AccountRepository accountRepository;
+    private final UserRepository userRepository;
+    private final TransferMapper transferMapper;
+
+    @Override
+    @Transactional
+    public StandingOrderOutputResponse cancelStandingOrder(UUID standingOrderId, String requesterEmail) {
+        if (requesterEmail == null || requesterEmail.isBlank()) {
+            throw new InvalidUserDataException(DomainErrorMessages.USER_NOT_FOUND);
+        }
+
+        User user = userRepository.findByEmail(requesterEmail)
+                .orElseThrow(() -> new InvalidUserDataException(
+                        DomainErrorMessages.USER_NOT_FOUND));
+
+        StandingOrder standingOrder = standingOrderRepository.findById(standingOrderId)
+                .orElseThrow(() -> new StandingOrderNotFoundException(
+                        DomainErrorMessages.STANDING_ORDER_NOT_FOUND,
+                        standingOrderId
+                ));
+        Account originAccount = accountRepository.findById(standingOrder.getOriginAccountId())
+                .orElseThrow(() -> new AccountNotFoundException(
+                        DomainErrorMessages.ACCOUNT_NOT_FOUND,
+                        standingOrder.getOriginAccountId()
+                ));
+
+        if (!originAccount.getUserId().equals(user.getId())) {
+            throw new AccessDeniedException(DomainErrorMessages.ACCESS_DENIED);
+        }
+
+        standingOrder.cancel();
+        StandingOrder saved = standingOrderRepository.save(standingOrder);
+
+        log.info("Orden permanente cancelada: id={}", saved.getId());
+
+        return transferMapper.toDto(saved);
+    }
+}
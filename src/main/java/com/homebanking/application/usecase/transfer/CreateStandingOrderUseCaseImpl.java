@@ -0,0 +1,113 @@
+package com.homebanking.application.usecase.transfer;
+
+import com.homebanking.application.dto.transfer.request.CreateStandingOrderInputRequest;
+import com.homebanking.application.dto.transfer.response.StandingOrderOutputResponse;
+import com.homebanking.application.mapper.TransferMapper;
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.entity.StandingOrder;
+import com.homebanking.domain.entity.User;
+import com.homebanking.domain.enums.RecurrenceFrequency;
+import com.homebanking.domain.exception.account.AccountNotFoundException;
+import com.homebanking.domain.exception.account.InvalidAccountDataException;
+import com.homebanking.domain.exception.security.AccessDeniedException;
+import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
+import com.homebanking.domain.exception.transfer.SameAccountTransferException;
+import com.homebanking.domain.exception.user.InvalidUserDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.RecurrenceRule;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.in.transfer.CreateStandingOrderInputPort;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.transfer.StandingOrderRepository;
+import com.homebanking.port.out.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Use Case: CreateStandingOrderUseCaseImpl
+
+ * Alta de una orden permanente. No mueve fondos: el débito ocurre en
+ * cada ocurrencia, cuando la genera GenerateStandingOrderTransfersUseCaseImpl.
+ * El destino se valida acá una vez, no en cada ocurrencia.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class CreateStandingOrderUseCaseImpl implements CreateStandingOrderInputPort {
+
+    private final AccountRepository accountRepository;
+    private final StandingOrderRepository standingOrderRepository;
+    private final UserRepository userRepository;
+    private final TransferMapper transferMapper;
+
+    @Override
+    @Transactional
+    public StandingOrderOutputResponse createStandingOrder(
+            CreateStandingOrderInputRequest request,
+            String requesterEmail) {
+        // 1. Conversión de Value Objects (Fail-Fast)
+        Cbu targetCbu = Cbu.of(request.targetCbu());
+        TransferAmount amount = TransferAmount.of(request.amount());
+        TransferDescription description = TransferDescription.of(request.description());
+        RecurrenceRule recurrence = new RecurrenceRule(parseFrequency(request.frequency()), request.day());
+
+        // 2. Cuenta origen del usuario autenticado
+        Account originAccount = loadOwnedAccount(request, requesterEmail);
+        if (originAccount.getCbu().equals(targetCbu)) {
+            throw new SameAccountTransferException(DomainErrorMessages.TRANSFER_SAME_ACCOUNT);
+        }
+        if (!accountRepository.existsByCbu(targetCbu)) {
+            throw new InvalidAccountDataException(DomainErrorMessages.ACCOUNT_NOT_FOUND);
+        }
+
+        // 3. Primera ocurrencia: nunca antes de hoy
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = request.startDate() == null || request.startDate().isBefore(today)
+                ? today
+                : request.startDate();
+
+        StandingOrder saved = standingOrderRepository.save(StandingOrder.create(
+                originAccount.getId(), targetCbu, amount, description, recurrence, startDate));
+
+        log.info("Orden permanente creada: id={}, cuenta={}, frecuencia={}, próxima={}",
+                saved.getId(), saved.getOriginAccountId(), recurrence.frequency(), saved.getNextExecutionDate());
+
+        return transferMapper.toDto(saved);
+    }
+
+    private RecurrenceFrequency parseFrequency(String frequency) {
+        if (frequency == null || frequency.isBlank()) {
+            throw new InvalidTransferDataException(DomainErrorMessages.STANDING_ORDER_RECURRENCE_REQUIRED);
+        }
+        try {
+            return RecurrenceFrequency.valueOf(frequency.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidTransferDataException(DomainErrorMessages.STANDING_ORDER_FREQUENCY_INVALID);
+        }
+    }
+
+    private Account loadOwnedAccount(CreateStandingOrderInputRequest request, String requesterEmail) {
+        if (request.originAccountId() == null) {
+            throw new InvalidTransferDataException(DomainErrorMessages.ORIGIN_ACCOUNT_ID_INVALID);
+        }
+        if (requesterEmail == null || requesterEmail.isBlank()) {
+            throw new InvalidUserDataException(DomainErrorMessages.USER_NOT_FOUND);
+        }
+        User user = userRepository.findByEmail(requesterEmail)
+                .orElseThrow(() -> new InvalidUserDataException(DomainErrorMessages.USER_NOT_FOUND));
+        Account account = accountRepository.findById(request.originAccountId())
+                .orElseThrow(() -> new AccountNotFoundException(
+                        DomainErrorMessages.ACCOUNT_NOT_FOUND,
+                        request.originAccountId()
+                ));
+        if (!account.getUserId().equals(user.getId())) {
+            throw new AccessDeniedException(DomainErrorMessages.ACCESS_DENIED);
+        }
+        return account;
+    }
+}
@@ -0,0 +1,219 @@
+package com.homebanking.application.usecase.transfer;
+
+import com.homebanking.application.dto.transfer.request.CreateTransferBatchInputRequest;
+import com.homebanking.application.dto.transfer.response.TransferBatchOutputResponse;
+import com.homebanking.application.mapper.TransferMapper;
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.entity.TransferBatch;
+import com.homebanking.domain.entity.User;
+import com.homebanking.domain.event.TransferCreatedEvent;
+import com.homebanking.domain.exception.account.AccountNotFoundException;
+import com.homebanking.domain.exception.common.DomainException;
+import com.homebanking.domain.exception.security.AccessDeniedException;
+import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
+import com.homebanking.domain.exception.user.InvalidUserDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferBatchItem;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.domain.valueobject.transfer.TransferInstruction;
+import com.homebanking.port.in.transfer.CreateTransferBatchInputPort;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.event.EventOutbox;
+import com.homebanking.port.out.transfer.TransferBatchRepository;
+import com.homebanking.port.out.transfer.TransferRepository;
+import com.homebanking.port.out.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Use Case: CreateTransferBatchUseCaseImpl
+
+ * Alta masiva de transferencias desde una misma cuenta (sueldos, proveedores).
+
+ * Costo por lote, no por ítem:
+ * • una consulta para validar todos los CBU destino
+ * • un único débito de la cuenta origen por el total aceptado
+ * • INSERT de transferencias agrupados (JDBC batch)
+ * • eventos al outbox con un solo dedupe
+
+ * Un ítem inválido (CBU mal formado o inexistente, monto inválido, misma
+ * cuenta) se rechaza sin cortar el lote. Falta de saldo para el total sí
+ * corta: no se crea ninguna transferencia.
+
+ * Idempotencia: por lote; cada transferencia recibe una key derivada de
+ * la del lote y su posición.
+
+ * Seguridad: la cuenta origen tiene que ser del usuario autenticado, tanto
+ * al crear como al devolver un lote ya existente por idempotencia.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class CreateTransferBatchUseCaseImpl implements CreateTransferBatchInputPort {
+
+    private final AccountRepository accountRepository;
+    private final TransferRepository transferRepository;
+    private final TransferBatchRepository transferBatchRepository;
+    private final EventOutbox eventOutbox;
+    private final TransferMapper transferMapper;
+    private final UserRepository userRepository;
+    private final int maxItems;
+
+    @Override
+    @Transactional
+    public TransferBatchOutputResponse createTransferBatch(CreateTransferBatchInputRequest request) {
+        // 1. Idempotencia del lote
+        User requester = loadRequester(request.requesterEmail());
+        IdempotencyKey batchKey = IdempotencyKey.of(request.idempotencyKey());
+        Optional<TransferBatch> existing = transferBatchRepository.findByIdempotencyKey(batchKey.value());
+        if (existing.isPresent()) {
+            requireOwnedAccount(existing.get().getOriginAccountId(), requester);
+            return transferMapper.toDto(existing.get());
+        }
+        validateSize(request.items());
+
+        // 2. Cargar Agregado Origen (del usuario autenticado)
+        Account originAccount = loadOwnedAccount(request.originAccountId(), requester);
+
+        // 3. Conversión de Value Objects por ítem (un ítem inválido no corta el lote)
+        List<TransferBatchItem> rejected = new ArrayList<>();
+        List<PendingItem> candidates = new ArrayList<>();
+        for (int index = 0; index < request.items().size(); index++) {
+            try {
+                candidates.add(toPendingItem(index, request.items().get(index), batchKey));
+            } catch (DomainException ex) {
+                rejected.add(TransferBatchItem.rejected(index, ex.getMessage()));
+            }
+        }
+
+        // 4. Validar destinos en bloque
+        Set<Cbu> existingCbus = accountRepository.findExistingCbus(
+                candidates.stream().map(item -> item.instruction().targetCbu()).toList());
+        List<PendingItem> accepted = new ArrayList<>();
+        for (PendingItem item : candidates) {
+            Cbu targetCbu = item.instruction().targetCbu();
+            if (targetCbu.equals(originAccount.getCbu())) {
+                rejected.add(TransferBatchItem.rejected(item.index(), DomainErrorMessages.TRANSFER_SAME_ACCOUNT));
+            } else if (!existingCbus.contains(targetCbu)) {
+                rejected.add(TransferBatchItem.rejected(item.index(), DomainErrorMessages.ACCOUNT_NOT_FOUND));
+            } else {
+                accepted.add(item);
+            }
+        }
+
+        // 5. Lógica de Negocio: un débito por el total aceptado
+        List<Transfer> transfers = originAccount.initiateTransfersTo(
+                accepted.stream().map(PendingItem::instruction).toList());
+
+        // 6. Persistencia
+        List<Transfer> persisted = List.of();
+        if (!transfers.isEmpty()) {
+            persisted = transferRepository.saveAll(transfers);
+            accountRepository.save(originAccount);
+            eventOutbox.appendAll(persisted.stream()
+                    .map(transfer -> new TransferCreatedEvent(
+                            transfer.getId(), transfer.getOriginAccountId(), transfer.getAmount().value()))
+                    .toList());
+        }
+
+        List<TransferBatchItem> items = new ArrayList<>(rejected);
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (int i = 0; i < persisted.size(); i++) {
+            Transfer transfer = persisted.get(i);
+            items.add(TransferBatchItem.accepted(accepted.get(i).index(), transfer.getId()));
+            totalAmount = totalAmount.add(transfer.getAmount().value());
+        }
+        items.sort(Comparator.comparingInt(TransferBatchItem::index));
+
+        TransferBatch batch = transferBatchRepository.save(
+                TransferBatch.create(batchKey, originAccount.getId(), totalAmount, items));
+
+        log.info("Lote de transferencias creado: id={}, aceptadas={}, rechazadas={}, total={}",
+                batch.getId(), batch.acceptedItems(), batch.rejectedItems(), totalAmount);
+
+        return transferMapper.toDto(batch);
+    }
+
+    private void validateSize(List<CreateTransferBatchInputRequest.Item> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidTransferDataException(DomainErrorMessages.TRANSFER_BATCH_EMPTY);
+        }
+        if (items.size() > maxItems) {
+            throw new InvalidTransferDataException(DomainErrorMessages.TRANSFER_BATCH_TOO_LARGE);
+        }
+    }
+
+    private User loadRequester(String requesterEmail) {
+        if (requesterEmail == null || requesterEmail.isBlank()) {
+            throw new InvalidUserDataException(DomainErrorMessages.USER_NOT_FOUND);
+        }
+        return userRepository.findByEmail(requesterEmail)
+                .orElseThrow(() -> new InvalidUserDataException(DomainErrorMessages.USER_NOT_FOUND));
+    }
+
+    private Account loadOwnedAccount(UUID originAccountId, User requester) {
+        if (originAccountId == null) {
+            throw new InvalidTransferDataException(DomainErrorMessages.ORIGIN_ACCOUNT_ID_INVALID);
+        }
+        Account account = accountRepository.findById(originAccountId)
+                .orElseThrow(() -> new AccountNotFoundException(
+                        DomainErrorMessages.ACCOUNT_NOT_FOUND,
+                        originAccountId
+                ));
+        if (!account.getUserId().equals(requester.getId())) {
+            throw new AccessDeniedException(DomainErrorMessages.ACCESS_DENIED);
+        }
+        return account;
+    }
+
+    /**
+     * Reenvío de un lote ya creado: sin cargar el agregado, alcanza con que
+     * la cuenta origen esté entre las del usuario.
+     */
+    private void requireOwnedAccount(UUID originAccountId, User requester) {
+        boolean owned = accountRepository.findByUserId(requester.getId()).stream()
+                .anyMatch(account -> account.getId().equals(originAccountId));
+        if (!owned) {
+            throw new AccessDeniedException(DomainErrorMessages.ACCESS_DENIED);
+        }
+    }
+
+    private PendingItem toPendingItem(
+            int index,
+            CreateTransferBatchInputRequest.Item item,
+            IdempotencyKey batchKey) {
+        if (item == null) {
+            throw new InvalidTransferDataException(DomainErrorMessages.TRANSFER_BATCH_ITEM_REQUIRED);
+        }
+        return new PendingItem(index, new TransferInstruction(
+                Cbu.of(item.targetCbu()),
+                TransferAmount.of(item.amount()),
+                TransferDescription.of(item.description()),
+                itemKey(batchKey, index)
+        ));
+    }
+
+    /**
+     * Key determinística por posición: reenviar el lote no duplica transferencias.
+     */
+    private IdempotencyKey itemKey(IdempotencyKey batchKey, int index) {
+        String seed = batchKey.value() + ":" + index;
+        return IdempotencyKey.of(UUID.nameUUIDFromBytes(seed.getBytes(StandardCharsets.UTF_8)).toString());
+    }
+
+    private record PendingItem(int index, TransferInstruction instruction) {
+    }
+}
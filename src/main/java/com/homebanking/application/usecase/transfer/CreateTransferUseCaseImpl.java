@@ -6,8 +6,13 @@ import com.homebanking.application.mapper.TransferMapper;
 import com.homebanking.domain.entity.Account;
 import com.homebanking.domain.entity.Transfer;
 import com.homebanking.domain.exception.account.AccountNotFoundException;
+import com.homebanking.domain.exception.account.InsufficientFundsException;
 import com.homebanking.domain.exception.account.InvalidAccountDataException;
+import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
 import com.homebanking.domain.event.TransferCreatedEvent;
+import com.homebanking.domain.event.TransferScheduledEvent;
+import com.homebanking.domain.policy.transition.MarkAsCompletedTransition;
+import com.homebanking.domain.policy.transition.TakeForProcessingTransition;
 import com.homebanking.domain.util.DomainErrorMessages;
 import com.homebanking.domain.valueobject.common.Cbu;
 import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
@@ -15,23 +20,40 @@ import com.homebanking.domain.valueobject.transfer.TransferAmount;
 import com.homebanking.domain.valueobject.transfer.TransferDescription;
 import com.homebanking.port.in.transfer.CreateTransferInputPort;
 import com.homebanking.port.out.account.AccountRepository;
-import com.homebanking.port.out.event.EventPublisher;
+import com.homebanking.port.out.event.EventOutbox;
 import com.homebanking.port.out.transfer.TransferRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Use Case: CreateTransferUseCaseImpl
+
+ * Dos caminos para una transferencia inmediata:
+ * - liquidación interna (internalSettlementEnabled): el destino es una
+ *   cuenta propia, débito + crédito + COMPLETED en esta transacción,
+ *   sin procesador externo ni cola de despacho
+ * - diferida: queda PENDING y el procesador la completa después
+ * Las agendadas siempre van por el camino diferido (esperan executeAt).
+ */
 @RequiredArgsConstructor
 @Slf4j
 public class CreateTransferUseCaseImpl implements CreateTransferInputPort {
 
     private final AccountRepository accountRepository;
     private final TransferRepository transferRepository;
-    private final EventPublisher eventPublisher;
+    private final EventOutbox eventOutbox;
     private final TransferMapper transferMapper;
+    private final boolean internalSettlementEnabled;
 
     @Override
     @Transactional
@@ -41,13 +63,83 @@ public class CreateTransferUseCaseImpl implements CreateTransferInputPort {
         if (existing.isPresent()) {
             return transferMapper.toDto(existing.get());
         }
+        return createNew(request);
+    }
+
+    /**
+     * Varias transferencias en una sola transacción (group commit, ver
+     * GroupCommitCreateTransferUseCase): un commit para todas.
 
+     * - idempotencia en una consulta para todo el grupo; solo las keys ya
+     *   vistas (en la base o antes en el mismo grupo) se buscan de a una
+     * - cada transferencia sigue el mismo camino que createTransfer y ve
+     *   los débitos de las anteriores del grupo
+     * - la primera que falla corta el grupo: se revierte la transacción
+     *   entera y ItemFailedException indica su posición
+     * - con liquidación interna, los locks de todo el grupo se toman al
+     *   empezar, en orden de id (ver lockGroup)
+     */
+    @Transactional
+    public List<TransferOutputResponse> createTransfers(List<CreateTransferInputRequest> requests) {
+        lockGroup(requests);
+        Set<String> seenKeys = new HashSet<>(transferRepository.findExistingIdempotencyKeys(
+                requests.stream().map(CreateTransferInputRequest::idempotencyKey).filter(Objects::nonNull).toList()));
+        List<TransferOutputResponse> responses = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            CreateTransferInputRequest request = requests.get(index);
+            try {
+                responses.add(seenKeys.add(request.idempotencyKey())
+                        ? createNew(request)
+                        : createTransfer(request));
+            } catch (RuntimeException ex) {
+                throw new ItemFailedException(index, ex);
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Cada liquidación interna bloquea origen y destino, y en un grupo esos
+     * locks se acumulan hasta el commit. Los grupos se reparten por origen,
+     * pero los destinos se comparten entre writers: tomados de a uno, en el
+     * orden de llegada, dos grupos pueden bloquear el mismo par de cuentas
+     * en orden inverso y trabarse. Se bloquean todas juntas, en orden de id
+     * (salvo los destinos con stripes, que no se bloquean).
+     * Un CBU mal formado se omite: ese ítem falla después, en createNew.
+     */
+    private void lockGroup(List<CreateTransferInputRequest> requests) {
+        if (!internalSettlementEnabled) {
+            return;
+        }
+        Set<UUID> origins = new HashSet<>();
+        Set<Cbu> targets = new HashSet<>();
+        for (CreateTransferInputRequest request : requests) {
+            if (request.originAccountId() != null) {
+                origins.add(request.originAccountId());
+            }
+            if (request.executeAt() == null && request.targetCbu() != null) {
+                try {
+                    targets.add(Cbu.of(request.targetCbu()));
+                } catch (InvalidTransferDataException ignored) {
+                    // El ítem falla en createNew con este mismo error
+                }
+            }
+        }
+        accountRepository.lockForTransfers(origins, targets);
+    }
+
+    private TransferOutputResponse createNew(CreateTransferInputRequest request) {
         // 2. Conversión de Value Objects (Fail-Fast)
         Cbu targetCbu = Cbu.of(request.targetCbu());
         TransferAmount amount = TransferAmount.of(request.amount());
         TransferDescription description = TransferDescription.of(request.description());
         IdempotencyKey key = IdempotencyKey.of(request.idempotencyKey());
 
+        // Destino propio e inmediata: se liquida acá mismo, sin procesador
+        if (internalSettlementEnabled && request.executeAt() == null) {
+            return settleInternally(request.originAccountId(), targetCbu, amount, description, key);
+        }
+
         // 3. Validar existencia del destino (Opcional pero recomendado)
         // NOTA: No cargamos la entidad, solo verificamos si es viable transferirle.
         // Si el destino es otro banco, esta validación podría no aplicar o ser diferente.
@@ -58,21 +150,72 @@ public class CreateTransferUseCaseImpl implements CreateTransferInputPort {
 
         // 5. Lógica de Negocio (Dominio Puro)
         // Aquí ocurre la magia: Pasamos solo el CBU destino.
-        Transfer transfer = originAccount.initiateTransferTo(
-                targetCbu,
-                amount,
-                description,
-                key
-        );
+        // Con executeAt queda agendada (el débito igual ocurre ahora).
+        Transfer transfer = request.executeAt() == null
+                ? originAccount.initiateTransferTo(targetCbu, amount, description, key)
+                : originAccount.scheduleTransferTo(targetCbu, amount, description, key, request.executeAt());
 
         // 6. Persistencia (Transaccionalidad atómica del agregado origen y la transferencia)
-        persistTransferAndAccount(transfer, originAccount);
+        Transfer persisted = persistTransferAndAccount(transfer, originAccount);
 
         // 7. Efectos secundarios (Logs y Eventos)
-        logTransferCreated(transfer);
-        eventPublisher.publish(new TransferCreatedEvent(transfer.getId()));
+        // El evento va al outbox en la misma transacción: se entrega recién tras el commit
+        logTransferCreated(persisted);
+        eventOutbox.append(persisted.isScheduled()
+                ? new TransferScheduledEvent(persisted.getId(), persisted.getOriginAccountId(),
+                        persisted.getAmount().value(), persisted.getExecuteAt())
+                : new TransferCreatedEvent(
+                        persisted.getId(), persisted.getOriginAccountId(), persisted.getAmount().value()));
 
-        return transferMapper.toDto(transfer);
+        return transferMapper.toDto(persisted);
+    }
+
+    /**
+     * Liquidación interna: ambas cuentas se bloquean en orden de id (una
+     * sola consulta), así dos transferencias cruzadas entre las mismas
+     * cuentas se serializan en vez de trabarse. Un destino con stripes no
+     * se bloquea: saveCredit suma sobre una stripe y los créditos a una
+     * cuenta caliente no se encolan detrás de su fila.
+     * La transferencia se persiste ya COMPLETED; al outbox va el
+     * TransferCompletedEvent (notificación), no el TransferCreatedEvent,
+     * así nunca entra a la cola de despacho.
+     */
+    private TransferOutputResponse settleInternally(
+            UUID originAccountId,
+            Cbu targetCbu,
+            TransferAmount amount,
+            TransferDescription description,
+            IdempotencyKey key) {
+        List<Account> locked = accountRepository.lockForTransfer(originAccountId, targetCbu);
+        Account destination = locked.stream()
+                .filter(account -> account.getCbu().equals(targetCbu))
+                .findFirst()
+                .orElseThrow(() -> new InvalidAccountDataException(DomainErrorMessages.ACCOUNT_NOT_FOUND));
+        Account originAccount = locked.stream()
+                .filter(account -> account.getId().equals(originAccountId))
+                .findFirst()
+                .orElseThrow(() -> new AccountNotFoundException(
+                        DomainErrorMessages.ACCOUNT_NOT_FOUND,
+                        originAccountId
+                ));
+
+        Transfer transfer = originAccount.initiateTransferTo(targetCbu, amount, description, key);
+        destination.credit(amount.amount(), key.value());
+
+        // Primero se inserta (asigna id), después se completa: el evento lleva el id
+        Transfer persisted = transferRepository.save(transfer);
+        new TakeForProcessingTransition().execute(persisted);
+        new MarkAsCompletedTransition().execute(persisted);
+        Transfer completed = transferRepository.save(persisted);
+        accountRepository.save(originAccount);
+        accountRepository.saveCredit(destination, amount.value(), completed.getId());
+
+        persisted.getDomainEvents().forEach(eventOutbox::append);
+        persisted.clearDomainEvents();
+
+        log.info("Transferencia liquidada internamente: id={}, idempotencyKey={}",
+                completed.getId(), completed.getIdempotencyKey().value());
+        return transferMapper.toDto(completed);
     }
 
     private void validateDestinationExists(Cbu targetCbu) {
@@ -91,15 +234,45 @@ public class CreateTransferUseCaseImpl implements CreateTransferInputPort {
                 ));
     }
 
-    private void persistTransferAndAccount(Transfer transfer, Account originAccount) {
-        transferRepository.save(transfer);
-        accountRepository.save(originAccount);
+    /**
+     * El débito va primero y condicionado en la base: si otra operación
+     * concurrente ya consumió el saldo leído, falla acá sin insertar la
+     * transferencia.
+     */
+    private Transfer persistTransferAndAccount(Transfer transfer, Account originAccount) {
+        BigDecimal amount = transfer.getAmount().value();
+        if (!accountRepository.saveDebit(originAccount, amount)) {
+            throw new InsufficientFundsException(
+                    DomainErrorMessages.INSUFFICIENT_FUNDS,
+                    originAccount.getId(),
+                    amount,
+                    originAccount.getBalance().value().add(amount));
+        }
+        return transferRepository.save(transfer);
     }
 
     private void logTransferCreated(Transfer transfer) {
         log.info("Transferencia creada: id={}, idempotencyKey={}",
                 transfer.getId(), transfer.getIdempotencyKey().value());
     }
+
+    /**
+     * Falla de una transferencia dentro de createTransfers; la causa es la
+     * excepción que habría recibido createTransfer.
+     */
+    public static final class ItemFailedException extends RuntimeException {
+
+        private final int index;
+
+        ItemFailedException(int index, RuntimeException cause) {
+            super(cause.getMessage(), cause);
+            this.index = index;
+        }
+
+        public int index() {
+            return index;
+        }
+    }
 }
 
 
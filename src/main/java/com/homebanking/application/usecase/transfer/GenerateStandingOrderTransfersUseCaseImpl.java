@@ -0,0 +1,121 @@
+package com.homebanking.application.usecase.transfer;
+
+import com.homebanking.application.dto.transfer.response.StandingOrderChunkResult;
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.entity.StandingOrder;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.event.TransferCreatedEvent;
+import com.homebanking.domain.exception.common.DomainException;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.port.in.transfer.GenerateStandingOrderTransfersInputPort;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.event.EventOutbox;
+import com.homebanking.port.out.transfer.StandingOrderRepository;
+import com.homebanking.port.out.transfer.TransferRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: GenerateStandingOrderTransfersUseCaseImpl
+
+ * Un chunk de la generación masiva: todas las órdenes vencidas de un
+ * conjunto de cuentas, en una transacción.
+
+ * Costo por chunk, no por orden:
+ * • una consulta de órdenes vencidas y una de cuentas
+ * • una consulta de keys ya usadas (idempotencia)
+ * • INSERT de transferencias agrupados, un UPDATE por cuenta y por orden
+ * • eventos al outbox con un solo dedupe
+
+ * Cada ocurrencia se materializa con Account.initiateTransferTo: mismas
+ * reglas y mismo débito que una transferencia manual. Sin saldo, la
+ * ocurrencia se saltea (no se reintenta) y la orden avanza igual.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class GenerateStandingOrderTransfersUseCaseImpl implements GenerateStandingOrderTransfersInputPort {
+
+    private final StandingOrderRepository standingOrderRepository;
+    private final AccountRepository accountRepository;
+    private final TransferRepository transferRepository;
+    private final EventOutbox eventOutbox;
+
+    @Override
+    @Transactional
+    public StandingOrderChunkResult generate(List<UUID> originAccountIds, LocalDate runDate) {
+        List<StandingOrder> orders = standingOrderRepository.findDueByOriginAccounts(originAccountIds, runDate);
+        if (orders.isEmpty()) {
+            return StandingOrderChunkResult.empty();
+        }
+        Map<UUID, Account> accounts = accountRepository.findAllById(originAccountIds)
+                .stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        // 1. Ocurrencias vencidas con su key derivada
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (StandingOrder order : orders) {
+            for (LocalDate date : order.dueOccurrences(runDate)) {
+                occurrences.add(new Occurrence(order, date, order.occurrenceKey(date)));
+            }
+        }
+        Set<String> alreadyMaterialized = transferRepository.findExistingIdempotencyKeys(
+                occurrences.stream().map(occurrence -> occurrence.key().value()).toList());
+
+        // 2. Lógica de Negocio: una transferencia por ocurrencia
+        List<Transfer> transfers = new ArrayList<>();
+        Map<UUID, Account> debited = new LinkedHashMap<>();
+        int rejected = 0;
+        int duplicates = 0;
+        for (Occurrence occurrence : occurrences) {
+            StandingOrder order = occurrence.order();
+            if (alreadyMaterialized.contains(occurrence.key().value())) {
+                duplicates++;
+                continue;
+            }
+            Account account = accounts.get(order.getOriginAccountId());
+            if (account == null) {
+                rejected++;
+                log.warn("Orden permanente sin cuenta origen: id={}, cuenta={}",
+                        order.getId(), order.getOriginAccountId());
+                continue;
+            }
+            try {
+                transfers.add(account.initiateTransferTo(
+                        order.getTargetCbu(), order.getAmount(), order.getDescription(), occurrence.key()));
+                debited.put(account.getId(), account);
+            } catch (DomainException ex) {
+                rejected++;
+                log.info("Ocurrencia de orden permanente salteada: id={}, fecha={}, motivo={}",
+                        order.getId(), occurrence.date(), ex.getMessage());
+            }
+        }
+        orders.forEach(order -> order.advancePast(runDate));
+
+        // 3. Persistencia (transferencias, saldos y avance juntos)
+        if (!transfers.isEmpty()) {
+            List<Transfer> persisted = transferRepository.saveAll(transfers);
+            accountRepository.saveAll(List.copyOf(debited.values()));
+            eventOutbox.appendAll(persisted.stream()
+                    .map(transfer -> new TransferCreatedEvent(
+                            transfer.getId(), transfer.getOriginAccountId(), transfer.getAmount().value()))
+                    .toList());
+        }
+        standingOrderRepository.saveAll(orders);
+
+        return new StandingOrderChunkResult(originAccountIds.size(), transfers.size(), rejected, duplicates);
+    }
+
+    private record Occurrence(StandingOrder order, LocalDate date, IdempotencyKey key) {
+    }
+}
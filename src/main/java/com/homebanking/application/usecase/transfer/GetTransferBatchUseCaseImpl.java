@@ -0,0 +1,55 @@
+package com.homebanking.application.usecase.transfer;
+
+import com.homebanking.application.dto.transfer.response.TransferBatchProgressResponse;
+import com.homebanking.application.mapper.TransferMapper;
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.entity.TransferBatch;
+import com.homebanking.domain.entity.User;
+import com.homebanking.domain.exception.account.AccountNotFoundException;
+import com.homebanking.domain.exception.security.AccessDeniedException;
+import com.homebanking.domain.exception.transfer.TransferBatchNotFoundException;
+import com.homebanking.domain.exception.user.InvalidUserDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.port.in.transfer.GetTransferBatchInputPort;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.transfer.TransferBatchRepository;
+import com.homebanking.port.out.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class GetTransferBatchUseCaseImpl implements GetTransferBatchInputPort {
+
+    private final TransferBatchRepository transferBatchRepository;
+    private final TransferMapper transferMapper;
+    private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
+
+    @Override
+    public TransferBatchProgressResponse getTransferBatch(UUID batchId, String requesterEmail) {
+        if (requesterEmail == null || requesterEmail.isBlank()) {
+            throw new InvalidUserDataException(DomainErrorMessages.USER_NOT_FOUND);
+        }
+
+        User user = userRepository.findByEmail(requesterEmail)
+                .orElseThrow(() -> new InvalidUserDataException(
+                        DomainErrorMessages.USER_NOT_FOUND));
+
+        TransferBatch batch = transferBatchRepository.findById(batchId)
+                .orElseThrow(() -> new TransferBatchNotFoundException(
+                        DomainErrorMessages.TRANSFER_BATCH_NOT_FOUND,
+                        batchId
+                ));
+        Account originAccount = accountRepository.findById(batch.getOriginAccountId())
+                .orElseThrow(() -> new AccountNotFoundException(
+                        DomainErrorMessages.ACCOUNT_NOT_FOUND,
+                        batch.getOriginAccountId()
+                ));
+
+        if (!originAccount.getUserId().equals(user.getId())) {
+            throw new AccessDeniedException(DomainErrorMessages.ACCESS_DENIED);
+        }
+
+        return transferMapper.toProgressDto(batch, transferBatchRepository.countTransfersByStatus(batchId));
+    }
+}
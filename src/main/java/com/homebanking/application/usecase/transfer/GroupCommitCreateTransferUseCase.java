@@ -0,0 +1,211 @@
+package com.homebanking.application.usecase.transfer;
+
+import com.homebanking.application.dto.transfer.request.CreateTransferInputRequest;
+import com.homebanking.application.dto.transfer.response.TransferOutputResponse;
+import com.homebanking.port.in.transfer.CreateTransferInputPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Use Case: GroupCommitCreateTransferUseCase
+
+ * Decorador (transfer.group-commit.enabled): agrupa las altas concurrentes
+ * y las confirma con un solo commit (CreateTransferUseCaseImpl.createTransfers).
+ * Bajo pico el techo es la tasa de commits, no las sentencias.
+
+ * Writers:
+ * - N hilos escritores; la transferencia elige writer por hash de la
+ *   cuenta origen, así las de una misma cuenta se aplican en orden
+ * - cada writer junta hasta max-batch-size pedidos o lo que llegue en
+ *   max-delay desde el primero, y corre el grupo en una transacción
+ * - cada writer usa una conexión por vez: reemplaza al decorador
+ *   secuenciado, el writer ya es un único escritor por cuenta
+
+ * Fallas (una no arrastra a las demás):
+ * - la transferencia que falla recibe su excepción y el resto del grupo
+ *   se vuelve a correr sin ella
+ * - si falla el commit (sin posición conocida) cada una corre en su
+ *   propia transacción
+
+ * El llamador espera su resultado. Es para el alta desde el controller:
+ * el grupo corre en otra transacción, no en la del llamador.
+ */
+@Slf4j
+public class GroupCommitCreateTransferUseCase implements CreateTransferInputPort {
+
+    private static final Duration IDLE_POLL = Duration.ofMillis(100);
+
+    private final CreateTransferUseCaseImpl delegate;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final List<BlockingQueue<PendingTransfer>> queues;
+    private final List<Thread> writers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public GroupCommitCreateTransferUseCase(
+            CreateTransferUseCaseImpl delegate,
+            int writerCount,
+            int maxBatchSize,
+            Duration maxDelay) {
+        this.delegate = delegate;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxDelay = maxDelay;
+        this.queues = IntStream.range(0, Math.max(1, writerCount))
+                .mapToObj(writer -> (BlockingQueue<PendingTransfer>) new LinkedBlockingQueue<PendingTransfer>())
+                .toList();
+    }
+
+    public void start() {
+        running = true;
+        for (int writer = 0; writer < queues.size(); writer++) {
+            BlockingQueue<PendingTransfer> queue = queues.get(writer);
+            writers.add(Thread.ofVirtual()
+                    .name("transfer-group-commit-" + writer)
+                    .start(() -> writeLoop(queue)));
+        }
+    }
+
+    /**
+     * Deja de aceptar pedidos y espera a que los writers vacíen sus colas.
+     */
+    public void stop() {
+        running = false;
+        for (Thread writer : writers) {
+            try {
+                writer.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        for (BlockingQueue<PendingTransfer> queue : queues) {
+            List<PendingTransfer> leftover = new ArrayList<>();
+            queue.drainTo(leftover);
+            leftover.forEach(this::commitAlone);
+        }
+    }
+
+    @Override
+    public TransferOutputResponse createTransfer(CreateTransferInputRequest request) {
+        if (!running) {
+            return delegate.createTransfer(request);
+        }
+        PendingTransfer pending = new PendingTransfer(request, new CompletableFuture<>());
+        BlockingQueue<PendingTransfer> queue = queueFor(request);
+        queue.add(pending);
+        if (!running && queue.remove(pending)) {
+            // Llegó durante stop, después del último vaciado de la cola
+            return delegate.createTransfer(request);
+        }
+        try {
+            return pending.result().get();
+        } catch (ExecutionException ex) {
+            throw propagate(ex.getCause());
+        } catch (InterruptedException ex) {
+            // Si ya entró en un grupo se crea igual: el reintento lo resuelve la idempotencia
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando el commit de la transferencia", ex);
+        }
+    }
+
+    private BlockingQueue<PendingTransfer> queueFor(CreateTransferInputRequest request) {
+        int hash = request.originAccountId() == null ? 0 : request.originAccountId().hashCode();
+        return queues.get(Math.floorMod(hash, queues.size()));
+    }
+
+    private void writeLoop(BlockingQueue<PendingTransfer> queue) {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<PendingTransfer> group = collect(queue);
+                if (!group.isEmpty()) {
+                    commit(group);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private List<PendingTransfer> collect(BlockingQueue<PendingTransfer> queue) throws InterruptedException {
+        List<PendingTransfer> group = new ArrayList<>(maxBatchSize);
+        PendingTransfer first = queue.poll(IDLE_POLL.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return group;
+        }
+        group.add(first);
+        long deadline = System.nanoTime() + maxDelay.toNanos();
+        while (group.size() < maxBatchSize) {
+            queue.drainTo(group, maxBatchSize - group.size());
+            long remaining = deadline - System.nanoTime();
+            if (group.size() == maxBatchSize || remaining <= 0) {
+                break;
+            }
+            PendingTransfer next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            group.add(next);
+        }
+        return group;
+    }
+
+    private void commit(List<PendingTransfer> group) {
+        List<PendingTransfer> remaining = group;
+        while (!remaining.isEmpty()) {
+            try {
+                List<TransferOutputResponse> responses = delegate.createTransfers(
+                        remaining.stream().map(PendingTransfer::request).toList());
+                for (int i = 0; i < remaining.size(); i++) {
+                    remaining.get(i).result().complete(responses.get(i));
+                }
+                log.debug("Grupo de {} transferencias confirmado en un commit", remaining.size());
+                return;
+            } catch (CreateTransferUseCaseImpl.ItemFailedException ex) {
+                remaining.get(ex.index()).result().completeExceptionally(ex.getCause());
+                List<PendingTransfer> retry = new ArrayList<>(remaining);
+                retry.remove(ex.index());
+                remaining = retry;
+            } catch (RuntimeException ex) {
+                log.warn("Falló el commit de un grupo de {} transferencias, se crean de a una: {}",
+                        remaining.size(), ex.getMessage());
+                remaining.forEach(this::commitAlone);
+                return;
+            } catch (Error error) {
+                remaining.forEach(pending -> pending.result().completeExceptionally(error));
+                throw error;
+            }
+        }
+    }
+
+    private void commitAlone(PendingTransfer pending) {
+        try {
+            pending.result().complete(delegate.createTransfer(pending.request()));
+        } catch (RuntimeException ex) {
+            pending.result().completeExceptionally(ex);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private record PendingTransfer(CreateTransferInputRequest request, CompletableFuture<TransferOutputResponse> result) {
+    }
+}
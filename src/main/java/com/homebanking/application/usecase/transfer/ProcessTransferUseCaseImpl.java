@@ -8,15 +8,23 @@ import com.homebanking.domain.entity.Transfer;
 import com.homebanking.domain.exception.transfer.TransferProcessingException;
 import com.homebanking.port.in.transfer.ProcessTransferInputPort;
 import com.homebanking.port.out.transfer.TransferProcessorOutputPort;
+import com.homebanking.port.out.transfer.TransferProcessorOutputPort.SubmissionResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RequiredArgsConstructor
 @Slf4j
 public class ProcessTransferUseCaseImpl implements ProcessTransferInputPort {
 
+    private static final String REJECTED_BY_PROCESSOR = "Rechazada por el procesador externo";
+
     private final TransferProcessorOutputPort transferProcessor;
     private final TransferMapper transferMapper;
     private final TransferStateTransitionService stateService;
@@ -36,6 +44,76 @@ public class ProcessTransferUseCaseImpl implements ProcessTransferInputPort {
         return transferMapper.toDto(finalizedTransfer);
     }
 
+    @Override
+    public List<TransferOutputResponse> processTransfers(List<UUID> transferIds) {
+        // 1) Prepare each transfer in its own transaction; failures don't stop the chunk.
+        List<Transfer> prepared = new ArrayList<>(transferIds.size());
+        for (UUID transferId : transferIds) {
+            try {
+                prepared.add(stateService.prepareForProcessing(transferId));
+            } catch (RuntimeException ex) {
+                log.warn("Transferencia id={} no pudo prepararse, se omite del lote: {}",
+                        transferId, ex.getMessage());
+            }
+        }
+        if (prepared.isEmpty()) {
+            return List.of();
+        }
+
+        // 2) Single external call for the whole chunk.
+        Map<UUID, TransferProcessingResult> results = executeExternalProcessing(prepared);
+
+        // 3) Persist all results in one transaction, credits summed per destination.
+        Map<UUID, TransferProcessingResult> finalResults = new LinkedHashMap<>();
+        for (Transfer transfer : prepared) {
+            finalResults.put(transfer.getId(),
+                    results.getOrDefault(transfer.getId(), TransferProcessingResult.recoverableFailure()));
+        }
+        try {
+            return stateService.finalizeBatch(finalResults).stream()
+                    .map(transferMapper::toDto)
+                    .toList();
+        } catch (RuntimeException ex) {
+            log.warn("Finalizacion agrupada de {} transferencias fallo, se finaliza una por una: {}",
+                    finalResults.size(), ex.getMessage());
+        }
+
+        // 4) Fallback: each result in its own transaction, so one failure doesn't block the rest.
+        List<TransferOutputResponse> responses = new ArrayList<>(prepared.size());
+        for (Map.Entry<UUID, TransferProcessingResult> entry : finalResults.entrySet()) {
+            try {
+                responses.add(transferMapper.toDto(stateService.finalizeProcessing(entry.getKey(), entry.getValue())));
+            } catch (RuntimeException ex) {
+                // Queda PROCESSING con lease: el reaper la recupera al vencer
+                log.error("Error finalizando transferencia id={}: {}", entry.getKey(), ex.getMessage(), ex);
+            }
+        }
+        return responses;
+    }
+
+    private Map<UUID, TransferProcessingResult> executeExternalProcessing(List<Transfer> transfers) {
+        Map<UUID, TransferProcessingResult> results = new HashMap<>();
+        try {
+            for (SubmissionResult submission : transferProcessor.processTransfers(transfers)) {
+                results.put(submission.transferId(), mapToResult(submission));
+            }
+        } catch (TransferProcessingException ex) {
+            TransferProcessingResult result = mapToResult(false, ex);
+            transfers.forEach(transfer -> results.put(transfer.getId(), result));
+        }
+        return results;
+    }
+
+    private TransferProcessingResult mapToResult(SubmissionResult submission) {
+        return switch (submission.outcome()) {
+            case ACCEPTED -> TransferProcessingResult.success();
+            case RETRYABLE_FAILURE -> TransferProcessingResult.recoverableFailure();
+            case NOT_SUBMITTED -> TransferProcessingResult.notSubmitted();
+            case PERMANENT_FAILURE -> TransferProcessingResult.nonRecoverableFailure(
+                    submission.message() != null ? submission.message() : REJECTED_BY_PROCESSOR);
+        };
+    }
+
     private TransferProcessingResult executeExternalProcessing(Transfer transfer) {
         try {
             boolean processedSuccessfully = transferProcessor.processTransfer(transfer);
@@ -49,12 +127,12 @@ public class ProcessTransferUseCaseImpl implements ProcessTransferInputPort {
         if (success) {
             return TransferProcessingResult.success();
         }
+        if (error != null && !error.isSubmitted()) {
+            return TransferProcessingResult.notSubmitted();
+        }
         if (error != null && !error.isRecoverable()) {
             return TransferProcessingResult.nonRecoverableFailure(error.getMessage());
         }
         return TransferProcessingResult.recoverableFailure();
     }
 }
-
-
-
@@ -0,0 +1,26 @@
+package com.homebanking.application.usecase.transfer;
+
+import com.homebanking.application.dto.transfer.request.CreateTransferBatchInputRequest;
+import com.homebanking.application.dto.transfer.response.TransferBatchOutputResponse;
+import com.homebanking.application.service.account.AccountMutationSequencer;
+import com.homebanking.port.in.transfer.CreateTransferBatchInputPort;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Use Case: SequencedCreateTransferBatchUseCase
+
+ * Decorador: el lote debita una sola cuenta origen y se crea en su lane
+ * (AccountMutationSequencer), igual que una transferencia suelta. El caso
+ * de uso decorado abre la transacción ya dentro del lane.
+ */
+@RequiredArgsConstructor
+public class SequencedCreateTransferBatchUseCase implements CreateTransferBatchInputPort {
+
+    private final CreateTransferBatchInputPort delegate;
+    private final AccountMutationSequencer sequencer;
+
+    @Override
+    public TransferBatchOutputResponse createTransferBatch(CreateTransferBatchInputRequest request) {
+        return sequencer.execute(request.originAccountId(), () -> delegate.createTransferBatch(request));
+    }
+}
@@ -0,0 +1,26 @@
+package com.homebanking.application.usecase.transfer;
+
+import com.homebanking.application.dto.transfer.request.CreateTransferInputRequest;
+import com.homebanking.application.dto.transfer.response.TransferOutputResponse;
+import com.homebanking.application.service.account.AccountMutationSequencer;
+import com.homebanking.port.in.transfer.CreateTransferInputPort;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Use Case: SequencedCreateTransferUseCase
+
+ * Decorador: la transferencia se crea en el lane de la cuenta origen
+ * (AccountMutationSequencer). El caso de uso decorado abre la transacción
+ * ya dentro del lane.
+ */
+@RequiredArgsConstructor
+public class SequencedCreateTransferUseCase implements CreateTransferInputPort {
+
+    private final CreateTransferInputPort delegate;
+    private final AccountMutationSequencer sequencer;
+
+    @Override
+    public TransferOutputResponse createTransfer(CreateTransferInputRequest request) {
+        return sequencer.execute(request.originAccountId(), () -> delegate.createTransfer(request));
+    }
+}
@@ -0,0 +1,54 @@
+package com.homebanking.config;
+
+import com.homebanking.application.service.account.AccountMutationSequencer;
+import com.homebanking.application.service.account.LedgerCompactionService;
+import com.homebanking.application.usecase.account.EnableStripedBalanceUseCaseImpl;
+import com.homebanking.application.usecase.account.GetAccountBalanceAtUseCaseImpl;
+import com.homebanking.port.in.account.EnableStripedBalanceInputPort;
+import com.homebanking.port.in.account.GetAccountBalanceAtInputPort;
+import com.homebanking.port.out.account.AccountLedger;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class AccountConfig {
+
+    @Bean
+    public EnableStripedBalanceInputPort enableStripedBalanceUseCase(AccountRepository accountRepository) {
+        return new EnableStripedBalanceUseCaseImpl(accountRepository);
+    }
+
+    @Bean
+    public GetAccountBalanceAtInputPort getAccountBalanceAtUseCase(
+            AccountRepository accountRepository,
+            UserRepository userRepository,
+            AccountLedger accountLedger) {
+        return new GetAccountBalanceAtUseCaseImpl(accountRepository, userRepository, accountLedger);
+    }
+
+    /**
+     * Bean: AccountMutationSequencer
+
+     * Lanes de un solo escritor para depósitos y transferencias (sueltas y
+     * en lote) de una misma cuenta. lanes=0 lo desactiva (cada request en
+     * su hilo). Menos lanes que conexiones en el pool de Hikari.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public AccountMutationSequencer accountMutationSequencer(
+            @Value("${account.sequencer.lanes:8}") int lanes) {
+        return new AccountMutationSequencer(lanes);
+    }
+
+    @Bean
+    public LedgerCompactionService ledgerCompactionService(
+            AccountLedger accountLedger,
+            @Value("${account.ledger.compaction.lag:60000}") long lagMillis,
+            @Value("${account.ledger.compaction.chunk-size:500}") int chunkSize) {
+        return new LedgerCompactionService(accountLedger, Duration.ofMillis(lagMillis), chunkSize);
+    }
+}
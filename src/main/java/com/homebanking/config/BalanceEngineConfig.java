@@ -0,0 +1,64 @@
+package com.homebanking.config;
+
+import com.homebanking.adapter.out.balance.BalanceEngine;
+import com.homebanking.adapter.out.balance.BalanceEngineAccountRepository;
+import com.homebanking.adapter.out.balance.BalanceEngineSettings;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.account.BalanceProjection;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuración: motor de saldos en memoria (opcional, para picos de carga).
+
+ * Con account.balance-engine.enabled=true el AccountRepository primario
+ * pasa a ser BalanceEngineAccountRepository: saldos en memoria + journal,
+ * la base se actualiza por proyección asíncrona. Sin la propiedad, nada
+ * de esto se instancia.
+ */
+@Configuration
+@ConditionalOnProperty(name = "account.balance-engine.enabled", havingValue = "true")
+public class BalanceEngineConfig {
+
+    /**
+     * Bean: BalanceEngine
+
+     * start recupera snapshot + journal antes de aceptar tráfico; stop
+     * proyecta lo pendiente y deja un snapshot.
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public BalanceEngine balanceEngine(
+            BalanceProjection balanceProjection,
+            @Value("${account.balance-engine.directory:data/balance-engine}") String directory,
+            @Value("${account.balance-engine.segment-size:67108864}") int segmentSize,
+            @Value("${account.balance-engine.expected-accounts:100000}") int expectedAccounts,
+            @Value("${account.balance-engine.projection-interval:200}") long projectionIntervalMillis,
+            @Value("${account.balance-engine.projection-batch-size:1000}") int projectionBatchSize,
+            @Value("${account.balance-engine.snapshot-interval:300000}") long snapshotIntervalMillis) {
+        return new BalanceEngine(
+                new BalanceEngineSettings(
+                        Path.of(directory),
+                        segmentSize,
+                        expectedAccounts,
+                        Duration.ofMillis(projectionIntervalMillis),
+                        projectionBatchSize,
+                        Duration.ofMillis(snapshotIntervalMillis)),
+                balanceProjection);
+    }
+
+    @Bean
+    @Primary
+    public AccountRepository balanceEngineAccountRepository(
+            @Qualifier("accountPersistenceAdapter") AccountRepository accountPersistenceAdapter,
+            BalanceEngine balanceEngine,
+            BalanceProjection balanceProjection) {
+        return new BalanceEngineAccountRepository(accountPersistenceAdapter, balanceEngine, balanceProjection);
+    }
+}
@@ -1,11 +1,14 @@
 package com.homebanking.config;
 
+import com.homebanking.application.service.account.AccountMutationSequencer;
 import com.homebanking.application.usecase.account.DepositAccountUseCaseImpl;
+import com.homebanking.application.usecase.account.SequencedDepositAccountUseCase;
 import com.homebanking.port.in.account.DepositAccountInputPort;
 import com.homebanking.port.out.account.AccountRepository;
 import com.homebanking.port.out.user.UserRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 
 @Configuration
@@ -13,11 +16,22 @@ import org.springframework.context.annotation.Profile;
 public class DevAccountConfig {
 
     @Bean
-    public DepositAccountInputPort depositAccountUseCase(
+    public DepositAccountUseCaseImpl depositAccountUseCaseImpl(
             AccountRepository accountRepository,
             UserRepository userRepository) {
         return new DepositAccountUseCaseImpl(accountRepository, userRepository);
     }
+
+    /**
+     * El depósito se aplica en el lane de la cuenta (AccountMutationSequencer).
+     */
+    @Bean
+    @Primary
+    public DepositAccountInputPort depositAccountUseCase(
+            DepositAccountUseCaseImpl depositAccountUseCaseImpl,
+            AccountMutationSequencer accountMutationSequencer) {
+        return new SequencedDepositAccountUseCase(depositAccountUseCaseImpl, accountMutationSequencer);
+    }
 }
 
 
@@ -0,0 +1,34 @@
+package com.homebanking.config;
+
+import com.homebanking.application.service.event.OutboxRelayService;
+import com.homebanking.port.out.event.EventOutbox;
+import com.homebanking.port.out.event.EventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * Config: OutboxConfig
+
+ * Configuracion del transactional outbox.
+
+ * Responsabilidades:
+ * ? Instanciar el relay que entrega eventos del outbox a los listeners
+ */
+@Configuration
+public class OutboxConfig {
+
+    /**
+     * Bean: OutboxRelayService
+
+     * Publica los eventos persistidos via EventPublisher (eventos de Spring),
+     * asi los listeners existentes no cambian.
+     */
+    @Bean
+    public OutboxRelayService outboxRelayService(
+            EventOutbox eventOutbox,
+            EventPublisher eventPublisher,
+            @Value("${outbox.relay.batch-size:200}") int batchSize) {
+        return new OutboxRelayService(eventOutbox, eventPublisher, batchSize);
+    }
+}
@@ -15,6 +15,11 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class PaymentConfig {
 
+    /**
+     * Sin lane de cuenta (AccountMutationSequencer): el pago llama al
+     * biller externo y esa espera no puede ocupar un lane. La carrera con
+     * otros débitos la resuelve el débito condicionado (saveDebit).
+     */
     @Bean
     public PayBillInputPort payBillInputPort(
             BillPaymentRepository billPaymentRepository,
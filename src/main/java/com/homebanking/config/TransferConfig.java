@@ -1,24 +1,60 @@
 package com.homebanking.config;
 
+import com.homebanking.adapter.out.external.payment.resilience.Bulkhead;
+import com.homebanking.adapter.out.external.payment.resilience.CircuitBreaker;
 import com.homebanking.application.mapper.TransferMapper;
+import com.homebanking.application.service.account.AccountMutationSequencer;
+import com.homebanking.application.service.transfer.AdaptiveBatchController;
+import com.homebanking.application.service.transfer.AdaptiveBatchSettings;
+import com.homebanking.application.service.transfer.DispatchLane;
+import com.homebanking.application.service.transfer.ProcessingLeaseSettings;
+import com.homebanking.application.service.transfer.ScheduledTransferService;
+import com.homebanking.application.service.transfer.StandingOrderGenerationService;
 import com.homebanking.application.service.transfer.TransferBatchProcessingService;
+import com.homebanking.application.service.transfer.TransferDispatchQueue;
+import com.homebanking.application.service.transfer.TransferLeaseReaperService;
 import com.homebanking.application.service.transfer.TransferStateTransitionService;
+import com.homebanking.application.usecase.transfer.CancelStandingOrderUseCaseImpl;
+import com.homebanking.application.usecase.transfer.CreateStandingOrderUseCaseImpl;
+import com.homebanking.application.usecase.transfer.CreateTransferBatchUseCaseImpl;
 import com.homebanking.application.usecase.transfer.CreateTransferUseCaseImpl;
+import com.homebanking.application.usecase.transfer.GenerateStandingOrderTransfersUseCaseImpl;
+import com.homebanking.application.usecase.transfer.GroupCommitCreateTransferUseCase;
+import com.homebanking.application.usecase.transfer.GetTransferBatchUseCaseImpl;
 import com.homebanking.application.usecase.transfer.GetTransferUseCaseImpl;
 import com.homebanking.application.usecase.transfer.ProcessTransferUseCaseImpl;
 import com.homebanking.application.usecase.transfer.RetryFailedTransferUseCaseImpl;
+import com.homebanking.application.usecase.transfer.SequencedCreateTransferBatchUseCase;
+import com.homebanking.application.usecase.transfer.SequencedCreateTransferUseCase;
+import com.homebanking.port.in.transfer.CancelStandingOrderInputPort;
+import com.homebanking.port.in.transfer.CreateStandingOrderInputPort;
+import com.homebanking.port.in.transfer.CreateTransferBatchInputPort;
 import com.homebanking.port.in.transfer.CreateTransferInputPort;
+import com.homebanking.port.in.transfer.GenerateStandingOrderTransfersInputPort;
+import com.homebanking.port.in.transfer.GetTransferBatchInputPort;
 import com.homebanking.port.in.transfer.GetTransferInputPort;
 import com.homebanking.port.in.transfer.ProcessTransferInputPort;
 import com.homebanking.port.in.transfer.RetryTransferInputPort;
 import com.homebanking.port.out.account.AccountRepository;
-import com.homebanking.port.out.event.EventPublisher;
+import com.homebanking.port.out.event.EventOutbox;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import com.homebanking.port.out.transfer.StandingOrderRepository;
+import com.homebanking.port.out.transfer.TransferBatchRepository;
 import com.homebanking.port.out.transfer.TransferProcessorOutputPort;
 import com.homebanking.port.out.transfer.TransferRepository;
 import com.homebanking.port.out.user.UserRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /*
  * Config: TransferConfig
@@ -44,18 +80,62 @@ public class TransferConfig {
 
      * Instancia el "use case" de crear transferencias.
      * Inyecta sus dependencias: repositories y ports.
+     * Con internal-settlement habilitado, las inmediatas entre cuentas
+     * propias se completan en el request, sin procesador externo.
+     * Es el bean transaccional: los controllers usan el decorador
+     * secuenciado (createTransferUseCase).
      */
     @Bean
-    public CreateTransferInputPort createTransferUseCase(
+    public CreateTransferUseCaseImpl createTransferUseCaseImpl(
             AccountRepository accountRepository,
             TransferRepository transferRepository,
-            EventPublisher eventPublisher,
-            TransferMapper transferMapper) {
+            EventOutbox eventOutbox,
+            TransferMapper transferMapper,
+            @Value("${transfer.internal-settlement.enabled:true}") boolean internalSettlementEnabled) {
         return new CreateTransferUseCaseImpl(
                 accountRepository,
                 transferRepository,
-                eventPublisher,
-                transferMapper
+                eventOutbox,
+                transferMapper,
+                internalSettlementEnabled
+        );
+    }
+
+    /**
+     * Bean: CreateTransferInputPort (primario)
+
+     * Crea la transferencia en el lane de la cuenta origen; la transacción
+     * se abre dentro del lane (AccountMutationSequencer).
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "transfer.group-commit.enabled", havingValue = "false", matchIfMissing = true)
+    public CreateTransferInputPort createTransferUseCase(
+            CreateTransferUseCaseImpl createTransferUseCaseImpl,
+            AccountMutationSequencer accountMutationSequencer) {
+        return new SequencedCreateTransferUseCase(createTransferUseCaseImpl, accountMutationSequencer);
+    }
+
+    /**
+     * Bean: CreateTransferInputPort (primario, con group commit)
+
+     * Reemplaza al decorador secuenciado: "writers" hilos juntan hasta
+     * "max-batch-size" altas o lo que llegue en "max-delay" (ms) y las
+     * confirman con un solo commit. Cada writer usa una conexión por vez.
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @Primary
+    @ConditionalOnProperty(name = "transfer.group-commit.enabled", havingValue = "true")
+    public GroupCommitCreateTransferUseCase groupCommitCreateTransferUseCase(
+            CreateTransferUseCaseImpl createTransferUseCaseImpl,
+            @Value("${transfer.group-commit.writers:4}") int writers,
+            @Value("${transfer.group-commit.max-batch-size:32}") int maxBatchSize,
+            @Value("${transfer.group-commit.max-delay:2}") long maxDelayMillis) {
+        return new GroupCommitCreateTransferUseCase(
+                createTransferUseCaseImpl,
+                writers,
+                maxBatchSize,
+                Duration.ofMillis(maxDelayMillis)
         );
     }
 
@@ -72,6 +152,60 @@ public class TransferConfig {
                 accountRepository);
     }
 
+    /**
+     * Bean: CreateTransferBatchInputPort
+
+     * Alta masiva de transferencias. "transfer.batch.max-items" acota el
+     * tamaño del lote (se procesa en una sola transacción). Bean
+     * transaccional; el controller usa el decorador secuenciado.
+     */
+    @Bean
+    public CreateTransferBatchUseCaseImpl createTransferBatchUseCaseImpl(
+            AccountRepository accountRepository,
+            TransferRepository transferRepository,
+            TransferBatchRepository transferBatchRepository,
+            EventOutbox eventOutbox,
+            TransferMapper transferMapper,
+            UserRepository userRepository,
+            @Value("${transfer.batch.max-items:10000}") int maxItems) {
+        return new CreateTransferBatchUseCaseImpl(
+                accountRepository,
+                transferRepository,
+                transferBatchRepository,
+                eventOutbox,
+                transferMapper,
+                userRepository,
+                maxItems
+        );
+    }
+
+    /**
+     * Bean: CreateTransferBatchInputPort (primario)
+
+     * El lote se crea en el lane de su cuenta origen
+     * (AccountMutationSequencer), igual que el alta individual.
+     */
+    @Bean
+    @Primary
+    public CreateTransferBatchInputPort createTransferBatchUseCase(
+            CreateTransferBatchUseCaseImpl createTransferBatchUseCaseImpl,
+            AccountMutationSequencer accountMutationSequencer) {
+        return new SequencedCreateTransferBatchUseCase(createTransferBatchUseCaseImpl, accountMutationSequencer);
+    }
+
+    @Bean
+    public GetTransferBatchInputPort getTransferBatchUseCase(
+            TransferBatchRepository transferBatchRepository,
+            TransferMapper transferMapper,
+            UserRepository userRepository,
+            AccountRepository accountRepository) {
+        return new GetTransferBatchUseCaseImpl(
+                transferBatchRepository,
+                transferMapper,
+                userRepository,
+                accountRepository);
+    }
+
     /**
      * Bean: TransferProcessorService
 
@@ -107,22 +241,309 @@ public class TransferConfig {
         );
     }
 
+    /**
+     * Bean: transferWorkerExecutor
+
+     * Worker pool del procesamiento batch.
+     * - virtual-threads=true: un virtual thread por chunk (la concurrencia
+     *   real la acota el semaforo del servicio con "transfer.processor.concurrency")
+     * - virtual-threads=false: pool fijo de platform threads de tamano "concurrency"
+
+     * Nota: cada chunk en vuelo usa una conexion a la vez (claim, prepare y
+     * finalize en transacciones cortas y secuenciales), dimensionar Hikari en
+     * base a "concurrency".
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService transferWorkerExecutor(
+            @Value("${transfer.processor.concurrency:1}") int concurrency,
+            @Value("${transfer.processor.virtual-threads:true}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("transfer-worker-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(
+                Math.max(1, concurrency),
+                Thread.ofPlatform().name("transfer-worker-", 0).factory());
+    }
+
+    /**
+     * Bean: ProcessingLeaseSettings
+
+     * worker-id identifica a esta instancia en los leases de claim; si no se
+     * configura se usa el nombre del runtime (pid@host), unico por proceso.
+     */
+    @Bean
+    public ProcessingLeaseSettings processingLeaseSettings(
+            @Value("${transfer.processor.worker-id:}") String workerId,
+            @Value("${transfer.processor.lease-duration:60000}") long leaseDurationMillis) {
+        return new ProcessingLeaseSettings(
+                workerId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : workerId,
+                Duration.ofMillis(leaseDurationMillis)
+        );
+    }
+
+    /**
+     * Bean: transferProcessorCircuitBreaker
+
+     * Ventana deslizante de las últimas "window-size" llamadas al procesador.
+     * Abre con al menos "minimum-calls" y tasa de error >= "failure-rate-threshold";
+     * tras "open-duration" (ms) deja pasar una llamada de prueba.
+     */
+    @Bean
+    public CircuitBreaker transferProcessorCircuitBreaker(
+            TransferMetrics transferMetrics,
+            @Value("${transfer.processor.circuit-breaker.window-size:50}") int windowSize,
+            @Value("${transfer.processor.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${transfer.processor.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${transfer.processor.circuit-breaker.open-duration:30000}") long openDurationMillis) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                "transferProcessor",
+                windowSize,
+                minimumCalls,
+                failureRateThreshold,
+                Duration.ofMillis(openDurationMillis)
+        );
+        transferMetrics.registerProcessorCircuitState(() -> circuitBreaker.getState().ordinal());
+        return circuitBreaker;
+    }
+
+    /**
+     * Bean: transferProcessorBulkhead
+
+     * Tope de llamadas en vuelo contra el procesador externo; las llamadas
+     * síncronas esperan a lo sumo "max-wait" (ms) por un lugar.
+     */
+    @Bean
+    public Bulkhead transferProcessorBulkhead(
+            TransferMetrics transferMetrics,
+            @Value("${transfer.processor.bulkhead.max-concurrent:32}") int maxConcurrent,
+            @Value("${transfer.processor.bulkhead.max-wait:100}") long maxWaitMillis) {
+        Bulkhead bulkhead = new Bulkhead(maxConcurrent, Duration.ofMillis(maxWaitMillis));
+        transferMetrics.registerProcessorBulkheadAvailable(bulkhead::availablePermits);
+        return bulkhead;
+    }
+
     @Bean
     public TransferBatchProcessingService transferBatchProcessingService(
             TransferRepository transferRepository,
             ProcessTransferInputPort processTransferUseCase,
-            RetryTransferInputPort retryFailedTransferUseCase,
-            @Value("${transfer.processor.max-batch-size:100}") int maxBatchSize) {
+            @Value("${transfer.processor.max-batch-size:100}") int maxBatchSize,
+            @Value("${transfer.processor.submit-chunk-size:20}") int submitChunkSize,
+            ExecutorService transferWorkerExecutor,
+            @Value("${transfer.processor.concurrency:1}") int concurrency,
+            ProcessingLeaseSettings processingLeaseSettings) {
         return new TransferBatchProcessingService(
                 transferRepository,
                 processTransferUseCase,
-                retryFailedTransferUseCase,
+                maxBatchSize,
+                submitChunkSize,
+                transferWorkerExecutor,
+                concurrency,
+                processingLeaseSettings
+        );
+    }
+
+    /**
+     * Bean: AdaptiveBatchController
+
+     * Parte de max-batch-size, concurrency y retry.fixed-delay y se mueve
+     * dentro de los límites "transfer.processor.adaptive.*".
+     * Con adaptive.enabled=false los límites colapsan sobre esos valores.
+
+     * Nota: con virtual-threads=false el pool fijo tiene "concurrency"
+     * hilos; una max-concurrency mayor solo encola chunks.
+     */
+    @Bean
+    public AdaptiveBatchController adaptiveBatchController(
+            TransferMetrics transferMetrics,
+            @Value("${transfer.processor.max-batch-size:100}") int maxBatchSize,
+            @Value("${transfer.processor.concurrency:1}") int concurrency,
+            @Value("${transfer.processor.retry.fixed-delay:30000}") long retryDelayMillis,
+            @Value("${transfer.processor.adaptive.enabled:true}") boolean enabled,
+            @Value("${transfer.processor.adaptive.min-batch-size:10}") int minBatchSize,
+            @Value("${transfer.processor.adaptive.max-batch-size:500}") int adaptiveMaxBatchSize,
+            @Value("${transfer.processor.adaptive.batch-increment:20}") int batchIncrement,
+            @Value("${transfer.processor.adaptive.min-concurrency:1}") int minConcurrency,
+            @Value("${transfer.processor.adaptive.max-concurrency:16}") int maxConcurrency,
+            @Value("${transfer.processor.adaptive.min-poll-delay:1000}") long minPollDelayMillis,
+            @Value("${transfer.processor.adaptive.max-poll-delay:60000}") long maxPollDelayMillis,
+            @Value("${transfer.processor.adaptive.target-call-latency:2000}") long targetCallLatencyMillis,
+            @Value("${transfer.processor.adaptive.max-error-rate:0.2}") double maxErrorRate) {
+        Duration retryDelay = Duration.ofMillis(retryDelayMillis);
+        AdaptiveBatchSettings settings = enabled
+                ? new AdaptiveBatchSettings(
+                        minBatchSize,
+                        adaptiveMaxBatchSize,
+                        batchIncrement,
+                        minConcurrency,
+                        maxConcurrency,
+                        Duration.ofMillis(minPollDelayMillis),
+                        Duration.ofMillis(maxPollDelayMillis),
+                        Duration.ofMillis(targetCallLatencyMillis),
+                        maxErrorRate)
+                : AdaptiveBatchSettings.fixed(maxBatchSize, concurrency, retryDelay);
+        return new AdaptiveBatchController(settings, maxBatchSize, concurrency, retryDelay, transferMetrics);
+    }
+
+    /**
+     * Bean: TransferDispatchQueue
+
+     * Cola en memoria con dedupe que alimenta el worker pool.
+     * El hilo dispatcher arranca con el contexto y se detiene al cerrarlo.
+
+     * Lanes: "retail" (monto <= retail.max-amount) tiene prioridad y
+     * retail.share de "concurrency" en chunks en vuelo; "bulk" toma el resto.
+     * retail.max-amount <= 0 deja un único lane.
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public TransferDispatchQueue transferDispatchQueue(
+            TransferRepository transferRepository,
+            TransferBatchProcessingService transferBatchProcessingService,
+            TransferMetrics transferMetrics,
+            ExecutorService transferWorkerExecutor,
+            ProcessingLeaseSettings processingLeaseSettings,
+            @Value("${transfer.processor.concurrency:1}") int concurrency,
+            @Value("${transfer.dispatch.capacity:10000}") int capacity,
+            @Value("${transfer.processor.submit-chunk-size:20}") int submitChunkSize,
+            @Value("${transfer.processor.max-batch-size:100}") int maxBatchSize,
+            @Value("${transfer.dispatch.lanes.retail.max-amount:100000}") BigDecimal retailMaxAmount,
+            @Value("${transfer.dispatch.lanes.retail.share:0.5}") double retailShare) {
+        List<DispatchLane> lanes;
+        if (retailMaxAmount.signum() <= 0) {
+            lanes = List.of(DispatchLane.unbounded("default", concurrency));
+        } else {
+            int retailSlots = Math.max(1, (int) Math.round(concurrency * retailShare));
+            lanes = List.of(
+                    new DispatchLane("retail", retailMaxAmount, retailSlots),
+                    DispatchLane.unbounded("bulk", Math.max(1, concurrency - retailSlots)));
+        }
+        return new TransferDispatchQueue(
+                transferRepository,
+                transferBatchProcessingService,
+                transferMetrics,
+                transferWorkerExecutor,
+                processingLeaseSettings,
+                lanes,
+                capacity,
+                submitChunkSize,
                 maxBatchSize
         );
     }
-}
 
+    /**
+     * Bean: TransferLeaseReaperService
 
+     * Recupera transferencias PROCESSING cuyo lease vencio (nodo caido
+     * entre prepare y finalize).
+     */
+    @Bean
+    public TransferLeaseReaperService transferLeaseReaperService(
+            TransferRepository transferRepository,
+            TransferProcessorOutputPort transferProcessor,
+            TransferStateTransitionService stateService,
+            TransferMetrics transferMetrics,
+            ProcessingLeaseSettings processingLeaseSettings,
+            @Value("${transfer.processor.max-batch-size:100}") int maxBatchSize) {
+        return new TransferLeaseReaperService(
+                transferRepository,
+                transferProcessor,
+                stateService,
+                transferMetrics,
+                processingLeaseSettings,
+                maxBatchSize
+        );
+    }
 
+    /**
+     * Bean: ScheduledTransferService
 
+     * Timing wheel de transferencias agendadas. Arranca con el contexto
+     * (carga la primera ventana) y se detiene al cerrarlo.
+     * - tick x wheel-size = horizonte del primer nivel; lo que cae más
+     *   lejos va a niveles superiores de la misma rueda
+     * - load-window debe ser mayor que "transfer.scheduled.load-interval"
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ScheduledTransferService scheduledTransferService(
+            TransferRepository transferRepository,
+            TransferDispatchQueue transferDispatchQueue,
+            TransferMetrics transferMetrics,
+            @Value("${transfer.scheduled.tick:100}") long tickMillis,
+            @Value("${transfer.scheduled.wheel-size:600}") int wheelSize,
+            @Value("${transfer.scheduled.load-window:3600000}") long loadWindowMillis,
+            @Value("${transfer.scheduled.load-batch-size:10000}") int loadBatchSize) {
+        return new ScheduledTransferService(
+                transferRepository,
+                transferDispatchQueue,
+                transferMetrics,
+                Duration.ofMillis(tickMillis),
+                wheelSize,
+                Duration.ofMillis(loadWindowMillis),
+                loadBatchSize
+        );
+    }
+
+    @Bean
+    public CreateStandingOrderInputPort createStandingOrderUseCase(
+            AccountRepository accountRepository,
+            StandingOrderRepository standingOrderRepository,
+            UserRepository userRepository,
+            TransferMapper transferMapper) {
+        return new CreateStandingOrderUseCaseImpl(
+                accountRepository,
+                standingOrderRepository,
+                userRepository,
+                transferMapper);
+    }
+
+    @Bean
+    public CancelStandingOrderInputPort cancelStandingOrderUseCase(
+            StandingOrderRepository standingOrderRepository,
+            AccountRepository accountRepository,
+            UserRepository userRepository,
+            TransferMapper transferMapper) {
+        return new CancelStandingOrderUseCaseImpl(
+                standingOrderRepository,
+                accountRepository,
+                userRepository,
+                transferMapper);
+    }
 
+    @Bean
+    public GenerateStandingOrderTransfersInputPort generateStandingOrderTransfersUseCase(
+            StandingOrderRepository standingOrderRepository,
+            AccountRepository accountRepository,
+            TransferRepository transferRepository,
+            EventOutbox eventOutbox) {
+        return new GenerateStandingOrderTransfersUseCaseImpl(
+                standingOrderRepository,
+                accountRepository,
+                transferRepository,
+                eventOutbox);
+    }
+
+    /**
+     * Bean: StandingOrderGenerationService
+
+     * Generación masiva de órdenes permanentes en chunks de "chunk-size"
+     * cuentas, con hasta "parallelism" chunks (transacciones) en vuelo
+     * sobre el worker pool. Dimensionar Hikari en base a "parallelism".
+     */
+    @Bean
+    public StandingOrderGenerationService standingOrderGenerationService(
+            StandingOrderRepository standingOrderRepository,
+            GenerateStandingOrderTransfersInputPort generateStandingOrderTransfersUseCase,
+            TransferMetrics transferMetrics,
+            ExecutorService transferWorkerExecutor,
+            @Value("${transfer.standing-order.chunk-size:500}") int chunkSize,
+            @Value("${transfer.standing-order.parallelism:4}") int parallelism) {
+        return new StandingOrderGenerationService(
+                standingOrderRepository,
+                generateStandingOrderTransfersUseCase,
+                transferMetrics,
+                transferWorkerExecutor,
+                chunkSize,
+                parallelism
+        );
+    }
+}
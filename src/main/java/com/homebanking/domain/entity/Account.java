@@ -1,5 +1,6 @@
 package com.homebanking.domain.entity;
 
+import com.homebanking.domain.enums.LedgerDirection;
 import com.homebanking.domain.exception.account.InsufficientFundsException;
 import com.homebanking.domain.exception.account.InvalidAccountDataException;
 import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
@@ -7,28 +8,70 @@ import com.homebanking.domain.exception.transfer.SameAccountTransferException;
 import com.homebanking.domain.util.DomainErrorMessages;
 import com.homebanking.domain.valueobject.account.AccountAlias;
 import com.homebanking.domain.valueobject.account.AccountBalance;
+import com.homebanking.domain.valueobject.account.LedgerEntry;
 import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.common.Money;
 import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
 import com.homebanking.domain.valueobject.transfer.TransferAmount;
 import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.domain.valueobject.transfer.TransferInstruction;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * AGGREGATE ROOT: Account
+ *
+ * Saldo en stripes (opt-in, cuentas receptoras "calientes"):
+ * • balance es siempre el total visible de la cuenta
+ * • stripedCredits es la parte del total que al cargar estaba repartida
+ *   en sub-saldos de créditos; el resto es el saldo consolidado
+ * • balanceStripes == 0 → saldo en una sola fila (modo normal)
+ *
+ * Ledger:
+ * • cada débito y crédito deja un movimiento pendiente; persistencia
+ *   los inserta junto con el saldo y los limpia (como los eventos de
+ *   dominio de Transfer)
+ * • los pendientes viven en PendingLedger (centavos y micros, sin
+ *   objetos por movimiento); getLedgerEntries() arma los LedgerEntry
+ *
+ * version: versión optimista con la que se cargó (null = nunca persistida);
+ * persistencia la usa en el WHERE del UPDATE, sin releer la fila
+ *
+ * Montos: el saldo vive en centavos (long) y débitos y créditos operan
+ * sobre él sin crear objetos; las variantes con BigDecimal convierten una
+ * vez al entrar y getBalance() arma el AccountBalance al leerlo (bordes)
+ *
+ * Reconstitución:
+ * • withId / withStripedBalance validan todo (datos de afuera)
+ * • reconstruct confía en la fila: CBU, alias y saldo se validaron al
+ *   escribirse; solo los usan los adapters de persistencia
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Account {
 
+    public static final int MIN_BALANCE_STRIPES = 2;
+    public static final int MAX_BALANCE_STRIPES = 64;
+
     private UUID id;
     private UUID userId;
     private Cbu cbu;
     private AccountAlias alias;
-    private AccountBalance balance;
+    @Getter(AccessLevel.NONE)
+    private long balanceMinor;
     private LocalDateTime createdAt;
+    private int balanceStripes;
+    @Getter(AccessLevel.NONE)
+    private long stripedCreditsMinor;
+    @Getter(AccessLevel.NONE)
+    private final PendingLedger pendingLedger = new PendingLedger();
+    private Long version;
 
     // To create a new card (without ID)
     public Account(UUID userId, String cbu, String alias, BigDecimal balance) {
@@ -37,23 +80,84 @@ public class Account {
         this.userId = userId;
         this.cbu = createCbu(cbu);
         this.alias = AccountAlias.of(alias);
-        this.balance = AccountBalance.of(balance);
+        this.balanceMinor = AccountBalance.of(balance).minor();
         this.createdAt = LocalDateTime.now();
+        if (this.balanceMinor > 0) {
+            record(LedgerDirection.CREDIT, this.balanceMinor, LedgerEntry.OPENING_REFERENCE);
+        }
     }
 
     // Factory Method: Reconstitution from Persistence
     public static Account withId(UUID id, UUID userId, String cbu, String alias, BigDecimal balance, LocalDateTime createdAt) {
+        return withId(id, userId, cbu, alias, balance, createdAt, null);
+    }
+
+    /**
+     * @param version Versión optimista persistida
+     */
+    public static Account withId(UUID id, UUID userId, String cbu, String alias, BigDecimal balance,
+                                 LocalDateTime createdAt, Long version) {
         validateStructuralData(id, createdAt);
         validateAccountData(userId, cbu, alias, balance);
-        return hydrate(id, userId, createCbu(cbu), AccountAlias.of(alias), AccountBalance.of(balance), createdAt);
+        Account account = hydrate(id, userId, createCbu(cbu), AccountAlias.of(alias), AccountBalance.of(balance).minor(), createdAt);
+        account.version = version;
+        return account;
+    }
+
+    /**
+     * Reconstitución de una cuenta con saldo en stripes.
+     *
+     * @param balance Total (consolidado + stripedCredits)
+     * @param stripedCredits Suma de los sub-saldos al momento de cargar
+     */
+    public static Account withStripedBalance(UUID id, UUID userId, String cbu, String alias, BigDecimal balance,
+                                             LocalDateTime createdAt, int balanceStripes, BigDecimal stripedCredits) {
+        return withStripedBalance(id, userId, cbu, alias, balance, createdAt, balanceStripes, stripedCredits, null);
+    }
+
+    public static Account withStripedBalance(UUID id, UUID userId, String cbu, String alias, BigDecimal balance,
+                                             LocalDateTime createdAt, int balanceStripes, BigDecimal stripedCredits,
+                                             Long version) {
+        Account account = withId(id, userId, cbu, alias, balance, createdAt, version);
+        validateBalanceStripes(balanceStripes);
+        account.balanceStripes = balanceStripes;
+        account.stripedCreditsMinor = Money.toMinor(stripedCredits);
+        return account;
     }
-    private static Account hydrate(UUID id, UUID userId, Cbu cbu, AccountAlias alias, AccountBalance balance, LocalDateTime createdAt) {
+
+    /**
+     * Reconstitución desde una fila ya validada: sin regex ni rangos.
+     *
+     * @param balance Saldo persistido (DECIMAL(19, 2))
+     */
+    public static Account reconstruct(UUID id, UUID userId, String cbu, String alias, BigDecimal balance,
+                                      LocalDateTime createdAt, Long version) {
+        Account account = hydrate(id, userId, Cbu.reconstruct(cbu), AccountAlias.reconstruct(alias),
+                Money.toMinor(balance), createdAt);
+        account.version = version;
+        return account;
+    }
+
+    /**
+     * @see #reconstruct(UUID, UUID, String, String, BigDecimal, LocalDateTime, Long)
+     * @see #withStripedBalance(UUID, UUID, String, String, BigDecimal, LocalDateTime, int, BigDecimal, Long)
+     */
+    public static Account reconstruct(UUID id, UUID userId, String cbu, String alias, BigDecimal balance,
+                                      LocalDateTime createdAt, int balanceStripes, BigDecimal stripedCredits,
+                                      Long version) {
+        Account account = reconstruct(id, userId, cbu, alias, balance, createdAt, version);
+        account.balanceStripes = balanceStripes;
+        account.stripedCreditsMinor = Money.toMinor(stripedCredits);
+        return account;
+    }
+
+    private static Account hydrate(UUID id, UUID userId, Cbu cbu, AccountAlias alias, long balanceMinor, LocalDateTime createdAt) {
         Account account = new Account();
         account.id = id;
         account.userId = userId;
         account.cbu = cbu;
         account.alias = alias;
-        account.balance = balance;
+        account.balanceMinor = balanceMinor;
         account.createdAt = createdAt;
         return account;
     }
@@ -61,23 +165,86 @@ public class Account {
     // --- BUSINESS METHODS ---
 
     public void deposit(BigDecimal amount) {
+        deposit(amount, null);
+    }
+
+    /**
+     * @param reference Clave que concilia el movimiento (ver LedgerEntry)
+     */
+    public void deposit(BigDecimal amount, String reference) {
+        deposit(toMoney(amount, DomainErrorMessages.DEPOSIT_AMOUNT_MUST_BE_POSITIVE), reference);
+    }
+
+    public void deposit(Money amount, String reference) {
         validatePositiveAmount(amount, DomainErrorMessages.DEPOSIT_AMOUNT_MUST_BE_POSITIVE);
-        BigDecimal newBalance = this.balance.value().add(amount);
-        this.balance = AccountBalance.of(newBalance);
+        this.balanceMinor = Math.addExact(this.balanceMinor, amount.minor());
+        record(LedgerDirection.CREDIT, amount.minor(), reference);
+    }
+
+    /**
+     * Crédito entrante (transferencia recibida). Con saldo en stripes se
+     * persiste en una stripe: suma al total y a stripedCredits, el
+     * consolidado no cambia. Sin stripes equivale a deposit.
+     */
+    public void credit(BigDecimal amount, String reference) {
+        credit(toMoney(amount, DomainErrorMessages.DEPOSIT_AMOUNT_MUST_BE_POSITIVE), reference);
+    }
+
+    public void credit(Money amount, String reference) {
+        deposit(amount, reference);
+        if (hasStripedBalance()) {
+            this.stripedCreditsMinor = Math.addExact(this.stripedCreditsMinor, amount.minor());
+        }
     }
 
     public void debit(BigDecimal amount) {
+        debit(amount, null);
+    }
+
+    public void debit(BigDecimal amount, String reference) {
+        debit(toMoney(amount, DomainErrorMessages.DEBIT_AMOUNT_MUST_BE_POSITIVE), reference);
+    }
+
+    public void debit(Money amount, String reference) {
         validatePositiveAmount(amount, DomainErrorMessages.DEBIT_AMOUNT_MUST_BE_POSITIVE);
-        if (this.balance.value().compareTo(amount) < 0) {
+        withdraw(amount.minor());
+        record(LedgerDirection.DEBIT, amount.minor(), reference);
+    }
+
+    /**
+     * Movimientos pendientes de persistir, en el orden en que ocurrieron.
+     * Arma los LedgerEntry en cada llamada: usarlo en el borde.
+     */
+    public List<LedgerEntry> getLedgerEntries() {
+        return pendingLedger.entries();
+    }
+
+    public boolean hasLedgerEntries() {
+        return !pendingLedger.isEmpty();
+    }
+
+    public void clearLedgerEntries() {
+        pendingLedger.clear();
+    }
+
+    private void record(LedgerDirection direction, long amountMinor, String reference) {
+        pendingLedger.add(direction, amountMinor, reference);
+    }
+
+    private void withdraw(long amountMinor) {
+        if (this.balanceMinor < amountMinor) {
             throw new InsufficientFundsException(
                     DomainErrorMessages.INSUFFICIENT_FUNDS,
                     this.id,
-                    amount,
-                    this.balance.value()
+                    Money.toBigDecimal(amountMinor),
+                    Money.toBigDecimal(this.balanceMinor)
             );
         }
-        BigDecimal newBalance = this.balance.value().subtract(amount);
-        this.balance = AccountBalance.of(newBalance);
+        this.balanceMinor -= amountMinor;
+    }
+
+    public AccountBalance getBalance() {
+        return AccountBalance.ofMinor(balanceMinor);
     }
 
     public Transfer initiateTransferTo(Cbu targetCbu,
@@ -92,7 +259,7 @@ public class Account {
         }
 
         // 2. Modificación de estado (Solo modifico MI estado)
-        this.debit(amount.value());
+        this.debit(amount.amount(), idempotencyKey.value());
 
         // 3. Creación del nuevo Agregado (Transfer)
         return Transfer.create(
@@ -104,8 +271,94 @@ public class Account {
         );
     }
 
+    /**
+     * Transferencia agendada: el débito ocurre ahora (los fondos quedan
+     * reservados) y la transferencia espera SCHEDULED hasta executeAt.
+     */
+    public Transfer scheduleTransferTo(Cbu targetCbu,
+                                       TransferAmount amount,
+                                       TransferDescription description,
+                                       IdempotencyKey idempotencyKey,
+                                       LocalDateTime executeAt) {
+        if (this.cbu.equals(targetCbu)) {
+            throw new SameAccountTransferException(DomainErrorMessages.TRANSFER_SAME_ACCOUNT);
+        }
+        Transfer transfer = Transfer.schedule(
+                this.getId(), targetCbu, amount, description, idempotencyKey, executeAt);
+
+        this.debit(amount.amount(), idempotencyKey.value());
+
+        return transfer;
+    }
+
+    /**
+     * Lote de transferencias desde esta cuenta: un único débito por el total
+     * (o ninguno si falta saldo para el lote completo). En el ledger queda
+     * un movimiento por transferencia.
+     */
+    public List<Transfer> initiateTransfersTo(List<TransferInstruction> instructions) {
+        if (instructions.isEmpty()) {
+            return List.of();
+        }
+        long total = 0;
+        for (TransferInstruction instruction : instructions) {
+            if (this.cbu.equals(instruction.targetCbu())) {
+                throw new SameAccountTransferException(DomainErrorMessages.TRANSFER_SAME_ACCOUNT);
+            }
+            total = Math.addExact(total, instruction.amount().amount().minor());
+        }
+
+        withdraw(total);
+        instructions.forEach(instruction -> record(
+                LedgerDirection.DEBIT, instruction.amount().amount().minor(), instruction.idempotencyKey().value()));
+
+        return instructions.stream()
+                .map(instruction -> Transfer.create(
+                        this.getId(),
+                        instruction.targetCbu(),
+                        instruction.amount(),
+                        instruction.description(),
+                        instruction.idempotencyKey()
+                ))
+                .toList();
+    }
+
     // --- VALIDATIONS (Private Static) ---
 
+    /**
+     * Activa el saldo en stripes: los créditos se reparten en N sub-saldos
+     * en lugar de serializarse sobre una sola fila. El total no cambia.
+     */
+    public void enableStripedBalance(int stripes) {
+        validateBalanceStripes(stripes);
+        this.balanceStripes = stripes;
+    }
+
+    public boolean hasStripedBalance() {
+        return balanceStripes > 0;
+    }
+
+    /**
+     * Saldo fuera de las stripes. Puede quedar negativo tras un débito que
+     * usa créditos todavía no consolidados; persistencia lo rebalancea.
+     */
+    public BigDecimal consolidatedBalance() {
+        return Money.toBigDecimal(Math.subtractExact(balanceMinor, stripedCreditsMinor));
+    }
+
+    /**
+     * Parte del saldo que al cargar (más los créditos posteriores) está en stripes.
+     */
+    public BigDecimal getStripedCredits() {
+        return Money.toBigDecimal(stripedCreditsMinor);
+    }
+
+    private static void validateBalanceStripes(int stripes) {
+        if (stripes < MIN_BALANCE_STRIPES || stripes > MAX_BALANCE_STRIPES) {
+            throw new InvalidAccountDataException(DomainErrorMessages.ACCOUNT_BALANCE_STRIPES_INVALID);
+        }
+    }
+
     private static void validateStructuralData(UUID id, LocalDateTime createdAt) {
         if (id == null) {
             throw new InvalidAccountDataException(DomainErrorMessages.ID_REQUIRED);
@@ -125,12 +378,23 @@ public class Account {
         }
     }
 
-    private static void validatePositiveAmount(BigDecimal amount, String errorMessage) {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    private static void validatePositiveAmount(Money amount, String errorMessage) {
+        if (amount == null || amount.signum() <= 0) {
             throw new InvalidAccountDataException(errorMessage);
         }
     }
 
+    private static Money toMoney(BigDecimal amount, String errorMessage) {
+        if (amount == null) {
+            throw new InvalidAccountDataException(errorMessage);
+        }
+        try {
+            return Money.of(amount);
+        } catch (ArithmeticException ex) {
+            throw new InvalidAccountDataException(DomainErrorMessages.AMOUNT_SCALE_INVALID);
+        }
+    }
+
     private static void validateMandatoryFields(UUID userId, String cbu, String alias, BigDecimal balance) {
         if (userId == null) {
             throw new InvalidAccountDataException(DomainErrorMessages.USER_ID_REQUIRED);
@@ -3,6 +3,7 @@ package com.homebanking.domain.entity;
 import com.homebanking.domain.enums.BillPaymentStatus;
 import com.homebanking.domain.exception.payment.InvalidBillPaymentDataException;
 import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.domain.valueobject.common.Money;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,12 +20,13 @@ public class BillPayment {
     private UUID accountId;
     private String billerCode;
     private String reference;
-    private BigDecimal amount;
+    private Money amount;
     private String idempotencyKey;
     private BillPaymentStatus status;
     private String failureReason;
     private LocalDateTime createdAt;
     private LocalDateTime processedAt;
+    private Long version;                 // null = nunca persistido
 
     public static BillPayment create(
             UUID accountId,
@@ -38,7 +40,7 @@ public class BillPayment {
         payment.accountId = accountId;
         payment.billerCode = billerCode.trim().toUpperCase();
         payment.reference = reference.trim();
-        payment.amount = amount;
+        payment.amount = toMoney(amount);
         payment.idempotencyKey = idempotencyKey.trim();
         payment.status = BillPaymentStatus.PENDING;
         payment.createdAt = LocalDateTime.now();
@@ -56,6 +58,25 @@ public class BillPayment {
             String failureReason,
             LocalDateTime createdAt,
             LocalDateTime processedAt) {
+        return reconstruct(id, accountId, billerCode, reference, amount, idempotencyKey,
+                status, failureReason, createdAt, processedAt, null);
+    }
+
+    /**
+     * @param version Versión optimista persistida
+     */
+    public static BillPayment reconstruct(
+            UUID id,
+            UUID accountId,
+            String billerCode,
+            String reference,
+            BigDecimal amount,
+            String idempotencyKey,
+            BillPaymentStatus status,
+            String failureReason,
+            LocalDateTime createdAt,
+            LocalDateTime processedAt,
+            Long version) {
         if (id == null) {
             throw new InvalidBillPaymentDataException(DomainErrorMessages.ID_REQUIRED);
         }
@@ -68,12 +89,13 @@ public class BillPayment {
         payment.accountId = accountId;
         payment.billerCode = billerCode.trim().toUpperCase();
         payment.reference = reference.trim();
-        payment.amount = amount;
+        payment.amount = toMoney(amount);
         payment.idempotencyKey = idempotencyKey.trim();
         payment.status = status;
         payment.failureReason = failureReason;
         payment.createdAt = createdAt;
         payment.processedAt = processedAt;
+        payment.version = version;
         return payment;
     }
 
@@ -115,12 +137,19 @@ public class BillPayment {
         if (reference == null || reference.isBlank()) {
             throw new InvalidBillPaymentDataException(DomainErrorMessages.BILL_REFERENCE_REQUIRED);
         }
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (amount == null || amount.signum() <= 0) {
             throw new InvalidBillPaymentDataException(DomainErrorMessages.TRANSFER_AMOUNT_INVALID);
         }
         if (idempotencyKey == null || idempotencyKey.isBlank()) {
             throw new InvalidBillPaymentDataException(DomainErrorMessages.IDEMPOTENCY_KEY_REQUIRED);
         }
     }
-}
 
+    private static Money toMoney(BigDecimal amount) {
+        try {
+            return Money.of(amount);
+        } catch (ArithmeticException ex) {
+            throw new InvalidBillPaymentDataException(DomainErrorMessages.AMOUNT_SCALE_INVALID);
+        }
+    }
+}
@@ -28,6 +28,7 @@ public class Card {
     private CardType type;
     private CardColor color;
     private boolean active;
+    private Long version;                 // null = nunca persistida
 
     // To create a new card (without ID)
     public Card(UUID accountId, String number, String cvv, String cardHolder,
@@ -48,11 +49,34 @@ public class Card {
     // Factory Method: Reconstitution from Persistence
     public static Card withId(UUID id, UUID accountId, String number, String cvv, String cardHolder,
                               LocalDate fromDate, LocalDate thruDate, CardType type, CardColor color, boolean active) {
+        return withId(id, accountId, number, cvv, cardHolder, fromDate, thruDate, type, color, active, null);
+    }
+
+    public static Card withId(UUID id, UUID accountId, String number, String cvv, String cardHolder,
+                              LocalDate fromDate, LocalDate thruDate, CardType type, CardColor color, boolean active,
+                              Long version) {
         validateStructuralData(id);
         validateCardData(accountId, number, cvv, cardHolder, fromDate, thruDate, type, color);
-        return hydrate(id, accountId, CardNumber.of(number), CardCvv.of(cvv), CardHolderName.of(cardHolder),
+        Card card = hydrate(id, accountId, CardNumber.of(number), CardCvv.of(cvv), CardHolderName.of(cardHolder),
                 CardValidity.of(fromDate, thruDate), type, color, active);
+        card.version = version;
+        return card;
     }
+
+    /**
+     * Reconstitución desde una fila ya validada: sin Luhn ni regex, y una
+     * tarjeta vencida se carga igual (isExpired lo informa).
+     */
+    public static Card reconstruct(UUID id, UUID accountId, String number, String cvv, String cardHolder,
+                                   LocalDate fromDate, LocalDate thruDate, CardType type, CardColor color,
+                                   boolean active, Long version) {
+        Card card = hydrate(id, accountId, CardNumber.reconstruct(number), CardCvv.reconstruct(cvv),
+                CardHolderName.reconstruct(cardHolder), CardValidity.reconstruct(fromDate, thruDate),
+                type, color, active);
+        card.version = version;
+        return card;
+    }
+
     private static Card hydrate(UUID id, UUID accountId, CardNumber number, CardCvv cvv, CardHolderName cardHolder,
                                 CardValidity validity, CardType type, CardColor color, boolean active) {
         Card card = new Card();
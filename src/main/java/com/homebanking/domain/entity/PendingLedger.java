@@ -0,0 +1,81 @@
+package com.homebanking.domain.entity;
+
+import com.homebanking.domain.enums.LedgerDirection;
+import com.homebanking.domain.valueobject.account.LedgerEntry;
+import com.homebanking.domain.valueobject.common.Money;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Movimientos de una cuenta todavía sin persistir, en arreglos paralelos:
+ * registrar un débito o crédito no crea objetos (los arreglos se reusan
+ * después de clear y crecen al doble cuando se llenan).
+ * • el monto queda en centavos y el momento en micros desde epoch (UTC)
+ * • los LedgerEntry se arman recién en entries(), en el borde
+ *   (persistencia / motor de saldos), con occurredAt en la zona del
+ *   sistema como lo daba LocalDateTime.now()
+ */
+final class PendingLedger {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private LedgerDirection[] directions;
+    private long[] amountsMinor;
+    private String[] references;
+    private long[] occurredAtMicros;
+    private int size;
+
+    void add(LedgerDirection direction, long amountMinor, String reference) {
+        ensureCapacity();
+        Instant now = Instant.now();
+        directions[size] = direction;
+        amountsMinor[size] = amountMinor;
+        references[size] = reference;
+        occurredAtMicros[size] = now.getEpochSecond() * 1_000_000 + now.getNano() / 1_000;
+        size++;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    List<LedgerEntry> entries() {
+        List<LedgerEntry> entries = new ArrayList<>(size);
+        ZoneId zone = ZoneId.systemDefault();
+        for (int i = 0; i < size; i++) {
+            Instant occurredAt = Instant.ofEpochSecond(
+                    Math.floorDiv(occurredAtMicros[i], 1_000_000),
+                    Math.floorMod(occurredAtMicros[i], 1_000_000) * 1_000L);
+            entries.add(new LedgerEntry(directions[i], Money.toBigDecimal(amountsMinor[i]), references[i],
+                    LocalDateTime.ofInstant(occurredAt, zone)));
+        }
+        return List.copyOf(entries);
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(references, 0, size, null);
+            size = 0;
+        }
+    }
+
+    private void ensureCapacity() {
+        if (amountsMinor == null) {
+            directions = new LedgerDirection[INITIAL_CAPACITY];
+            amountsMinor = new long[INITIAL_CAPACITY];
+            references = new String[INITIAL_CAPACITY];
+            occurredAtMicros = new long[INITIAL_CAPACITY];
+        } else if (size == amountsMinor.length) {
+            int capacity = size * 2;
+            directions = Arrays.copyOf(directions, capacity);
+            amountsMinor = Arrays.copyOf(amountsMinor, capacity);
+            references = Arrays.copyOf(references, capacity);
+            occurredAtMicros = Arrays.copyOf(occurredAtMicros, capacity);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.homebanking.domain.entity;
+
+import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.RecurrenceRule;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * AGGREGATE ROOT: StandingOrder
+ *
+ * Orden permanente: transferencia recurrente desde una cuenta a un CBU
+ * según un RecurrenceRule. Cada ocurrencia se materializa como una
+ * Transfer normal (Account.initiateTransferTo).
+ *
+ * Invariantes:
+ * • nextExecutionDate es siempre una ocurrencia de recurrence
+ * • cada ocurrencia tiene una IdempotencyKey derivada de (id, fecha):
+ *   regenerar la misma ocurrencia no puede crear otra transferencia
+ * • una orden cancelada no vuelve a vencer
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StandingOrder {
+
+    private UUID id;
+    private UUID originAccountId;
+    private Cbu targetCbu;
+    private TransferAmount amount;
+    private TransferDescription description;
+    private RecurrenceRule recurrence;
+    private LocalDate nextExecutionDate;
+    private boolean active;
+    private LocalDateTime createdAt;
+
+    public static StandingOrder create(
+            UUID originAccountId,
+            Cbu targetCbu,
+            TransferAmount amount,
+            TransferDescription description,
+            RecurrenceRule recurrence,
+            LocalDate startDate) {
+        if (originAccountId == null) {
+            throw new InvalidTransferDataException(DomainErrorMessages.ORIGIN_ACCOUNT_ID_INVALID);
+        }
+        if (recurrence == null) {
+            throw new InvalidTransferDataException(DomainErrorMessages.STANDING_ORDER_RECURRENCE_REQUIRED);
+        }
+        if (startDate == null) {
+            throw new InvalidTransferDataException(DomainErrorMessages.STANDING_ORDER_START_DATE_REQUIRED);
+        }
+        return reconstruct(
+                null,
+                originAccountId,
+                targetCbu,
+                amount,
+                description,
+                recurrence,
+                recurrence.firstOnOrAfter(startDate),
+                true,
+                LocalDateTime.now()
+        );
+    }
+
+    public static StandingOrder reconstruct(
+            UUID id,
+            UUID originAccountId,
+            Cbu targetCbu,
+            TransferAmount amount,
+            TransferDescription description,
+            RecurrenceRule recurrence,
+            LocalDate nextExecutionDate,
+            boolean active,
+            LocalDateTime createdAt) {
+        StandingOrder order = new StandingOrder();
+        order.id = id;
+        order.originAccountId = originAccountId;
+        order.targetCbu = targetCbu;
+        order.amount = amount;
+        order.description = description;
+        order.recurrence = recurrence;
+        order.nextExecutionDate = nextExecutionDate;
+        order.active = active;
+        order.createdAt = createdAt;
+        return order;
+    }
+
+    /**
+     * Ocurrencias vencidas hasta runDate inclusive, en orden. Más de una si
+     * la generación no corrió en días anteriores (catch-up).
+     */
+    public List<LocalDate> dueOccurrences(LocalDate runDate) {
+        List<LocalDate> due = new ArrayList<>();
+        if (!active) {
+            return due;
+        }
+        for (LocalDate date = nextExecutionDate; !date.isAfter(runDate); date = recurrence.nextAfter(date)) {
+            due.add(date);
+        }
+        return due;
+    }
+
+    /**
+     * Avanza nextExecutionDate a la primera ocurrencia posterior a runDate.
+     */
+    public void advancePast(LocalDate runDate) {
+        if (!nextExecutionDate.isAfter(runDate)) {
+            this.nextExecutionDate = recurrence.nextAfter(runDate);
+        }
+    }
+
+    /**
+     * Key determinística de la ocurrencia: la misma (orden, fecha) siempre
+     * produce la misma key.
+     */
+    public IdempotencyKey occurrenceKey(LocalDate occurrence) {
+        String seed = "standing-order:" + id + ":" + occurrence;
+        return IdempotencyKey.of(UUID.nameUUIDFromBytes(seed.getBytes(StandardCharsets.UTF_8)).toString());
+    }
+
+    public void cancel() {
+        this.active = false;
+    }
+}
@@ -7,6 +7,7 @@ import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
 import com.homebanking.domain.util.DomainErrorMessages;
 import com.homebanking.domain.valueobject.common.Cbu;
 import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.ProcessingLease;
 import com.homebanking.domain.valueobject.transfer.RetryPolicy;
 import com.homebanking.domain.valueobject.transfer.TransferAmount;
 import com.homebanking.domain.valueobject.transfer.TransferDescription;
@@ -39,6 +40,7 @@ import java.util.UUID;
  * • Si status == COMPLETED, executedAt != null
  * • Si status == FAILED, failure != null
  * • Si status == REJECTED, failure != null
+ * • Si status == SCHEDULED, executeAt != null
  * • No hay forma de violar estos invariantes sin pasar por métodos controlados
  */
 @Getter
@@ -59,11 +61,18 @@ public class Transfer {
     private TransferStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime executedAt;
+    private LocalDateTime executeAt;                          // ← Agendada (null = inmediata)
 
     // ==================== REINTENTOS Y FALLOS ====================
     private RetryPolicy retryPolicy;
     private TransferFailure failure;
 
+    // ==================== CLAIM MULTI-NODO ====================
+    private ProcessingLease lease;
+
+    // ==================== CONCURRENCIA OPTIMISTA ====================
+    private Long version;                                     // ← null = nunca persistida
+
     // ==================== EVENTOS DE DOMINIO ====================
     private List<Object> domainEvents = new ArrayList<>();
 
@@ -104,11 +113,44 @@ public class Transfer {
         return transfer;
     }
 
+    /**
+     * Crea una transferencia agendada (CREACIÓN).
+     *
+     * Queda SCHEDULED hasta executeAt; recién ahí pasa a PENDING y entra
+     * al pipeline de procesamiento (ver ScheduledTransferService).
+     *
+     * @param executeAt Fecha y hora de ejecución, futura
+     * @return Transfer en estado SCHEDULED
+     * @throws InvalidTransferDataException si executeAt falta o no es futura
+     */
+    public static Transfer schedule(
+            UUID originAccountId,
+            Cbu targetCbu,
+            TransferAmount amount,
+            TransferDescription description,
+            IdempotencyKey idempotencyKey,
+            LocalDateTime executeAt) {
+
+        if (executeAt == null) {
+            throw new InvalidTransferDataException(DomainErrorMessages.TRANSFER_EXECUTE_AT_REQUIRED);
+        }
+        Transfer transfer = create(originAccountId, targetCbu, amount, description, idempotencyKey);
+        if (!executeAt.isAfter(transfer.createdAt)) {
+            throw new InvalidTransferDataException(DomainErrorMessages.TRANSFER_EXECUTE_AT_NOT_FUTURE);
+        }
+        transfer.status = TransferStatus.SCHEDULED;
+        transfer.executeAt = executeAt;
+
+        return transfer;
+    }
+
     /**
      * Reconstituyir una transferencia desde persistencia (RECONSTITUCIÓN).
      *
      * Factory para cargar transferencias desde la base de datos.
-     * Reconstituyir estado completo incluyendo reintentos y fallos.
+     * Reconstituyir estado completo incluyendo reintentos, fallos, lease
+     * de procesamiento, agendado y versión optimista. Los campos que la
+     * fila no tiene van en null.
      *
      * @param id ID de la transferencia (desde BD)
      * @param idempotencyKey Clave de idempotencia
@@ -123,6 +165,12 @@ public class Transfer {
      * @param failedAt Fecha del fallo (si falló)
      * @param retryCount Cantidad de reintentos
      * @param lastRetryAt Fecha del último reintento
+     * @param nextRetryAt Próximo reintento agendado (null si no hay)
+     * @param leaseOwner Worker que la reclamó (null si está libre)
+     * @param leaseExpiresAt Vencimiento del lease (null si está libre)
+     * @param executeAt Fecha de ejecución agendada (null si es inmediata)
+     * @param version Versión persistida: al guardarla, el UPDATE se
+     *                condiciona a ella (null = nunca persistida)
      * @return Transfer con estado reconstituyido
      */
     public static Transfer reconstruct(
@@ -138,7 +186,12 @@ public class Transfer {
             String failureReason,
             LocalDateTime failedAt,
             Integer retryCount,
-            LocalDateTime lastRetryAt) {
+            LocalDateTime lastRetryAt,
+            LocalDateTime nextRetryAt,
+            String leaseOwner,
+            LocalDateTime leaseExpiresAt,
+            LocalDateTime executeAt,
+            Long version) {
 
         Transfer transfer = new Transfer();
         transfer.id = id;                                           // ← Con ID desde BD
@@ -150,13 +203,19 @@ public class Transfer {
         transfer.status = status;                                   // ← Puede ser cualquiera
         transfer.createdAt = createdAt;
         transfer.executedAt = executedAt;
-        transfer.retryPolicy = RetryPolicy.of(retryCount, lastRetryAt);
+        transfer.executeAt = executeAt;
+        transfer.retryPolicy = RetryPolicy.of(retryCount, lastRetryAt, nextRetryAt);
 
         // Reconstituyir failure si existe
         if (failedAt != null || (failureReason != null && !failureReason.isBlank())) {
             transfer.failure = TransferFailure.of(failureReason, failedAt);
         }
 
+        if (leaseOwner != null) {
+            transfer.lease = ProcessingLease.of(leaseOwner, leaseExpiresAt);
+        }
+
+        transfer.version = version;
         transfer.domainEvents = new ArrayList<>();  // ← Los eventos se publican al persistir
 
         return transfer;
@@ -208,6 +267,7 @@ public class Transfer {
 
         this.status = TransferStatus.COMPLETED;
         this.executedAt = LocalDateTime.now();
+        this.lease = null;
 
         // Publicar evento de dominio
         this.domainEvents.add(new TransferCompletedEvent(
@@ -224,7 +284,7 @@ public class Transfer {
 
      * Marca la transferencia como fallida (error temporal, recuperable).
      * Solo es válido desde estado PROCESSING.
-     * El fallo se puede reintentar más tarde.
+     * El fallo se puede reintentar más tarde: agenda nextRetryAt con backoff.
 
      * INVARIANTE: Si status == FAILED, failure != null
      *
@@ -240,6 +300,8 @@ public class Transfer {
 
         this.status = TransferStatus.FAILED;
         this.failure = TransferFailure.of(reason);
+        this.retryPolicy = retryPolicy.withNextRetryScheduled(failure.getFailedAt());
+        this.lease = null;                                    // ← Libre para el próximo reintento
 
         // Publicar evento de dominio
         this.domainEvents.add(new TransferFailedEvent(
@@ -252,6 +314,33 @@ public class Transfer {
         ));
     }
 
+    /**
+     * Transición: PROCESSING → PENDING | PROCESSING → FAILED (sin contar el intento)
+
+     * El envío no llegó al procesador externo (breaker abierto, bulkhead
+     * lleno): vuelve al estado del que salió en markAsProcessing.
+     * - primer intento (retryCount == 0): PENDING, lo retoma el backfill
+     * - reintento: FAILED con el contador que tenía y nextRetryAt con backoff
+     * No publica eventos: para el cliente no cambió nada.
+     *
+     * @throws InvalidTransferDataException si no está en PROCESSING
+     */
+    public void releaseUnsubmitted() {
+        if (status != TransferStatus.PROCESSING) {
+            throw new InvalidTransferDataException(
+                    String.format(DomainErrorMessages.ONLY_PROCESSING_CAN_RELEASE, status)
+            );
+        }
+
+        this.lease = null;
+        if (retryPolicy.getRetryCount() == 0) {
+            this.status = TransferStatus.PENDING;
+            return;
+        }
+        this.status = TransferStatus.FAILED;
+        this.retryPolicy = retryPolicy.withAttemptReleased(LocalDateTime.now());
+    }
+
     /**
      * Transición: PROCESSING → REJECTED | FAILED (no retryable) → REJECTED
 
@@ -268,6 +357,7 @@ public class Transfer {
         if (status == TransferStatus.PROCESSING) {
             this.status = TransferStatus.REJECTED;
             this.failure = TransferFailure.of(reason);
+            this.lease = null;
             return;
         }
 
@@ -275,6 +365,7 @@ public class Transfer {
         if (status == TransferStatus.FAILED && !isRetryable()) {
             this.status = TransferStatus.REJECTED;
             this.failure = TransferFailure.of(reason);
+            this.lease = null;
             return;
         }
 
@@ -283,6 +374,24 @@ public class Transfer {
         );
     }
 
+    /**
+     * Asigna (o renueva) el lease de procesamiento.
+
+     * Solo aplica a transferencias activas: una transferencia PROCESSING
+     * siempre tiene lease, así un nodo caído no la deja bloqueada para siempre.
+     *
+     * @param lease Lease a nombre del worker que la procesa
+     * @throws InvalidTransferDataException si la transferencia no está activa
+     */
+    public void assignLease(ProcessingLease lease) {
+        if (!isActive()) {
+            throw new InvalidTransferDataException(
+                    String.format(DomainErrorMessages.TRANSFER_INCONSISTENT_STATE, status)
+            );
+        }
+        this.lease = lease;
+    }
+
     // ==================== QUERY METHODS: STATE CHECKS ====================
 
     /**
@@ -292,6 +401,13 @@ public class Transfer {
         return status == TransferStatus.PENDING || status == TransferStatus.PROCESSING;
     }
 
+    /**
+     * ¿Está la transferencia agendada para más adelante?
+     */
+    public boolean isScheduled() {
+        return status == TransferStatus.SCHEDULED;
+    }
+
     /**
      * ¿Está la transferencia siendo procesada actualmente?
      */
@@ -369,6 +485,13 @@ public class Transfer {
         return retryPolicy.getLastRetryAt();
     }
 
+    /**
+     * Obtiene la fecha agendada para el próximo reintento (null si no hay).
+     */
+    public LocalDateTime getNextRetryAt() {
+        return retryPolicy.getNextRetryAt();
+    }
+
     /**
      * Obtiene la razón del fallo (si la transferencia falló).
      */
@@ -383,6 +506,20 @@ public class Transfer {
         return failure != null ? failure.getFailedAt() : null;
     }
 
+    /**
+     * Obtiene el worker dueño del lease (null si nadie la reclamó).
+     */
+    public String getLeaseOwner() {
+        return lease != null ? lease.getOwner() : null;
+    }
+
+    /**
+     * Obtiene el vencimiento del lease (null si nadie la reclamó).
+     */
+    public LocalDateTime getLeaseExpiresAt() {
+        return lease != null ? lease.getExpiresAt() : null;
+    }
+
     // ==================== EVENT SOURCING ====================
 
     /**
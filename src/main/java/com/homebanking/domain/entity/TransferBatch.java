@@ -0,0 +1,72 @@
+package com.homebanking.domain.entity;
+
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferBatchItem;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * AGGREGATE ROOT: TransferBatch
+ *
+ * Registro de un envío masivo de transferencias (p. ej. sueldos).
+ * Guarda el resultado por ítem; el estado de cada transferencia sigue
+ * viviendo en Transfer, el progreso se consulta sobre ellas.
+ *
+ * Invariantes:
+ * • totalAmount = suma de las transferencias aceptadas (un único débito)
+ * • items en el orden recibido, uno por ítem del lote
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TransferBatch {
+
+    private UUID id;
+    private IdempotencyKey idempotencyKey;
+    private UUID originAccountId;
+    private BigDecimal totalAmount;
+    private LocalDateTime createdAt;
+    private List<TransferBatchItem> items;
+
+    public static TransferBatch create(
+            IdempotencyKey idempotencyKey,
+            UUID originAccountId,
+            BigDecimal totalAmount,
+            List<TransferBatchItem> items) {
+        return reconstruct(null, idempotencyKey, originAccountId, totalAmount, LocalDateTime.now(), items);
+    }
+
+    public static TransferBatch reconstruct(
+            UUID id,
+            IdempotencyKey idempotencyKey,
+            UUID originAccountId,
+            BigDecimal totalAmount,
+            LocalDateTime createdAt,
+            List<TransferBatchItem> items) {
+        TransferBatch batch = new TransferBatch();
+        batch.id = id;
+        batch.idempotencyKey = idempotencyKey;
+        batch.originAccountId = originAccountId;
+        batch.totalAmount = totalAmount;
+        batch.createdAt = createdAt;
+        batch.items = List.copyOf(items);
+        return batch;
+    }
+
+    public int totalItems() {
+        return items.size();
+    }
+
+    public int acceptedItems() {
+        return (int) items.stream().filter(TransferBatchItem::isAccepted).count();
+    }
+
+    public int rejectedItems() {
+        return totalItems() - acceptedItems();
+    }
+}
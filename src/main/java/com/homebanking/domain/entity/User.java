@@ -90,6 +90,29 @@ public class User {
         );
     }
 
+    /**
+     * Reconstitución desde una fila ya validada al registrarse: sin regex
+     * ni controles de edad (la edad se mide contra hoy y no debe volver a
+     * rechazar a un usuario existente).
+     */
+    public static User reconstruct(UUID id, String email, String password, String name, String lastName, String dni,
+                                   LocalDate birthDate, String address, LocalDateTime createdAt,
+                                   String totpSecret, boolean totpEnabled) {
+        return hydrate(
+                id,
+                UserEmail.reconstruct(email),
+                UserPassword.reconstruct(password),
+                UserFirstName.reconstruct(name),
+                UserLastName.reconstruct(lastName),
+                UserDni.reconstruct(dni),
+                UserBirthDate.reconstruct(birthDate),
+                UserAddress.reconstruct(address),
+                createdAt,
+                totpSecret == null ? null : TotpSecret.reconstruct(totpSecret),
+                totpEnabled ? TotpStatus.ENABLED : TotpStatus.DISABLED
+        );
+    }
+
     // --- BUSINESS METHODS (Mutators Controlados) ---
 
     public void changePassword(String newPassword) {
@@ -0,0 +1,6 @@
+package com.homebanking.domain.enums;
+
+public enum LedgerDirection {
+    DEBIT,
+    CREDIT
+}
@@ -0,0 +1,6 @@
+package com.homebanking.domain.enums;
+
+public enum RecurrenceFrequency {
+    WEEKLY,
+    MONTHLY
+}
@@ -1,6 +1,7 @@
 package com.homebanking.domain.enums;
 
 public enum TransferStatus {
+    SCHEDULED,
     PENDING,
     PROCESSING,
     COMPLETED,
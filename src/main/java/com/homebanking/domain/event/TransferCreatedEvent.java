@@ -1,8 +1,12 @@
 package com.homebanking.domain.event;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 
-public record TransferCreatedEvent(UUID transferId) {
+/**
+ * originAccountId y amount viajan con el evento para que la cola de
+ * dispatch elija lane y ronda por cuenta sin ir a la base.
+ * Pueden venir null en eventos previos a estos campos.
+ */
+public record TransferCreatedEvent(UUID transferId, UUID originAccountId, BigDecimal amount) {
 }
-
-
@@ -0,0 +1,16 @@
+package com.homebanking.domain.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Transferencia agendada: entra al timing wheel si executeAt cae dentro
+ * de la ventana ya cargada; si no, la toma la próxima carga de ventana.
+ */
+public record TransferScheduledEvent(
+        UUID transferId,
+        UUID originAccountId,
+        BigDecimal amount,
+        LocalDateTime executeAt) {
+}
@@ -0,0 +1,19 @@
+package com.homebanking.domain.exception.transfer;
+
+import com.homebanking.domain.exception.common.DomainException;
+
+import java.util.UUID;
+
+public class StandingOrderNotFoundException extends DomainException {
+
+    private final UUID standingOrderId;
+
+    public StandingOrderNotFoundException(String message, UUID standingOrderId) {
+        super(message);
+        this.standingOrderId = standingOrderId;
+    }
+
+    public UUID getStandingOrderId() {
+        return standingOrderId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.homebanking.domain.exception.transfer;
+
+import com.homebanking.domain.exception.common.DomainException;
+
+import java.util.UUID;
+
+public class TransferBatchNotFoundException extends DomainException {
+
+    private final UUID batchId;
+
+    public TransferBatchNotFoundException(String message, UUID batchId) {
+        super(message);
+        this.batchId = batchId;
+    }
+
+    public UUID getBatchId() {
+        return batchId;
+    }
+}
@@ -3,7 +3,9 @@
  * Excepción: TransferProcessingException
  *
  * Lanzada cuando falla el procesamiento contra sistema externo.
- * Diferencia entre fallos recuperables e irrecuperables.
+ * Diferencia entre fallos recuperables e irrecuperables, y si la
+ * transferencia llegó a enviarse (submitted = false: se cortó antes de
+ * salir, no cuenta como intento).
  */
 package com.homebanking.domain.exception.transfer;
 
@@ -13,14 +15,31 @@ public class TransferProcessingException extends DomainException {
 
     private final boolean recoverable;
     private final String externalErrorCode;
+    private final boolean submitted;
 
     public TransferProcessingException(
             String message,
             boolean recoverable,
             String externalErrorCode) {
+        this(message, recoverable, externalErrorCode, true);
+    }
+
+    private TransferProcessingException(
+            String message,
+            boolean recoverable,
+            String externalErrorCode,
+            boolean submitted) {
         super(message);
         this.recoverable = recoverable;
         this.externalErrorCode = externalErrorCode;
+        this.submitted = submitted;
+    }
+
+    /**
+     * Llamada cortada antes de salir hacia el sistema externo (siempre recuperable).
+     */
+    public static TransferProcessingException notSubmitted(String message, String externalErrorCode) {
+        return new TransferProcessingException(message, true, externalErrorCode, false);
     }
 
     public boolean isRecoverable() {
@@ -30,6 +49,10 @@ public class TransferProcessingException extends DomainException {
     public String getExternalErrorCode() {
         return externalErrorCode;
     }
+
+    public boolean isSubmitted() {
+        return submitted;
+    }
 }
 
 
@@ -25,6 +25,9 @@ public final class DomainErrorMessages {
     public static final String ACCOUNT_BALANCE_NEGATIVE =
             "El saldo inicial no puede ser negativo";
 
+    public static final String AMOUNT_SCALE_INVALID =
+            "El monto admite hasta 2 decimales";
+
     // ACCOUNT -> Format validations
     public static final String CBU_ONLY_NUMBERS =
             "El CBU solo debe contener números";
@@ -58,6 +61,10 @@ public final class DomainErrorMessages {
     public static final String DEBIT_AMOUNT_MUST_BE_POSITIVE =
             "El monto a debitar debe ser mayor a cero";
 
+    // ACCOUNT -> Striped balance
+    public static final String ACCOUNT_BALANCE_STRIPES_INVALID =
+            "La cantidad de stripes de saldo debe estar entre 2 y 64";
+
     // ============================================
     // USER MESSAGES
     // ============================================
@@ -155,6 +162,9 @@ public final class DomainErrorMessages {
     public static final String ONLY_PROCESSING_CAN_FAIL =
             "Solo transferencias en PROCESSING pueden marcarse como FAILED. Estado actual: %s";
 
+    public static final String ONLY_PROCESSING_CAN_RELEASE =
+            "Solo transferencias en PROCESSING pueden liberarse sin envío. Estado actual: %s";
+
     public static final String CANNOT_REJECT_TRANSFER =
             "No se puede rechazar una transferencia en estado %s. Solo PROCESSING o FAILED (no reintentable)";
 
@@ -185,6 +195,9 @@ public final class DomainErrorMessages {
     public static final String TRANSFER_LAST_RETRY_REQUIRED =
             "lastRetryAt es obligatorio cuando retryCount > 0";
 
+    public static final String TRANSFER_LEASE_DATA_REQUIRED =
+            "El lease de procesamiento requiere owner y fecha de expiración";
+
     // TRANSFER -> Amount validations
     public static final String TRANSFER_AMOUNT_OUT_OF_RANGE =
             "Monto debe estar entre $0.01 y $1,000,000.00";
@@ -199,6 +212,13 @@ public final class DomainErrorMessages {
     public static final String INSUFFICIENT_FUNDS =
             "Fondos insuficientes para realizar la operación";
 
+    // TRANSFER -> Scheduling
+    public static final String TRANSFER_EXECUTE_AT_REQUIRED =
+            "La fecha de ejecución es obligatoria para una transferencia agendada";
+
+    public static final String TRANSFER_EXECUTE_AT_NOT_FUTURE =
+            "La fecha de ejecución debe ser futura";
+
     // TRANSFER -> Required fields
     public static final String IDEMPOTENCY_KEY_REQUIRED =
             "La idempotency key es obligatoria";
@@ -215,6 +235,38 @@ public final class DomainErrorMessages {
     public static final String TRANSFER_NOT_FOUND =
             "La transferencia especificada no existe";
 
+    // TRANSFER -> Batch
+    public static final String TRANSFER_BATCH_NOT_FOUND =
+            "El lote de transferencias especificado no existe";
+
+    public static final String TRANSFER_BATCH_EMPTY =
+            "El lote debe contener al menos una transferencia";
+
+    public static final String TRANSFER_BATCH_TOO_LARGE =
+            "El lote supera la cantidad máxima de transferencias permitida";
+
+    public static final String TRANSFER_BATCH_ITEM_REQUIRED =
+            "El ítem del lote no puede estar vacío";
+
+    public static final String TRANSFER_BATCH_MALFORMED =
+            "El cuerpo del lote no es un NDJSON válido";
+
+    // TRANSFER -> Standing orders
+    public static final String STANDING_ORDER_NOT_FOUND =
+            "La orden permanente especificada no existe";
+
+    public static final String STANDING_ORDER_RECURRENCE_REQUIRED =
+            "La frecuencia de la orden permanente es obligatoria";
+
+    public static final String STANDING_ORDER_FREQUENCY_INVALID =
+            "La frecuencia debe ser WEEKLY o MONTHLY";
+
+    public static final String STANDING_ORDER_RECURRENCE_DAY_INVALID =
+            "El día de ejecución no es válido para la frecuencia indicada";
+
+    public static final String STANDING_ORDER_START_DATE_REQUIRED =
+            "La fecha de inicio de la orden permanente es obligatoria";
+
     public static final String TRANSFER_FAILURE_REASON_REQUIRED =
             "La razón del fallo es obligatoria";
 
@@ -8,7 +8,7 @@ import java.util.regex.Pattern;
 
 public final class AccountAlias {
 
-    private static final String ALIAS_REGEX = "^[a-zA-Z0-9.]{6,20}$";
+    private static final Pattern ALIAS_PATTERN = Pattern.compile("^[a-zA-Z0-9.]{6,20}$");
 
     private final String value;
 
@@ -20,12 +20,16 @@ public final class AccountAlias {
         if (value == null || value.isBlank()) {
             throw new InvalidAccountDataException(DomainErrorMessages.ALIAS_REQUIRED);
         }
-        if (!Pattern.matches(ALIAS_REGEX, value)) {
+        if (!ALIAS_PATTERN.matcher(value).matches()) {
             throw new InvalidAccountDataException(DomainErrorMessages.ALIAS_INVALID_FORMAT);
         }
         return new AccountAlias(value);
     }
 
+    public static AccountAlias reconstruct(String value) {
+        return new AccountAlias(value);
+    }
+
     public String value() {
         return value;
     }
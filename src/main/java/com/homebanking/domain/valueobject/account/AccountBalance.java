@@ -2,30 +2,56 @@ package com.homebanking.domain.valueobject.account;
 
 import com.homebanking.domain.exception.account.InvalidAccountDataException;
 import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.domain.valueobject.common.Money;
 
 import java.math.BigDecimal;
-import java.util.Objects;
 
+/**
+ * Value Object: AccountBalance
+
+ * Saldo en centavos (ver Money); value() convierte para los bordes.
+ * Account guarda solo el long y lo envuelve al leerlo.
+ */
 public final class AccountBalance {
 
-    private final BigDecimal value;
+    private final long minor;
 
-    private AccountBalance(BigDecimal value) {
-        this.value = value;
+    private AccountBalance(long minor) {
+        this.minor = minor;
     }
 
     public static AccountBalance of(BigDecimal value) {
         if (value == null) {
             throw new InvalidAccountDataException(DomainErrorMessages.BALANCE_REQUIRED);
         }
-        if (value.compareTo(BigDecimal.ZERO) < 0) {
+        try {
+            return of(Money.of(value));
+        } catch (ArithmeticException ex) {
+            throw new InvalidAccountDataException(DomainErrorMessages.AMOUNT_SCALE_INVALID);
+        }
+    }
+
+    public static AccountBalance of(Money amount) {
+        return ofMinor(amount.minor());
+    }
+
+    public static AccountBalance ofMinor(long minor) {
+        if (minor < 0) {
             throw new InvalidAccountDataException(DomainErrorMessages.ACCOUNT_BALANCE_NEGATIVE);
         }
-        return new AccountBalance(value);
+        return new AccountBalance(minor);
+    }
+
+    public long minor() {
+        return minor;
+    }
+
+    public Money amount() {
+        return Money.ofMinor(minor);
     }
 
     public BigDecimal value() {
-        return value;
+        return Money.toBigDecimal(minor);
     }
 
     @Override
@@ -37,20 +63,16 @@ public final class AccountBalance {
             return false;
         }
         AccountBalance that = (AccountBalance) o;
-        return value.compareTo(that.value) == 0;
+        return minor == that.minor;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value.stripTrailingZeros());
+        return Long.hashCode(minor);
     }
 
     @Override
     public String toString() {
-        return value.toPlainString();
+        return value().toPlainString();
     }
 }
-
-
-
-
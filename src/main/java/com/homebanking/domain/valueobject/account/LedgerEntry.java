@@ -0,0 +1,24 @@
+package com.homebanking.domain.valueobject.account;
+
+import com.homebanking.domain.enums.LedgerDirection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Value Object: LedgerEntry
+
+ * Movimiento de una cuenta (append-only). amount es siempre positivo;
+ * el signo lo da direction.
+ * • reference: idempotency key de la transferencia cuando el movimiento
+ *   es una de sus patas (débito en origen, crédito en destino o
+ *   reintegro), así ambas patas se concilian por la misma clave
+ */
+public record LedgerEntry(LedgerDirection direction, BigDecimal amount, String reference, LocalDateTime occurredAt) {
+
+    public static final String OPENING_REFERENCE = "OPENING";
+
+    public BigDecimal signedAmount() {
+        return direction == LedgerDirection.CREDIT ? amount : amount.negate();
+    }
+}
@@ -23,6 +23,10 @@ public final class CardCvv {
         return new CardCvv(value);
     }
 
+    public static CardCvv reconstruct(String value) {
+        return new CardCvv(value);
+    }
+
     public String value() {
         return value;
     }
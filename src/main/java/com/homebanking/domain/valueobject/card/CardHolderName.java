@@ -20,6 +20,13 @@ public final class CardHolderName {
         return new CardHolderName(value.toUpperCase());
     }
 
+    /**
+     * Valor persistido, ya en mayúsculas.
+     */
+    public static CardHolderName reconstruct(String value) {
+        return new CardHolderName(value);
+    }
+
     public String value() {
         return value;
     }
@@ -23,6 +23,10 @@ public final class CardNumber {
         return new CardNumber(value);
     }
 
+    public static CardNumber reconstruct(String value) {
+        return new CardNumber(value);
+    }
+
     public String value() {
         return value;
     }
@@ -31,7 +35,7 @@ public final class CardNumber {
         int sum = 0;
         boolean alternate = false;
         for (int i = cardNumber.length() - 1; i >= 0; i--) {
-            int n = Integer.parseInt(cardNumber.substring(i, i + 1));
+            int n = cardNumber.charAt(i) - '0';
             if (alternate) {
                 n *= 2;
                 if (n > 9) {
@@ -29,6 +29,13 @@ public final class CardValidity {
         return new CardValidity(fromDate, thruDate);
     }
 
+    /**
+     * Vigencia persistida; puede estar vencida (isExpired lo informa).
+     */
+    public static CardValidity reconstruct(LocalDate fromDate, LocalDate thruDate) {
+        return new CardValidity(fromDate, thruDate);
+    }
+
     public LocalDate fromDate() {
         return fromDate;
     }
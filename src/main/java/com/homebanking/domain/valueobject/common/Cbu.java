@@ -11,7 +11,7 @@ import java.util.regex.Pattern;
  */
 public final class Cbu {
 
-    private static final String CBU_REGEX = "^\\d{22}$";
+    private static final Pattern CBU_PATTERN = Pattern.compile("^\\d{22}$");
 
     private final String value;
 
@@ -23,12 +23,16 @@ public final class Cbu {
         if (value == null || value.isBlank()) {
             throw new InvalidTransferDataException(DomainErrorMessages.CBU_REQUIRED);
         }
-        if (!Pattern.matches(CBU_REGEX, value)) {
+        if (!CBU_PATTERN.matcher(value).matches()) {
             throw new InvalidTransferDataException(DomainErrorMessages.CBU_ONLY_NUMBERS);
         }
         return new Cbu(value);
     }
 
+    public static Cbu reconstruct(String value) {
+        return new Cbu(value);
+    }
+
     public String value() {
         return value;
     }
@@ -0,0 +1,93 @@
+package com.homebanking.domain.valueobject.common;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Value Object: Money
+
+ * Monto en centavos sobre un long. Comparar y operar no crea BigDecimal:
+ * la conversión queda en los bordes (web, persistencia, eventos).
+ * • of(BigDecimal) es exacta: más de 2 decimales o fuera de rango de
+ *   long → ArithmeticException (cada VO la traduce a su excepción)
+ * • plus/minus con chequeo de overflow (Math.addExact/subtractExact)
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private final long minor;
+
+    private Money(long minor) {
+        this.minor = minor;
+    }
+
+    public static Money ofMinor(long minor) {
+        return minor == 0 ? ZERO : new Money(minor);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return ofMinor(toMinor(amount));
+    }
+
+    /**
+     * Centavos exactos de un BigDecimal (sin redondeo).
+     *
+     * @throws ArithmeticException con más de 2 decimales o fuera de rango
+     */
+    public static long toMinor(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    public long minor() {
+        return minor;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(minor);
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minor, other.minor));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minor, other.minor));
+    }
+
+    public boolean isLessThan(Money other) {
+        return minor < other.minor;
+    }
+
+    public int signum() {
+        return Long.signum(minor);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minor, other.minor);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Money that && minor == that.minor;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minor);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
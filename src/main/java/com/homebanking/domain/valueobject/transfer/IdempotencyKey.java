@@ -23,6 +23,10 @@ public final class IdempotencyKey {
         return new IdempotencyKey(value);
     }
 
+    public static IdempotencyKey reconstruct(String value) {
+        return new IdempotencyKey(value);
+    }
+
     public String value() {
         return value;
     }
@@ -0,0 +1,65 @@
+package com.homebanking.domain.valueobject.transfer;
+
+import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Value Object: ProcessingLease
+
+ * Marca de propiedad temporal de una transferencia por un worker.
+ * Mientras el lease está vigente ningún otro nodo puede reclamarla;
+ * vencido, la transferencia vuelve a estar disponible.
+ */
+public final class ProcessingLease {
+
+    private final String owner;
+    private final LocalDateTime expiresAt;
+
+    private ProcessingLease(String owner, LocalDateTime expiresAt) {
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+
+    public static ProcessingLease of(String owner, LocalDateTime expiresAt) {
+        if (owner == null || owner.isBlank() || expiresAt == null) {
+            throw new InvalidTransferDataException(DomainErrorMessages.TRANSFER_LEASE_DATA_REQUIRED);
+        }
+        return new ProcessingLease(owner, expiresAt);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean isHeldBy(String workerId) {
+        return owner.equals(workerId);
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ProcessingLease that = (ProcessingLease) o;
+        return owner.equals(that.owner) && expiresAt.equals(that.expiresAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(owner, expiresAt);
+    }
+}
@@ -0,0 +1,63 @@
+package com.homebanking.domain.valueobject.transfer;
+
+import com.homebanking.domain.enums.RecurrenceFrequency;
+import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Value Object: RecurrenceRule
+
+ * Calendario de una orden permanente.
+ * • WEEKLY: day = día de la semana (1 = lunes ... 7 = domingo)
+ * • MONTHLY: day = día del mes (1..31); en meses más cortos cae el
+ *   último día (día 31 → 30 de abril, 28/29 de febrero)
+ */
+public record RecurrenceRule(RecurrenceFrequency frequency, int day) {
+
+    public RecurrenceRule {
+        if (frequency == null) {
+            throw new InvalidTransferDataException(DomainErrorMessages.STANDING_ORDER_RECURRENCE_REQUIRED);
+        }
+        int maxDay = frequency == RecurrenceFrequency.WEEKLY ? 7 : 31;
+        if (day < 1 || day > maxDay) {
+            throw new InvalidTransferDataException(DomainErrorMessages.STANDING_ORDER_RECURRENCE_DAY_INVALID);
+        }
+    }
+
+    public static RecurrenceRule weekly(DayOfWeek dayOfWeek) {
+        return new RecurrenceRule(RecurrenceFrequency.WEEKLY, dayOfWeek.getValue());
+    }
+
+    public static RecurrenceRule monthly(int dayOfMonth) {
+        return new RecurrenceRule(RecurrenceFrequency.MONTHLY, dayOfMonth);
+    }
+
+    /**
+     * Primera ocurrencia en date o después.
+     */
+    public LocalDate firstOnOrAfter(LocalDate date) {
+        return switch (frequency) {
+            case WEEKLY -> date.with(TemporalAdjusters.nextOrSame(DayOfWeek.of(day)));
+            case MONTHLY -> {
+                LocalDate candidate = dayIn(YearMonth.from(date));
+                yield candidate.isBefore(date) ? dayIn(YearMonth.from(date).plusMonths(1)) : candidate;
+            }
+        };
+    }
+
+    /**
+     * Primera ocurrencia estrictamente posterior a date.
+     */
+    public LocalDate nextAfter(LocalDate date) {
+        return firstOnOrAfter(date.plusDays(1));
+    }
+
+    private LocalDate dayIn(YearMonth month) {
+        return month.atDay(Math.min(day, month.lengthOfMonth()));
+    }
+}
@@ -3,25 +3,48 @@ package com.homebanking.domain.valueobject.transfer;
 import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
 import com.homebanking.domain.util.DomainErrorMessages;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Value Object: RetryPolicy
+
+ * Cuenta reintentos y agenda el próximo (nextRetryAt).
+
+ * Backoff exponencial con jitter ("equal jitter"):
+ *   techo = min(MAX_BACKOFF, BASE_BACKOFF * 2^retryCount)
+ *   delay = techo/2 + random(0, techo/2)
+ * Así una ráfaga de fallos (caída del procesador) no vuelve toda junta
+ * en el mismo tick del scheduler.
+ */
 public final class RetryPolicy {
 
-    private static final int MAX_RETRIES = 3;
+    public static final int MAX_RETRIES = 3;
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(15);
 
     private final int retryCount;
     private final LocalDateTime lastRetryAt;
+    private final LocalDateTime nextRetryAt;
 
-    private RetryPolicy(int retryCount, LocalDateTime lastRetryAt) {
+    private RetryPolicy(int retryCount, LocalDateTime lastRetryAt, LocalDateTime nextRetryAt) {
         this.retryCount = retryCount;
         this.lastRetryAt = lastRetryAt;
+        this.nextRetryAt = nextRetryAt;
     }
 
     public static RetryPolicy initial() {
-        return new RetryPolicy(0, null);
+        return new RetryPolicy(0, null, null);
     }
 
     public static RetryPolicy of(Integer retryCount, LocalDateTime lastRetryAt) {
+        return of(retryCount, lastRetryAt, null);
+    }
+
+    public static RetryPolicy of(Integer retryCount, LocalDateTime lastRetryAt, LocalDateTime nextRetryAt) {
         int count = retryCount == null ? 0 : retryCount;
         if (count < 0) {
             throw new InvalidTransferDataException(DomainErrorMessages.TRANSFER_RETRYCOUNT_NEGATIVE);
@@ -34,7 +57,7 @@ public final class RetryPolicy {
                     String.format(DomainErrorMessages.MAX_RETRIES_EXCEEDED, MAX_RETRIES, count)
             );
         }
-        return new RetryPolicy(count, lastRetryAt);
+        return new RetryPolicy(count, lastRetryAt, nextRetryAt);
     }
 
     public RetryPolicy withRetryIncremented() {
@@ -43,7 +66,48 @@ public final class RetryPolicy {
                     String.format(DomainErrorMessages.MAX_RETRIES_EXCEEDED, MAX_RETRIES, retryCount)
             );
         }
-        return new RetryPolicy(retryCount + 1, LocalDateTime.now());
+        return new RetryPolicy(retryCount + 1, LocalDateTime.now(), null);
+    }
+
+    /**
+     * Devuelve el intento tomado por withRetryIncremented cuando el envío no
+     * llegó al procesador, y agenda el próximo con el backoff de ese contador.
+     *
+     * @param releasedAt Momento en que se liberó el intento
+     * @return RetryPolicy con el contador anterior y nextRetryAt calculado
+     */
+    public RetryPolicy withAttemptReleased(LocalDateTime releasedAt) {
+        if (retryCount == 0) {
+            throw new InvalidTransferDataException(DomainErrorMessages.TRANSFER_RETRYCOUNT_NEGATIVE);
+        }
+        return new RetryPolicy(retryCount - 1, lastRetryAt, null).withNextRetryScheduled(releasedAt);
+    }
+
+    /**
+     * Agenda el próximo reintento a partir del momento del fallo.
+     * Sin reintentos disponibles no agenda nada (nextRetryAt = null).
+     *
+     * @param failedAt Momento del fallo
+     * @return RetryPolicy con nextRetryAt calculado
+     */
+    public RetryPolicy withNextRetryScheduled(LocalDateTime failedAt) {
+        if (!isRetryable()) {
+            return new RetryPolicy(retryCount, lastRetryAt, null);
+        }
+        long ceilingMillis = backoffCeiling(retryCount).toMillis();
+        long halfMillis = ceilingMillis / 2;
+        long delayMillis = halfMillis + ThreadLocalRandom.current().nextLong(halfMillis + 1);
+        LocalDateTime next = failedAt.plus(delayMillis, ChronoUnit.MILLIS).truncatedTo(ChronoUnit.MILLIS);
+        return new RetryPolicy(retryCount, lastRetryAt, next);
+    }
+
+    /**
+     * Techo del backoff para el intento número retryCount (sin jitter).
+     */
+    public static Duration backoffCeiling(int retryCount) {
+        int exponent = Math.min(retryCount, 20);
+        Duration ceiling = BASE_BACKOFF.multipliedBy(1L << exponent);
+        return ceiling.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : ceiling;
     }
 
     public boolean isRetryable() {
@@ -61,6 +125,8 @@ public final class RetryPolicy {
     public LocalDateTime getLastRetryAt() {
         return lastRetryAt;
     }
-}
-
 
+    public LocalDateTime getNextRetryAt() {
+        return nextRetryAt;
+    }
+}
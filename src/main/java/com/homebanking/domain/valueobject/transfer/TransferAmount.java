@@ -2,33 +2,69 @@ package com.homebanking.domain.valueobject.transfer;
 
 import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
 import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.domain.valueobject.common.Money;
 
 import java.math.BigDecimal;
-import java.util.Objects;
 
 /**
  * Value Object: TransferAmount
+
+ * Monto en centavos (ver Money) para la aritmética del dominio; value()
+ * devuelve el BigDecimal con el que se creó (bordes: web, persistencia,
+ * eventos), sin convertir.
  */
 public final class TransferAmount {
 
-    private static final BigDecimal MIN = new BigDecimal("0.01");
-    private static final BigDecimal MAX = new BigDecimal("1000000.00");
+    private static final long MIN_MINOR = 1L;
+    private static final long MAX_MINOR = 100_000_000L;
 
+    private final Money amount;
     private final BigDecimal value;
 
-    private TransferAmount(BigDecimal value) {
+    private TransferAmount(Money amount, BigDecimal value) {
+        this.amount = amount;
         this.value = value;
     }
 
     public static TransferAmount of(BigDecimal value) {
-        if (value == null ||
-                value.compareTo(MIN) < 0 ||
-                value.compareTo(MAX) > 0) {
+        if (value == null) {
+            throw new InvalidTransferDataException(DomainErrorMessages.TRANSFER_AMOUNT_OUT_OF_RANGE);
+        }
+        Money amount;
+        try {
+            amount = Money.of(value);
+        } catch (ArithmeticException ex) {
+            // Fuera de rango de long o con fracción de centavo
+            throw new InvalidTransferDataException(value.scale() > Money.SCALE
+                    ? DomainErrorMessages.AMOUNT_SCALE_INVALID
+                    : DomainErrorMessages.TRANSFER_AMOUNT_OUT_OF_RANGE);
+        }
+        return of(amount, value);
+    }
+
+    public static TransferAmount of(Money amount) {
+        return of(amount, amount.toBigDecimal());
+    }
+
+    private static TransferAmount of(Money amount, BigDecimal value) {
+        if (amount.minor() < MIN_MINOR || amount.minor() > MAX_MINOR) {
             throw new InvalidTransferDataException(
                     DomainErrorMessages.TRANSFER_AMOUNT_OUT_OF_RANGE
             );
         }
-        return new TransferAmount(value);
+        return new TransferAmount(amount, value);
+    }
+
+    /**
+     * Monto persistido (DECIMAL(19, 2)): solo se pasa a centavos, sin
+     * volver a controlar el rango.
+     */
+    public static TransferAmount reconstruct(BigDecimal value) {
+        return new TransferAmount(Money.of(value), value);
+    }
+
+    public Money amount() {
+        return amount;
     }
 
     public BigDecimal value() {
@@ -44,20 +80,16 @@ public final class TransferAmount {
             return false;
         }
         TransferAmount that = (TransferAmount) o;
-        return value.compareTo(that.value) == 0;
+        return amount.equals(that.amount);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value.stripTrailingZeros());
+        return amount.hashCode();
     }
 
     @Override
     public String toString() {
-        return value.toPlainString();
+        return amount.toString();
     }
 }
-
-
-
-
@@ -0,0 +1,30 @@
+package com.homebanking.domain.valueobject.transfer;
+
+import java.util.UUID;
+
+/**
+ * Value Object: TransferBatchItem
+
+ * Resultado de un ítem de un lote, en la posición en que llegó.
+ * ACCEPTED lleva la transferencia creada; REJECTED, el motivo
+ * (el resto del lote sigue adelante).
+ */
+public record TransferBatchItem(int index, UUID transferId, Outcome outcome, String errorMessage) {
+
+    public enum Outcome {
+        ACCEPTED,
+        REJECTED
+    }
+
+    public static TransferBatchItem accepted(int index, UUID transferId) {
+        return new TransferBatchItem(index, transferId, Outcome.ACCEPTED, null);
+    }
+
+    public static TransferBatchItem rejected(int index, String errorMessage) {
+        return new TransferBatchItem(index, null, Outcome.REJECTED, errorMessage);
+    }
+
+    public boolean isAccepted() {
+        return outcome == Outcome.ACCEPTED;
+    }
+}
@@ -23,6 +23,10 @@ public final class TransferDescription {
         return new TransferDescription(value);
     }
 
+    public static TransferDescription reconstruct(String value) {
+        return new TransferDescription(value);
+    }
+
     public String value() {
         return value;
     }
@@ -0,0 +1,18 @@
+package com.homebanking.domain.valueobject.transfer;
+
+import com.homebanking.domain.valueobject.common.Cbu;
+
+/**
+ * Value Object: TransferInstruction
+
+ * Una orden de transferencia ya validada dentro de un lote
+ * (Account.initiateTransfersTo). Agrupa los VOs que recibe
+ * Account.initiateTransferTo para una transferencia individual.
+ */
+public record TransferInstruction(
+        Cbu targetCbu,
+        TransferAmount amount,
+        TransferDescription description,
+        IdempotencyKey idempotencyKey
+) {
+}
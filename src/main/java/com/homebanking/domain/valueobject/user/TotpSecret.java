@@ -3,9 +3,11 @@ package com.homebanking.domain.valueobject.user;
 import com.homebanking.domain.exception.user.InvalidUserDataException;
 import com.homebanking.domain.util.DomainErrorMessages;
 
+import java.util.regex.Pattern;
+
 public final class TotpSecret {
 
-    private static final String BASE32_PATTERN = "^[A-Z2-7]+=*$";
+    private static final Pattern BASE32_PATTERN = Pattern.compile("^[A-Z2-7]+=*$");
     private static final int MIN_LENGTH = 16;
 
     private final String value;
@@ -19,12 +21,19 @@ public final class TotpSecret {
             throw new InvalidUserDataException(DomainErrorMessages.TOTP_SECRET_REQUIRED);
         }
         String normalized = value.trim().toUpperCase();
-        if (normalized.length() < MIN_LENGTH || !normalized.matches(BASE32_PATTERN)) {
+        if (normalized.length() < MIN_LENGTH || !BASE32_PATTERN.matcher(normalized).matches()) {
             throw new InvalidUserDataException(DomainErrorMessages.TOTP_SECRET_INVALID);
         }
         return new TotpSecret(normalized);
     }
 
+    /**
+     * Secreto persistido, ya normalizado por of().
+     */
+    public static TotpSecret reconstruct(String value) {
+        return new TotpSecret(value);
+    }
+
     public String value() {
         return value;
     }
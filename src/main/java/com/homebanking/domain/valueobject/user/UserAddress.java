@@ -20,6 +20,10 @@ public final class UserAddress {
         return new UserAddress(value);
     }
 
+    public static UserAddress reconstruct(String value) {
+        return new UserAddress(value);
+    }
+
     public String value() {
         return value;
     }
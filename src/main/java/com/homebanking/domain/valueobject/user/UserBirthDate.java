@@ -32,6 +32,14 @@ public final class UserBirthDate {
         return new UserBirthDate(value);
     }
 
+    /**
+     * Fecha persistida: la edad se validó al registrarse y no se vuelve a
+     * medir contra hoy.
+     */
+    public static UserBirthDate reconstruct(LocalDate value) {
+        return new UserBirthDate(value);
+    }
+
     public LocalDate value() {
         return value;
     }
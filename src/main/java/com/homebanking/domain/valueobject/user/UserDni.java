@@ -34,6 +34,10 @@ public final class UserDni {
         return new UserDni(value);
     }
 
+    public static UserDni reconstruct(String value) {
+        return new UserDni(value);
+    }
+
     public String value() {
         return value;
     }
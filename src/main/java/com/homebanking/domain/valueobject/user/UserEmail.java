@@ -27,6 +27,10 @@ public final class UserEmail {
         return new UserEmail(value);
     }
 
+    public static UserEmail reconstruct(String value) {
+        return new UserEmail(value);
+    }
+
     public String value() {
         return value;
     }
@@ -27,6 +27,10 @@ public final class UserFirstName {
         return new UserFirstName(value);
     }
 
+    public static UserFirstName reconstruct(String value) {
+        return new UserFirstName(value);
+    }
+
     public String value() {
         return value;
     }
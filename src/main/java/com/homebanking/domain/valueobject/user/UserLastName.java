@@ -27,6 +27,10 @@ public final class UserLastName {
         return new UserLastName(value);
     }
 
+    public static UserLastName reconstruct(String value) {
+        return new UserLastName(value);
+    }
+
     public String value() {
         return value;
     }
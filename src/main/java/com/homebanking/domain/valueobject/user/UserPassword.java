@@ -25,6 +25,10 @@ public final class UserPassword {
         return new UserPassword(value);
     }
 
+    public static UserPassword reconstruct(String value) {
+        return new UserPassword(value);
+    }
+
     public String value() {
         return value;
     }
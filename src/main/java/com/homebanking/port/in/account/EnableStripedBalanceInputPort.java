@@ -0,0 +1,10 @@
+package com.homebanking.port.in.account;
+
+public interface EnableStripedBalanceInputPort {
+
+    /**
+     * Activa el saldo en stripes para la cuenta del CBU (cuentas receptoras
+     * calientes). Idempotente: repetirlo con la misma cantidad no cambia nada.
+     */
+    void enableStripedBalance(String cbu, int stripes);
+}
@@ -0,0 +1,10 @@
+package com.homebanking.port.in.account;
+
+import com.homebanking.application.dto.account.response.AccountBalanceAtOutputResponse;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface GetAccountBalanceAtInputPort {
+    AccountBalanceAtOutputResponse getBalanceAt(UUID accountId, LocalDateTime at, String requesterEmail);
+}
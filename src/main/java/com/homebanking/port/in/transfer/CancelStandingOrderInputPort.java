@@ -0,0 +1,22 @@
+package com.homebanking.port.in.transfer;
+
+import com.homebanking.application.dto.transfer.response.StandingOrderOutputResponse;
+
+import java.util.UUID;
+
+/**
+ * Input Port: CancelStandingOrderInputPort
+
+ * Contrato para dar de baja una orden permanente. Las transferencias ya
+ * generadas no se tocan.
+ */
+public interface CancelStandingOrderInputPort {
+
+    /**
+     * @param standingOrderId ID de la orden
+     * @param requesterEmail Usuario autenticado; debe ser dueño de la cuenta origen
+     * @return Orden cancelada
+     * @throws com.homebanking.domain.exception.transfer.StandingOrderNotFoundException Si la orden no existe
+     */
+    StandingOrderOutputResponse cancelStandingOrder(UUID standingOrderId, String requesterEmail);
+}
@@ -0,0 +1,21 @@
+package com.homebanking.port.in.transfer;
+
+import com.homebanking.application.dto.transfer.request.CreateStandingOrderInputRequest;
+import com.homebanking.application.dto.transfer.response.StandingOrderOutputResponse;
+
+/**
+ * Input Port: CreateStandingOrderInputPort
+
+ * Contrato para dar de alta una transferencia recurrente.
+ */
+public interface CreateStandingOrderInputPort {
+
+    /**
+     * @param request Cuenta origen, destino, monto y recurrencia
+     * @param requesterEmail Usuario autenticado; debe ser dueño de la cuenta origen
+     * @return Orden creada con su primera fecha de ejecución
+     * @throws com.homebanking.domain.exception.transfer.InvalidTransferDataException Si la recurrencia o los datos son inválidos
+     * @throws com.homebanking.domain.exception.account.AccountNotFoundException Si la cuenta origen o destino no existe
+     */
+    StandingOrderOutputResponse createStandingOrder(CreateStandingOrderInputRequest request, String requesterEmail);
+}
@@ -0,0 +1,29 @@
+package com.homebanking.port.in.transfer;
+
+import com.homebanking.application.dto.transfer.request.CreateTransferBatchInputRequest;
+import com.homebanking.application.dto.transfer.response.TransferBatchOutputResponse;
+
+/**
+ * Input Port: CreateTransferBatchInputPort
+
+ * Contrato para crear muchas transferencias desde una misma cuenta en un solo pedido.
+ */
+public interface CreateTransferBatchInputPort {
+
+    /**
+     * Crea un lote de transferencias.
+
+     * Garantías:
+     * - Idempotente por lote: el mismo idempotencyKey devuelve el lote ya creado
+     * - Resultado por ítem: un ítem inválido se rechaza sin cortar el resto
+     * - Un único débito en la cuenta origen por el total aceptado
+     * - Atómico: si no alcanza el saldo para el total, no se crea nada
+
+     * @param request Cuenta origen, ítems e idempotencyKey del lote
+     * @return Lote creado con el resultado de cada ítem
+     * @throws com.homebanking.domain.exception.transfer.InvalidTransferDataException Si el lote está vacío o excede el máximo
+     * @throws com.homebanking.domain.exception.account.AccountNotFoundException Si la cuenta origen no existe
+     * @throws com.homebanking.domain.exception.account.InsufficientFundsException Si no hay saldo para el total
+     */
+    TransferBatchOutputResponse createTransferBatch(CreateTransferBatchInputRequest request);
+}
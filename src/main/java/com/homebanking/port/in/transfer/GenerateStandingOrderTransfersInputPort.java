@@ -0,0 +1,28 @@
+package com.homebanking.port.in.transfer;
+
+import com.homebanking.application.dto.transfer.response.StandingOrderChunkResult;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Input Port: GenerateStandingOrderTransfersInputPort
+
+ * Materializa en transferencias las ocurrencias vencidas de las órdenes
+ * permanentes de un chunk de cuentas, en una transacción.
+ */
+public interface GenerateStandingOrderTransfersInputPort {
+
+    /**
+     * Garantías:
+     * - Una transferencia por (orden, fecha): la key es derivada y se
+     *   verifica antes de insertar; repetir la corrida no debita dos veces
+     * - Atómico por chunk: transferencias, saldos, eventos y avance de
+     *   las órdenes se confirman juntos
+
+     * @param originAccountIds Cuentas del chunk (todas sus órdenes vencidas)
+     * @param runDate Fecha de corrida; se generan las ocurrencias <= runDate
+     */
+    StandingOrderChunkResult generate(List<UUID> originAccountIds, LocalDate runDate);
+}
@@ -0,0 +1,20 @@
+package com.homebanking.port.in.transfer;
+
+import com.homebanking.application.dto.transfer.response.TransferBatchProgressResponse;
+
+import java.util.UUID;
+
+/**
+ * Input Port: GetTransferBatchInputPort
+
+ * Contrato para consultar el progreso de un lote de transferencias.
+ */
+public interface GetTransferBatchInputPort {
+
+    /**
+     * @param batchId ID del lote
+     * @param requesterEmail Usuario autenticado; debe ser dueño de la cuenta origen
+     * @return Totales del lote y cantidad de transferencias por estado
+     */
+    TransferBatchProgressResponse getTransferBatch(UUID batchId, String requesterEmail);
+}
@@ -2,10 +2,17 @@ package com.homebanking.port.in.transfer;
 
 import com.homebanking.application.dto.transfer.response.TransferOutputResponse;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface ProcessTransferInputPort {
     TransferOutputResponse processTransfer(UUID transferId);
-}
-
 
+    /**
+     * Procesa un lote de transferencias con un único envío al sistema externo.
+     * Las que no pueden prepararse se omiten sin afectar al resto.
+     *
+     * @return Transferencias finalizadas (una por cada una que llegó al procesador)
+     */
+    List<TransferOutputResponse> processTransfers(List<UUID> transferIds);
+}
@@ -0,0 +1,43 @@
+package com.homebanking.port.out.account;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Ledger append-only de movimientos y sus snapshots de saldo.
+ * Los movimientos los inserta AccountRepository al guardar la cuenta;
+ * este puerto cubre lecturas históricas y compactación.
+ */
+public interface AccountLedger {
+
+    /**
+     * Saldo de la cuenta al instante at (movimientos con created_at <= at):
+     * último snapshot anterior + cola de movimientos hasta at.
+     */
+    BigDecimal balanceAt(UUID accountId, LocalDateTime at);
+
+    /**
+     * Marca de agua de la compactación: as_of del snapshot más reciente.
+     */
+    Optional<LocalDateTime> lastCompactedAt();
+
+    /**
+     * Keyset: cuentas (ordenadas por id) con movimientos en [from, until).
+     *
+     * @param afterAccountId Última cuenta del chunk anterior (null = desde el principio)
+     */
+    List<UUID> findAccountsWithEntries(LocalDateTime from, LocalDateTime until, UUID afterAccountId, int limit);
+
+    /**
+     * Materializa un snapshot con as_of = cutoff para cada cuenta:
+     * snapshot anterior + movimientos desde ese snapshot hasta cutoff.
+     * Una transacción por llamada.
+     *
+     * @return Snapshots escritos
+     */
+    int compact(Collection<UUID> accountIds, LocalDateTime cutoff);
+}
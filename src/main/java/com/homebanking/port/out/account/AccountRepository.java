@@ -3,15 +3,77 @@ package com.homebanking.port.out.account;
 import com.homebanking.domain.entity.Account;
 import com.homebanking.domain.valueobject.common.Cbu;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface AccountRepository {
     Account save(Account account);
+
+    /**
+     * Persiste un crédito ya aplicado con Account.credit.
+     * Con saldo en stripes suma el monto sobre una stripe elegida por hash
+     * de creditKey, sin leer ni versionar la fila de la cuenta.
+     * Sin stripes es un único UPDATE atómico (balance = balance + amount).
+     */
+    void saveCredit(Account account, BigDecimal amount, UUID creditKey);
+
+    /**
+     * Persiste un débito ya aplicado en el dominio con un único UPDATE
+     * condicionado: solo se aplica si el saldo en la base no queda negativo.
+     * Sin lectura previa ni reintentos por versión: dos débitos
+     * concurrentes se serializan en el lock de fila, no se pisan.
+     *
+     * @return false si el saldo en la base no alcanzaba (no se aplicó nada)
+     */
+    boolean saveDebit(Account account, BigDecimal amount);
+
+    /**
+     * Guarda saldos de varias cuentas con una sola lectura previa.
+     */
+    List<Account> saveAll(List<Account> accounts);
     Optional<Account> findById(UUID id);
+    List<Account> findAllById(Collection<UUID> ids);
     List<Account> findByUserId(UUID userId);
     Optional<Account> findByCbu(Cbu cbu);
+
+    /**
+     * Busca las cuentas de varios CBU en una sola consulta.
+     * Los CBU sin cuenta se omiten.
+     */
+    List<Account> findAllByCbu(Collection<Cbu> cbus);
     boolean existsByCbu(Cbu cbu);
+
+    /**
+     * Bloquea (FOR UPDATE) la cuenta origen y la cuenta del CBU destino en
+     * orden ascendente de id, en una sola consulta. Dos transferencias
+     * cruzadas A→B y B→A toman los locks en el mismo orden: no hay deadlock.
+     * Un destino con stripes se devuelve sin bloquear: su crédito va por
+     * saveCredit a una stripe y no espera a la fila de la cuenta.
+     *
+     * @return Las cuentas encontradas (0, 1 o 2), ordenadas por id
+     */
+    List<Account> lockForTransfer(UUID originAccountId, Cbu targetCbu);
+
+    /**
+     * lockForTransfer para un grupo de transferencias en una misma
+     * transacción: todas las cuentas origen y destino en una sola consulta,
+     * en orden de id. Después, cada lockForTransfer del grupo pide locks que
+     * la transacción ya tiene: dos grupos con cuentas en común no se cruzan.
+     * Los destinos con stripes, igual que en lockForTransfer, sin bloquear.
+     *
+     * @return Las cuentas encontradas, ordenadas por id
+     */
+    List<Account> lockForTransfers(Collection<UUID> originAccountIds, Collection<Cbu> targetCbus);
+
+    /**
+     * Validación de destinos en bloque: una sola consulta para todos los CBU.
+     *
+     * @return Subconjunto de cbus que corresponde a cuentas existentes
+     */
+    Set<Cbu> findExistingCbus(Collection<Cbu> cbus);
 }
 
@@ -0,0 +1,55 @@
+package com.homebanking.port.out.account;
+
+import com.homebanking.domain.valueobject.account.LedgerEntry;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Proyección en la base del motor de saldos en memoria
+ * (account.balance-engine.enabled).
+
+ * Con el motor activo el saldo vigente vive en memoria y en su journal;
+ * las filas de accounts y el ledger se actualizan de forma asíncrona, por
+ * lotes, en el orden en que el motor confirmó las transacciones.
+ */
+public interface BalanceProjection {
+
+    /**
+     * Marca, dentro de la transacción de base en curso, que la transacción
+     * txId del motor se confirma con ella. Si el proceso cae entre el
+     * commit de la base y el COMMIT del journal, la recuperación decide
+     * por esta marca.
+     */
+    void recordCommit(long txId);
+
+    boolean isCommitted(long txId);
+
+    /**
+     * Marca de agua: seq del journal del último COMMIT ya proyectado
+     * (0 si nunca se proyectó nada).
+     */
+    long lastProjectedSeq();
+
+    /**
+     * Aplica un lote en una sola transacción: deltas a las filas, los
+     * movimientos al ledger, borra las marcas de sus transacciones y
+     * avanza la marca de agua a throughSeq.
+     */
+    void project(Batch batch);
+
+    /**
+     * @param balanceDeltas neto por cuenta de todas las transacciones del lote
+     */
+    record Batch(
+            Map<UUID, BigDecimal> balanceDeltas,
+            List<LedgerMutation> ledgerEntries,
+            List<Long> transactionIds,
+            long throughSeq) {
+    }
+
+    record LedgerMutation(UUID accountId, LedgerEntry entry) {
+    }
+}
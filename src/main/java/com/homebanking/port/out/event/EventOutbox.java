@@ -0,0 +1,59 @@
+/*
+ * Output Port: EventOutbox
+
+ * Transactional outbox: los eventos se guardan en la misma transacción que
+ * el cambio de estado que los origina y un relay los entrega después del commit.
+ * Entrega at-least-once, en orden de inserción.
+ */
+package com.homebanking.port.out.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface EventOutbox {
+
+    /**
+     * Agrega un evento al outbox. Requiere una transacción activa:
+     * el evento se confirma o se descarta junto con el agregado.
+     * Un evento idéntico ya registrado se ignora (dedupe por eventId).
+     */
+    void append(Object event);
+
+    /**
+     * Igual que append para varios eventos: el dedupe se resuelve con una
+     * sola consulta y el relay se despierta una sola vez.
+     */
+    void appendAll(List<?> events);
+
+    /**
+     * Toma el siguiente lote de eventos pendientes, en orden, bloqueándolos
+     * para que otro nodo no los entregue en paralelo.
+     */
+    List<OutboxMessage> lockNextBatch(int limit);
+
+    /**
+     * Marca los eventos como entregados.
+     */
+    void markPublished(List<UUID> eventIds);
+
+    /**
+     * Elimina eventos entregados antes de la fecha indicada.
+     *
+     * @return cantidad de eventos eliminados
+     */
+    int purgePublishedBefore(LocalDateTime cutoff);
+
+    /**
+     * Evento pendiente de entrega.
+     */
+    record OutboxMessage(UUID eventId, Object event) {
+    }
+
+    /**
+     * Señal publicada al agregar un evento; los listeners la reciben
+     * tras el commit para despertar al relay sin esperar al polling.
+     */
+    record AppendedSignal() {
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Output Port: TransferMetrics
+
+ * Contrato para registrar métricas operativas del pipeline de transferencias.
+ * Implementado por el adapter de métricas (Micrometer).
+ */
+package com.homebanking.port.out.metrics;
+
+import java.time.Duration;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+public interface TransferMetrics {
+
+    /**
+     * Registra una transferencia recuperada por el reaper de leases.
+     *
+     * @param outcome Resultado aplicado (SUCCESS, RECOVERABLE_FAILURE, ...)
+     * @param overdue Tiempo desde el vencimiento del lease hasta la recuperación
+     */
+    void recordLeaseReclaimed(String outcome, Duration overdue);
+
+    /**
+     * Registra el gauge de profundidad de la cola de dispatch.
+     *
+     * @param depth Proveedor de la cantidad de transferencias encoladas
+     */
+    void registerDispatchQueueDepth(IntSupplier depth);
+
+    /**
+     * Registra la latencia de dispatch de punta a punta (encolado → procesada).
+     *
+     * @param lane Lane de prioridad por el que pasó la transferencia
+     * @param latency Tiempo desde el encolado hasta el fin del procesamiento
+     */
+    void recordDispatchLatency(String lane, Duration latency);
+
+    /**
+     * Registra el gauge de estado del circuit breaker del procesador externo.
+     *
+     * @param state Proveedor del estado: 0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN
+     */
+    void registerProcessorCircuitState(IntSupplier state);
+
+    /**
+     * Registra el gauge de lugares libres en el bulkhead del procesador externo.
+     *
+     * @param available Proveedor de la cantidad de llamadas que aún pueden entrar
+     */
+    void registerProcessorBulkheadAvailable(IntSupplier available);
+
+    /**
+     * Registra una llamada al procesador externo rechazada sin salir a la red.
+     *
+     * @param reason Motivo (CIRCUIT_OPEN, BULKHEAD_FULL)
+     */
+    void recordProcessorCallRejected(String reason);
+
+    /**
+     * Registra los gauges de los límites vigentes del scheduler adaptativo.
+     *
+     * @param batchSize Proveedor del tamaño de lote
+     * @param concurrency Proveedor de los chunks en vuelo permitidos
+     * @param pollDelayMillis Proveedor del intervalo de polling (ms)
+     */
+    void registerSchedulerLimits(IntSupplier batchSize, IntSupplier concurrency, LongSupplier pollDelayMillis);
+
+    /**
+     * Registra una decisión del scheduler adaptativo.
+     *
+     * @param decision Decisión aplicada (INCREASE, DECREASE, HOLD, IDLE)
+     */
+    void recordSchedulerDecision(String decision);
+
+    /**
+     * Registra el gauge de transferencias agendadas cargadas en el timing wheel.
+     *
+     * @param size Proveedor de la cantidad de transferencias en la rueda
+     */
+    void registerScheduledWheelSize(IntSupplier size);
+
+    /**
+     * Registra el atraso de una transferencia agendada al ser liberada.
+     *
+     * @param delay Tiempo entre executeAt y el pase a PENDING
+     */
+    void recordScheduledReleaseDelay(Duration delay);
+
+    /**
+     * Registra ocurrencias de órdenes permanentes procesadas en un chunk.
+     *
+     * @param outcome Resultado (MATERIALIZED, REJECTED, DUPLICATE)
+     * @param count Cantidad de ocurrencias con ese resultado
+     */
+    void recordStandingOrderOccurrences(String outcome, int count);
+
+    /**
+     * Registra la duración de un chunk de la generación de órdenes permanentes.
+     *
+     * @param outcome Resultado del chunk (OK, FAILED)
+     * @param elapsed Duración de la transacción del chunk
+     */
+    void recordStandingOrderChunk(String outcome, Duration elapsed);
+
+    /**
+     * Registra una corrida completa de generación de órdenes permanentes.
+     *
+     * @param elapsed Duración de la corrida
+     * @param throughputPerSecond Transferencias materializadas por segundo
+     */
+    void recordStandingOrderRun(Duration elapsed, double throughputPerSecond);
+}
@@ -0,0 +1,39 @@
+package com.homebanking.port.out.transfer;
+
+import com.homebanking.domain.entity.StandingOrder;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Output Port: StandingOrderRepository
+
+ * Persistencia de órdenes permanentes y lectura paginada de las vencidas
+ * para la generación masiva.
+ */
+public interface StandingOrderRepository {
+
+    StandingOrder save(StandingOrder standingOrder);
+
+    List<StandingOrder> saveAll(List<StandingOrder> standingOrders);
+
+    Optional<StandingOrder> findById(UUID id);
+
+    /**
+     * Keyset sobre cuentas origen con órdenes activas vencidas a runDate.
+     * Paginar por cuenta (y no por orden) deja todas las órdenes de una
+     * cuenta en el mismo chunk: chunks en paralelo no se pisan el saldo.
+     *
+     * @param afterAccountId última cuenta del chunk anterior (null = desde el inicio)
+     * @return hasta limit ids de cuenta, en orden ascendente
+     */
+    List<UUID> findOriginAccountsWithDueOrders(LocalDate runDate, UUID afterAccountId, int limit);
+
+    /**
+     * Órdenes activas vencidas a runDate de las cuentas indicadas.
+     */
+    List<StandingOrder> findDueByOriginAccounts(Collection<UUID> originAccountIds, LocalDate runDate);
+}
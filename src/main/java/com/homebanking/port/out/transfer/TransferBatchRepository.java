@@ -0,0 +1,28 @@
+package com.homebanking.port.out.transfer;
+
+import com.homebanking.domain.entity.TransferBatch;
+import com.homebanking.domain.enums.TransferStatus;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Output Port: TransferBatchRepository
+
+ * Persistencia de lotes de transferencias y consulta de su progreso.
+ */
+public interface TransferBatchRepository {
+
+    TransferBatch save(TransferBatch batch);
+
+    Optional<TransferBatch> findById(UUID id);
+
+    Optional<TransferBatch> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Cuenta las transferencias aceptadas del lote por estado actual.
+     * Estados sin transferencias no aparecen en el mapa.
+     */
+    Map<TransferStatus, Long> countTransfersByStatus(UUID batchId);
+}
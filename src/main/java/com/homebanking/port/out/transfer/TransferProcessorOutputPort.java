@@ -8,6 +8,11 @@
 package com.homebanking.port.out.transfer;
 
 import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.exception.transfer.TransferProcessingException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 public interface TransferProcessorOutputPort {
 
@@ -19,6 +24,82 @@ public interface TransferProcessorOutputPort {
      * @throws com.homebanking.domain.exception.transfer.TransferProcessingException Si error irrecuperable
      */
     boolean processTransfer(Transfer transfer);
+
+    /**
+     * Envía un lote de transferencias al sistema externo en una sola llamada.
+     * Devuelve un resultado por transferencia, en el mismo orden.
+
+     * Por defecto cae a una llamada por transferencia (processTransfer);
+     * los adapters cuyo sistema acepta lotes lo sobrescriben.
+     *
+     * @param transfers Transferencias a procesar
+     * @return Resultado de cada transferencia
+     */
+    default List<SubmissionResult> processTransfers(List<Transfer> transfers) {
+        List<SubmissionResult> results = new ArrayList<>(transfers.size());
+        for (Transfer transfer : transfers) {
+            try {
+                results.add(processTransfer(transfer)
+                        ? SubmissionResult.accepted(transfer.getId())
+                        : SubmissionResult.retryableFailure(transfer.getId(), null));
+            } catch (TransferProcessingException ex) {
+                results.add(!ex.isSubmitted()
+                        ? SubmissionResult.notSubmitted(transfer.getId(), ex.getExternalErrorCode(), ex.getMessage())
+                        : ex.isRecoverable()
+                        ? SubmissionResult.retryableFailure(transfer.getId(), ex.getMessage())
+                        : SubmissionResult.permanentFailure(transfer.getId(), ex.getExternalErrorCode(), ex.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Consulta al sistema externo el resultado real de una transferencia ya enviada.
+     * Usado al recuperar transferencias cuyo nodo murió antes de registrar el resultado.
+     * Por defecto UNKNOWN: el procesador no expone consulta de estado.
+     *
+     * @param transfer Transferencia a consultar
+     * @return Estado conocido por el sistema externo
+     */
+    default ExternalStatus queryStatus(Transfer transfer) {
+        return ExternalStatus.UNKNOWN;
+    }
+
+    enum ExternalStatus {
+        ACCEPTED,
+        REJECTED,
+        UNKNOWN
+    }
+
+    /**
+     * Resultado de una transferencia dentro de un lote.
+     */
+    record SubmissionResult(UUID transferId, Outcome outcome, String errorCode, String message) {
+
+        public enum Outcome {
+            ACCEPTED,
+            RETRYABLE_FAILURE,
+            PERMANENT_FAILURE,
+            /** Cortada antes de salir (breaker abierto, bulkhead lleno): no cuenta como intento. */
+            NOT_SUBMITTED
+        }
+
+        public static SubmissionResult accepted(UUID transferId) {
+            return new SubmissionResult(transferId, Outcome.ACCEPTED, null, null);
+        }
+
+        public static SubmissionResult retryableFailure(UUID transferId, String message) {
+            return new SubmissionResult(transferId, Outcome.RETRYABLE_FAILURE, null, message);
+        }
+
+        public static SubmissionResult notSubmitted(UUID transferId, String errorCode, String message) {
+            return new SubmissionResult(transferId, Outcome.NOT_SUBMITTED, errorCode, message);
+        }
+
+        public static SubmissionResult permanentFailure(UUID transferId, String errorCode, String message) {
+            return new SubmissionResult(transferId, Outcome.PERMANENT_FAILURE, errorCode, message);
+        }
+    }
 }
 
 
@@ -8,8 +8,12 @@
 package com.homebanking.port.out.transfer;
 
 import com.homebanking.domain.entity.Transfer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface TransferRepository {
@@ -20,17 +24,38 @@ public interface TransferRepository {
      */
     Transfer save(Transfer transfer);
 
+    /**
+     * Guarda varias transferencias (nuevas o existentes) en la misma transacción.
+     * Los INSERT viajan agrupados (JDBC batch) en lugar de uno por fila.
+     *
+     * @return Transferencias persistidas, en el mismo orden
+     */
+    List<Transfer> saveAll(List<Transfer> transfers);
+
     /**
      * Busca transferencia por ID.
      */
     Optional<Transfer> findById(UUID id);
 
+    /**
+     * Busca varias transferencias por ID en una sola consulta.
+     * Las que no existen se omiten.
+     */
+    List<Transfer> findAllById(Collection<UUID> ids);
+
     /**
      * Busca transferencia por idempotency key.
      * CRÍTICO para idempotencia: evita duplicados.
      */
     Optional<Transfer> findByIdempotencyKey(String idempotencyKey);
 
+    /**
+     * Idempotencia en bloque: una sola consulta para todas las keys.
+     *
+     * @return Subconjunto de keys que ya tienen transferencia
+     */
+    Set<String> findExistingIdempotencyKeys(Collection<String> idempotencyKeys);
+
     /**
      * Obtiene todas las transferencias de una cuenta origen.
      * Útil para historial.
@@ -38,17 +63,75 @@ public interface TransferRepository {
     List<Transfer> findByOriginAccountId(UUID accountId);
 
     /**
-     * Obtiene transferencias en estado PENDING.
+     * Obtiene transferencias en estado PENDING, en ronda justa entre cuentas
+     * origen (la más vieja de cada cuenta primero).
      * Usado por servicio de procesamiento asincrónico.
      */
     List<Transfer> findPendingTransfers(int limit);
 
     /**
-     * Obtiene transferencias fallidas y reintentables.
+     * Obtiene transferencias fallidas, reintentables y con el backoff vencido.
      * Usado por servicio de reintentos.
      */
     List<Transfer> findRetryableTransfers(int limit);
-}
 
+    /**
+     * Reclama atómicamente hasta "limit" transferencias PENDING para un worker.
+     * Las filas reclamadas quedan con lease a nombre de workerId hasta que venza
+     * leaseDuration; otros nodos las saltean mientras tanto.
+     * Seguro para múltiples instancias: nunca devuelve la misma fila a dos workers.
+     * Orden justo entre cuentas origen: una cuenta con miles de pendientes
+     * no acapara el lote.
+     */
+    List<Transfer> claimPendingTransfers(int limit, String workerId, Duration leaseDuration);
 
+    /**
+     * Igual que claimPendingTransfers pero sobre transferencias FAILED reintentables
+     * cuyo nextRetryAt ya venció (las que esperan su backoff no se reclaman).
+     */
+    List<Transfer> claimRetryableTransfers(int limit, String workerId, Duration leaseDuration);
 
+    /**
+     * Reclama una transferencia PENDING puntual (cola de dispatch).
+     * Reentrante: si el lease ya es de workerId, lo renueva.
+     *
+     * @return true si este worker obtuvo el lease, false si otro la tiene o ya no está PENDING
+     */
+    boolean claimTransfer(UUID transferId, String workerId, Duration leaseDuration);
+
+    /**
+     * Reclama transferencias PROCESSING con lease vencido (nodo caído a mitad
+     * de procesamiento). Consulta indexada por (status, lease_expires_at).
+     * El nuevo lease evita que dos reapers recuperen la misma fila.
+     *
+     * @return cada transferencia (ya con el lease nuevo) junto con el vencimiento
+     *         del lease que se le venció
+     */
+    List<ExpiredLease> claimExpiredProcessingTransfers(int limit, String workerId, Duration leaseDuration);
+
+    /**
+     * Obtiene transferencias SCHEDULED posteriores a (afterExecuteAt, afterId)
+     * y con executeAt hasta until (inclusive), en orden (executeAt, id).
+     * Paginación por keyset: con más de limit agendadas en el mismo instante,
+     * la página siguiente arranca en la última devuelta (executeAt e id) y
+     * no repite la misma. Consulta indexada por (status, execute_at).
+     */
+    List<Transfer> findScheduledTransfers(LocalDateTime afterExecuteAt, UUID afterId, LocalDateTime until, int limit);
+
+    /**
+     * Pasa a PENDING las transferencias agendadas ya vencidas.
+     * Seguro para múltiples instancias: cada fila cambia una sola vez.
+     *
+     * @return cantidad de transferencias liberadas por esta llamada
+     */
+    int releaseScheduledTransfers(Collection<UUID> transferIds, LocalDateTime now);
+
+    /**
+     * Transferencia recuperada por lease vencido.
+     *
+     * @param expiredAt vencimiento del lease anterior al claim
+     *                  (null si la fila quedó PROCESSING sin lease)
+     */
+    record ExpiredLease(Transfer transfer, LocalDateTime expiredAt) {
+    }
+}
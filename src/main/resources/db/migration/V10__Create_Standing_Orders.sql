@@ -0,0 +1,17 @@
+-- Órdenes permanentes: transferencias recurrentes semanales o mensuales
+CREATE TABLE IF NOT EXISTS standing_orders (
+    id UUID PRIMARY KEY,
+    origin_account_id UUID NOT NULL,
+    target_cbu VARCHAR(22) NOT NULL,
+    amount DECIMAL(19, 2) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    frequency VARCHAR(10) NOT NULL,
+    recurrence_day INT NOT NULL,
+    next_execution_date DATE NOT NULL,
+    active BOOLEAN NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL
+);
+
+-- Generación por keyset de cuentas: recorre origin_account_id en orden y filtra vencidas
+CREATE INDEX IF NOT EXISTS idx_standing_order_origin_next ON standing_orders(origin_account_id, next_execution_date);
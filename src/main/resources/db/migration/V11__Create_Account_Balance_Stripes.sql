@@ -0,0 +1,7 @@
+-- Saldo en stripes: créditos de cuentas calientes repartidos en N filas
+CREATE TABLE IF NOT EXISTS account_balance_stripes (
+    account_id UUID NOT NULL,
+    stripe INT NOT NULL,
+    amount DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (account_id, stripe)
+);
@@ -0,0 +1,19 @@
+-- Ledger append-only de movimientos y snapshots de saldo por compactación
+CREATE TABLE IF NOT EXISTS account_ledger_entries (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id UUID NOT NULL,
+    direction VARCHAR(10) NOT NULL,
+    amount DECIMAL(19, 2) NOT NULL,
+    reference VARCHAR(100),
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_ledger_account_created ON account_ledger_entries(account_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_ledger_created ON account_ledger_entries(created_at);
+
+CREATE TABLE IF NOT EXISTS account_balance_snapshots (
+    account_id UUID NOT NULL,
+    as_of TIMESTAMP NOT NULL,
+    balance DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (account_id, as_of)
+);
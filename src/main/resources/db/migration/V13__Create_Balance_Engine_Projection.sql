@@ -0,0 +1,10 @@
+-- Motor de saldos en memoria: marcas de transacciones confirmadas y marca
+-- de agua de la proyección asíncrona sobre accounts y el ledger
+CREATE TABLE IF NOT EXISTS balance_engine_transactions (
+    tx_id BIGINT PRIMARY KEY
+);
+
+CREATE TABLE IF NOT EXISTS balance_engine_projection (
+    name VARCHAR(50) PRIMARY KEY,
+    last_seq BIGINT NOT NULL
+);
@@ -0,0 +1,4 @@
+ALTER TABLE transfers ADD COLUMN IF NOT EXISTS lease_owner VARCHAR(100);
+ALTER TABLE transfers ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_status_lease ON transfers(status, lease_expires_at);
@@ -0,0 +1,8 @@
+ALTER TABLE transfers ADD COLUMN IF NOT EXISTS next_retry_at TIMESTAMP;
+
+-- Fallidas existentes: reintentables de inmediato (comportamiento previo)
+UPDATE transfers
+SET next_retry_at = COALESCE(failed_at, created_at)
+WHERE status = 'FAILED' AND next_retry_at IS NULL AND retry_count < 3;
+
+CREATE INDEX IF NOT EXISTS idx_status_next_retry ON transfers(status, next_retry_at);
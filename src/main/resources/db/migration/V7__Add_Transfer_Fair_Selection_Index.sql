@@ -0,0 +1,2 @@
+-- Selección justa de PENDING: ROW_NUMBER por cuenta origen ordenado por antigüedad
+CREATE INDEX IF NOT EXISTS idx_status_origin_created ON transfers(status, origin_account_id, created_at);
@@ -0,0 +1,21 @@
+-- Lotes de transferencias: un registro por envío masivo y un resultado por ítem
+CREATE TABLE IF NOT EXISTS transfer_batches (
+    id UUID PRIMARY KEY,
+    idempotency_key VARCHAR(36) NOT NULL UNIQUE,
+    origin_account_id UUID NOT NULL,
+    total_amount DECIMAL(19, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_batch_origin_account ON transfer_batches(origin_account_id);
+
+CREATE TABLE IF NOT EXISTS transfer_batch_items (
+    batch_id UUID NOT NULL,
+    item_index INT NOT NULL,
+    transfer_id UUID,
+    outcome VARCHAR(20) NOT NULL,
+    error_message VARCHAR(255),
+    FOREIGN KEY (batch_id) REFERENCES transfer_batches(id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_batch_items_batch ON transfer_batch_items(batch_id, item_index);
@@ -0,0 +1,4 @@
+-- Transferencias agendadas: fecha de ejecución y ventana indexada por (status, execute_at)
+ALTER TABLE transfers ADD COLUMN IF NOT EXISTS execute_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_status_execute_at ON transfers(status, execute_at);
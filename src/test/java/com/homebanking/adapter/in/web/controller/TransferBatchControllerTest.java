@@ -0,0 +1,183 @@
+package com.homebanking.adapter.in.web.controller;
+
+import com.homebanking.adapter.in.web.mapper.TransferBatchNdjsonReader;
+import com.homebanking.adapter.in.web.mapper.TransferWebMapper;
+import com.homebanking.adapter.in.web.request.CreateTransferBatchRequest;
+import com.homebanking.adapter.in.web.response.TransferBatchResponse;
+import com.homebanking.application.dto.transfer.request.CreateTransferBatchInputRequest;
+import com.homebanking.application.dto.transfer.response.TransferBatchOutputResponse;
+import com.homebanking.domain.exception.security.AccessDeniedException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.port.in.transfer.CreateTransferBatchInputPort;
+import com.homebanking.port.in.transfer.GetTransferBatchInputPort;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.MethodValidationPostProcessor;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = TransferBatchControllerTest.TestConfig.class)
+class TransferBatchControllerTest {
+
+    private static final UUID ORIGIN_ACCOUNT_ID = UUID.randomUUID();
+    private static final String IDEMPOTENCY_KEY = UUID.randomUUID().toString();
+    private static final UserDetails OWNER = User.withUsername("owner@example.com")
+            .password("secret")
+            .authorities("ROLE_USER")
+            .build();
+
+    @Autowired
+    private TransferBatchController transferBatchController;
+
+    @Autowired
+    private CreateTransferBatchInputPort createTransferBatchUseCase;
+
+    @BeforeEach
+    void setUp() {
+        reset(createTransferBatchUseCase);
+    }
+
+    @Test
+    void shouldPassAuthenticatedUserToUseCase_WhenBatchIsJson() {
+        // Arrange
+        when(createTransferBatchUseCase.createTransferBatch(any())).thenReturn(output());
+        CreateTransferBatchRequest request = new CreateTransferBatchRequest(ORIGIN_ACCOUNT_ID, List.of(
+                new CreateTransferBatchRequest.Item("1234567890123456789012", new BigDecimal("10.00"), "Sueldo")));
+
+        // Act
+        ResponseEntity<TransferBatchResponse> response =
+                transferBatchController.createTransferBatch(IDEMPOTENCY_KEY, request, OWNER);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        CreateTransferBatchInputRequest input = capturedRequest();
+        assertThat(input.requesterEmail()).isEqualTo("owner@example.com");
+        assertThat(input.originAccountId()).isEqualTo(ORIGIN_ACCOUNT_ID);
+        assertThat(input.items()).hasSize(1);
+    }
+
+    @Test
+    void shouldPassAuthenticatedUserToUseCase_WhenBatchIsNdjson() {
+        // Arrange
+        when(createTransferBatchUseCase.createTransferBatch(any())).thenReturn(output());
+        String body = """
+                {"targetCbu":"1234567890123456789012","amount":10.00,"description":"Sueldo"}
+
+                {"targetCbu":"2234567890123456789012","amount":20.00,"description":"Sueldo"}
+                """;
+
+        // Act
+        ResponseEntity<TransferBatchResponse> response = transferBatchController.createTransferBatchFromStream(
+                IDEMPOTENCY_KEY, ORIGIN_ACCOUNT_ID, stream(body), OWNER);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getLocation()).hasToString("/api/transfers/batch/" + output().batchId());
+        CreateTransferBatchInputRequest input = capturedRequest();
+        assertThat(input.requesterEmail()).isEqualTo("owner@example.com");
+        assertThat(input.items()).extracting(CreateTransferBatchInputRequest.Item::targetCbu)
+                .containsExactly("1234567890123456789012", "2234567890123456789012");
+    }
+
+    @Test
+    void shouldPropagateAccessDenied_WhenOriginAccountIsNotOwned() {
+        // Arrange
+        when(createTransferBatchUseCase.createTransferBatch(any()))
+                .thenThrow(new AccessDeniedException(DomainErrorMessages.ACCESS_DENIED));
+        String body = "{\"targetCbu\":\"1234567890123456789012\",\"amount\":10.00,\"description\":\"Sueldo\"}\n";
+
+        // Act & Assert
+        assertThatThrownBy(() -> transferBatchController.createTransferBatchFromStream(
+                IDEMPOTENCY_KEY, ORIGIN_ACCOUNT_ID, stream(body), OWNER))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private CreateTransferBatchInputRequest capturedRequest() {
+        ArgumentCaptor<CreateTransferBatchInputRequest> captor =
+                ArgumentCaptor.forClass(CreateTransferBatchInputRequest.class);
+        verify(createTransferBatchUseCase).createTransferBatch(captor.capture());
+        return captor.getValue();
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TransferBatchOutputResponse output() {
+        return new TransferBatchOutputResponse(
+                UUID.nameUUIDFromBytes(IDEMPOTENCY_KEY.getBytes(StandardCharsets.UTF_8)),
+                IDEMPOTENCY_KEY,
+                ORIGIN_ACCOUNT_ID,
+                1,
+                1,
+                0,
+                new BigDecimal("10.00"),
+                "2026-01-01T00:00:00",
+                List.of(new TransferBatchOutputResponse.ItemResult(0, UUID.randomUUID(), "ACCEPTED", null))
+        );
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean
+        TransferBatchController transferBatchController(
+                CreateTransferBatchInputPort createTransferBatchUseCase,
+                GetTransferBatchInputPort getTransferBatchUseCase) {
+            return new TransferBatchController(
+                    createTransferBatchUseCase,
+                    getTransferBatchUseCase,
+                    new TransferWebMapper(),
+                    new TransferBatchNdjsonReader(100)
+            );
+        }
+
+        @Bean
+        CreateTransferBatchInputPort createTransferBatchInputPort() {
+            return Mockito.mock(CreateTransferBatchInputPort.class);
+        }
+
+        @Bean
+        GetTransferBatchInputPort getTransferBatchInputPort() {
+            return Mockito.mock(GetTransferBatchInputPort.class);
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+
+        @Bean
+        MethodValidationPostProcessor methodValidationPostProcessor(Validator validator) {
+            MethodValidationPostProcessor processor = new MethodValidationPostProcessor();
+            processor.setValidator(validator);
+            return processor;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.homebanking.adapter.in.web.mapper;
+
+import com.homebanking.adapter.in.web.request.CreateTransferBatchRequest;
+import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransferBatchNdjsonReaderTest {
+
+    private static final String LINE =
+            "{\"targetCbu\":\"1234567890123456789012\",\"amount\":10.00,\"description\":\"Sueldo\"}\n";
+
+    private final TransferBatchNdjsonReader reader = new TransferBatchNdjsonReader(3);
+
+    @Test
+    void shouldReadOneItemPerLineAndSkipBlankLines() {
+        List<CreateTransferBatchRequest.Item> items = reader.read(stream(LINE + "\n" + LINE));
+
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).targetCbu()).isEqualTo("1234567890123456789012");
+        assertThat(items.get(0).amount()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    void shouldStopOneItemPastMaxItems_SoUseCaseRejectsBatchBySize() {
+        // 1000 líneas con tope 3: se leen 4 y el resto no se consume
+        CountingInputStream body = new CountingInputStream(stream(LINE.repeat(1000)));
+
+        List<CreateTransferBatchRequest.Item> items = reader.read(body);
+
+        assertThat(items).hasSize(4);
+        assertThat(body.bytesRead()).isLessThan(LINE.length() * 1000);
+    }
+
+    @Test
+    void shouldReadExactlyMaxItems() {
+        assertThat(reader.read(stream(LINE.repeat(3)))).hasSize(3);
+    }
+
+    @Test
+    void shouldRejectMalformedLine() {
+        assertThatThrownBy(() -> reader.read(stream(LINE + "{not json}\n")))
+                .isInstanceOf(InvalidTransferDataException.class)
+                .hasMessage(DomainErrorMessages.TRANSFER_BATCH_MALFORMED);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class CountingInputStream extends InputStream {
+
+        private final InputStream delegate;
+        private final AtomicInteger read = new AtomicInteger();
+
+        private CountingInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+                read.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = delegate.read(buffer, offset, length);
+            if (n > 0) {
+                read.addAndGet(n);
+            }
+            return n;
+        }
+
+        int bytesRead() {
+            return read.get();
+        }
+    }
+}
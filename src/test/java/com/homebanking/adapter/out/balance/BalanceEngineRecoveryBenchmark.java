@@ -0,0 +1,148 @@
+package com.homebanking.adapter.out.balance;
+
+import com.homebanking.domain.enums.LedgerDirection;
+import com.homebanking.domain.valueobject.account.LedgerEntry;
+import com.homebanking.port.out.account.BalanceProjection;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark: tiempo de arranque de BalanceEngine.
+ * - replay: sin snapshot, el arranque relee todo el journal
+ * - snapshot: después de proyectar y snapshotear, el arranque carga el
+ *   snapshot y solo relee la cola del journal
+ * Las transferencias se confirman desde muchos hilos para que el group
+ * fsync agrupe los prepare.
+
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=BalanceEngineRecoveryBenchmark
+ */
+@Tag("benchmark")
+class BalanceEngineRecoveryBenchmark {
+
+    private static final int ACCOUNTS = 100_000;
+    private static final int TRANSFERS = 300_000;
+    private static final int TAIL_TRANSFERS = 10_000;
+    private static final int THREADS = 64;
+    private static final BigDecimal OPENING = new BigDecimal("1000000.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+    @TempDir
+    Path directory;
+
+    private final WatermarkProjection projection = new WatermarkProjection();
+
+    @Test
+    void compareReplayAndSnapshotRecovery() {
+        UUID[] accounts = IntStream.range(0, ACCOUNTS).mapToObj(i -> UUID.randomUUID()).toArray(UUID[]::new);
+        BalanceEngine engine = start();
+        for (UUID account : accounts) {
+            engine.register(account, OPENING);
+        }
+        long started = System.nanoTime();
+        transfer(engine, accounts, TRANSFERS);
+        long writeMillis = (System.nanoTime() - started) / 1_000_000;
+        // Registros: una apertura por cuenta + débito, crédito y COMMIT por transferencia
+        long records = ACCOUNTS + 3L * TRANSFERS;
+
+        // Caída sin snapshot: todo el journal se relee
+        started = System.nanoTime();
+        BalanceEngine replayed = start();
+        long replayMillis = (System.nanoTime() - started) / 1_000_000;
+        assertThat(replayed.accounts()).isEqualTo(ACCOUNTS);
+        assertThat(total(replayed, accounts)).isEqualByComparingTo(OPENING.multiply(BigDecimal.valueOf(ACCOUNTS)));
+
+        while (replayed.project() > 0) {
+            // la base al día: el snapshot puede podar todo el journal
+        }
+        replayed.snapshot();
+        transfer(replayed, accounts, TAIL_TRANSFERS);
+
+        started = System.nanoTime();
+        BalanceEngine fromSnapshot = start();
+        long snapshotMillis = (System.nanoTime() - started) / 1_000_000;
+        assertThat(total(fromSnapshot, accounts)).isEqualByComparingTo(OPENING.multiply(BigDecimal.valueOf(ACCOUNTS)));
+        fromSnapshot.stop();
+
+        System.out.printf("%d cuentas, %d transferencias (%d registros) escritas en %d ms (%.0f transferencias/s)%n",
+                ACCOUNTS, TRANSFERS, records, writeMillis, TRANSFERS * 1000.0 / Math.max(writeMillis, 1));
+        System.out.printf("arranque por replay: %d ms | arranque por snapshot + %d transferencias de cola: %d ms%n",
+                replayMillis, TAIL_TRANSFERS, snapshotMillis);
+    }
+
+    private BalanceEngine start() {
+        BalanceEngine engine = new BalanceEngine(
+                new BalanceEngineSettings(directory, 64 * 1024 * 1024, ACCOUNTS,
+                        Duration.ofHours(1), 10_000, Duration.ofHours(1)),
+                projection);
+        engine.start();
+        return engine;
+    }
+
+    private static void transfer(BalanceEngine engine, UUID[] accounts, int transfers) {
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < transfers / THREADS; i++) {
+                        UUID origin = accounts[random.nextInt(accounts.length)];
+                        UUID target = accounts[random.nextInt(accounts.length)];
+                        LocalDateTime now = LocalDateTime.now();
+                        EngineTransaction tx = engine.begin();
+                        tx.stage(origin, List.of(new LedgerEntry(LedgerDirection.DEBIT, AMOUNT, "bench", now)));
+                        tx.stage(target, List.of(new LedgerEntry(LedgerDirection.CREDIT, AMOUNT, "bench", now)));
+                        tx.commit();
+                    }
+                });
+            }
+        }
+    }
+
+    private static BigDecimal total(BalanceEngine engine, UUID[] accounts) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (UUID account : accounts) {
+            total = total.add(engine.available(account).orElseThrow());
+        }
+        return total;
+    }
+
+    /**
+     * Proyección que solo avanza la marca de agua.
+     */
+    private static final class WatermarkProjection implements BalanceProjection {
+
+        private volatile long lastSeq;
+
+        @Override
+        public void recordCommit(long txId) {
+        }
+
+        @Override
+        public boolean isCommitted(long txId) {
+            return false;
+        }
+
+        @Override
+        public long lastProjectedSeq() {
+            return lastSeq;
+        }
+
+        @Override
+        public void project(Batch batch) {
+            lastSeq = batch.throughSeq();
+        }
+    }
+}
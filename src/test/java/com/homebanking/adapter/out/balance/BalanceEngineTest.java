@@ -0,0 +1,270 @@
+package com.homebanking.adapter.out.balance;
+
+import com.homebanking.domain.enums.LedgerDirection;
+import com.homebanking.domain.valueobject.account.LedgerEntry;
+import com.homebanking.port.out.account.BalanceProjection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BalanceEngineTest {
+
+    @TempDir
+    Path directory;
+
+    private final InMemoryProjection projection = new InMemoryProjection();
+    private BalanceEngine current;
+
+    @AfterEach
+    void stopEngine() {
+        // Los anteriores quedan "caídos": solo el último se detiene en orden
+        current.stop();
+    }
+
+    @Test
+    void shouldReserveDebitsAndRejectWhenAvailableDoesNotCover() {
+        BalanceEngine engine = start();
+        UUID account = UUID.randomUUID();
+        engine.register(account, new BigDecimal("100.00"));
+
+        EngineTransaction first = engine.begin();
+        assertThat(first.stage(account, List.of(debit("70.00")))).isTrue();
+        assertThat(engine.available(account)).contains(new BigDecimal("30.00"));
+
+        EngineTransaction second = engine.begin();
+        assertThat(second.stage(account, List.of(debit("40.00")))).isFalse();
+        second.abort();
+
+        first.commit();
+        assertThat(engine.available(account)).contains(new BigDecimal("30.00"));
+    }
+
+    @Test
+    void shouldApplyCreditsOnlyOnCommitAndReleaseReservationsOnAbort() {
+        BalanceEngine engine = start();
+        UUID origin = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        engine.register(origin, new BigDecimal("100.00"));
+        engine.register(target, BigDecimal.ZERO);
+
+        EngineTransaction aborted = engine.begin();
+        aborted.stage(origin, List.of(debit("60.00")));
+        aborted.stage(target, List.of(credit("60.00")));
+        aborted.prepare();
+        assertThat(engine.available(target)).contains(new BigDecimal("0.00"));
+        aborted.abort();
+        assertThat(engine.available(origin)).contains(new BigDecimal("100.00"));
+
+        EngineTransaction committed = engine.begin();
+        committed.stage(origin, List.of(debit("25.50")));
+        committed.stage(target, List.of(credit("25.50")));
+        committed.commit();
+
+        assertThat(engine.available(origin)).contains(new BigDecimal("74.50"));
+        assertThat(engine.available(target)).contains(new BigDecimal("25.50"));
+    }
+
+    @Test
+    void shouldRecoverBalancesFromJournalAfterCrash() {
+        BalanceEngine engine = start();
+        UUID account = UUID.randomUUID();
+        engine.register(account, new BigDecimal("10.00"));
+        for (int i = 0; i < 5; i++) {
+            EngineTransaction tx = engine.begin();
+            tx.stage(account, List.of(credit("1.25")));
+            tx.commit();
+        }
+
+        BalanceEngine restarted = start();
+
+        assertThat(restarted.available(account)).contains(new BigDecimal("16.25"));
+        assertThat(restarted.project()).isEqualTo(5);
+        assertThat(projection.deltas).containsEntry(account, new BigDecimal("6.25"));
+    }
+
+    @Test
+    void shouldRecoverFromSnapshotAndPruneProjectedJournal() throws IOException {
+        BalanceEngine engine = start();
+        UUID account = UUID.randomUUID();
+        engine.register(account, new BigDecimal("50.00"));
+        EngineTransaction tx = engine.begin();
+        tx.stage(account, List.of(debit("20.00")));
+        tx.commit();
+        engine.project();
+        engine.snapshot();
+
+        EngineTransaction after = engine.begin();
+        after.stage(account, List.of(credit("5.00")));
+        after.commit();
+
+        assertThat(segments()).hasSize(1);
+        BalanceEngine restarted = start();
+
+        assertThat(restarted.available(account)).contains(new BigDecimal("35.00"));
+        assertThat(restarted.project()).isEqualTo(1);
+        assertThat(restarted.begin().id()).isGreaterThan(after.id());
+    }
+
+    @Test
+    void shouldResolveInDoubtTransactionsWithDatabaseMarker() {
+        BalanceEngine engine = start();
+        UUID account = UUID.randomUUID();
+        engine.register(account, new BigDecimal("100.00"));
+
+        EngineTransaction confirmed = engine.begin();
+        confirmed.stage(account, List.of(debit("30.00")));
+        projection.recordCommit(confirmed.id());
+        confirmed.prepare();
+
+        EngineTransaction rolledBack = engine.begin();
+        rolledBack.stage(account, List.of(debit("10.00")));
+        rolledBack.prepare();
+
+        // Caída entre el commit de la base y el COMMIT del journal
+        BalanceEngine restarted = start();
+
+        assertThat(restarted.available(account)).contains(new BigDecimal("70.00"));
+        assertThat(restarted.project()).isEqualTo(1);
+        assertThat(projection.committed).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreTornTailOfLastSegment() throws IOException {
+        BalanceEngine engine = start();
+        UUID account = UUID.randomUUID();
+        engine.register(account, new BigDecimal("1.00"));
+        EngineTransaction tx = engine.begin();
+        tx.stage(account, List.of(credit("2.00")));
+        tx.commit();
+        tearTail(segments().getLast());
+
+        BalanceEngine restarted = start();
+
+        assertThat(restarted.available(account)).contains(new BigDecimal("3.00"));
+        EngineTransaction next = restarted.begin();
+        next.stage(account, List.of(credit("1.00")));
+        next.commit();
+        assertThat(start().available(account)).contains(new BigDecimal("4.00"));
+    }
+
+    @Test
+    void shouldProjectNetDeltasAndAdvanceWatermark() {
+        BalanceEngine engine = start();
+        UUID origin = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        engine.register(origin, new BigDecimal("100.00"));
+        engine.register(target, BigDecimal.ZERO);
+        for (int i = 0; i < 3; i++) {
+            EngineTransaction tx = engine.begin();
+            tx.stage(origin, List.of(debit("10.00")));
+            tx.stage(target, List.of(credit("10.00")));
+            projection.recordCommit(tx.id());
+            tx.commit();
+        }
+
+        assertThat(engine.project()).isEqualTo(3);
+
+        assertThat(projection.batches).hasSize(1);
+        assertThat(projection.deltas)
+                .containsEntry(origin, new BigDecimal("-30.00"))
+                .containsEntry(target, new BigDecimal("30.00"));
+        assertThat(projection.ledger).hasSize(6);
+        assertThat(projection.committed).isEmpty();
+        assertThat(projection.lastProjectedSeq()).isPositive();
+        assertThat(start().project()).isZero();
+    }
+
+    private BalanceEngine start() {
+        BalanceEngine engine = new BalanceEngine(
+                new BalanceEngineSettings(directory, 64 * 1024, 16,
+                        Duration.ofHours(1), 100, Duration.ofHours(1)),
+                projection);
+        engine.start();
+        current = engine;
+        return engine;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("journal-"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Registro a medio escribir al final del segmento: largo válido, CRC no.
+     */
+    private static void tearTail(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            while (JournalRecord.readFrom(buffer) != null) {
+                // hasta el final de lo escrito
+            }
+            buffer.putInt(buffer.position(), 64);
+            buffer.put(buffer.position() + Integer.BYTES, (byte) 7);
+            buffer.force();
+        }
+    }
+
+    private static LedgerEntry debit(String amount) {
+        return new LedgerEntry(LedgerDirection.DEBIT, new BigDecimal(amount), "ref", LocalDateTime.now());
+    }
+
+    private static LedgerEntry credit(String amount) {
+        return new LedgerEntry(LedgerDirection.CREDIT, new BigDecimal(amount), "ref", LocalDateTime.now());
+    }
+
+    private static final class InMemoryProjection implements BalanceProjection {
+
+        final Set<Long> committed = new HashSet<>();
+        final Map<UUID, BigDecimal> deltas = new HashMap<>();
+        final List<LedgerMutation> ledger = new ArrayList<>();
+        final List<Batch> batches = new ArrayList<>();
+        long lastSeq;
+
+        @Override
+        public synchronized void recordCommit(long txId) {
+            committed.add(txId);
+        }
+
+        @Override
+        public synchronized boolean isCommitted(long txId) {
+            return committed.contains(txId);
+        }
+
+        @Override
+        public synchronized long lastProjectedSeq() {
+            return lastSeq;
+        }
+
+        @Override
+        public synchronized void project(Batch batch) {
+            batch.balanceDeltas().forEach((id, delta) -> deltas.merge(id, delta, BigDecimal::add));
+            ledger.addAll(batch.ledgerEntries());
+            batch.transactionIds().forEach(committed::remove);
+            batches.add(batch);
+            lastSeq = batch.throughSeq();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.homebanking.adapter.out.external.payment.adapter;
+
+import com.homebanking.adapter.out.external.payment.client.TransferProcessorClient;
+import com.homebanking.adapter.out.external.payment.resilience.Bulkhead;
+import com.homebanking.adapter.out.external.payment.resilience.CircuitBreaker;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.enums.TransferStatus;
+import com.homebanking.domain.exception.transfer.TransferProcessingException;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import com.homebanking.port.out.transfer.TransferProcessorOutputPort.SubmissionResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferProcessorAdapterTest {
+
+    @Mock
+    private TransferProcessorClient client;
+    @Mock
+    private TransferMetrics transferMetrics;
+
+    private final CircuitBreaker circuitBreaker =
+            new CircuitBreaker("test", 4, 2, 0.5, Duration.ofMinutes(1));
+    private final Bulkhead bulkhead = new Bulkhead(2, Duration.ZERO);
+
+    @Test
+    void shouldOpenCircuitAfterTemporaryErrorsAndSkipClient() throws Exception {
+        TransferProcessorAdapter adapter = adapter();
+        when(client.submitTransfer(any())).thenThrow(new TransferProcessorClient.TemporaryException("timeout"));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> adapter.processTransfer(transfer()))
+                    .isInstanceOf(TransferProcessingException.class);
+        }
+
+        assertThatThrownBy(() -> adapter.processTransfer(transfer()))
+                .isInstanceOfSatisfying(TransferProcessingException.class, ex -> {
+                    assertThat(ex.isRecoverable()).isTrue();
+                    assertThat(ex.isSubmitted()).isFalse();
+                    assertThat(ex.getExternalErrorCode()).isEqualTo(TransferProcessorAdapter.CIRCUIT_OPEN);
+                });
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        verify(client, times(2)).submitTransfer(any());
+        verify(transferMetrics).recordProcessorCallRejected(TransferProcessorAdapter.CIRCUIT_OPEN);
+        assertThat(bulkhead.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCountPermanentRejectionsAsFailures() throws Exception {
+        TransferProcessorAdapter adapter = adapter();
+        when(client.submitTransfer(any()))
+                .thenThrow(new TransferProcessorClient.PermanentException("CBU invalido", "INVALID_CBU"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> adapter.processTransfer(transfer()))
+                    .isInstanceOf(TransferProcessingException.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        verify(client, times(3)).submitTransfer(any());
+    }
+
+    @Test
+    void shouldReturnBatchAsNotSubmittedWhenCircuitIsOpen() throws Exception {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        TransferProcessorAdapter adapter = adapter();
+        List<Transfer> transfers = List.of(transfer(), transfer());
+
+        List<SubmissionResult> results = adapter.processTransfers(transfers);
+
+        assertThat(results).extracting(SubmissionResult::outcome)
+                .containsOnly(SubmissionResult.Outcome.NOT_SUBMITTED);
+        assertThat(results).extracting(SubmissionResult::errorCode)
+                .containsOnly(TransferProcessorAdapter.CIRCUIT_OPEN);
+        verify(client, never()).submitBatch(anyList());
+    }
+
+    @Test
+    void shouldRejectBatchWhenBulkheadIsFull() throws Exception {
+        bulkhead.tryAcquire();
+        bulkhead.tryAcquire();
+        TransferProcessorAdapter adapter = adapter();
+
+        List<SubmissionResult> results = adapter.processTransfers(List.of(transfer()));
+
+        assertThat(results).extracting(SubmissionResult::outcome)
+                .containsOnly(SubmissionResult.Outcome.NOT_SUBMITTED);
+        verify(client, never()).submitBatch(anyList());
+        verify(transferMetrics).recordProcessorCallRejected(TransferProcessorAdapter.BULKHEAD_FULL);
+    }
+
+    private TransferProcessorAdapter adapter() {
+        return new TransferProcessorAdapter(client, circuitBreaker, bulkhead, transferMetrics);
+    }
+
+    private Transfer transfer() {
+        return Transfer.reconstruct(
+                UUID.randomUUID(),
+                IdempotencyKey.of("idem-" + UUID.randomUUID()),
+                UUID.randomUUID(),
+                Cbu.of("1234567890123456789012"),
+                TransferAmount.of(new BigDecimal("100")),
+                TransferDescription.of("Test"),
+                TransferStatus.PROCESSING,
+                LocalDateTime.now(), null, null, null, 0, null, null, null, null, null, null
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package com.homebanking.adapter.out.external.payment.adapter;
+
+import com.homebanking.adapter.out.external.payment.client.TransferProcessorClient;
+import com.homebanking.adapter.out.external.payment.resilience.Bulkhead;
+import com.homebanking.adapter.out.external.payment.resilience.CircuitBreaker;
+import com.homebanking.application.mapper.TransferMapper;
+import com.homebanking.application.service.transfer.ProcessingLeaseSettings;
+import com.homebanking.application.service.transfer.TransferStateTransitionService;
+import com.homebanking.application.service.transfer.action.ReleaseUnsubmittedAction;
+import com.homebanking.application.service.transfer.action.RetryableFailureAction;
+import com.homebanking.application.usecase.transfer.ProcessTransferUseCaseImpl;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.enums.TransferStatus;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.event.EventOutbox;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import com.homebanking.port.out.transfer.TransferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * De punta a punta sin base: un reintento que el breaker corta antes de
+ * salir no gasta intento. Adapter, caso de uso, servicio de estados y
+ * acciones son los reales; los repositorios devuelven la misma instancia.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransferProcessorRejectionRetryTest {
+
+    @Mock
+    private TransferProcessorClient client;
+    @Mock
+    private TransferMetrics transferMetrics;
+    @Mock
+    private TransferRepository transferRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private EventOutbox eventOutbox;
+
+    private final CircuitBreaker circuitBreaker =
+            new CircuitBreaker("test", 4, 2, 0.5, Duration.ofMinutes(1));
+
+    private ProcessTransferUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        TransferStateTransitionService stateService = new TransferStateTransitionService(
+                transferRepository,
+                accountRepository,
+                List.of(new RetryableFailureAction(), new ReleaseUnsubmittedAction()),
+                new ProcessingLeaseSettings("node-1", Duration.ofSeconds(30)),
+                eventOutbox);
+        useCase = new ProcessTransferUseCaseImpl(
+                new TransferProcessorAdapter(client, circuitBreaker, new Bulkhead(2, Duration.ZERO), transferMetrics),
+                new TransferMapper(),
+                stateService);
+        when(accountRepository.existsByCbu(any(Cbu.class))).thenReturn(true);
+        when(transferRepository.save(any(Transfer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void shouldLeaveRetryCountUnchanged_WhenCircuitIsOpenOnBatch() throws Exception {
+        // Arrange
+        Transfer transfer = failedTransfer(1);
+        when(transferRepository.findById(transfer.getId())).thenReturn(Optional.of(transfer));
+        when(transferRepository.findAllById(anyCollection())).thenReturn(List.of(transfer));
+        when(transferRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        useCase.processTransfers(List.of(transfer.getId()));
+
+        // Assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(transfer.getStatus()).isEqualTo(TransferStatus.FAILED);
+        assertThat(transfer.getRetryCount()).isEqualTo(1);
+        assertThat(transfer.getNextRetryAt()).isAfter(LocalDateTime.now());
+        verify(client, never()).submitBatch(anyList());
+    }
+
+    @Test
+    void shouldLeaveRetryCountUnchanged_WhenCircuitIsOpenOnSingleRetry() throws Exception {
+        // Arrange
+        Transfer transfer = failedTransfer(2);
+        when(transferRepository.findById(transfer.getId())).thenReturn(Optional.of(transfer));
+
+        // Act
+        useCase.processTransfer(transfer.getId());
+
+        // Assert
+        assertThat(transfer.getStatus()).isEqualTo(TransferStatus.FAILED);
+        assertThat(transfer.getRetryCount()).isEqualTo(2);
+        assertThat(transfer.isRetryable()).isTrue();
+        verify(client, never()).submitTransfer(any());
+    }
+
+    private Transfer failedTransfer(int retryCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return Transfer.reconstruct(
+                UUID.randomUUID(),
+                IdempotencyKey.of("idem-" + UUID.randomUUID()),
+                UUID.randomUUID(),
+                Cbu.of("1234567890123456789012"),
+                TransferAmount.of(new BigDecimal("100")),
+                TransferDescription.of("Test"),
+                TransferStatus.FAILED,
+                now.minusMinutes(10), null, "Error temporal", now.minusMinutes(2),
+                retryCount, now.minusMinutes(5), now.minusMinutes(1),
+                null, null, null, 0L
+        );
+    }
+}
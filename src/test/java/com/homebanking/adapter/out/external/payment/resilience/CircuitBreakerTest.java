@@ -0,0 +1,98 @@
+package com.homebanking.adapter.out.external.payment.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CircuitBreaker breaker =
+            new CircuitBreaker("test", 10, 4, 0.5, OPEN_DURATION, clock::get);
+
+    @Test
+    void shouldStayClosedBelowMinimumCalls() {
+        IntStream.range(0, 3).forEach(i -> breaker.onFailure());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void shouldOpenWhenFailureRateReachesThreshold() {
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void shouldForgetOldestCallsOutsideWindow() {
+        IntStream.range(0, 3).forEach(i -> breaker.onFailure());
+        IntStream.range(0, 10).forEach(i -> breaker.onSuccess());
+
+        breaker.onFailure();
+
+        assertThat(breaker.failureRate()).isEqualTo(0.1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldAllowSingleProbeAfterOpenDuration() {
+        open();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void shouldCloseWhenProbeSucceeds() {
+        open();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        breaker.tryAcquirePermission();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.failureRate()).isZero();
+    }
+
+    @Test
+    void shouldReopenWhenProbeFails() {
+        open();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        breaker.tryAcquirePermission();
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void shouldFreeProbeWhenPermissionReleased() {
+        open();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        breaker.tryAcquirePermission();
+
+        breaker.releasePermission();
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    private void open() {
+        IntStream.range(0, 4).forEach(i -> breaker.onFailure());
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,215 @@
+package com.homebanking.adapter.out.persistence;
+
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.transfer.TransferRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Versión optimista de ida y vuelta sobre H2: cargar y guardar incrementa
+ * la versión, dos guardados desde la misma versión no pasan los dos, y el
+ * guardado de un agregado cargado es un único UPDATE sin SELECT previo.
+ * Las sentencias se capturan con un StatementInspector de Hibernate.
+ */
+@SpringBootTest(classes = OptimisticVersionPersistenceTest.AccountAndTransferPersistence.class, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:optimistic-version",
+        "spring.autoconfigure.exclude=org.springframework.boot.data.redis.autoconfigure.DataRedisAutoConfiguration"
+})
+class OptimisticVersionPersistenceTest {
+
+    private static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Sin @Configuration: la registra solo @SpringBootTest.
+     */
+    @EnableAutoConfiguration
+    @EnableJpaRepositories(basePackages = {
+            "com.homebanking.adapter.out.persistence.account",
+            "com.homebanking.adapter.out.persistence.transfer"})
+    @EntityScan(basePackages = {
+            "com.homebanking.adapter.out.persistence.account",
+            "com.homebanking.adapter.out.persistence.transfer"})
+    @ComponentScan(basePackages = {
+            "com.homebanking.adapter.out.persistence.account",
+            "com.homebanking.adapter.out.persistence.transfer"})
+    static class AccountAndTransferPersistence {
+
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                    (StatementInspector) sql -> {
+                        STATEMENTS.add(sql.strip().toLowerCase(Locale.ROOT));
+                        return sql;
+                    });
+        }
+    }
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        STATEMENTS.clear();
+    }
+
+    @Test
+    void shouldIncrementAccountVersion_WhenLoadedAccountIsSaved() {
+        // Arrange
+        Account loaded = loadAccount(openAccount("1000000000000000000001", "version.uno"));
+        Long loadedVersion = loaded.getVersion();
+        loaded.deposit(new BigDecimal("10.00"));
+
+        // Act
+        Account saved = transactionTemplate.execute(status -> accountRepository.save(loaded));
+
+        // Assert
+        assertThat(saved.getVersion()).isEqualTo(loadedVersion + 1);
+        Account reloaded = loadAccount(loaded.getId());
+        assertThat(reloaded.getVersion()).isEqualTo(loadedVersion + 1);
+        assertThat(reloaded.getBalance().value()).isEqualByComparingTo("110.00");
+    }
+
+    @Test
+    void shouldRejectSecondAccountSave_WhenBothWereLoadedAtSameVersion() {
+        // Arrange
+        UUID accountId = openAccount("1000000000000000000002", "version.dos");
+        Account first = loadAccount(accountId);
+        Account second = loadAccount(accountId);
+        first.deposit(new BigDecimal("10.00"));
+        second.deposit(new BigDecimal("20.00"));
+        transactionTemplate.executeWithoutResult(status -> accountRepository.save(first));
+
+        // Act & Assert
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                status -> accountRepository.save(second)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(loadAccount(accountId).getBalance().value()).isEqualByComparingTo("110.00");
+    }
+
+    @Test
+    void shouldSaveLoadedAccountWithSingleUpdateAndNoSelect() {
+        // Arrange
+        Account loaded = loadAccount(openAccount("1000000000000000000003", "version.tres"));
+        loaded.deposit(new BigDecimal("10.00"));
+        STATEMENTS.clear();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> accountRepository.save(loaded));
+
+        // Assert: el UPDATE versionado más el INSERT del movimiento del ledger
+        List<String> statements = List.copyOf(STATEMENTS);
+        assertThat(statements).noneMatch(sql -> sql.startsWith("select"));
+        assertThat(statements).filteredOn(sql -> sql.startsWith("update"))
+                .singleElement()
+                .satisfies(sql -> assertThat(sql).contains("accounts").contains("version"));
+    }
+
+    @Test
+    void shouldIncrementTransferVersion_WhenLoadedTransferIsSaved() {
+        // Arrange
+        Transfer loaded = loadTransfer(createTransfer());
+        Long loadedVersion = loaded.getVersion();
+        loaded.markAsProcessing();
+
+        // Act
+        Transfer saved = transactionTemplate.execute(status -> transferRepository.save(loaded));
+
+        // Assert
+        assertThat(saved.getVersion()).isEqualTo(loadedVersion + 1);
+        Transfer reloaded = loadTransfer(loaded.getId());
+        assertThat(reloaded.getVersion()).isEqualTo(loadedVersion + 1);
+        assertThat(reloaded.getStatus()).isEqualTo(saved.getStatus());
+    }
+
+    @Test
+    void shouldRejectSecondTransferSave_WhenBothWereLoadedAtSameVersion() {
+        // Arrange
+        UUID transferId = createTransfer();
+        Transfer first = loadTransfer(transferId);
+        Transfer second = loadTransfer(transferId);
+        first.markAsProcessing();
+        second.markAsProcessing();
+        transactionTemplate.executeWithoutResult(status -> transferRepository.save(first));
+
+        // Act & Assert
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                status -> transferRepository.save(second)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(loadTransfer(transferId).getVersion()).isEqualTo(first.getVersion() + 1);
+    }
+
+    @Test
+    void shouldSaveLoadedTransferWithSingleUpdateAndNoSelect() {
+        // Arrange
+        Transfer loaded = loadTransfer(createTransfer());
+        loaded.markAsProcessing();
+        STATEMENTS.clear();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> transferRepository.save(loaded));
+
+        // Assert
+        List<String> statements = List.copyOf(STATEMENTS);
+        assertThat(statements).singleElement()
+                .satisfies(sql -> assertThat(sql).startsWith("update").contains("transfers").contains("version"));
+    }
+
+    private UUID openAccount(String cbu, String alias) {
+        return transactionTemplate.execute(status -> accountRepository.save(
+                new Account(UUID.randomUUID(), cbu, alias, new BigDecimal("100.00")))).getId();
+    }
+
+    private Account loadAccount(UUID id) {
+        return transactionTemplate.execute(status -> accountRepository.findById(id).orElseThrow());
+    }
+
+    private UUID createTransfer() {
+        Transfer transfer = Transfer.create(
+                UUID.randomUUID(),
+                Cbu.of("2000000000000000000001"),
+                TransferAmount.of(new BigDecimal("25.00")),
+                TransferDescription.of("Versionado"),
+                IdempotencyKey.of(UUID.randomUUID().toString()));
+        return transactionTemplate.execute(status -> transferRepository.save(transfer)).getId();
+    }
+
+    private Transfer loadTransfer(UUID id) {
+        return transactionTemplate.execute(status -> transferRepository.findById(id).orElseThrow());
+    }
+}
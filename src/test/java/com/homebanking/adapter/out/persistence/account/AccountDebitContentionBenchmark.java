@@ -0,0 +1,162 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.exception.account.InsufficientFundsException;
+import com.homebanking.port.out.account.AccountRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark: muchos hilos debitando la misma cuenta (H2 en memoria).
+ * - read-modify-write: findById + debit + save con @Version, reintento
+ *   ante conflicto optimista
+ * - saveDebit: un único UPDATE condicionado (balance >= amount)
+ * En ambos el saldo alcanza para menos débitos que los intentados: ningún
+ * camino puede dejarlo negativo ni perder débitos.
+
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=AccountDebitContentionBenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(classes = AccountDebitContentionBenchmark.PersistenceOnly.class, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "spring.autoconfigure.exclude=org.springframework.boot.data.redis.autoconfigure.DataRedisAutoConfiguration"
+})
+class AccountDebitContentionBenchmark {
+
+    private static final int THREADS = 32;
+    private static final int DEBITS_PER_THREAD = 100;
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("2500.00");
+    private static final int MAX_ATTEMPTS = 1_000;
+
+    /**
+     * Sin @Configuration: la registra solo @SpringBootTest, no el
+     * component scan del paquete.
+     */
+    @EnableAutoConfiguration
+    @EnableJpaRepositories(basePackageClasses = AccountPersistenceAdapter.class)
+    @EntityScan(basePackageClasses = AccountPersistenceAdapter.class)
+    @ComponentScan(basePackageClasses = AccountPersistenceAdapter.class)
+    static class PersistenceOnly {
+    }
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compareReadModifyWriteAndGuardedDebit() throws InterruptedException {
+        Result readModifyWrite = run("read-modify-write", "1111111111111111111111", this::readModifyWriteDebit);
+        Result guarded = run("saveDebit", "2222222222222222222222", this::guardedDebit);
+
+        report(readModifyWrite);
+        report(guarded);
+
+        assertThat(guarded.retries()).isZero();
+        assertThat(guarded.elapsedMillis()).isLessThan(readModifyWrite.elapsedMillis());
+    }
+
+    private Result run(String label, String cbu, Debit debit) throws InterruptedException {
+        UUID accountId = transactionTemplate.execute(status -> accountRepository.save(
+                new Account(UUID.randomUUID(), cbu, "bench." + cbu.charAt(0), INITIAL_BALANCE)).getId());
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicLong retries = new AtomicLong();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < DEBITS_PER_THREAD; i++) {
+                        if (debit.apply(accountId, retries)) {
+                            applied.incrementAndGet();
+                        } else {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        BigDecimal finalBalance = accountRepository.findById(accountId).orElseThrow().getBalance().value();
+        assertThat(finalBalance.signum()).isGreaterThanOrEqualTo(0);
+        assertThat(finalBalance).isEqualByComparingTo(
+                INITIAL_BALANCE.subtract(AMOUNT.multiply(BigDecimal.valueOf(applied.get()))));
+        assertThat(applied.get()).isEqualTo(INITIAL_BALANCE.divide(AMOUNT).intValue());
+        return new Result(label, applied.get(), rejected.get(), retries.get(), elapsedMillis);
+    }
+
+    private boolean readModifyWriteDebit(UUID accountId, AtomicLong retries) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            try {
+                Boolean applied = transactionTemplate.execute(status -> {
+                    Account account = accountRepository.findById(accountId).orElseThrow();
+                    try {
+                        account.debit(AMOUNT);
+                    } catch (InsufficientFundsException ex) {
+                        return false;
+                    }
+                    accountRepository.save(account);
+                    return true;
+                });
+                return Boolean.TRUE.equals(applied);
+            } catch (ObjectOptimisticLockingFailureException ex) {
+                retries.incrementAndGet();
+            }
+        }
+        throw new IllegalStateException("Demasiados conflictos optimistas");
+    }
+
+    /**
+     * Mismo flujo que los casos de uso: lectura + validación de dominio,
+     * y el débito se persiste condicionado (sin reintentos).
+     */
+    private boolean guardedDebit(UUID accountId, AtomicLong retries) {
+        Boolean applied = transactionTemplate.execute(status -> {
+            Account account = accountRepository.findById(accountId).orElseThrow();
+            try {
+                account.debit(AMOUNT);
+            } catch (InsufficientFundsException ex) {
+                return false;
+            }
+            return accountRepository.saveDebit(account, AMOUNT);
+        });
+        return Boolean.TRUE.equals(applied);
+    }
+
+    private void report(Result result) {
+        System.out.printf("%-18s applied=%d rejected=%d retries=%d elapsed=%dms throughput=%.0f/s%n",
+                result.label(), result.applied(), result.rejected(), result.retries(), result.elapsedMillis(),
+                (result.applied() + result.rejected()) * 1000.0 / Math.max(1, result.elapsedMillis()));
+    }
+
+    @FunctionalInterface
+    private interface Debit {
+        boolean apply(UUID accountId, AtomicLong retries);
+    }
+
+    private record Result(String label, int applied, int rejected, long retries, long elapsedMillis) {
+    }
+}
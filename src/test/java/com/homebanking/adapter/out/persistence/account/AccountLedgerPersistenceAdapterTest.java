@@ -0,0 +1,183 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import com.homebanking.domain.enums.LedgerDirection;
+import com.homebanking.port.out.account.AccountLedger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * balanceAt y compactación sobre H2. Cada cuenta arranca con 1000 previos
+ * al ledger (sin movimiento de apertura) y tres movimientos:
+ * +100 a T0+1h, -30 a T0+2h (el cutoff de la compactación) y +50 a T0+3h.
+ */
+@SpringBootTest(classes = AccountLedgerPersistenceAdapterTest.AccountPersistence.class, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:account-ledger;LOCK_TIMEOUT=10000",
+        "spring.autoconfigure.exclude=org.springframework.boot.data.redis.autoconfigure.DataRedisAutoConfiguration"
+})
+class AccountLedgerPersistenceAdapterTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime CUTOFF = T0.plusHours(2);
+
+    /**
+     * Sin @Configuration: la registra solo @SpringBootTest.
+     */
+    @EnableAutoConfiguration
+    @EnableJpaRepositories(basePackageClasses = AccountLedgerPersistenceAdapter.class)
+    @EntityScan(basePackageClasses = AccountLedgerPersistenceAdapter.class)
+    @ComponentScan(basePackageClasses = AccountLedgerPersistenceAdapter.class)
+    static class AccountPersistence {
+    }
+
+    @Autowired
+    private AccountLedger accountLedger;
+
+    @Autowired
+    private SpringDataAccountRepository accountRepository;
+
+    @Autowired
+    private SpringDataAccountLedgerEntryRepository entryRepository;
+
+    @Autowired
+    private SpringDataAccountBalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void shouldRebuildBackwardsFromCurrentBalance_WhenNoSnapshotExists() {
+        // Arrange
+        UUID accountId = accountWithLedger("4000000000000000000001", "ledger.uno");
+
+        // Act & Assert
+        assertThat(accountLedger.balanceAt(accountId, T0.plusMinutes(90))).isEqualByComparingTo("1100.00");
+        assertThat(accountLedger.balanceAt(accountId, CUTOFF)).isEqualByComparingTo("1070.00");
+        assertThat(accountLedger.balanceAt(accountId, T0.plusHours(4))).isEqualByComparingTo("1120.00");
+    }
+
+    @Test
+    void shouldAddEntriesAfterSnapshot() {
+        // Arrange
+        UUID accountId = accountWithLedger("4000000000000000000002", "ledger.dos");
+        compact(accountId);
+
+        // Act
+        BigDecimal balance = accountLedger.balanceAt(accountId, T0.plusHours(4));
+
+        // Assert: snapshot en CUTOFF (1100, sin el -30 de ese instante) + -30 + 50
+        assertThat(snapshotRepository.findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(accountId, CUTOFF))
+                .get()
+                .satisfies(snapshot -> assertThat(snapshot.getBalance()).isEqualByComparingTo("1100.00"));
+        assertThat(balance).isEqualByComparingTo("1120.00");
+    }
+
+    @Test
+    void shouldUseOpeningSnapshot_WhenTimestampIsBeforeFirstSnapshot() {
+        // Arrange
+        UUID accountId = accountWithLedger("4000000000000000000003", "ledger.tres");
+        compact(accountId);
+
+        // Act & Assert: antes de todo movimiento queda el saldo previo al ledger
+        assertThat(accountLedger.balanceAt(accountId, T0.minusDays(1))).isEqualByComparingTo("1000.00");
+        assertThat(accountLedger.balanceAt(accountId, T0.plusMinutes(90))).isEqualByComparingTo("1100.00");
+        assertThat(accountLedger.balanceAt(accountId, CUTOFF.minus(1, ChronoUnit.MICROS)))
+                .isEqualByComparingTo("1100.00");
+    }
+
+    @Test
+    void shouldCountEntryAtCutoffOnce_WhenTimestampIsJustAfterCompaction() {
+        // Arrange
+        UUID accountId = accountWithLedger("4000000000000000000004", "ledger.cuatro");
+        compact(accountId);
+
+        // Act & Assert: el -30 de CUTOFF no está en el snapshot, sí en la cola
+        assertThat(accountLedger.balanceAt(accountId, CUTOFF)).isEqualByComparingTo("1070.00");
+        assertThat(accountLedger.balanceAt(accountId, CUTOFF.plus(1, ChronoUnit.MICROS)))
+                .isEqualByComparingTo("1070.00");
+        assertThat(accountLedger.lastCompactedAt()).contains(CUTOFF);
+    }
+
+    @Test
+    void shouldTakeOpeningSnapshotUnderAccountLock() throws Exception {
+        // Arrange: otra transacción tiene la fila bloqueada con un crédito en vuelo
+        UUID accountId = accountWithLedger("4000000000000000000005", "ledger.cinco");
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                status -> {
+                    accountRepository.lockById(accountId).orElseThrow();
+                    entryRepository.save(entry(accountId, LedgerDirection.CREDIT, "200.00", T0.plusHours(4)));
+                    accountRepository.credit(accountId, new BigDecimal("200.00"));
+                    locked.countDown();
+                    await(release);
+                }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        CompletableFuture<Integer> compaction = CompletableFuture.supplyAsync(
+                () -> accountLedger.compact(List.of(accountId), CUTOFF));
+
+        // Assert: espera el lock; al liberarse, saldo y ledger son del mismo instante
+        Thread.sleep(300);
+        assertThat(compaction).isNotDone();
+        release.countDown();
+        writer.get(10, TimeUnit.SECONDS);
+        assertThat(compaction.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(snapshotRepository.findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(
+                accountId, AccountLedgerPersistenceAdapter.OPENING_AS_OF))
+                .get()
+                .satisfies(opening -> assertThat(opening.getBalance()).isEqualByComparingTo("1000.00"));
+        assertThat(accountLedger.balanceAt(accountId, T0.plusHours(5))).isEqualByComparingTo("1320.00");
+    }
+
+    private UUID accountWithLedger(String cbu, String alias) {
+        return transactionTemplate.execute(status -> {
+            AccountJpaEntity account = new AccountJpaEntity(
+                    UUID.randomUUID(), cbu, alias, new BigDecimal("1120.00"), T0.minusDays(30));
+            account.setVersion(null);
+            UUID accountId = accountRepository.save(account).getId();
+            entryRepository.saveAll(List.of(
+                    entry(accountId, LedgerDirection.CREDIT, "100.00", T0.plusHours(1)),
+                    entry(accountId, LedgerDirection.DEBIT, "30.00", CUTOFF),
+                    entry(accountId, LedgerDirection.CREDIT, "50.00", T0.plusHours(3))));
+            return accountId;
+        });
+    }
+
+    private void compact(UUID accountId) {
+        assertThat(accountLedger.compact(List.of(accountId), CUTOFF)).isEqualTo(1);
+    }
+
+    private static AccountLedgerEntryJpaEntity entry(
+            UUID accountId, LedgerDirection direction, String amount, LocalDateTime createdAt) {
+        return AccountLedgerEntryJpaEntity.of(accountId, direction, new BigDecimal(amount), "ref", createdAt);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
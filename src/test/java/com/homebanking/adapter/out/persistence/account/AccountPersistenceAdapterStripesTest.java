@@ -0,0 +1,288 @@
+package com.homebanking.adapter.out.persistence.account;
+
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.exception.account.InsufficientFundsException;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.port.out.account.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Saldo en stripes sobre H2: la lectura suma consolidado + stripes,
+ * saveCredit suma sobre una stripe sin tocar la fila de la cuenta y
+ * saveDebit rebalancea cuando el consolidado no alcanza (o devuelve false
+ * si ni con las stripes alcanza). Una liquidación interna hacia una cuenta
+ * con stripes bloquea solo el origen.
+ */
+@SpringBootTest(classes = AccountPersistenceAdapterStripesTest.AccountPersistence.class, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:account-stripes;LOCK_TIMEOUT=10000",
+        "spring.autoconfigure.exclude=org.springframework.boot.data.redis.autoconfigure.DataRedisAutoConfiguration"
+})
+class AccountPersistenceAdapterStripesTest {
+
+    private static final int STRIPES = 4;
+
+    /**
+     * Sin @Configuration: la registra solo @SpringBootTest.
+     */
+    @EnableAutoConfiguration
+    @EnableJpaRepositories(basePackageClasses = AccountPersistenceAdapter.class)
+    @EntityScan(basePackageClasses = AccountPersistenceAdapter.class)
+    @ComponentScan(basePackageClasses = AccountPersistenceAdapter.class)
+    static class AccountPersistence {
+    }
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private SpringDataAccountRepository springDataAccountRepository;
+
+    @Autowired
+    private SpringDataAccountBalanceStripeRepository stripeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void shouldCreditOneStripeWithoutTouchingAccountRow() {
+        // Arrange
+        UUID accountId = openStripedAccount("3000000000000000000001", "stripes.uno");
+        Long rowVersion = row(accountId).getVersion();
+        UUID creditKey = UUID.randomUUID();
+
+        // Act
+        credit(accountId, "30.00", creditKey);
+
+        // Assert
+        int stripe = Math.floorMod(creditKey.hashCode(), STRIPES);
+        assertThat(stripeRepository.findById(new AccountBalanceStripeJpaEntity.Key(accountId, stripe)))
+                .get()
+                .satisfies(entity -> assertThat(entity.getAmount()).isEqualByComparingTo("30.00"));
+        assertThat(row(accountId).getBalance()).isEqualByComparingTo("100.00");
+        assertThat(row(accountId).getVersion()).isEqualTo(rowVersion);
+    }
+
+    @Test
+    void shouldReadBalanceAsConsolidatedPlusStripes() {
+        // Arrange
+        UUID accountId = openStripedAccount("3000000000000000000002", "stripes.dos");
+        credit(accountId, "30.00", UUID.randomUUID());
+        credit(accountId, "20.00", UUID.randomUUID());
+
+        // Act
+        Account loaded = load(accountId);
+
+        // Assert
+        assertThat(stripeRepository.sumByAccountId(accountId)).isEqualByComparingTo("50.00");
+        assertThat(loaded.getBalance().value()).isEqualByComparingTo("150.00");
+        assertThat(loaded.getStripedCredits()).isEqualByComparingTo("50.00");
+        assertThat(loaded.consolidatedBalance()).isEqualByComparingTo("100.00");
+        assertThat(accountRepository.findAllById(List.of(accountId)))
+                .singleElement()
+                .satisfies(account -> assertThat(account.getBalance().value()).isEqualByComparingTo("150.00"));
+    }
+
+    @Test
+    void shouldDrainStripes_WhenDebitNeedsStripedCredits() {
+        // Arrange
+        UUID accountId = openStripedAccount("3000000000000000000003", "stripes.tres");
+        credit(accountId, "30.00", UUID.randomUUID());
+        credit(accountId, "20.00", UUID.randomUUID());
+        Account loaded = load(accountId);
+        loaded.debit(new BigDecimal("120.00"));
+
+        // Act
+        Boolean applied = transactionTemplate.execute(
+                status -> accountRepository.saveDebit(loaded, new BigDecimal("120.00")));
+
+        // Assert
+        assertThat(applied).isTrue();
+        assertThat(row(accountId).getBalance()).isEqualByComparingTo("30.00");
+        assertThat(stripeRepository.sumByAccountId(accountId)).isEqualByComparingTo("0.00");
+        assertThat(load(accountId).getBalance().value()).isEqualByComparingTo("30.00");
+    }
+
+    @Test
+    void shouldRejectDebitInDomain_WhenStripesDoNotCoverIt() {
+        // Arrange
+        UUID accountId = openStripedAccount("3000000000000000000004", "stripes.cuatro");
+        credit(accountId, "50.00", UUID.randomUUID());
+        Account loaded = load(accountId);
+
+        // Act & Assert
+        assertThatThrownBy(() -> loaded.debit(new BigDecimal("150.01")))
+                .isInstanceOf(InsufficientFundsException.class);
+    }
+
+    @Test
+    void shouldNotApplyDebit_WhenStripesNoLongerCoverIt() {
+        // Arrange: la cuenta dice traer 50 en stripes que la base no tiene
+        UUID accountId = openStripedAccount("3000000000000000000005", "stripes.cinco");
+        credit(accountId, "10.00", UUID.randomUUID());
+        AccountJpaEntity row = row(accountId);
+        Account stale = Account.withStripedBalance(accountId, row.getUserId(), row.getCbu(), row.getAlias(),
+                new BigDecimal("150.00"), row.getCreatedAt(), STRIPES, new BigDecimal("50.00"));
+        stale.debit(new BigDecimal("120.00"));
+
+        // Act
+        Boolean applied = transactionTemplate.execute(
+                status -> accountRepository.saveDebit(stale, new BigDecimal("120.00")));
+
+        // Assert
+        assertThat(applied).isFalse();
+        assertThat(row(accountId).getBalance()).isEqualByComparingTo("100.00");
+        assertThat(stripeRepository.sumByAccountId(accountId)).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    void shouldSettleIntoStripedDestination_WhileItsRowIsLocked() throws Exception {
+        // Arrange: otra transacción tiene la fila del destino bloqueada
+        String destinationCbu = "3000000000000000000006";
+        UUID destinationId = openStripedAccount(destinationCbu, "stripes.seis");
+        UUID originId = openAccount("3000000000000000000007", "stripes.siete");
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                status -> {
+                    springDataAccountRepository.lockById(destinationId).orElseThrow();
+                    locked.countDown();
+                    await(release);
+                }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        CompletableFuture<Void> settlement = CompletableFuture.runAsync(
+                () -> settle(originId, destinationCbu, "10.00"));
+
+        // Assert: bloquea solo el origen, no espera a la fila del destino
+        try {
+            settlement.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        }
+        assertThat(load(destinationId).getBalance().value()).isEqualByComparingTo("110.00");
+        assertThat(load(originId).getBalance().value()).isEqualByComparingTo("90.00");
+    }
+
+    @Test
+    void shouldKeepBalance_WhenDebitDrainsStripesDuringInternalCredits() throws Exception {
+        // Arrange: 160 (100 consolidado + 60 en stripes); el débito de 150 rebalancea
+        String destinationCbu = "3000000000000000000008";
+        UUID destinationId = openStripedAccount(destinationCbu, "stripes.ocho");
+        credit(destinationId, "60.00", UUID.randomUUID());
+        int settlements = 20;
+        List<UUID> origins = new ArrayList<>();
+        for (int i = 0; i < settlements; i++) {
+            origins.add(openAccount("31000000000000000000%02d".formatted(i), "origen.%02d".formatted(i)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<?>> running = new ArrayList<>();
+
+        // Act
+        try {
+            running.add(CompletableFuture.runAsync(() -> {
+                await(start);
+                transactionTemplate.executeWithoutResult(status -> {
+                    Account account = accountRepository.findById(destinationId).orElseThrow();
+                    account.debit(new BigDecimal("150.00"));
+                    assertThat(accountRepository.saveDebit(account, new BigDecimal("150.00"))).isTrue();
+                });
+            }, executor));
+            for (UUID originId : origins) {
+                running.add(CompletableFuture.runAsync(() -> {
+                    await(start);
+                    settle(originId, destinationCbu, "10.00");
+                }, executor));
+            }
+            start.countDown();
+            CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert: ni créditos perdidos ni deadlock: 160 - 150 + 20 x 10
+        assertThat(load(destinationId).getBalance().value()).isEqualByComparingTo("210.00");
+        assertThat(origins).allSatisfy(
+                originId -> assertThat(load(originId).getBalance().value()).isEqualByComparingTo("90.00"));
+    }
+
+    /**
+     * Los pasos de saldo de una liquidación interna: lock, débito del
+     * origen y crédito del destino por saveCredit.
+     */
+    private void settle(UUID originId, String destinationCbu, String amount) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Account> locked = accountRepository.lockForTransfer(originId, Cbu.of(destinationCbu));
+            Account origin = locked.stream().filter(a -> a.getId().equals(originId)).findFirst().orElseThrow();
+            Account destination = locked.stream()
+                    .filter(a -> a.getCbu().value().equals(destinationCbu))
+                    .findFirst()
+                    .orElseThrow();
+            UUID creditKey = UUID.randomUUID();
+            origin.debit(new BigDecimal(amount));
+            destination.credit(new BigDecimal(amount), creditKey.toString());
+            accountRepository.save(origin);
+            accountRepository.saveCredit(destination, new BigDecimal(amount), creditKey);
+        });
+    }
+
+    private UUID openAccount(String cbu, String alias) {
+        Account account = new Account(UUID.randomUUID(), cbu, alias, new BigDecimal("100.00"));
+        return transactionTemplate.execute(status -> accountRepository.save(account)).getId();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private UUID openStripedAccount(String cbu, String alias) {
+        Account account = new Account(UUID.randomUUID(), cbu, alias, new BigDecimal("100.00"));
+        account.enableStripedBalance(STRIPES);
+        return transactionTemplate.execute(status -> accountRepository.save(account)).getId();
+    }
+
+    private void credit(UUID accountId, String amount, UUID creditKey) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Account account = accountRepository.findById(accountId).orElseThrow();
+            account.credit(new BigDecimal(amount), creditKey.toString());
+            accountRepository.saveCredit(account, new BigDecimal(amount), creditKey);
+        });
+    }
+
+    private Account load(UUID accountId) {
+        return transactionTemplate.execute(status -> accountRepository.findById(accountId).orElseThrow());
+    }
+
+    private AccountJpaEntity row(UUID accountId) {
+        return springDataAccountRepository.findById(accountId).orElseThrow();
+    }
+}
@@ -0,0 +1,79 @@
+package com.homebanking.adapter.out.persistence.card;
+
+import com.homebanking.domain.entity.Card;
+import com.homebanking.domain.enums.CardColor;
+import com.homebanking.domain.enums.CardType;
+import com.homebanking.domain.exception.card.InvalidCardDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.domain.valueobject.card.CardValidity;
+import com.homebanking.port.out.security.CardDataProtector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Contrato de reconstruct: una tarjeta que venció después de emitirse se
+ * sigue cargando desde la base; los factories que validan la rechazan.
+ */
+@ExtendWith(MockitoExtension.class)
+class CardPersistenceMapperTest {
+
+    private static final UUID CARD_ID = UUID.randomUUID();
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+    private static final String NUMBER = "4111111111111111";
+    private static final String CVV = "123";
+    private static final String HOLDER = "OWNER USER";
+    private static final LocalDate FROM = LocalDate.now().minusYears(5);
+    private static final LocalDate EXPIRED_THRU = LocalDate.now().minusMonths(1);
+
+    @Mock
+    private CardDataProtector cardDataProtector;
+
+    private CardPersistenceMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new CardPersistenceMapper(cardDataProtector);
+    }
+
+    @Test
+    void shouldLoadExpiredCard_WhenReconstructingFromPersistence() {
+        // Arrange
+        when(cardDataProtector.decrypt("enc-number")).thenReturn(NUMBER);
+        when(cardDataProtector.decrypt("enc-cvv")).thenReturn(CVV);
+        CardJpaEntity entity = CardJpaEntity.of(CARD_ID, ACCOUNT_ID, "enc-number", "enc-cvv", "1111",
+                HOLDER, FROM, EXPIRED_THRU, CardType.DEBIT, CardColor.GOLD, true, 3L);
+
+        // Act
+        Card card = mapper.toDomain(entity);
+
+        // Assert
+        assertThat(card.getId()).isEqualTo(CARD_ID);
+        assertThat(card.getNumber().value()).isEqualTo(NUMBER);
+        assertThat(card.getValidity().thruDate()).isEqualTo(EXPIRED_THRU);
+        assertThat(card.isExpired()).isTrue();
+        assertThat(card.isActive()).isTrue();
+        assertThat(card.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldRejectExpiredCard_WhenUsingValidatingFactories() {
+        assertThatThrownBy(() -> CardValidity.of(FROM, EXPIRED_THRU))
+                .isInstanceOf(InvalidCardDataException.class)
+                .hasMessage(DomainErrorMessages.CARD_EXPIRED);
+
+        assertThatThrownBy(() -> Card.withId(CARD_ID, ACCOUNT_ID, NUMBER, CVV, HOLDER,
+                FROM, EXPIRED_THRU, CardType.DEBIT, CardColor.GOLD, true))
+                .isInstanceOf(InvalidCardDataException.class)
+                .hasMessage(DomainErrorMessages.CARD_EXPIRED);
+    }
+}
@@ -0,0 +1,96 @@
+package com.homebanking.adapter.out.persistence.transfer;
+
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.out.transfer.TransferRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keyset (execute_at, id) de la ventana de agendadas sobre H2: con más
+ * agendadas en el mismo instante que el tamaño de página, cada página
+ * sigue después de la anterior y ninguna se repite.
+ */
+@SpringBootTest(classes = TransferPersistenceAdapterScheduledTest.TransferPersistence.class, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:transfer-scheduled",
+        "spring.autoconfigure.exclude=org.springframework.boot.data.redis.autoconfigure.DataRedisAutoConfiguration"
+})
+class TransferPersistenceAdapterScheduledTest {
+
+    private static final LocalDateTime TIE = LocalDateTime.now().plusDays(1).withNano(0);
+
+    /**
+     * Sin @Configuration: la registra solo @SpringBootTest.
+     */
+    @EnableAutoConfiguration
+    @EnableJpaRepositories(basePackageClasses = TransferPersistenceAdapter.class)
+    @EntityScan(basePackageClasses = TransferPersistenceAdapter.class)
+    @ComponentScan(basePackageClasses = TransferPersistenceAdapter.class)
+    static class TransferPersistence {
+    }
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void shouldPageThroughTiesAtBatchBoundary() {
+        // Arrange: cinco en el mismo instante y una después, páginas de dos
+        List<UUID> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(schedule(TIE));
+        }
+        created.add(schedule(TIE.plusMinutes(1)));
+
+        // Act: cada página arranca después de la última devuelta
+        List<Transfer> loaded = new ArrayList<>();
+        LocalDateTime afterAt = TIE.minusSeconds(1);
+        UUID afterId = new UUID(0L, 0L);
+        List<Transfer> page;
+        do {
+            page = transferRepository.findScheduledTransfers(afterAt, afterId, TIE.plusHours(1), 2);
+            loaded.addAll(page);
+            if (!page.isEmpty()) {
+                afterAt = page.getLast().getExecuteAt();
+                afterId = page.getLast().getId();
+            }
+        } while (page.size() == 2);
+
+        // Assert
+        assertThat(loaded).extracting(Transfer::getId).containsExactlyInAnyOrderElementsOf(created);
+        assertThat(loaded).extracting(Transfer::getExecuteAt).isSorted();
+        assertThat(loaded.getLast().getExecuteAt()).isEqualTo(TIE.plusMinutes(1));
+    }
+
+    private UUID schedule(LocalDateTime executeAt) {
+        Transfer transfer = Transfer.schedule(
+                UUID.randomUUID(),
+                Cbu.of("2000000000000000000001"),
+                TransferAmount.of(new BigDecimal("25.00")),
+                TransferDescription.of("Agendada"),
+                IdempotencyKey.of(UUID.randomUUID().toString()),
+                executeAt);
+        return transactionTemplate.execute(status -> transferRepository.save(transfer)).getId();
+    }
+}
@@ -0,0 +1,120 @@
+package com.homebanking.adapter.out.persistence.transfer;
+
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark: lectura de una página de 100 transferencias (lote del
+ * scheduler / historial).
+ * - validante: lo que hacía el mapper antes (factories of(), con
+ *   Pattern.matches del CBU compilando el regex en cada fila)
+ * - reconstruct: el mapper actual, sin revalidar
+ * Reporta µs por página.
+
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=TransferPersistenceMapperBenchmark
+ */
+@Tag("benchmark")
+class TransferPersistenceMapperBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int PAGES = 20_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int ROUNDS = 5;
+
+    private final TransferPersistenceMapper mapper = new TransferPersistenceMapper();
+
+    @Test
+    void compareValidatingAndTrustedHydration() {
+        List<TransferJpaEntity> page = page();
+
+        double validating = measure(page, TransferPersistenceMapperBenchmark::validatingToDomain);
+        double trusted = measure(page, mapper::toDomain);
+
+        System.out.printf("validante     %.1f us/pagina%n", validating);
+        System.out.printf("reconstruct   %.1f us/pagina%n", trusted);
+
+        assertThat(page.stream().map(mapper::toDomain).map(Transfer::getTargetCbu).toList())
+                .isEqualTo(page.stream().map(TransferPersistenceMapperBenchmark::validatingToDomain)
+                        .map(Transfer::getTargetCbu).toList());
+        assertThat(trusted).isLessThan(validating);
+    }
+
+    private static List<TransferJpaEntity> page() {
+        List<TransferJpaEntity> page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Transfer transfer = Transfer.create(
+                    UUID.randomUUID(),
+                    Cbu.of(String.format("%022d", 1_000_000L + i)),
+                    TransferAmount.of(new BigDecimal("150.25")),
+                    TransferDescription.of("Alquiler " + i),
+                    IdempotencyKey.of(UUID.randomUUID().toString()));
+            page.add(TransferJpaEntity.fromDomain(transfer));
+        }
+        return page;
+    }
+
+    private static Transfer validatingToDomain(TransferJpaEntity entity) {
+        if (!Pattern.matches("^\\d{22}$", entity.getTargetCbu())) {
+            throw new IllegalStateException();
+        }
+        return Transfer.reconstruct(
+                entity.getId(),
+                IdempotencyKey.of(entity.getIdempotencyKey()),
+                entity.getOriginAccountId(),
+                Cbu.of(entity.getTargetCbu()),
+                TransferAmount.of(entity.getAmount()),
+                TransferDescription.of(entity.getDescription()),
+                entity.getStatus(),
+                entity.getCreatedAt(),
+                entity.getExecutedAt(),
+                entity.getFailureReason(),
+                entity.getFailedAt(),
+                entity.getRetryCount(),
+                entity.getLastRetryAt(),
+                entity.getNextRetryAt(),
+                entity.getLeaseOwner(),
+                entity.getLeaseExpiresAt(),
+                entity.getExecuteAt(),
+                entity.getVersion()
+        );
+    }
+
+    private static double measure(List<TransferJpaEntity> page, Function<TransferJpaEntity, Transfer> toDomain) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += run(page, toDomain);
+        }
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += run(page, toDomain);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+        assertThat(sink).isNotZero();
+        return bestNanos / 1_000.0 / PAGES;
+    }
+
+    private static long run(List<TransferJpaEntity> page, Function<TransferJpaEntity, Transfer> toDomain) {
+        long sink = 0;
+        for (int p = 0; p < PAGES; p++) {
+            for (TransferJpaEntity entity : page) {
+                sink += toDomain.apply(entity).getAmount().amount().minor();
+            }
+        }
+        return sink;
+    }
+}
@@ -0,0 +1,57 @@
+package com.homebanking.adapter.out.persistence.user;
+
+import com.homebanking.domain.entity.User;
+import com.homebanking.domain.exception.user.InvalidUserDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.domain.valueobject.user.UserBirthDate;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Contrato de reconstruct: la edad se valida al registrarse, no al
+ * cargar. Una fila que hoy no pasaría la regla (un menor, por ejemplo
+ * migrado de otro sistema) se sigue cargando; User.withId la rechaza.
+ */
+class UserMapperTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final LocalDate UNDERAGE_BIRTH_DATE = LocalDate.now().minusYears(10);
+    private static final LocalDateTime CREATED_AT = LocalDateTime.now().minusDays(1);
+
+    private final UserMapper mapper = new UserMapper();
+
+    @Test
+    void shouldLoadUnderageUser_WhenReconstructingFromPersistence() {
+        // Arrange
+        UserJpaEntity entity = new UserJpaEntity("Owner", "User", "owner@test.com", "Password123!",
+                "30111222", UNDERAGE_BIRTH_DATE, "Address", CREATED_AT, null, false);
+        entity.setId(USER_ID);
+
+        // Act
+        User user = mapper.toDomainEntity(entity);
+
+        // Assert
+        assertThat(user.getId()).isEqualTo(USER_ID);
+        assertThat(user.getEmail().value()).isEqualTo("owner@test.com");
+        assertThat(user.getBirthDate().value()).isEqualTo(UNDERAGE_BIRTH_DATE);
+        assertThat(user.getCreatedAt()).isEqualTo(CREATED_AT);
+    }
+
+    @Test
+    void shouldRejectUnderageUser_WhenUsingValidatingFactories() {
+        assertThatThrownBy(() -> UserBirthDate.of(UNDERAGE_BIRTH_DATE))
+                .isInstanceOf(InvalidUserDataException.class)
+                .hasMessage(DomainErrorMessages.USER_UNDERAGE);
+
+        assertThatThrownBy(() -> User.withId(USER_ID, "owner@test.com", "Password123!", "Owner", "User",
+                "30111222", UNDERAGE_BIRTH_DATE, "Address", CREATED_AT))
+                .isInstanceOf(InvalidUserDataException.class)
+                .hasMessage(DomainErrorMessages.USER_UNDERAGE);
+    }
+}
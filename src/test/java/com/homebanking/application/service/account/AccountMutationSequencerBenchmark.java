@@ -0,0 +1,169 @@
+package com.homebanking.application.service.account;
+
+import com.homebanking.domain.entity.Account;
+import com.homebanking.port.out.account.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark: depósitos concurrentes sobre pocas cuentas calientes (H2 en memoria).
+ * - concurrente: cada hilo hace findById + deposit + save versionado y
+ *   reintenta ante conflicto optimista (lo que hoy pasa en los casos de uso)
+ * - secuenciado: la misma transacción dentro del lane de la cuenta
+ *   (AccountMutationSequencer), sin reintentos
+ * En ambos el saldo final tiene que reflejar todos los depósitos.
+
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=AccountMutationSequencerBenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(classes = AccountMutationSequencerBenchmark.PersistenceOnly.class, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "spring.autoconfigure.exclude=org.springframework.boot.data.redis.autoconfigure.DataRedisAutoConfiguration"
+})
+class AccountMutationSequencerBenchmark {
+
+    private static final String PERSISTENCE_PACKAGE = "com.homebanking.adapter.out.persistence.account";
+    private static final int THREADS = 32;
+    private static final int ACCOUNTS = 4;
+    private static final int DEPOSITS_PER_THREAD = 100;
+    private static final int LANES = 16;
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+    private static final int MAX_ATTEMPTS = 1_000;
+
+    /**
+     * Sin @Configuration: la registra solo @SpringBootTest, no el
+     * component scan del paquete.
+     */
+    @EnableAutoConfiguration
+    @EnableJpaRepositories(basePackages = PERSISTENCE_PACKAGE)
+    @EntityScan(basePackages = PERSISTENCE_PACKAGE)
+    @ComponentScan(basePackages = PERSISTENCE_PACKAGE)
+    static class PersistenceOnly {
+    }
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final AccountMutationSequencer sequencer = new AccountMutationSequencer(LANES);
+
+    @AfterEach
+    void tearDown() {
+        sequencer.shutdown();
+    }
+
+    @Test
+    void compareConcurrentAndSequencedDeposits() {
+        Result concurrent = run("concurrente", '1', this::concurrentDeposit);
+        Result sequenced = run("secuenciado", '2', this::sequencedDeposit);
+
+        report(concurrent);
+        report(sequenced);
+
+        assertThat(sequenced.retries()).isZero();
+        assertThat(sequenced.elapsedMillis()).isLessThan(concurrent.elapsedMillis());
+    }
+
+    private Result run(String label, char cbuPrefix, Deposit deposit) {
+        List<UUID> accountIds = IntStream.range(0, ACCOUNTS)
+                .mapToObj(i -> transactionTemplate.execute(status -> accountRepository.save(new Account(
+                        UUID.randomUUID(),
+                        String.valueOf(cbuPrefix).repeat(21) + i,
+                        "bench." + cbuPrefix + "." + i,
+                        BigDecimal.ZERO)).getId()))
+                .toList();
+        AtomicLong retries = new AtomicLong();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                UUID accountId = accountIds.get(t % ACCOUNTS);
+                executor.submit(() -> {
+                    for (int i = 0; i < DEPOSITS_PER_THREAD; i++) {
+                        deposit.apply(accountId, retries);
+                    }
+                });
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        BigDecimal expected = AMOUNT.multiply(BigDecimal.valueOf((long) THREADS / ACCOUNTS * DEPOSITS_PER_THREAD));
+        for (UUID accountId : accountIds) {
+            assertThat(accountRepository.findById(accountId).orElseThrow().getBalance().value())
+                    .isEqualByComparingTo(expected);
+        }
+        return new Result(label, THREADS * DEPOSITS_PER_THREAD, retries.get(), elapsedMillis);
+    }
+
+    private void concurrentDeposit(UUID accountId, AtomicLong retries) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            try {
+                depositInTransaction(accountId);
+                return;
+            } catch (ObjectOptimisticLockingFailureException ex) {
+                retries.incrementAndGet();
+            }
+        }
+        throw new IllegalStateException("Demasiados conflictos optimistas");
+    }
+
+    /**
+     * Mismo flujo que los decoradores Sequenced*: la transacción se abre
+     * dentro del lane. Un conflicto acá sería un error, no se reintenta.
+     */
+    private void sequencedDeposit(UUID accountId, AtomicLong retries) {
+        try {
+            sequencer.execute(accountId, () -> {
+                depositInTransaction(accountId);
+                return null;
+            });
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            retries.incrementAndGet();
+        }
+    }
+
+    private void depositInTransaction(UUID accountId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Account account = accountRepository.findById(accountId).orElseThrow();
+            account.deposit(AMOUNT);
+            accountRepository.save(account);
+        });
+    }
+
+    private void report(Result result) {
+        System.out.printf("%-12s deposits=%d retries=%d elapsed=%dms throughput=%.0f/s%n",
+                result.label(), result.deposits(), result.retries(), result.elapsedMillis(),
+                result.deposits() * 1000.0 / Math.max(1, result.elapsedMillis()));
+    }
+
+    @FunctionalInterface
+    private interface Deposit {
+        void apply(UUID accountId, AtomicLong retries);
+    }
+
+    private record Result(String label, int deposits, long retries, long elapsedMillis) {
+    }
+}
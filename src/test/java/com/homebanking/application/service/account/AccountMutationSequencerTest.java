@@ -0,0 +1,134 @@
+package com.homebanking.application.service.account;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountMutationSequencerTest {
+
+    private final AccountMutationSequencer sequencer = new AccountMutationSequencer(8);
+
+    @AfterEach
+    void tearDown() {
+        sequencer.shutdown();
+    }
+
+    @Test
+    void shouldApplyMutationsOfSameAccountOneAtATime() {
+        UUID accountId = UUID.randomUUID();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 200; i++) {
+                int mutation = i;
+                callers.submit(() -> sequencer.execute(accountId, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    applied.add(mutation);
+                    running.decrementAndGet();
+                    return mutation;
+                }));
+            }
+        }
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(applied).hasSize(200);
+    }
+
+    @Test
+    void shouldPreserveSubmissionOrderWithinAccount() {
+        UUID accountId = UUID.randomUUID();
+        List<Integer> applied = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            int mutation = i;
+            sequencer.execute(accountId, () -> applied.add(mutation));
+        }
+
+        assertThat(applied).containsExactlyElementsOf(IntStream.range(0, 50).boxed().toList());
+    }
+
+    @Test
+    void shouldRunDifferentLanesInParallel() {
+        UUID first = accountInLane(0);
+        UUID second = accountInLane(1);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AtomicInteger overlapped = new AtomicInteger();
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+            for (UUID accountId : List.of(first, second)) {
+                callers.submit(() -> sequencer.execute(accountId, () -> {
+                    bothStarted.countDown();
+                    try {
+                        if (bothStarted.await(5, TimeUnit.SECONDS)) {
+                            overlapped.incrementAndGet();
+                        }
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                }));
+            }
+        }
+
+        assertThat(overlapped.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRethrowMutationExceptionToCaller() {
+        UUID accountId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> sequencer.execute(accountId, () -> {
+            throw new IllegalArgumentException("saldo insuficiente");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("saldo insuficiente");
+
+        assertThat(sequencer.execute(accountId, () -> "sigue")).isEqualTo("sigue");
+    }
+
+    @Test
+    void shouldRunNestedMutationInCurrentLane() {
+        UUID accountId = UUID.randomUUID();
+
+        String result = sequencer.execute(accountId, () -> {
+            String lane = Thread.currentThread().getName();
+            return sequencer.execute(UUID.randomUUID(), () -> Thread.currentThread().getName().equals(lane)
+                    ? "mismo hilo"
+                    : "otro hilo");
+        });
+
+        assertThat(result).isEqualTo("mismo hilo");
+    }
+
+    @Test
+    void shouldRunInCallerThreadWhenDisabled() {
+        AccountMutationSequencer disabled = new AccountMutationSequencer(0);
+        Thread caller = Thread.currentThread();
+
+        assertThat(disabled.execute(UUID.randomUUID(), Thread::currentThread)).isSameAs(caller);
+        assertThat(disabled.laneCount()).isZero();
+    }
+
+    private UUID accountInLane(int lane) {
+        UUID accountId;
+        do {
+            accountId = UUID.randomUUID();
+        } while (Math.floorMod(accountId.hashCode(), sequencer.laneCount()) != lane);
+        return accountId;
+    }
+}
@@ -0,0 +1,83 @@
+package com.homebanking.application.service.account;
+
+import com.homebanking.port.out.account.AccountLedger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerCompactionServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 12, 0);
+    private static final LocalDateTime CUTOFF = NOW.minusMinutes(1);
+
+    @Mock
+    private AccountLedger accountLedger;
+
+    @Test
+    void shouldCompactAccountsByKeysetFromWatermarkToCutoff() {
+        LocalDateTime watermark = NOW.minusMinutes(10);
+        UUID a1 = UUID.randomUUID();
+        UUID a2 = UUID.randomUUID();
+        UUID a3 = UUID.randomUUID();
+        when(accountLedger.lastCompactedAt()).thenReturn(Optional.of(watermark));
+        when(accountLedger.findAccountsWithEntries(watermark, CUTOFF, null, 2)).thenReturn(List.of(a1, a2));
+        when(accountLedger.findAccountsWithEntries(watermark, CUTOFF, a2, 2)).thenReturn(List.of(a3));
+        when(accountLedger.compact(List.of(a1, a2), CUTOFF)).thenReturn(2);
+        when(accountLedger.compact(List.of(a3), CUTOFF)).thenReturn(1);
+
+        int written = service(2).compact(NOW);
+
+        assertThat(written).isEqualTo(3);
+    }
+
+    @Test
+    void shouldStartFromLedgerBeginning_WhenNothingCompactedYet() {
+        UUID a1 = UUID.randomUUID();
+        when(accountLedger.lastCompactedAt()).thenReturn(Optional.empty());
+        when(accountLedger.findAccountsWithEntries(LedgerCompactionService.LEDGER_START, CUTOFF, null, 10))
+                .thenReturn(List.of(a1));
+        when(accountLedger.compact(List.of(a1), CUTOFF)).thenReturn(1);
+
+        assertThat(service(10).compact(NOW)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkip_WhenWatermarkAlreadyAtCutoff() {
+        when(accountLedger.lastCompactedAt()).thenReturn(Optional.of(CUTOFF));
+
+        assertThat(service(10).compact(NOW)).isZero();
+
+        verify(accountLedger, never()).findAccountsWithEntries(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldContinueWithNextChunk_WhenChunkFails() {
+        LocalDateTime watermark = NOW.minusMinutes(10);
+        UUID a1 = UUID.randomUUID();
+        UUID a2 = UUID.randomUUID();
+        when(accountLedger.lastCompactedAt()).thenReturn(Optional.of(watermark));
+        when(accountLedger.findAccountsWithEntries(watermark, CUTOFF, null, 1)).thenReturn(List.of(a1));
+        when(accountLedger.findAccountsWithEntries(watermark, CUTOFF, a1, 1)).thenReturn(List.of(a2));
+        when(accountLedger.findAccountsWithEntries(watermark, CUTOFF, a2, 1)).thenReturn(List.of());
+        when(accountLedger.compact(List.of(a1), CUTOFF)).thenThrow(new IllegalStateException("lock timeout"));
+        when(accountLedger.compact(List.of(a2), CUTOFF)).thenReturn(1);
+
+        assertThat(service(1).compact(NOW)).isEqualTo(1);
+    }
+
+    private LedgerCompactionService service(int chunkSize) {
+        return new LedgerCompactionService(accountLedger, Duration.ofMinutes(1), chunkSize);
+    }
+}
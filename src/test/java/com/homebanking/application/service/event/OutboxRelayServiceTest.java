@@ -0,0 +1,84 @@
+package com.homebanking.application.service.event;
+
+import com.homebanking.domain.event.TransferCreatedEvent;
+import com.homebanking.port.out.event.EventOutbox;
+import com.homebanking.port.out.event.EventOutbox.OutboxMessage;
+import com.homebanking.port.out.event.EventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayServiceTest {
+
+    @Mock
+    private EventOutbox eventOutbox;
+    @Mock
+    private EventPublisher eventPublisher;
+
+    private OutboxRelayService relayService;
+
+    @BeforeEach
+    void setUp() {
+        relayService = new OutboxRelayService(eventOutbox, eventPublisher, 3);
+    }
+
+    @Test
+    void shouldPublishInOrderAndMarkBatchAsPublished() {
+        OutboxMessage first = message();
+        OutboxMessage second = message();
+        when(eventOutbox.lockNextBatch(3)).thenReturn(List.of(first, second));
+
+        int relayed = relayService.relayBatch();
+
+        assertThat(relayed).isEqualTo(2);
+        InOrder inOrder = inOrder(eventPublisher, eventOutbox);
+        inOrder.verify(eventPublisher).publish(first.event());
+        inOrder.verify(eventPublisher).publish(second.event());
+        inOrder.verify(eventOutbox).markPublished(List.of(first.eventId(), second.eventId()));
+    }
+
+    @Test
+    void shouldOnlyMarkDeliveredPrefixWhenPublishFails() {
+        OutboxMessage delivered = message();
+        OutboxMessage failing = message();
+        OutboxMessage notAttempted = message();
+        when(eventOutbox.lockNextBatch(3)).thenReturn(List.of(delivered, failing, notAttempted));
+        doAnswer(invocation -> {
+            if (failing.event().equals(invocation.getArgument(0))) {
+                throw new IllegalStateException("listener down");
+            }
+            return null;
+        }).when(eventPublisher).publish(any());
+
+        int relayed = relayService.relayBatch();
+
+        assertThat(relayed).isEqualTo(1);
+        verify(eventPublisher, never()).publish(notAttempted.event());
+        verify(eventOutbox).markPublished(List.of(delivered.eventId()));
+    }
+
+    @Test
+    void shouldDoNothingWhenOutboxIsEmpty() {
+        when(eventOutbox.lockNextBatch(3)).thenReturn(List.of());
+
+        assertThat(relayService.relayBatch()).isZero();
+        verifyNoInteractions(eventPublisher);
+        verify(eventOutbox, never()).markPublished(anyList());
+    }
+
+    private OutboxMessage message() {
+        return new OutboxMessage(UUID.randomUUID(), new TransferCreatedEvent(UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN));
+    }
+}
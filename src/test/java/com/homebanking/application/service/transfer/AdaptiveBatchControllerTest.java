@@ -0,0 +1,125 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.application.dto.transfer.response.TransferBatchStats;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveBatchControllerTest {
+
+    private static final AdaptiveBatchSettings SETTINGS = new AdaptiveBatchSettings(
+            10, 200, 20,
+            1, 8,
+            Duration.ofSeconds(1), Duration.ofSeconds(60),
+            Duration.ofMillis(500),
+            0.2
+    );
+
+    @Mock
+    private TransferMetrics transferMetrics;
+
+    private final AtomicLong clock = new AtomicLong();
+    private AdaptiveBatchController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new AdaptiveBatchController(
+                SETTINGS, 100, 4, Duration.ofSeconds(30), transferMetrics, clock::get);
+    }
+
+    @Test
+    void shouldGrowAdditivelyWhenBatchIsFullAndHealthy() {
+        AdaptiveBatchController.Decision decision = controller.onBatchCompleted(stats(100, 0, 100));
+
+        assertThat(decision).isEqualTo(AdaptiveBatchController.Decision.INCREASE);
+        assertThat(controller.getBatchSize()).isEqualTo(120);
+        assertThat(controller.getConcurrency()).isEqualTo(5);
+        assertThat(controller.getPollDelayMillis()).isEqualTo(1000);
+        verify(transferMetrics).recordSchedulerDecision("INCREASE");
+    }
+
+    @Test
+    void shouldHalveOnHighErrorRate() {
+        AdaptiveBatchController.Decision decision = controller.onBatchCompleted(stats(100, 30, 100));
+
+        assertThat(decision).isEqualTo(AdaptiveBatchController.Decision.DECREASE);
+        assertThat(controller.getBatchSize()).isEqualTo(50);
+        assertThat(controller.getConcurrency()).isEqualTo(2);
+        assertThat(controller.getPollDelayMillis()).isEqualTo(60000);
+    }
+
+    @Test
+    void shouldHalveOnSlowProcessorCalls() {
+        AdaptiveBatchController.Decision decision = controller.onBatchCompleted(stats(40, 0, 900));
+
+        assertThat(decision).isEqualTo(AdaptiveBatchController.Decision.DECREASE);
+        assertThat(controller.getBatchSize()).isEqualTo(50);
+    }
+
+    @Test
+    void shouldStayWithinBounds() {
+        for (int i = 0; i < 10; i++) {
+            controller.onBatchCompleted(stats(100, 100, 100));
+        }
+        assertThat(controller.getBatchSize()).isEqualTo(10);
+        assertThat(controller.getConcurrency()).isEqualTo(1);
+
+        for (int i = 0; i < 20; i++) {
+            controller.onBatchCompleted(stats(controller.getBatchSize(), 0, 100));
+        }
+        assertThat(controller.getBatchSize()).isEqualTo(200);
+        assertThat(controller.getConcurrency()).isEqualTo(8);
+    }
+
+    @Test
+    void shouldBackOffPollingWhenIdle() {
+        controller.onBatchCompleted(TransferBatchStats.empty());
+
+        assertThat(controller.getPollDelayMillis()).isEqualTo(60000);
+        assertThat(controller.getBatchSize()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldBeDueOnlyAfterPollDelay() {
+        assertThat(controller.isDue()).isTrue();
+
+        controller.onBatchCompleted(stats(50, 0, 100));
+        long delay = controller.getPollDelayMillis();
+
+        assertThat(delay).isEqualTo(15000);
+        assertThat(controller.isDue()).isFalse();
+        clock.addAndGet(Duration.ofMillis(delay).toNanos());
+        assertThat(controller.isDue()).isTrue();
+    }
+
+    @Test
+    void shouldNeverMoveWithFixedSettings() {
+        AdaptiveBatchController fixed = new AdaptiveBatchController(
+                AdaptiveBatchSettings.fixed(100, 4, Duration.ofSeconds(30)),
+                100, 4, Duration.ofSeconds(30), transferMetrics, clock::get);
+
+        fixed.onBatchCompleted(stats(100, 0, 100));
+        fixed.onBatchCompleted(stats(100, 100, 100));
+
+        assertThat(fixed.getBatchSize()).isEqualTo(100);
+        assertThat(fixed.getConcurrency()).isEqualTo(4);
+        assertThat(fixed.getPollDelayMillis()).isEqualTo(30000);
+        verify(transferMetrics, times(2)).registerSchedulerLimits(any(), any(), any());
+    }
+
+    private TransferBatchStats stats(int total, int failed, long meanCallMillis) {
+        return new TransferBatchStats(total, total - failed, failed, meanCallMillis * 2, meanCallMillis);
+    }
+}
@@ -0,0 +1,163 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.enums.TransferStatus;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import com.homebanking.port.out.transfer.TransferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledTransferServiceTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Mock
+    private TransferRepository transferRepository;
+    @Mock
+    private TransferDispatchQueue transferDispatchQueue;
+    @Mock
+    private TransferMetrics transferMetrics;
+
+    private final AtomicLong clock = new AtomicLong(START);
+    private ScheduledTransferService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ScheduledTransferService(
+                transferRepository,
+                transferDispatchQueue,
+                transferMetrics,
+                Duration.ofMillis(100),
+                10,
+                Duration.ofHours(1),
+                100,
+                clock::get
+        );
+    }
+
+    @Test
+    void shouldReleaseLoadedTransferWhenItBecomesDue() {
+        Transfer scheduled = scheduledTransfer(START + 5_000);
+        when(transferRepository.findScheduledTransfers(any(), any(), any(), eq(100))).thenReturn(List.of(scheduled));
+
+        service.loadWindow();
+        clock.set(START + 4_900);
+        assertThat(service.releaseDue()).isZero();
+        verify(transferRepository, never()).releaseScheduledTransfers(anyCollection(), any());
+
+        when(transferRepository.releaseScheduledTransfers(eq(List.of(scheduled.getId())), any())).thenReturn(1);
+        clock.set(START + 5_100);
+
+        assertThat(service.releaseDue()).isEqualTo(1);
+        verify(transferDispatchQueue).enqueue(
+                scheduled.getId(), scheduled.getOriginAccountId(), scheduled.getAmount().value());
+        verify(transferMetrics).recordScheduledReleaseDelay(any(Duration.class));
+        assertThat(service.size()).isZero();
+    }
+
+    @Test
+    void shouldReleaseOverdueTransfersImmediatelyOnLoad() {
+        Transfer overdue = scheduledTransfer(START - 60_000);
+        when(transferRepository.findScheduledTransfers(any(), any(), any(), eq(100))).thenReturn(List.of(overdue));
+        when(transferRepository.releaseScheduledTransfers(eq(List.of(overdue.getId())), any())).thenReturn(1);
+
+        assertThat(service.loadWindow()).isEqualTo(1);
+
+        verify(transferDispatchQueue).enqueue(
+                overdue.getId(), overdue.getOriginAccountId(), overdue.getAmount().value());
+        assertThat(service.size()).isZero();
+    }
+
+    @Test
+    void shouldNotLoadTheSameTransferTwice() {
+        Transfer scheduled = scheduledTransfer(START + 5_000);
+        when(transferRepository.findScheduledTransfers(any(), any(), any(), eq(100))).thenReturn(List.of(scheduled));
+
+        service.loadWindow();
+        service.loadWindow();
+
+        assertThat(service.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRegisterOnlyTransfersInsideLoadedWindow() {
+        when(transferRepository.findScheduledTransfers(any(), any(), any(), eq(100))).thenReturn(List.of());
+        service.loadWindow();
+
+        boolean inside = service.register(
+                UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN, at(START + 60_000));
+        boolean outside = service.register(
+                UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN, at(START + Duration.ofHours(2).toMillis()));
+
+        assertThat(inside).isTrue();
+        assertThat(outside).isFalse();
+        assertThat(service.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPageThroughTiesAtBatchBoundary() {
+        // Arrange: tres agendadas en el mismo instante y páginas de dos
+        ScheduledTransferService paged = new ScheduledTransferService(
+                transferRepository, transferDispatchQueue, transferMetrics,
+                Duration.ofMillis(100), 10, Duration.ofHours(1), 2, clock::get);
+        Transfer first = scheduledTransfer(START + 5_000);
+        Transfer second = scheduledTransfer(START + 5_000);
+        Transfer third = scheduledTransfer(START + 5_000);
+        when(transferRepository.findScheduledTransfers(any(), any(), any(), eq(2)))
+                .thenReturn(List.of(first, second), List.of());
+        when(transferRepository.findScheduledTransfers(eq(at(START + 5_000)), eq(second.getId()), any(), eq(2)))
+                .thenReturn(List.of(third));
+
+        // Act
+        paged.loadWindow();
+        paged.loadWindow();
+
+        // Assert: la segunda página arranca después de la última cargada, no en el mismo instante
+        verify(transferRepository).findScheduledTransfers(
+                eq(at(START + 5_000)), eq(second.getId()), any(), eq(2));
+        assertThat(paged.size()).isEqualTo(3);
+    }
+
+    private Transfer scheduledTransfer(long executeAtMillis) {
+        return Transfer.reconstruct(
+                UUID.randomUUID(),
+                IdempotencyKey.of("idem-" + UUID.randomUUID()),
+                UUID.randomUUID(),
+                Cbu.of("1234567890123456789012"),
+                TransferAmount.of(new BigDecimal("100")),
+                TransferDescription.of("Alquiler"),
+                TransferStatus.SCHEDULED,
+                at(START - 120_000), null, null, null, 0, null,
+                null, null, null,
+                at(executeAtMillis),
+                null
+        );
+    }
+
+    private LocalDateTime at(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
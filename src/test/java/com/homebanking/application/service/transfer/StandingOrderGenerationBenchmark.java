@@ -0,0 +1,198 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.application.dto.transfer.response.StandingOrderRunStats;
+import com.homebanking.application.usecase.transfer.GenerateStandingOrderTransfersUseCaseImpl;
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.entity.StandingOrder;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.RecurrenceRule;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.event.EventOutbox;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import com.homebanking.port.out.transfer.StandingOrderRepository;
+import com.homebanking.port.out.transfer.TransferRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmark: generación del día 1 con ~1M órdenes permanentes
+ * (250k cuentas x 4 órdenes), secuencial vs chunks en paralelo.
+ * Repositorio de órdenes en memoria; cada escritura de chunk simula un
+ * round trip a la base. Una segunda corrida del mismo día no genera nada.
+
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=StandingOrderGenerationBenchmark
+ */
+@Tag("benchmark")
+class StandingOrderGenerationBenchmark {
+
+    private static final int ACCOUNTS = 250_000;
+    private static final int ORDERS_PER_ACCOUNT = 4;
+    private static final int CHUNK_SIZE = 500;
+    private static final long ROUND_TRIP_MS = 2;
+    private static final LocalDate RUN_DATE = LocalDate.of(2024, 3, 1);
+
+    @Test
+    void compareSequentialAndParallelChunks() {
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            StandingOrderRunStats sequential = run(virtualThreads, 1);
+            StandingOrderRunStats parallel4 = run(virtualThreads, 4);
+            StandingOrderRunStats parallel16 = run(virtualThreads, 16);
+
+            report("parallelism=1", sequential);
+            report("parallelism=4", parallel4);
+            report("parallelism=16", parallel16);
+
+            assertThat(parallel16.elapsedMillis()).isLessThan(sequential.elapsedMillis());
+        }
+    }
+
+    private StandingOrderRunStats run(ExecutorService executor, int parallelism) {
+        InMemoryStandingOrders standingOrders = new InMemoryStandingOrders();
+        Map<UUID, Account> accounts = new ConcurrentHashMap<>();
+        seed(standingOrders, accounts);
+
+        AccountRepository accountRepository = mock(AccountRepository.class, withSettings().stubOnly());
+        when(accountRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(accounts::get).toList();
+        });
+        when(accountRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransferRepository transferRepository = mock(TransferRepository.class, withSettings().stubOnly());
+        when(transferRepository.findExistingIdempotencyKeys(anyCollection())).thenReturn(Set.of());
+        when(transferRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            sleep(ROUND_TRIP_MS);
+            return invocation.getArgument(0);
+        });
+
+        StandingOrderGenerationService service = new StandingOrderGenerationService(
+                standingOrders,
+                new GenerateStandingOrderTransfersUseCaseImpl(
+                        standingOrders,
+                        accountRepository,
+                        transferRepository,
+                        mock(EventOutbox.class, withSettings().stubOnly())),
+                mock(TransferMetrics.class, withSettings().stubOnly()),
+                executor,
+                CHUNK_SIZE,
+                parallelism
+        );
+
+        StandingOrderRunStats stats = service.generate(RUN_DATE);
+        assertThat(stats.failedChunks()).isZero();
+        assertThat(stats.materialized()).isEqualTo(ACCOUNTS * ORDERS_PER_ACCOUNT);
+
+        StandingOrderRunStats rerun = service.generate(RUN_DATE);
+        assertThat(rerun.materialized()).isZero();
+        return stats;
+    }
+
+    private void seed(InMemoryStandingOrders standingOrders, Map<UUID, Account> accounts) {
+        Cbu payee = Cbu.of("2222222222222222222222");
+        TransferAmount amount = TransferAmount.of(new BigDecimal("100.00"));
+        TransferDescription description = TransferDescription.of("Alquiler");
+        RecurrenceRule monthly = RecurrenceRule.monthly(1);
+        LocalDateTime createdAt = LocalDateTime.now();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            UUID accountId = UUID.randomUUID();
+            accounts.put(accountId, Account.withId(accountId, UUID.randomUUID(),
+                    String.format("%022d", i + 1), "alias." + i, new BigDecimal("10000.00"), createdAt));
+            List<StandingOrder> orders = new ArrayList<>(ORDERS_PER_ACCOUNT);
+            for (int j = 0; j < ORDERS_PER_ACCOUNT; j++) {
+                orders.add(StandingOrder.reconstruct(UUID.randomUUID(), accountId, payee, amount,
+                        description, monthly, RUN_DATE, true, createdAt));
+            }
+            standingOrders.byAccount.put(accountId, orders);
+        }
+    }
+
+    private void report(String label, StandingOrderRunStats stats) {
+        System.out.printf("%-16s chunks=%d generated=%d elapsed=%dms throughput=%.0f/s%n",
+                label, stats.chunks(), stats.materialized(), stats.elapsedMillis(), stats.throughputPerSecond());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Órdenes por cuenta, ordenadas por id de cuenta como el índice real.
+     * Las órdenes se avanzan en el lugar (mismo objeto de dominio).
+     */
+    private static final class InMemoryStandingOrders implements StandingOrderRepository {
+
+        private final ConcurrentSkipListMap<UUID, List<StandingOrder>> byAccount = new ConcurrentSkipListMap<>();
+
+        @Override
+        public StandingOrder save(StandingOrder standingOrder) {
+            return standingOrder;
+        }
+
+        @Override
+        public List<StandingOrder> saveAll(List<StandingOrder> standingOrders) {
+            return standingOrders;
+        }
+
+        @Override
+        public Optional<StandingOrder> findById(UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<UUID> findOriginAccountsWithDueOrders(LocalDate runDate, UUID afterAccountId, int limit) {
+            Map<UUID, List<StandingOrder>> tail = afterAccountId == null
+                    ? byAccount
+                    : byAccount.tailMap(afterAccountId, false);
+            List<UUID> accountIds = new ArrayList<>(limit);
+            for (Map.Entry<UUID, List<StandingOrder>> entry : tail.entrySet()) {
+                if (entry.getValue().stream().anyMatch(order -> isDue(order, runDate))) {
+                    accountIds.add(entry.getKey());
+                    if (accountIds.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            return accountIds;
+        }
+
+        @Override
+        public List<StandingOrder> findDueByOriginAccounts(Collection<UUID> originAccountIds, LocalDate runDate) {
+            return originAccountIds.stream()
+                    .flatMap(accountId -> byAccount.getOrDefault(accountId, List.of()).stream())
+                    .filter(order -> isDue(order, runDate))
+                    .toList();
+        }
+
+        private boolean isDue(StandingOrder order, LocalDate runDate) {
+            return order.isActive() && !order.getNextExecutionDate().isAfter(runDate);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.application.dto.transfer.response.StandingOrderChunkResult;
+import com.homebanking.application.dto.transfer.response.StandingOrderRunStats;
+import com.homebanking.port.in.transfer.GenerateStandingOrderTransfersInputPort;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import com.homebanking.port.out.transfer.StandingOrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StandingOrderGenerationServiceTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2024, 3, 1);
+
+    @Mock
+    private StandingOrderRepository standingOrderRepository;
+    @Mock
+    private GenerateStandingOrderTransfersInputPort generateUseCase;
+    @Mock
+    private TransferMetrics transferMetrics;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldWalkAccountsByKeysetAndAggregateChunks() {
+        UUID a1 = UUID.randomUUID();
+        UUID a2 = UUID.randomUUID();
+        UUID a3 = UUID.randomUUID();
+        when(standingOrderRepository.findOriginAccountsWithDueOrders(RUN_DATE, null, 2)).thenReturn(List.of(a1, a2));
+        when(standingOrderRepository.findOriginAccountsWithDueOrders(RUN_DATE, a2, 2)).thenReturn(List.of(a3));
+        when(generateUseCase.generate(List.of(a1, a2), RUN_DATE)).thenReturn(new StandingOrderChunkResult(2, 3, 1, 0));
+        when(generateUseCase.generate(List.of(a3), RUN_DATE)).thenReturn(new StandingOrderChunkResult(1, 1, 0, 1));
+
+        StandingOrderRunStats stats = service(2, 4).generate(RUN_DATE);
+
+        assertThat(stats.chunks()).isEqualTo(2);
+        assertThat(stats.failedChunks()).isZero();
+        assertThat(stats.accounts()).isEqualTo(3);
+        assertThat(stats.materialized()).isEqualTo(4);
+        assertThat(stats.rejected()).isEqualTo(1);
+        assertThat(stats.duplicates()).isEqualTo(1);
+        verify(standingOrderRepository, times(2)).findOriginAccountsWithDueOrders(eq(RUN_DATE), any(), anyInt());
+        verify(transferMetrics, times(2)).recordStandingOrderChunk(eq("OK"), any(Duration.class));
+        verify(transferMetrics).recordStandingOrderRun(any(Duration.class), anyDouble());
+    }
+
+    @Test
+    void shouldKeepGoingWhenOneChunkFails() {
+        UUID a1 = UUID.randomUUID();
+        UUID a2 = UUID.randomUUID();
+        when(standingOrderRepository.findOriginAccountsWithDueOrders(RUN_DATE, null, 1)).thenReturn(List.of(a1));
+        when(standingOrderRepository.findOriginAccountsWithDueOrders(RUN_DATE, a1, 1)).thenReturn(List.of(a2));
+        when(standingOrderRepository.findOriginAccountsWithDueOrders(RUN_DATE, a2, 1)).thenReturn(List.of());
+        when(generateUseCase.generate(List.of(a1), RUN_DATE)).thenThrow(new IllegalStateException("deadlock"));
+        when(generateUseCase.generate(List.of(a2), RUN_DATE)).thenReturn(new StandingOrderChunkResult(1, 2, 0, 0));
+
+        StandingOrderRunStats stats = service(1, 1).generate(RUN_DATE);
+
+        assertThat(stats.chunks()).isEqualTo(2);
+        assertThat(stats.failedChunks()).isEqualTo(1);
+        assertThat(stats.materialized()).isEqualTo(2);
+        verify(transferMetrics).recordStandingOrderChunk(eq("FAILED"), any(Duration.class));
+    }
+
+    @Test
+    void shouldRetryFailedChunkPerAccountWithinTheSameRun() {
+        // Arrange: el chunk entero choca con una mutación concurrente; por cuenta, solo a2 vuelve a fallar
+        UUID a1 = UUID.randomUUID();
+        UUID a2 = UUID.randomUUID();
+        UUID a3 = UUID.randomUUID();
+        when(standingOrderRepository.findOriginAccountsWithDueOrders(RUN_DATE, null, 3)).thenReturn(List.of(a1, a2, a3));
+        when(generateUseCase.generate(List.of(a1, a2, a3), RUN_DATE))
+                .thenThrow(new IllegalStateException("optimistic lock"));
+        when(generateUseCase.generate(List.of(a1), RUN_DATE)).thenReturn(new StandingOrderChunkResult(1, 1, 0, 0));
+        when(generateUseCase.generate(List.of(a2), RUN_DATE)).thenThrow(new IllegalStateException("optimistic lock"));
+        when(generateUseCase.generate(List.of(a3), RUN_DATE)).thenReturn(new StandingOrderChunkResult(1, 2, 0, 0));
+
+        // Act
+        StandingOrderRunStats stats = service(3, 1).generate(RUN_DATE);
+
+        // Assert: a1 y a3 se generan en esta corrida; a2 queda para la próxima
+        assertThat(stats.chunks()).isEqualTo(1);
+        assertThat(stats.failedChunks()).isEqualTo(1);
+        assertThat(stats.accounts()).isEqualTo(2);
+        assertThat(stats.materialized()).isEqualTo(3);
+        verify(transferMetrics).recordStandingOrderChunk(eq("FAILED"), any(Duration.class));
+    }
+
+    @Test
+    void shouldCountChunkAsRetried_WhenEveryAccountSucceedsOnRetry() {
+        // Arrange
+        UUID a1 = UUID.randomUUID();
+        UUID a2 = UUID.randomUUID();
+        when(standingOrderRepository.findOriginAccountsWithDueOrders(RUN_DATE, null, 2)).thenReturn(List.of(a1, a2));
+        when(standingOrderRepository.findOriginAccountsWithDueOrders(RUN_DATE, a2, 2)).thenReturn(List.of());
+        when(generateUseCase.generate(List.of(a1, a2), RUN_DATE))
+                .thenThrow(new IllegalStateException("optimistic lock"));
+        when(generateUseCase.generate(List.of(a1), RUN_DATE)).thenReturn(new StandingOrderChunkResult(1, 1, 0, 0));
+        when(generateUseCase.generate(List.of(a2), RUN_DATE)).thenReturn(new StandingOrderChunkResult(1, 1, 0, 0));
+
+        // Act
+        StandingOrderRunStats stats = service(2, 1).generate(RUN_DATE);
+
+        // Assert
+        assertThat(stats.failedChunks()).isZero();
+        assertThat(stats.materialized()).isEqualTo(2);
+        verify(transferMetrics).recordStandingOrderChunk(eq("RETRIED"), any(Duration.class));
+    }
+
+    @Test
+    void shouldFinishImmediatelyWhenNothingIsDue() {
+        when(standingOrderRepository.findOriginAccountsWithDueOrders(RUN_DATE, null, 500)).thenReturn(List.of());
+
+        StandingOrderRunStats stats = service(500, 4).generate(RUN_DATE);
+
+        assertThat(stats.chunks()).isZero();
+        verifyNoInteractions(generateUseCase);
+    }
+
+    private StandingOrderGenerationService service(int chunkSize, int parallelism) {
+        return new StandingOrderGenerationService(
+                standingOrderRepository,
+                generateUseCase,
+                transferMetrics,
+                executor,
+                chunkSize,
+                parallelism
+        );
+    }
+}
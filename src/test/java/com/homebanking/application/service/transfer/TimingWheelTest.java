@@ -0,0 +1,82 @@
+package com.homebanking.application.service.transfer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    @Test
+    void shouldReleaseOnlyAfterDeadlineTickElapses() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+        wheel.add("a", 25);
+
+        assertThat(wheel.advance(20)).isEmpty();
+        assertThat(wheel.advance(29)).isEmpty();
+        assertThat(wheel.advance(30)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldCascadeFromOverflowLevels() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+        wheel.add("next-level", 85);
+        wheel.add("two-levels-up", 1_005);
+
+        assertThat(wheel.advance(80)).isEmpty();
+        assertThat(wheel.advance(90)).containsExactly("next-level");
+        assertThat(wheel.advance(1_000)).isEmpty();
+        assertThat(wheel.advance(1_010)).containsExactly("two-levels-up");
+    }
+
+    @Test
+    void shouldRejectDeadlinesAlreadyPassed() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+        wheel.advance(100);
+
+        assertThat(wheel.add("late", 50)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldSkipIdleTimeWithoutLosingNewEntries() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+        wheel.add("warm-up", 1_000);
+        wheel.advance(1_010);
+
+        assertThat(wheel.advance(10_000_000)).isEmpty();
+        wheel.add("after-idle", 10_000_005);
+
+        assertThat(wheel.advance(10_000_009)).isEmpty();
+        assertThat(wheel.advance(10_000_010)).containsExactly("after-idle");
+    }
+
+    @Test
+    void shouldReleaseEveryEntryWithinOneTickOfItsDeadline() {
+        long tick = 10;
+        TimingWheel<Integer> wheel = new TimingWheel<>(tick, 16, 0);
+        Random random = new Random(42);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long deadline = random.nextLong(200_000);
+            deadlines.put(i, deadline);
+            wheel.add(i, deadline);
+        }
+
+        int released = 0;
+        for (long now = tick; now <= 200_000 + tick; now += tick) {
+            List<Integer> due = wheel.advance(now);
+            for (Integer item : due) {
+                assertThat(deadlines.get(item)).isLessThan(now).isGreaterThanOrEqualTo(now - tick);
+            }
+            released += due.size();
+        }
+        assertThat(released).isEqualTo(5_000);
+        assertThat(wheel.size()).isZero();
+    }
+}
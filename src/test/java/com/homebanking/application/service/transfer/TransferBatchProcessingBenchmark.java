@@ -0,0 +1,125 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.application.dto.transfer.response.TransferBatchStats;
+import com.homebanking.application.dto.transfer.response.TransferOutputResponse;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.enums.TransferStatus;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.in.transfer.ProcessTransferInputPort;
+import com.homebanking.port.out.transfer.TransferRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark: lote de reintentos secuencial vs worker pool vs envío por chunks,
+ * contra un procesador stub con latencia simulada por round trip.
+
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=TransferBatchProcessingBenchmark
+ */
+@Tag("benchmark")
+class TransferBatchProcessingBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final long ROUND_TRIP_MS = 20;
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Test
+    void compareSequentialConcurrentAndChunkedThroughput() {
+        List<Transfer> batch = transfers(BATCH_SIZE);
+
+        // Un round trip por llamada, sin importar cuántas transferencias viajen
+        ProcessTransferInputPort processUseCase = new ProcessTransferInputPort() {
+            @Override
+            public TransferOutputResponse processTransfer(UUID transferId) {
+                sleep(ROUND_TRIP_MS);
+                return null;
+            }
+
+            @Override
+            public List<TransferOutputResponse> processTransfers(List<UUID> transferIds) {
+                sleep(ROUND_TRIP_MS);
+                List<TransferOutputResponse> responses = new ArrayList<>(transferIds.size());
+                transferIds.forEach(id -> responses.add(null));
+                return responses;
+            }
+        };
+
+        TransferRepository repository = mock(TransferRepository.class);
+        when(repository.claimRetryableTransfers(BATCH_SIZE, "bench", LEASE)).thenReturn(batch);
+
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            TransferBatchStats sequential = run(repository, processUseCase, virtualThreads, 1, 1);
+            TransferBatchStats concurrent16 = run(repository, processUseCase, virtualThreads, 16, 1);
+            TransferBatchStats chunked20 = run(repository, processUseCase, virtualThreads, 1, 20);
+            TransferBatchStats concurrentChunked = run(repository, processUseCase, virtualThreads, 4, 20);
+
+            report("sequential", sequential);
+            report("concurrency=16", concurrent16);
+            report("chunk=20", chunked20);
+            report("conc=4,chunk=20", concurrentChunked);
+
+            assertThat(concurrent16.throughputPerSecond())
+                    .isGreaterThan(sequential.throughputPerSecond() * 4);
+            assertThat(chunked20.throughputPerSecond())
+                    .isGreaterThan(sequential.throughputPerSecond() * 4);
+        }
+    }
+
+    private TransferBatchStats run(
+            TransferRepository repository,
+            ProcessTransferInputPort processUseCase,
+            ExecutorService executor,
+            int concurrency,
+            int chunkSize) {
+        TransferBatchProcessingService service = new TransferBatchProcessingService(
+                repository, processUseCase, BATCH_SIZE, chunkSize, executor, concurrency,
+                new ProcessingLeaseSettings("bench", LEASE));
+        service.retryFailedTransfers(); // warm-up
+        return service.retryFailedTransfers();
+    }
+
+    private void report(String label, TransferBatchStats stats) {
+        System.out.printf("[benchmark] %-16s transfers=%d elapsedMs=%d throughput=%.1f/s%n",
+                label, stats.total(), stats.elapsedMillis(), stats.throughputPerSecond());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Transfer> transfers(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Transfer.reconstruct(
+                        UUID.randomUUID(),
+                        IdempotencyKey.of("bench-" + i),
+                        UUID.randomUUID(),
+                        Cbu.of("1234567890123456789012"),
+                        TransferAmount.of(new BigDecimal("10")),
+                        TransferDescription.of("Benchmark"),
+                        TransferStatus.FAILED,
+                        LocalDateTime.now(), null, null, null, 0, null, null, null, null, null, null
+                ))
+                .toList();
+    }
+}
@@ -0,0 +1,210 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.application.dto.transfer.response.TransferBatchStats;
+import com.homebanking.application.dto.transfer.response.TransferOutputResponse;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.enums.TransferStatus;
+import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.in.transfer.ProcessTransferInputPort;
+import com.homebanking.port.out.transfer.TransferRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferBatchProcessingServiceTest {
+
+    private static final String WORKER = "node-1";
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Mock
+    private TransferRepository transferRepository;
+    @Mock
+    private ProcessTransferInputPort processTransferUseCase;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldIsolateFailuresWhenRunningSequentially() {
+        List<Transfer> batch = transfers(3);
+        UUID failing = batch.get(1).getId();
+        when(transferRepository.claimRetryableTransfers(100, WORKER, LEASE)).thenReturn(batch);
+        when(processTransferUseCase.processTransfers(anyList())).thenAnswer(invocation -> {
+            if (invocation.<List<UUID>>getArgument(0).contains(failing)) {
+                throw new InvalidTransferDataException("boom");
+            }
+            return responses(invocation.getArgument(0));
+        });
+
+        TransferBatchStats stats = service(1).retryFailedTransfers();
+
+        verify(processTransferUseCase, times(3)).processTransfers(anyList());
+        assertThat(stats.total()).isEqualTo(3);
+        assertThat(stats.succeeded()).isEqualTo(2);
+        assertThat(stats.failed()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldProcessWholeBatchConcurrentlyWithinConcurrencyLimit() {
+        List<Transfer> batch = transfers(40);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+        when(transferRepository.claimRetryableTransfers(100, WORKER, LEASE)).thenReturn(batch);
+        when(processTransferUseCase.processTransfers(anyList())).thenAnswer(invocation -> {
+            int current = inFlight.incrementAndGet();
+            maxObserved.accumulateAndGet(current, Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return responses(invocation.getArgument(0));
+        });
+
+        TransferBatchStats stats = service(4).retryFailedTransfers();
+
+        assertThat(stats.succeeded()).isEqualTo(40);
+        assertThat(stats.failed()).isZero();
+        assertThat(maxObserved.get()).isBetween(2, 4);
+    }
+
+    @Test
+    void shouldIsolateFailuresWhenRunningConcurrently() {
+        List<Transfer> batch = transfers(10);
+        UUID failing = batch.get(4).getId();
+        when(transferRepository.claimRetryableTransfers(100, WORKER, LEASE)).thenReturn(batch);
+        when(processTransferUseCase.processTransfers(anyList())).thenAnswer(invocation -> {
+            if (invocation.<List<UUID>>getArgument(0).contains(failing)) {
+                throw new IllegalStateException("processor down");
+            }
+            return responses(invocation.getArgument(0));
+        });
+
+        TransferBatchStats stats = service(3).retryFailedTransfers();
+
+        verify(processTransferUseCase, times(10)).processTransfers(anyList());
+        assertThat(stats.succeeded()).isEqualTo(9);
+        assertThat(stats.failed()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnEmptyStatsWhenNothingToProcess() {
+        when(transferRepository.claimRetryableTransfers(100, WORKER, LEASE)).thenReturn(List.of());
+
+        TransferBatchStats stats = service(4).retryFailedTransfers();
+
+        assertThat(stats.isEmpty()).isTrue();
+        verifyNoInteractions(processTransferUseCase);
+    }
+
+    @Test
+    void shouldSubmitRetriesInChunks() {
+        List<Transfer> batch = transfers(25);
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(transferRepository.claimRetryableTransfers(100, WORKER, LEASE)).thenReturn(batch);
+        when(processTransferUseCase.processTransfers(anyList())).thenAnswer(invocation -> {
+            List<UUID> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            return responses(chunk);
+        });
+
+        TransferBatchStats stats = service(1, 10).retryFailedTransfers();
+
+        assertThat(chunkSizes).containsExactly(10, 10, 5);
+        assertThat(stats.succeeded()).isEqualTo(25);
+    }
+
+    @Test
+    void shouldCountTransfersNotFinalizedInChunkAsFailed() {
+        List<Transfer> batch = transfers(4);
+        when(transferRepository.claimRetryableTransfers(100, WORKER, LEASE)).thenReturn(batch);
+        when(processTransferUseCase.processTransfers(anyList()))
+                .thenAnswer(invocation -> responses(invocation.<List<UUID>>getArgument(0).subList(0, 3)));
+
+        TransferBatchStats stats = service(1, 4).retryFailedTransfers();
+
+        assertThat(stats.succeeded()).isEqualTo(3);
+        assertThat(stats.failed()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldProcessTransferOnlyWhenClaimed() {
+        UUID claimed = UUID.randomUUID();
+        UUID takenByOtherNode = UUID.randomUUID();
+        when(transferRepository.claimTransfer(claimed, WORKER, LEASE)).thenReturn(true);
+        when(transferRepository.claimTransfer(takenByOtherNode, WORKER, LEASE)).thenReturn(false);
+
+        int processed = service(1).processClaimedTransfers(List.of(claimed, takenByOtherNode));
+
+        assertThat(processed).isEqualTo(1);
+        verify(processTransferUseCase).processTransfers(List.of(claimed));
+    }
+
+    @Test
+    void shouldSkipProcessingWhenNothingClaimed() {
+        UUID takenByOtherNode = UUID.randomUUID();
+        when(transferRepository.claimTransfer(takenByOtherNode, WORKER, LEASE)).thenReturn(false);
+
+        assertThat(service(1).processClaimedTransfers(List.of(takenByOtherNode))).isZero();
+        verifyNoInteractions(processTransferUseCase);
+    }
+
+    private TransferBatchProcessingService service(int concurrency) {
+        return service(concurrency, 1);
+    }
+
+    private TransferBatchProcessingService service(int concurrency, int chunkSize) {
+        return new TransferBatchProcessingService(
+                transferRepository,
+                processTransferUseCase,
+                100,
+                chunkSize,
+                executor,
+                concurrency,
+                new ProcessingLeaseSettings(WORKER, LEASE)
+        );
+    }
+
+    private List<TransferOutputResponse> responses(List<UUID> transferIds) {
+        return transferIds.stream().map(id -> mock(TransferOutputResponse.class)).toList();
+    }
+
+    private List<Transfer> transfers(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Transfer.reconstruct(
+                        UUID.randomUUID(),
+                        IdempotencyKey.of("idem-" + i),
+                        UUID.randomUUID(),
+                        Cbu.of("1234567890123456789012"),
+                        TransferAmount.of(new BigDecimal("100")),
+                        TransferDescription.of("Test"),
+                        TransferStatus.FAILED,
+                        LocalDateTime.now(), null, null, null, 0, null, null, null, null, null, null
+                ))
+                .toList();
+    }
+}
@@ -0,0 +1,255 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.enums.TransferStatus;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import com.homebanking.port.out.transfer.TransferRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferDispatchQueueTest {
+
+    private static final ProcessingLeaseSettings SETTINGS =
+            new ProcessingLeaseSettings("node-1", Duration.ofSeconds(30));
+
+    @Mock
+    private TransferRepository transferRepository;
+    @Mock
+    private TransferBatchProcessingService processingService;
+    @Mock
+    private TransferMetrics transferMetrics;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private TransferDispatchQueue dispatchQueue;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatchQueue != null) {
+            dispatchQueue.stop();
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldIgnoreDuplicateEnqueue() {
+        dispatchQueue = queue(10);
+        UUID transferId = UUID.randomUUID();
+
+        assertThat(dispatchQueue.enqueue(transferId)).isTrue();
+        assertThat(dispatchQueue.enqueue(transferId)).isFalse();
+        assertThat(dispatchQueue.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() {
+        dispatchQueue = queue(1);
+
+        assertThat(dispatchQueue.enqueue(UUID.randomUUID())).isTrue();
+        assertThat(dispatchQueue.enqueue(UUID.randomUUID())).isFalse();
+        assertThat(dispatchQueue.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBackfillOnlyTransfersNotAlreadyQueued() {
+        dispatchQueue = queue(10);
+        Transfer alreadyQueued = pendingTransfer();
+        Transfer missed = pendingTransfer();
+        dispatchQueue.enqueue(alreadyQueued.getId());
+        when(transferRepository.claimPendingTransfers(50, "node-1", SETTINGS.leaseDuration()))
+                .thenReturn(List.of(alreadyQueued, missed));
+
+        int enqueued = dispatchQueue.backfill();
+
+        assertThat(enqueued).isEqualTo(1);
+        assertThat(dispatchQueue.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDispatchQueuedTransfersAndRecordLatency() throws InterruptedException {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<UUID> dispatched = new CopyOnWriteArrayList<>();
+        CountDownLatch processed = new CountDownLatch(2);
+        when(processingService.processClaimedTransfers(anyList())).thenAnswer(invocation -> {
+            List<UUID> chunk = invocation.getArgument(0);
+            dispatched.addAll(chunk);
+            chunk.forEach(id -> processed.countDown());
+            return chunk.size();
+        });
+
+        dispatchQueue = queue(10);
+        dispatchQueue.start();
+        dispatchQueue.enqueue(first);
+        dispatchQueue.enqueue(second);
+
+        assertThat(processed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatched).containsExactlyInAnyOrder(first, second);
+        verify(transferMetrics).registerDispatchQueueDepth(any());
+        verify(transferMetrics, timeout(5000).times(2)).recordDispatchLatency(eq("default"), any(Duration.class));
+    }
+
+    @Test
+    void shouldGroupQueuedTransfersIntoChunks() throws InterruptedException {
+        List<Integer> chunkSizes = new CopyOnWriteArrayList<>();
+        CountDownLatch processed = new CountDownLatch(5);
+        when(processingService.processClaimedTransfers(anyList())).thenAnswer(invocation -> {
+            List<UUID> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            chunk.forEach(id -> processed.countDown());
+            return chunk.size();
+        });
+
+        dispatchQueue = queue(10, 2);
+        IntStream.range(0, 5).forEach(i -> dispatchQueue.enqueue(UUID.randomUUID()));
+        dispatchQueue.start();
+
+        assertThat(processed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(chunkSizes).containsExactlyInAnyOrder(2, 2, 1);
+    }
+
+    @Test
+    void shouldAllowReenqueueAfterProcessingFails() throws InterruptedException {
+        UUID transferId = UUID.randomUUID();
+        CountDownLatch attempted = new CountDownLatch(1);
+        when(processingService.processClaimedTransfers(List.of(transferId))).thenAnswer(invocation -> {
+            attempted.countDown();
+            throw new IllegalStateException("processor down");
+        });
+
+        dispatchQueue = queue(10);
+        dispatchQueue.start();
+        dispatchQueue.enqueue(transferId);
+
+        assertThat(attempted.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(transferMetrics, timeout(5000)).recordDispatchLatency(eq("default"), any(Duration.class));
+        assertThat(dispatchQueue.enqueue(transferId)).isTrue();
+    }
+
+    @Test
+    void shouldRoundRobinAcrossOriginAccounts() throws InterruptedException {
+        UUID corporate = UUID.randomUUID();
+        UUID retail = UUID.randomUUID();
+        UUID retailTransfer = UUID.randomUUID();
+        List<List<UUID>> chunks = new CopyOnWriteArrayList<>();
+        CountDownLatch processed = new CountDownLatch(11);
+        when(processingService.processClaimedTransfers(anyList())).thenAnswer(invocation -> {
+            List<UUID> chunk = invocation.getArgument(0);
+            chunks.add(chunk);
+            chunk.forEach(id -> processed.countDown());
+            return chunk.size();
+        });
+
+        // Un chunk en vuelo a la vez: el orden de proceso es el orden de drenado
+        dispatchQueue = queue(100, 3, 1);
+        IntStream.range(0, 10).forEach(i -> dispatchQueue.enqueue(UUID.randomUUID(), corporate, BigDecimal.TEN));
+        dispatchQueue.enqueue(retailTransfer, retail, BigDecimal.TEN);
+        dispatchQueue.start();
+
+        assertThat(processed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(chunks.getFirst()).contains(retailTransfer);
+    }
+
+    @Test
+    void shouldKeepRetailLaneFlowingWhileBulkLaneIsBusy() throws InterruptedException {
+        UUID bulkTransfer = UUID.randomUUID();
+        UUID retailTransfer = UUID.randomUUID();
+        CountDownLatch releaseBulk = new CountDownLatch(1);
+        CountDownLatch retailProcessed = new CountDownLatch(1);
+        when(processingService.processClaimedTransfers(anyList())).thenAnswer(invocation -> {
+            List<UUID> chunk = invocation.getArgument(0);
+            if (chunk.contains(bulkTransfer)) {
+                releaseBulk.await(5, TimeUnit.SECONDS);
+            }
+            if (chunk.contains(retailTransfer)) {
+                retailProcessed.countDown();
+            }
+            return chunk.size();
+        });
+
+        dispatchQueue = new TransferDispatchQueue(
+                transferRepository,
+                processingService,
+                transferMetrics,
+                executor,
+                SETTINGS,
+                List.of(new DispatchLane("retail", new BigDecimal("1000"), 1),
+                        DispatchLane.unbounded("bulk", 1)),
+                100,
+                10,
+                50
+        );
+        dispatchQueue.start();
+        dispatchQueue.enqueue(bulkTransfer, UUID.randomUUID(), new BigDecimal("500000"));
+        IntStream.range(0, 5).forEach(i ->
+                dispatchQueue.enqueue(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("500000")));
+        dispatchQueue.enqueue(retailTransfer, UUID.randomUUID(), new BigDecimal("50"));
+
+        try {
+            assertThat(retailProcessed.await(5, TimeUnit.SECONDS)).isTrue();
+            verify(transferMetrics, timeout(5000)).recordDispatchLatency(eq("retail"), any(Duration.class));
+        } finally {
+            releaseBulk.countDown();
+        }
+    }
+
+    private TransferDispatchQueue queue(int capacity) {
+        return queue(capacity, 10);
+    }
+
+    private TransferDispatchQueue queue(int capacity, int chunkSize) {
+        return queue(capacity, chunkSize, 4);
+    }
+
+    private TransferDispatchQueue queue(int capacity, int chunkSize, int concurrency) {
+        return new TransferDispatchQueue(
+                transferRepository,
+                processingService,
+                transferMetrics,
+                executor,
+                SETTINGS,
+                concurrency,
+                capacity,
+                chunkSize,
+                50
+        );
+    }
+
+    private Transfer pendingTransfer() {
+        return Transfer.reconstruct(
+                UUID.randomUUID(),
+                IdempotencyKey.of("idem-" + UUID.randomUUID()),
+                UUID.randomUUID(),
+                Cbu.of("1234567890123456789012"),
+                TransferAmount.of(new BigDecimal("100")),
+                TransferDescription.of("Test"),
+                TransferStatus.PENDING,
+                LocalDateTime.now(), null, null, null, 0, null, null, null, null, null, null
+        );
+    }
+}
@@ -0,0 +1,145 @@
+package com.homebanking.application.service.transfer;
+
+import com.homebanking.application.dto.transfer.response.TransferProcessingResult;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.enums.TransferStatus;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.out.metrics.TransferMetrics;
+import com.homebanking.port.out.transfer.TransferProcessorOutputPort;
+import com.homebanking.port.out.transfer.TransferProcessorOutputPort.ExternalStatus;
+import com.homebanking.port.out.transfer.TransferRepository;
+import com.homebanking.port.out.transfer.TransferRepository.ExpiredLease;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferLeaseReaperServiceTest {
+
+    private static final ProcessingLeaseSettings SETTINGS =
+            new ProcessingLeaseSettings("node-1", Duration.ofSeconds(30));
+
+    @Mock
+    private TransferRepository transferRepository;
+    @Mock
+    private TransferProcessorOutputPort transferProcessor;
+    @Mock
+    private TransferStateTransitionService stateService;
+    @Mock
+    private TransferMetrics transferMetrics;
+
+    private TransferLeaseReaperService reaperService;
+
+    @BeforeEach
+    void setUp() {
+        reaperService = new TransferLeaseReaperService(
+                transferRepository,
+                transferProcessor,
+                stateService,
+                transferMetrics,
+                SETTINGS,
+                100
+        );
+    }
+
+    @Test
+    void shouldReturnToRetryableWhenExternalOutcomeUnknown() {
+        Transfer stuck = processingTransfer();
+        when(transferRepository.claimExpiredProcessingTransfers(100, "node-1", SETTINGS.leaseDuration()))
+                .thenReturn(List.of(expired(stuck)));
+        when(transferProcessor.queryStatus(stuck)).thenReturn(ExternalStatus.UNKNOWN);
+
+        int reclaimed = reaperService.reclaimExpiredLeases();
+
+        assertThat(reclaimed).isEqualTo(1);
+        verify(stateService).finalizeProcessing(stuck.getId(), TransferProcessingResult.recoverableFailure());
+        verify(transferMetrics).recordLeaseReclaimed(eq("RECOVERABLE_FAILURE"), any(Duration.class));
+    }
+
+    @Test
+    void shouldApplyRealOutcomeWhenProcessorKnowsIt() {
+        Transfer accepted = processingTransfer();
+        Transfer rejected = processingTransfer();
+        when(transferRepository.claimExpiredProcessingTransfers(100, "node-1", SETTINGS.leaseDuration()))
+                .thenReturn(List.of(expired(accepted), expired(rejected)));
+        when(transferProcessor.queryStatus(accepted)).thenReturn(ExternalStatus.ACCEPTED);
+        when(transferProcessor.queryStatus(rejected)).thenReturn(ExternalStatus.REJECTED);
+
+        reaperService.reclaimExpiredLeases();
+
+        verify(stateService).finalizeProcessing(accepted.getId(), TransferProcessingResult.success());
+        verify(stateService).finalizeProcessing(eq(rejected.getId()),
+                argThat(result -> result.outcome() == TransferProcessingResult.Outcome.NON_RECOVERABLE_FAILURE));
+    }
+
+    @Test
+    void shouldContinueWhenOneTransferCannotBeReclaimed() {
+        Transfer failing = processingTransfer();
+        Transfer healthy = processingTransfer();
+        when(transferRepository.claimExpiredProcessingTransfers(100, "node-1", SETTINGS.leaseDuration()))
+                .thenReturn(List.of(expired(failing), expired(healthy)));
+        when(transferProcessor.queryStatus(any(Transfer.class))).thenReturn(ExternalStatus.UNKNOWN);
+        when(stateService.finalizeProcessing(eq(failing.getId()), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        int reclaimed = reaperService.reclaimExpiredLeases();
+
+        assertThat(reclaimed).isEqualTo(1);
+        verify(stateService).finalizeProcessing(eq(healthy.getId()), any());
+        verify(transferMetrics, times(1)).recordLeaseReclaimed(any(), any());
+    }
+
+    @Test
+    void shouldMeasureReclaimFromLeaseExpiryNotCreation() {
+        // Arrange: creada hace 10 minutos, lease vencido hace 2
+        Transfer stuck = processingTransfer();
+        when(transferRepository.claimExpiredProcessingTransfers(100, "node-1", SETTINGS.leaseDuration()))
+                .thenReturn(List.of(new ExpiredLease(stuck, LocalDateTime.now().minusMinutes(2))));
+        when(transferProcessor.queryStatus(stuck)).thenReturn(ExternalStatus.UNKNOWN);
+
+        // Act
+        reaperService.reclaimExpiredLeases();
+
+        // Assert
+        ArgumentCaptor<Duration> overdue = ArgumentCaptor.forClass(Duration.class);
+        verify(transferMetrics).recordLeaseReclaimed(eq("RECOVERABLE_FAILURE"), overdue.capture());
+        assertThat(overdue.getValue())
+                .isGreaterThanOrEqualTo(Duration.ofMinutes(2))
+                .isLessThan(Duration.ofMinutes(3));
+    }
+
+    private static ExpiredLease expired(Transfer transfer) {
+        return new ExpiredLease(transfer, LocalDateTime.now().minus(SETTINGS.leaseDuration()));
+    }
+
+    private Transfer processingTransfer() {
+        return Transfer.reconstruct(
+                UUID.randomUUID(),
+                IdempotencyKey.of("idem-" + UUID.randomUUID()),
+                UUID.randomUUID(),
+                Cbu.of("1234567890123456789012"),
+                TransferAmount.of(new BigDecimal("100")),
+                TransferDescription.of("Test"),
+                TransferStatus.PROCESSING,
+                LocalDateTime.now().minusMinutes(10), null, null, null, 0, null, null,
+                "node-1", LocalDateTime.now(), null, null
+        );
+    }
+}
@@ -2,6 +2,7 @@ package com.homebanking.application.service.transfer;
 
 import com.homebanking.application.dto.transfer.response.TransferProcessingResult;
 import com.homebanking.application.service.transfer.action.TransferProcessingAction;
+import com.homebanking.domain.entity.Account;
 import com.homebanking.domain.entity.Transfer;
 import com.homebanking.domain.enums.TransferStatus;
 import com.homebanking.domain.exception.account.InvalidAccountDataException;
@@ -10,7 +11,9 @@ import com.homebanking.domain.valueobject.common.Cbu;
 import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
 import com.homebanking.domain.valueobject.transfer.TransferAmount;
 import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.domain.event.TransferCompletedEvent;
 import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.event.EventOutbox;
 import com.homebanking.port.out.transfer.TransferRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,24 +23,34 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TransferStateTransitionServiceTest {
 
+    private static final String MERCHANT_CBU = "3333333333333333333333";
+
     @Mock
     private TransferRepository transferRepository;
     @Mock
     private AccountRepository accountRepository;
     @Mock
     private TransferProcessingAction action;
+    @Mock
+    private EventOutbox eventOutbox;
 
     private TransferStateTransitionService stateService;
 
@@ -46,7 +59,9 @@ class TransferStateTransitionServiceTest {
         stateService = new TransferStateTransitionService(
                 transferRepository,
                 accountRepository,
-                List.of(action)
+                List.of(action),
+                new ProcessingLeaseSettings("node-1", Duration.ofSeconds(30)),
+                eventOutbox
         );
     }
 
@@ -77,6 +92,22 @@ class TransferStateTransitionServiceTest {
         assertThat(captor.getValue().getStatus()).isEqualTo(TransferStatus.REJECTED);
     }
 
+    @Test
+    void shouldAssignLeaseWhenTakingForProcessing() {
+        Transfer pendingTransfer = createSampleTransfer(TransferStatus.PENDING);
+        UUID transferId = pendingTransfer.getId();
+
+        when(transferRepository.findById(transferId)).thenReturn(Optional.of(pendingTransfer));
+        when(accountRepository.existsByCbu(pendingTransfer.getTargetCbu())).thenReturn(true);
+        when(transferRepository.save(any(Transfer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Transfer prepared = stateService.prepareForProcessing(transferId);
+
+        assertThat(prepared.getStatus()).isEqualTo(TransferStatus.PROCESSING);
+        assertThat(prepared.getLeaseOwner()).isEqualTo("node-1");
+        assertThat(prepared.getLeaseExpiresAt()).isAfter(LocalDateTime.now());
+    }
+
     @Test
     void shouldApplyActionOnFinalize() {
         Transfer pendingTransfer = createSampleTransfer(TransferStatus.PROCESSING);
@@ -92,16 +123,114 @@ class TransferStateTransitionServiceTest {
         verify(transferRepository).save(pendingTransfer);
     }
 
+    @Test
+    void shouldAppendDomainEventsToOutboxOnFinalize() {
+        Transfer processingTransfer = createSampleTransfer(TransferStatus.PROCESSING);
+        UUID transferId = processingTransfer.getId();
+
+        when(transferRepository.findById(transferId)).thenReturn(Optional.of(processingTransfer));
+        when(action.outcome()).thenReturn(TransferProcessingResult.Outcome.SUCCESS);
+        doAnswer(invocation -> {
+            invocation.<Transfer>getArgument(0).markAsCompleted();
+            return null;
+        }).when(action).apply(any(Transfer.class), any(TransferProcessingResult.class));
+
+        stateService.finalizeProcessing(transferId, TransferProcessingResult.success());
+
+        verify(eventOutbox).append(any(TransferCompletedEvent.class));
+        assertThat(processingTransfer.getDomainEvents()).isEmpty();
+    }
+
+    @Test
+    void shouldApplyOneSummedCreditPerDestinationOnBatchFinalize() {
+        Transfer first = createSampleTransfer(TransferStatus.PROCESSING, MERCHANT_CBU, "100");
+        Transfer second = createSampleTransfer(TransferStatus.PROCESSING, MERCHANT_CBU, "250");
+        Transfer other = createSampleTransfer(TransferStatus.PROCESSING, "2222222222222222222222", "40");
+        Account merchant = Account.withId(UUID.randomUUID(), UUID.randomUUID(), MERCHANT_CBU,
+                "comercio", new BigDecimal("1000"), LocalDateTime.now());
+        Account payee = Account.withId(UUID.randomUUID(), UUID.randomUUID(), "2222222222222222222222",
+                "persona", BigDecimal.ZERO, LocalDateTime.now());
+
+        Map<UUID, TransferProcessingResult> results = new LinkedHashMap<>();
+        results.put(first.getId(), TransferProcessingResult.success());
+        results.put(second.getId(), TransferProcessingResult.success());
+        results.put(other.getId(), TransferProcessingResult.success());
+        when(action.outcome()).thenReturn(TransferProcessingResult.Outcome.RECOVERABLE_FAILURE);
+        when(transferRepository.findAllById(results.keySet())).thenReturn(List.of(first, second, other));
+        when(accountRepository.findAllByCbu(any())).thenReturn(List.of(merchant, payee));
+        when(transferRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Transfer> finalized = stateService.finalizeBatch(results);
+
+        assertThat(finalized).extracting(Transfer::getStatus).containsOnly(TransferStatus.COMPLETED);
+        assertThat(merchant.getBalance().value()).isEqualByComparingTo("1350");
+        assertThat(payee.getBalance().value()).isEqualByComparingTo("40");
+        verify(accountRepository).saveCredit(merchant, new BigDecimal("350"), first.getId());
+        verify(accountRepository).saveCredit(payee, new BigDecimal("40"), other.getId());
+        verify(accountRepository, never()).saveAll(anyList());
+        verify(accountRepository, never()).save(any(Account.class));
+        verify(accountRepository, never()).findByCbu(any());
+        verify(eventOutbox, times(3)).append(any(TransferCompletedEvent.class));
+    }
+
+    @Test
+    void shouldCreditStripedDestinationWithoutSavingAccountRow() {
+        Transfer completed = createSampleTransfer(TransferStatus.PROCESSING, MERCHANT_CBU, "100");
+        Account merchant = Account.withStripedBalance(UUID.randomUUID(), UUID.randomUUID(), MERCHANT_CBU,
+                "comercio", new BigDecimal("1000"), LocalDateTime.now(), 8, new BigDecimal("300"));
+        when(action.outcome()).thenReturn(TransferProcessingResult.Outcome.RECOVERABLE_FAILURE);
+        when(transferRepository.findAllById(Set.of(completed.getId()))).thenReturn(List.of(completed));
+        when(accountRepository.findAllByCbu(any())).thenReturn(List.of(merchant));
+
+        stateService.finalizeBatch(Map.of(completed.getId(), TransferProcessingResult.success()));
+
+        verify(accountRepository).saveCredit(merchant, new BigDecimal("100"), completed.getId());
+        verify(accountRepository, never()).saveAll(anyList());
+        assertThat(merchant.getBalance().value()).isEqualByComparingTo("1100");
+        assertThat(merchant.consolidatedBalance()).isEqualByComparingTo("700");
+    }
+
+    @Test
+    void shouldApplyActionsToFailedTransfersOnBatchFinalize() {
+        Transfer failed = createSampleTransfer(TransferStatus.PROCESSING);
+        TransferProcessingResult result = TransferProcessingResult.recoverableFailure();
+        when(transferRepository.findAllById(Set.of(failed.getId()))).thenReturn(List.of(failed));
+        when(action.outcome()).thenReturn(TransferProcessingResult.Outcome.RECOVERABLE_FAILURE);
+
+        stateService.finalizeBatch(Map.of(failed.getId(), result));
+
+        verify(action).apply(failed, result);
+        verify(accountRepository, never()).findAllByCbu(any());
+        verify(transferRepository).saveAll(List.of(failed));
+    }
+
+    @Test
+    void shouldFailWholeBatchWhenDestinationDisappeared() {
+        Transfer completed = createSampleTransfer(TransferStatus.PROCESSING);
+        when(transferRepository.findAllById(Set.of(completed.getId()))).thenReturn(List.of(completed));
+        when(action.outcome()).thenReturn(TransferProcessingResult.Outcome.RECOVERABLE_FAILURE);
+        when(accountRepository.findAllByCbu(any())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> stateService.finalizeBatch(Map.of(completed.getId(), TransferProcessingResult.success())))
+                .isInstanceOf(InvalidAccountDataException.class);
+        verify(transferRepository, never()).saveAll(anyList());
+        verifyNoInteractions(eventOutbox);
+    }
+
     private Transfer createSampleTransfer(TransferStatus status) {
+        return createSampleTransfer(status, "1234567890123456789012", "100");
+    }
+
+    private Transfer createSampleTransfer(TransferStatus status, String targetCbu, String amount) {
         return Transfer.reconstruct(
                 UUID.randomUUID(),
                 IdempotencyKey.of("idem-key"),
                 UUID.randomUUID(),
-                Cbu.of("1234567890123456789012"),
-                TransferAmount.of(new BigDecimal("100")),
+                Cbu.of(targetCbu),
+                TransferAmount.of(new BigDecimal(amount)),
                 TransferDescription.of("Test"),
                 status,
-                LocalDateTime.now(), null, null, null, 0, null
+                LocalDateTime.now(), null, null, null, 0, null, null, null, null, null, null
         );
     }
 }
@@ -52,7 +52,7 @@ class NonRecoverableFailureActionTest {
         assertThat(transfer.getStatus()).isEqualTo(TransferStatus.REJECTED);
 
         ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
-        verify(accountRepository).save(captor.capture());
+        verify(accountRepository).saveCredit(captor.capture(), eq(new BigDecimal("100")), eq(transfer.getId()));
         assertThat(captor.getValue().getBalance().value()).isEqualByComparingTo("150.00");
     }
 
@@ -81,6 +81,11 @@ class NonRecoverableFailureActionTest {
                 null,
                 null,
                 0,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         );
     }
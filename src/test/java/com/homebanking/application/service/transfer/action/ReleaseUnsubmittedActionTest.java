@@ -0,0 +1,89 @@
+package com.homebanking.application.service.transfer.action;
+
+import com.homebanking.application.dto.transfer.response.TransferProcessingResult;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.enums.TransferStatus;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.RetryPolicy;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReleaseUnsubmittedActionTest {
+
+    private final ReleaseUnsubmittedAction action = new ReleaseUnsubmittedAction();
+
+    @Test
+    void shouldReturnRetryToFailedWithoutSpendingAttempt() {
+        Transfer transfer = failedTransfer(1);
+        transfer.markAsProcessing();
+
+        action.apply(transfer, TransferProcessingResult.notSubmitted());
+
+        assertThat(transfer.getStatus()).isEqualTo(TransferStatus.FAILED);
+        assertThat(transfer.getRetryCount()).isEqualTo(1);
+        assertThat(transfer.getLeaseOwner()).isNull();
+        Duration ceiling = RetryPolicy.backoffCeiling(1);
+        Duration delay = Duration.between(LocalDateTime.now(), transfer.getNextRetryAt());
+        assertThat(delay).isPositive().isLessThanOrEqualTo(ceiling);
+    }
+
+    @Test
+    void shouldKeepLastRetryAvailable_WhenProcessorWasNeverReached() {
+        Transfer transfer = failedTransfer(RetryPolicy.MAX_RETRIES - 1);
+        transfer.markAsProcessing();
+
+        action.apply(transfer, TransferProcessingResult.notSubmitted());
+
+        assertThat(transfer.getRetryCount()).isEqualTo(RetryPolicy.MAX_RETRIES - 1);
+        assertThat(transfer.isRetryable()).isTrue();
+    }
+
+    @Test
+    void shouldReturnFirstAttemptToPending() {
+        Transfer transfer = transfer(TransferStatus.PENDING, 0, null);
+        transfer.markAsProcessing();
+
+        action.apply(transfer, TransferProcessingResult.notSubmitted());
+
+        assertThat(transfer.getStatus()).isEqualTo(TransferStatus.PENDING);
+        assertThat(transfer.getRetryCount()).isZero();
+        assertThat(transfer.getDomainEvents()).isEmpty();
+    }
+
+    private Transfer failedTransfer(int retryCount) {
+        return transfer(TransferStatus.FAILED, retryCount, "Error temporal");
+    }
+
+    private Transfer transfer(TransferStatus status, int retryCount, String failureReason) {
+        LocalDateTime now = LocalDateTime.now();
+        return Transfer.reconstruct(
+                UUID.randomUUID(),
+                IdempotencyKey.of("idem-key"),
+                UUID.randomUUID(),
+                Cbu.of("1234567890123456789012"),
+                TransferAmount.of(new BigDecimal("100")),
+                TransferDescription.of("Test"),
+                status,
+                now.minusMinutes(10),
+                null,
+                failureReason,
+                failureReason != null ? now.minusMinutes(2) : null,
+                retryCount,
+                retryCount > 0 ? now.minusMinutes(5) : null,
+                failureReason != null ? now.minusMinutes(1) : null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+}
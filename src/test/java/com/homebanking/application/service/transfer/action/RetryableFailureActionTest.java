@@ -0,0 +1,91 @@
+package com.homebanking.application.service.transfer.action;
+
+import com.homebanking.application.dto.transfer.response.TransferProcessingResult;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.enums.TransferStatus;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.RetryPolicy;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryableFailureActionTest {
+
+    private final RetryableFailureAction action = new RetryableFailureAction();
+
+    @Test
+    void shouldScheduleNextRetryWithinBackoffWindow() {
+        Transfer transfer = createProcessingTransfer(1);
+
+        action.apply(transfer, TransferProcessingResult.recoverableFailure());
+
+        assertThat(transfer.getStatus()).isEqualTo(TransferStatus.FAILED);
+        Duration ceiling = RetryPolicy.backoffCeiling(1);
+        Duration delay = Duration.between(transfer.getFailedAt(), transfer.getNextRetryAt());
+        assertThat(delay).isBetween(ceiling.dividedBy(2).minusMillis(1), ceiling);
+    }
+
+    @Test
+    void shouldGrowBackoffExponentiallyUpToCap() {
+        assertThat(RetryPolicy.backoffCeiling(0)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(RetryPolicy.backoffCeiling(1)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(RetryPolicy.backoffCeiling(2)).isEqualTo(Duration.ofSeconds(120));
+        assertThat(RetryPolicy.backoffCeiling(10)).isEqualTo(Duration.ofMinutes(15));
+    }
+
+    @Test
+    void shouldSpreadRetriesOfSimultaneousFailures() {
+        long distinct = IntStream.range(0, 50)
+                .mapToObj(i -> {
+                    Transfer transfer = createProcessingTransfer(0);
+                    action.apply(transfer, TransferProcessingResult.recoverableFailure());
+                    return Duration.between(transfer.getFailedAt(), transfer.getNextRetryAt()).toMillis();
+                })
+                .distinct()
+                .count();
+
+        assertThat(distinct).isGreaterThan(10);
+    }
+
+    @Test
+    void shouldNotScheduleRetryWhenRetriesExhausted() {
+        Transfer transfer = createProcessingTransfer(RetryPolicy.MAX_RETRIES);
+
+        action.apply(transfer, TransferProcessingResult.recoverableFailure());
+
+        assertThat(transfer.getStatus()).isEqualTo(TransferStatus.FAILED);
+        assertThat(transfer.getNextRetryAt()).isNull();
+    }
+
+    private Transfer createProcessingTransfer(int retryCount) {
+        return Transfer.reconstruct(
+                UUID.randomUUID(),
+                IdempotencyKey.of("idem-key"),
+                UUID.randomUUID(),
+                Cbu.of("1234567890123456789012"),
+                TransferAmount.of(new BigDecimal("100")),
+                TransferDescription.of("Test"),
+                TransferStatus.PROCESSING,
+                LocalDateTime.now(),
+                null,
+                null,
+                null,
+                retryCount,
+                retryCount > 0 ? LocalDateTime.now() : null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+}
@@ -0,0 +1,297 @@
+package com.homebanking.application.usecase;
+
+import com.homebanking.application.dto.transfer.request.CreateTransferBatchInputRequest;
+import com.homebanking.application.dto.transfer.response.TransferBatchOutputResponse;
+import com.homebanking.application.mapper.TransferMapper;
+import com.homebanking.application.usecase.transfer.CreateTransferBatchUseCaseImpl;
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.entity.TransferBatch;
+import com.homebanking.domain.entity.User;
+import com.homebanking.domain.enums.TransferStatus;
+import com.homebanking.domain.event.TransferCreatedEvent;
+import com.homebanking.domain.exception.account.InsufficientFundsException;
+import com.homebanking.domain.exception.security.AccessDeniedException;
+import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
+import com.homebanking.domain.util.DomainErrorMessages;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferBatchItem;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.event.EventOutbox;
+import com.homebanking.port.out.transfer.TransferBatchRepository;
+import com.homebanking.port.out.transfer.TransferRepository;
+import com.homebanking.port.out.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateTransferBatchUseCaseImplTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final String REQUESTER_EMAIL = "owner@example.com";
+    private static final UUID ORIGIN_ACCOUNT_ID = UUID.randomUUID();
+    private static final String ORIGIN_CBU = "1111111111111111111111";
+    private static final String PAYEE_A = "2222222222222222222222";
+    private static final String PAYEE_B = "3333333333333333333333";
+    private static final String UNKNOWN = "4444444444444444444444";
+
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private TransferRepository transferRepository;
+    @Mock
+    private TransferBatchRepository transferBatchRepository;
+    @Mock
+    private EventOutbox eventOutbox;
+    @Mock
+    private UserRepository userRepository;
+    @Captor
+    private ArgumentCaptor<List<Object>> events;
+    @Captor
+    private ArgumentCaptor<List<Transfer>> saved;
+
+    private final TransferMapper transferMapper = new TransferMapper();
+
+    private CreateTransferBatchUseCaseImpl createTransferBatchUseCase;
+
+    @BeforeEach
+    void setUp() {
+        createTransferBatchUseCase = new CreateTransferBatchUseCaseImpl(
+                accountRepository,
+                transferRepository,
+                transferBatchRepository,
+                eventOutbox,
+                transferMapper,
+                userRepository,
+                100
+        );
+        lenient().when(userRepository.findByEmail(REQUESTER_EMAIL)).thenReturn(Optional.of(requester(USER_ID)));
+    }
+
+    @Test
+    void shouldDebitOnceForAcceptedItemsAndRejectInvalidOnes() {
+        // Arrange
+        String batchKey = UUID.randomUUID().toString();
+        CreateTransferBatchInputRequest request = new CreateTransferBatchInputRequest(ORIGIN_ACCOUNT_ID, List.of(
+                item(PAYEE_A, "100.00"),
+                item("not-a-cbu", "10.00"),
+                item(UNKNOWN, "10.00"),
+                item(ORIGIN_CBU, "10.00"),
+                item(PAYEE_B, "50.00")
+        ), batchKey, REQUESTER_EMAIL);
+        Account originAccount = Account.withId(
+                ORIGIN_ACCOUNT_ID, USER_ID, ORIGIN_CBU, "alias1", new BigDecimal("500.00"), LocalDateTime.now());
+
+        when(transferBatchRepository.findByIdempotencyKey(batchKey)).thenReturn(Optional.empty());
+        when(accountRepository.findById(ORIGIN_ACCOUNT_ID)).thenReturn(Optional.of(originAccount));
+        when(accountRepository.findExistingCbus(anyCollection()))
+                .thenReturn(Set.of(Cbu.of(PAYEE_A), Cbu.of(PAYEE_B)));
+        when(transferRepository.saveAll(anyList())).thenAnswer(invocation -> persisted(invocation.getArgument(0)));
+        when(transferBatchRepository.save(any(TransferBatch.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+
+        // Act
+        TransferBatchOutputResponse result = createTransferBatchUseCase.createTransferBatch(request);
+
+        // Assert
+        assertThat(result.totalItems()).isEqualTo(5);
+        assertThat(result.acceptedItems()).isEqualTo(2);
+        assertThat(result.rejectedItems()).isEqualTo(3);
+        assertThat(result.totalAmount()).isEqualByComparingTo("150.00");
+        assertThat(result.items()).extracting(TransferBatchOutputResponse.ItemResult::outcome)
+                .containsExactly("ACCEPTED", "REJECTED", "REJECTED", "REJECTED", "ACCEPTED");
+        assertThat(result.items().get(2).error()).isEqualTo(DomainErrorMessages.ACCOUNT_NOT_FOUND);
+        assertThat(result.items().get(3).error()).isEqualTo(DomainErrorMessages.TRANSFER_SAME_ACCOUNT);
+        assertThat(originAccount.getBalance().value()).isEqualByComparingTo("350.00");
+
+        // Verify
+        verify(accountRepository).save(originAccount);
+        verify(eventOutbox).appendAll(events.capture());
+        assertThat(events.getValue()).hasSize(2).allMatch(TransferCreatedEvent.class::isInstance);
+        verify(eventOutbox, never()).append(any());
+    }
+
+    @Test
+    void shouldDeriveDeterministicIdempotencyKeyPerItem() {
+        // Arrange
+        String batchKey = UUID.randomUUID().toString();
+        CreateTransferBatchInputRequest request = new CreateTransferBatchInputRequest(
+                ORIGIN_ACCOUNT_ID, List.of(item(PAYEE_A, "10.00"), item(PAYEE_A, "10.00")), batchKey, REQUESTER_EMAIL);
+        when(transferBatchRepository.findByIdempotencyKey(batchKey)).thenReturn(Optional.empty());
+        when(accountRepository.findById(ORIGIN_ACCOUNT_ID)).thenReturn(Optional.of(Account.withId(
+                ORIGIN_ACCOUNT_ID, USER_ID, ORIGIN_CBU, "alias1", new BigDecimal("500.00"), LocalDateTime.now())));
+        when(accountRepository.findExistingCbus(anyCollection())).thenReturn(Set.of(Cbu.of(PAYEE_A)));
+        when(transferRepository.saveAll(anyList())).thenAnswer(invocation -> persisted(invocation.getArgument(0)));
+        when(transferBatchRepository.save(any(TransferBatch.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+
+        // Act
+        createTransferBatchUseCase.createTransferBatch(request);
+
+        // Assert
+        verify(transferRepository).saveAll(saved.capture());
+        List<String> keys = saved.getValue().stream().map(t -> t.getIdempotencyKey().value()).toList();
+        assertThat(keys).doesNotHaveDuplicates().allMatch(key -> key.length() == 36);
+    }
+
+    @Test
+    void shouldReturnExistingBatch_WhenIdempotencyKeyAlreadyExists() {
+        // Arrange
+        String batchKey = UUID.randomUUID().toString();
+        TransferBatch existing = TransferBatch.reconstruct(
+                UUID.randomUUID(), IdempotencyKey.of(batchKey), ORIGIN_ACCOUNT_ID, new BigDecimal("10.00"),
+                LocalDateTime.now(), List.of(TransferBatchItem.accepted(0, UUID.randomUUID())));
+        when(transferBatchRepository.findByIdempotencyKey(batchKey)).thenReturn(Optional.of(existing));
+        when(accountRepository.findByUserId(USER_ID)).thenReturn(List.of(originAccount(new BigDecimal("500.00"))));
+
+        // Act
+        TransferBatchOutputResponse result = createTransferBatchUseCase.createTransferBatch(
+                new CreateTransferBatchInputRequest(
+                        ORIGIN_ACCOUNT_ID, List.of(item(PAYEE_A, "10.00")), batchKey, REQUESTER_EMAIL));
+
+        // Assert
+        assertThat(result.batchId()).isEqualTo(existing.getId());
+
+        // Verify
+        verify(accountRepository, never()).findById(any(UUID.class));
+        verify(transferRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldRejectBatch_WhenItExceedsMaxItems() {
+        // Arrange
+        String batchKey = UUID.randomUUID().toString();
+        List<CreateTransferBatchInputRequest.Item> items = IntStream.range(0, 101)
+                .mapToObj(i -> item(PAYEE_A, "1.00"))
+                .toList();
+        when(transferBatchRepository.findByIdempotencyKey(batchKey)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> createTransferBatchUseCase.createTransferBatch(
+                new CreateTransferBatchInputRequest(ORIGIN_ACCOUNT_ID, items, batchKey, REQUESTER_EMAIL)))
+                .isInstanceOf(InvalidTransferDataException.class)
+                .hasMessage(DomainErrorMessages.TRANSFER_BATCH_TOO_LARGE);
+        verify(accountRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void shouldCreateNothing_WhenFundsDoNotCoverBatchTotal() {
+        // Arrange
+        String batchKey = UUID.randomUUID().toString();
+        CreateTransferBatchInputRequest request = new CreateTransferBatchInputRequest(
+                ORIGIN_ACCOUNT_ID, List.of(item(PAYEE_A, "80.00"), item(PAYEE_B, "80.00")), batchKey, REQUESTER_EMAIL);
+        Account originAccount = Account.withId(
+                ORIGIN_ACCOUNT_ID, USER_ID, ORIGIN_CBU, "alias1", new BigDecimal("100.00"), LocalDateTime.now());
+        when(transferBatchRepository.findByIdempotencyKey(batchKey)).thenReturn(Optional.empty());
+        when(accountRepository.findById(ORIGIN_ACCOUNT_ID)).thenReturn(Optional.of(originAccount));
+        when(accountRepository.findExistingCbus(anyCollection()))
+                .thenReturn(Set.of(Cbu.of(PAYEE_A), Cbu.of(PAYEE_B)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> createTransferBatchUseCase.createTransferBatch(request))
+                .isInstanceOf(InsufficientFundsException.class);
+        assertThat(originAccount.getBalance().value()).isEqualByComparingTo("100.00");
+        verify(transferRepository, never()).saveAll(anyList());
+        verify(transferBatchRepository, never()).save(any());
+        verifyNoInteractions(eventOutbox);
+    }
+
+    @Test
+    void shouldRejectBatch_WhenOriginAccountBelongsToAnotherUser() {
+        // Arrange
+        String batchKey = UUID.randomUUID().toString();
+        String intruderEmail = "intruder@example.com";
+        when(userRepository.findByEmail(intruderEmail)).thenReturn(Optional.of(requester(UUID.randomUUID())));
+        when(transferBatchRepository.findByIdempotencyKey(batchKey)).thenReturn(Optional.empty());
+        Account originAccount = originAccount(new BigDecimal("500.00"));
+        when(accountRepository.findById(ORIGIN_ACCOUNT_ID)).thenReturn(Optional.of(originAccount));
+
+        // Act & Assert
+        assertThatThrownBy(() -> createTransferBatchUseCase.createTransferBatch(new CreateTransferBatchInputRequest(
+                ORIGIN_ACCOUNT_ID, List.of(item(PAYEE_A, "10.00")), batchKey, intruderEmail)))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessage(DomainErrorMessages.ACCESS_DENIED);
+        assertThat(originAccount.getBalance().value()).isEqualByComparingTo("500.00");
+        verify(accountRepository, never()).findExistingCbus(anyCollection());
+        verify(transferRepository, never()).saveAll(anyList());
+        verify(accountRepository, never()).save(any(Account.class));
+        verifyNoInteractions(eventOutbox);
+    }
+
+    @Test
+    void shouldNotReturnExistingBatch_WhenOriginAccountBelongsToAnotherUser() {
+        // Arrange
+        String batchKey = UUID.randomUUID().toString();
+        UUID intruderId = UUID.randomUUID();
+        String intruderEmail = "intruder@example.com";
+        TransferBatch existing = TransferBatch.reconstruct(
+                UUID.randomUUID(), IdempotencyKey.of(batchKey), ORIGIN_ACCOUNT_ID, new BigDecimal("10.00"),
+                LocalDateTime.now(), List.of(TransferBatchItem.accepted(0, UUID.randomUUID())));
+        when(userRepository.findByEmail(intruderEmail)).thenReturn(Optional.of(requester(intruderId)));
+        when(transferBatchRepository.findByIdempotencyKey(batchKey)).thenReturn(Optional.of(existing));
+        when(accountRepository.findByUserId(intruderId)).thenReturn(List.of());
+
+        // Act & Assert
+        assertThatThrownBy(() -> createTransferBatchUseCase.createTransferBatch(new CreateTransferBatchInputRequest(
+                ORIGIN_ACCOUNT_ID, List.of(item(PAYEE_A, "10.00")), batchKey, intruderEmail)))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private Account originAccount(BigDecimal balance) {
+        return Account.withId(ORIGIN_ACCOUNT_ID, USER_ID, ORIGIN_CBU, "alias1", balance, LocalDateTime.now());
+    }
+
+    private User requester(UUID userId) {
+        return User.withId(userId, "owner@example.com", "password123", "Ana", "Perez", "12345678",
+                LocalDate.now().minusYears(30), "Calle 123", LocalDateTime.now());
+    }
+
+    private CreateTransferBatchInputRequest.Item item(String targetCbu, String amount) {
+        return new CreateTransferBatchInputRequest.Item(targetCbu, new BigDecimal(amount), "Sueldo");
+    }
+
+    private List<Transfer> persisted(List<Transfer> transfers) {
+        return transfers.stream()
+                .map(transfer -> Transfer.reconstruct(
+                        UUID.randomUUID(),
+                        transfer.getIdempotencyKey(),
+                        transfer.getOriginAccountId(),
+                        transfer.getTargetCbu(),
+                        transfer.getAmount(),
+                        transfer.getDescription(),
+                        TransferStatus.PENDING,
+                        transfer.getCreatedAt(),
+                        null, null, null, 0, null, null, null, null, null, null))
+                .toList();
+    }
+
+    private TransferBatch withId(TransferBatch batch) {
+        return TransferBatch.reconstruct(
+                UUID.randomUUID(),
+                batch.getIdempotencyKey(),
+                batch.getOriginAccountId(),
+                batch.getTotalAmount(),
+                batch.getCreatedAt(),
+                batch.getItems());
+    }
+}
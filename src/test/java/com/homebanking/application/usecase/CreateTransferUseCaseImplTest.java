@@ -6,32 +6,39 @@ import com.homebanking.application.mapper.TransferMapper;
 import com.homebanking.application.usecase.transfer.CreateTransferUseCaseImpl;
 import com.homebanking.domain.entity.Account;
 import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.enums.LedgerDirection;
+import com.homebanking.domain.event.TransferCompletedEvent;
 import com.homebanking.domain.event.TransferCreatedEvent;
 import com.homebanking.domain.exception.account.AccountNotFoundException;
 import com.homebanking.domain.exception.account.InsufficientFundsException;
 import com.homebanking.domain.exception.account.InvalidAccountDataException;
 import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
 import com.homebanking.domain.exception.transfer.SameAccountTransferException;
+import com.homebanking.domain.valueobject.account.LedgerEntry;
 import com.homebanking.domain.valueobject.common.Cbu;
 import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
 import com.homebanking.domain.valueobject.transfer.TransferAmount;
 import com.homebanking.domain.valueobject.transfer.TransferDescription;
 import com.homebanking.port.out.account.AccountRepository;
-import com.homebanking.port.out.event.EventPublisher;
+import com.homebanking.port.out.event.EventOutbox;
 import com.homebanking.port.out.transfer.TransferRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -47,7 +54,7 @@ class CreateTransferUseCaseImplTest {
     @Mock
     private TransferRepository transferRepository;
     @Mock
-    private EventPublisher eventPublisher;
+    private EventOutbox eventOutbox;
 
     private final TransferMapper transferMapper = new TransferMapper();
 
@@ -58,8 +65,9 @@ class CreateTransferUseCaseImplTest {
         createTransferUseCase = new CreateTransferUseCaseImpl(
                 accountRepository,
                 transferRepository,
-                eventPublisher,
-                transferMapper
+                eventOutbox,
+                transferMapper,
+                false
         );
     }
 
@@ -79,6 +87,8 @@ class CreateTransferUseCaseImplTest {
         when(accountRepository.existsByCbu(targetCbu)).thenReturn(true);
         when(accountRepository.findById(ORIGIN_ACCOUNT_ID)).thenReturn(Optional.of(originAccount));
         doReturn(createdTransfer).when(originAccount).initiateTransferTo(any(), any(), any(), any());
+        when(transferRepository.save(createdTransfer)).thenReturn(createdTransfer);
+        when(accountRepository.saveDebit(originAccount, amount)).thenReturn(true);
 
         // Act
         TransferOutputResponse result = createTransferUseCase.createTransfer(request);
@@ -95,9 +105,33 @@ class CreateTransferUseCaseImplTest {
                 argThat(d -> d.value().equals("Pago")),
                 argThat(i -> i.value().equals(idempotencyKey))
         );
-        verify(accountRepository).save(originAccount);
+        verify(accountRepository).saveDebit(originAccount, amount);
         verify(transferRepository).save(createdTransfer);
-        verify(eventPublisher).publish(any(TransferCreatedEvent.class));
+        verify(eventOutbox).append(new TransferCreatedEvent(TRANSFER_ID, ORIGIN_ACCOUNT_ID, amount));
+    }
+
+    @Test
+    void shouldThrowInsufficientFunds_WhenGuardedDebitIsNotApplied() {
+        // Arrange
+        String targetCbuStr = "1234567890123456789012";
+        Cbu targetCbu = Cbu.of(targetCbuStr);
+        BigDecimal amount = new BigDecimal("100.00");
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateTransferInputRequest request = new CreateTransferInputRequest(ORIGIN_ACCOUNT_ID, targetCbuStr, amount, "Pago", idempotencyKey);
+        Account originAccount = createTestAccount(ORIGIN_ACCOUNT_ID, "1111111111111111111111", "alias1", new BigDecimal("500"));
+
+        when(transferRepository.findByIdempotencyKey(idempotencyKey)).thenReturn(Optional.empty());
+        when(accountRepository.existsByCbu(targetCbu)).thenReturn(true);
+        when(accountRepository.findById(ORIGIN_ACCOUNT_ID)).thenReturn(Optional.of(originAccount));
+        // Otro débito concurrente consumió el saldo entre la lectura y el UPDATE
+        when(accountRepository.saveDebit(originAccount, amount)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> createTransferUseCase.createTransfer(request))
+                .isInstanceOf(InsufficientFundsException.class);
+
+        verify(transferRepository, never()).save(any(Transfer.class));
+        verify(eventOutbox, never()).append(any());
     }
 
     @Test
@@ -213,6 +247,143 @@ class CreateTransferUseCaseImplTest {
                 .isInstanceOf(InvalidTransferDataException.class);
     }
     
+    @Test
+    void shouldSettleInternally_WhenDestinationIsOwnAccount() {
+        // Arrange
+        String targetCbuStr = "2222222222222222222222";
+        Cbu targetCbu = Cbu.of(targetCbuStr);
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateTransferInputRequest request = new CreateTransferInputRequest(ORIGIN_ACCOUNT_ID, targetCbuStr, new BigDecimal("100.00"), "Pago", idempotencyKey);
+
+        Account originAccount = createTestAccount(ORIGIN_ACCOUNT_ID, "1111111111111111111111", "alias1", new BigDecimal("500"));
+        Account destination = createTestAccount(UUID.randomUUID(), targetCbuStr, "alias2", new BigDecimal("50"));
+
+        when(transferRepository.findByIdempotencyKey(idempotencyKey)).thenReturn(Optional.empty());
+        when(accountRepository.lockForTransfer(ORIGIN_ACCOUNT_ID, targetCbu)).thenReturn(List.of(destination, originAccount));
+        when(transferRepository.save(any(Transfer.class))).thenAnswer(invocation -> assignId(invocation.getArgument(0)));
+
+        // Act
+        TransferOutputResponse result = internalSettlementUseCase().createTransfer(request);
+
+        // Assert
+        assertThat(result.id()).isEqualTo(TRANSFER_ID);
+        assertThat(result.status()).isEqualTo("COMPLETED");
+        assertThat(originAccount.getBalance().value()).isEqualByComparingTo("400");
+        assertThat(destination.getBalance().value()).isEqualByComparingTo("150");
+        assertThat(destination.getLedgerEntries())
+                .extracting(LedgerEntry::direction, LedgerEntry::reference)
+                .containsExactly(tuple(LedgerDirection.CREDIT, idempotencyKey));
+
+        // Verify
+        verify(accountRepository).save(originAccount);
+        verify(accountRepository).saveCredit(destination, new BigDecimal("100.00"), TRANSFER_ID);
+        verify(accountRepository, never()).existsByCbu(any());
+        verify(eventOutbox).append(argThat(event -> event instanceof TransferCompletedEvent completed
+                && completed.transferId().equals(TRANSFER_ID)));
+        verify(eventOutbox, never()).append(any(TransferCreatedEvent.class));
+    }
+
+    @Test
+    void shouldRejectInternalSettlement_WhenDestinationDoesNotExist() {
+        // Arrange
+        String targetCbuStr = "0000000000000000000000";
+        CreateTransferInputRequest request = new CreateTransferInputRequest(ORIGIN_ACCOUNT_ID, targetCbuStr, BigDecimal.ONE, "Pago", "key");
+        Account originAccount = createTestAccount(ORIGIN_ACCOUNT_ID, "1111111111111111111111", "alias1", new BigDecimal("500"));
+
+        when(transferRepository.findByIdempotencyKey("key")).thenReturn(Optional.empty());
+        when(accountRepository.lockForTransfer(ORIGIN_ACCOUNT_ID, Cbu.of(targetCbuStr))).thenReturn(List.of(originAccount));
+
+        // Act & Assert
+        assertThatThrownBy(() -> internalSettlementUseCase().createTransfer(request))
+                .isInstanceOf(InvalidAccountDataException.class);
+        assertThat(originAccount.getBalance().value()).isEqualByComparingTo("500");
+        verify(transferRepository, never()).save(any(Transfer.class));
+    }
+
+    @Test
+    void shouldNotCreditDestination_WhenInternalSettlementHasInsufficientFunds() {
+        // Arrange
+        String targetCbuStr = "2222222222222222222222";
+        CreateTransferInputRequest request = new CreateTransferInputRequest(ORIGIN_ACCOUNT_ID, targetCbuStr, new BigDecimal("600.00"), "Pago", "key");
+        Account originAccount = createTestAccount(ORIGIN_ACCOUNT_ID, "1111111111111111111111", "alias1", new BigDecimal("100"));
+        Account destination = createTestAccount(UUID.randomUUID(), targetCbuStr, "alias2", new BigDecimal("50"));
+
+        when(transferRepository.findByIdempotencyKey("key")).thenReturn(Optional.empty());
+        when(accountRepository.lockForTransfer(ORIGIN_ACCOUNT_ID, Cbu.of(targetCbuStr))).thenReturn(List.of(originAccount, destination));
+
+        // Act & Assert
+        assertThatThrownBy(() -> internalSettlementUseCase().createTransfer(request))
+                .isInstanceOf(InsufficientFundsException.class);
+        assertThat(destination.getBalance().value()).isEqualByComparingTo("50");
+        verify(transferRepository, never()).save(any(Transfer.class));
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+
+    @Test
+    void shouldLockWholeGroupUpFront_WhenGroupSettlesInternally() {
+        // Arrange
+        String payeeA = "2222222222222222222222";
+        String payeeB = "3333333333333333333333";
+        Account originAccount = createTestAccount(ORIGIN_ACCOUNT_ID, "1111111111111111111111", "alias1", new BigDecimal("500"));
+        Account destinationA = createTestAccount(UUID.randomUUID(), payeeA, "alias2", BigDecimal.ZERO);
+        Account destinationB = createTestAccount(UUID.randomUUID(), payeeB, "alias3", BigDecimal.ZERO);
+        List<CreateTransferInputRequest> group = List.of(
+                new CreateTransferInputRequest(ORIGIN_ACCOUNT_ID, payeeA, BigDecimal.TEN, "Pago", "key-a"),
+                new CreateTransferInputRequest(ORIGIN_ACCOUNT_ID, payeeB, BigDecimal.TEN, "Pago", "key-b"),
+                new CreateTransferInputRequest(ORIGIN_ACCOUNT_ID, "no-es-un-cbu", BigDecimal.TEN, "Pago", "key-c"));
+
+        when(transferRepository.findExistingIdempotencyKeys(anyList())).thenReturn(Set.of());
+        when(accountRepository.lockForTransfer(ORIGIN_ACCOUNT_ID, Cbu.of(payeeA))).thenReturn(List.of(originAccount, destinationA));
+        when(accountRepository.lockForTransfer(ORIGIN_ACCOUNT_ID, Cbu.of(payeeB))).thenReturn(List.of(originAccount, destinationB));
+        when(transferRepository.save(any(Transfer.class))).thenAnswer(invocation -> assignId(invocation.getArgument(0)));
+
+        // Act & Assert: el tercero falla después, con su propio error
+        assertThatThrownBy(() -> internalSettlementUseCase().createTransfers(group))
+                .isInstanceOf(CreateTransferUseCaseImpl.ItemFailedException.class)
+                .satisfies(ex -> assertThat(((CreateTransferUseCaseImpl.ItemFailedException) ex).index()).isEqualTo(2))
+                .hasCauseInstanceOf(InvalidTransferDataException.class);
+
+        // Verify: un único lock, ordenado, antes de cualquier liquidación
+        InOrder inOrder = inOrder(accountRepository);
+        inOrder.verify(accountRepository).lockForTransfers(Set.of(ORIGIN_ACCOUNT_ID), Set.of(Cbu.of(payeeA), Cbu.of(payeeB)));
+        inOrder.verify(accountRepository, times(2)).lockForTransfer(eq(ORIGIN_ACCOUNT_ID), any(Cbu.class));
+    }
+
+    @Test
+    void shouldNotLockGroupUpFront_WhenInternalSettlementIsDisabled() {
+        when(transferRepository.findExistingIdempotencyKeys(anyList())).thenReturn(Set.of());
+
+        assertThatThrownBy(() -> createTransferUseCase.createTransfers(List.of(
+                new CreateTransferInputRequest(ORIGIN_ACCOUNT_ID, "123", BigDecimal.ONE, "Pago", "key"))))
+                .isInstanceOf(CreateTransferUseCaseImpl.ItemFailedException.class);
+
+        verify(accountRepository, never()).lockForTransfers(anyCollection(), anyCollection());
+    }
+
+    private CreateTransferUseCaseImpl internalSettlementUseCase() {
+        return new CreateTransferUseCaseImpl(accountRepository, transferRepository, eventOutbox, transferMapper, true);
+    }
+
+    /**
+     * Simula el insert: la primera vez asigna id, después devuelve lo mismo.
+     */
+    private Transfer assignId(Transfer transfer) {
+        if (transfer.getId() != null) {
+            return transfer;
+        }
+        return Transfer.reconstruct(
+                TRANSFER_ID,
+                transfer.getIdempotencyKey(),
+                transfer.getOriginAccountId(),
+                transfer.getTargetCbu(),
+                transfer.getAmount(),
+                transfer.getDescription(),
+                transfer.getStatus(),
+                transfer.getCreatedAt(),
+                null, null, null, 0, null, null, null, null, null, null
+        );
+    }
+
     private Account createTestAccount(UUID id, String cbu, String alias, BigDecimal balance) {
         return Account.withId(id, USER_ID, cbu, alias, balance, LocalDateTime.now());
     }
@@ -227,7 +398,7 @@ class CreateTransferUseCaseImplTest {
                 TransferDescription.of(request.description()),
                 com.homebanking.domain.enums.TransferStatus.PENDING,
                 LocalDateTime.now(),
-                null, null, null, 0, null
+                null, null, null, 0, null, null, null, null, null, null
         );
     }
 }
@@ -0,0 +1,174 @@
+package com.homebanking.application.usecase;
+
+import com.homebanking.application.dto.transfer.response.StandingOrderChunkResult;
+import com.homebanking.application.usecase.transfer.GenerateStandingOrderTransfersUseCaseImpl;
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.entity.StandingOrder;
+import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.event.TransferCreatedEvent;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.RecurrenceRule;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.event.EventOutbox;
+import com.homebanking.port.out.transfer.StandingOrderRepository;
+import com.homebanking.port.out.transfer.TransferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GenerateStandingOrderTransfersUseCaseImplTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID ORIGIN_ACCOUNT_ID = UUID.randomUUID();
+    private static final String ORIGIN_CBU = "1111111111111111111111";
+    private static final String PAYEE = "2222222222222222222222";
+    private static final LocalDate RUN_DATE = LocalDate.of(2024, 3, 1);
+
+    @Mock
+    private StandingOrderRepository standingOrderRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private TransferRepository transferRepository;
+    @Mock
+    private EventOutbox eventOutbox;
+
+    private GenerateStandingOrderTransfersUseCaseImpl generateUseCase;
+
+    @BeforeEach
+    void setUp() {
+        generateUseCase = new GenerateStandingOrderTransfersUseCaseImpl(
+                standingOrderRepository,
+                accountRepository,
+                transferRepository,
+                eventOutbox
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMaterializeDueOccurrenceWithDerivedKeyAndAdvanceOrder() {
+        Account origin = originAccount("1000.00");
+        StandingOrder rent = monthlyOrder(RUN_DATE);
+        givenChunk(origin, rent);
+        when(transferRepository.findExistingIdempotencyKeys(anyCollection())).thenReturn(Set.of());
+        when(transferRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StandingOrderChunkResult result = generateUseCase.generate(List.of(ORIGIN_ACCOUNT_ID), RUN_DATE);
+
+        assertThat(result).isEqualTo(new StandingOrderChunkResult(1, 1, 0, 0));
+        ArgumentCaptor<List<Transfer>> transfers = ArgumentCaptor.forClass(List.class);
+        verify(transferRepository).saveAll(transfers.capture());
+        assertThat(transfers.getValue()).singleElement().satisfies(transfer -> {
+            assertThat(transfer.getIdempotencyKey()).isEqualTo(rent.occurrenceKey(RUN_DATE));
+            assertThat(transfer.getTargetCbu().value()).isEqualTo(PAYEE);
+        });
+        assertThat(origin.getBalance().value()).isEqualByComparingTo("900.00");
+        verify(accountRepository).saveAll(List.of(origin));
+        verify(eventOutbox).appendAll(argThat(events -> events.size() == 1
+                && events.getFirst() instanceof TransferCreatedEvent));
+        assertThat(rent.getNextExecutionDate()).isEqualTo(LocalDate.of(2024, 4, 1));
+        verify(standingOrderRepository).saveAll(List.of(rent));
+    }
+
+    @Test
+    void shouldSkipOccurrencesAlreadyMaterialized() {
+        Account origin = originAccount("1000.00");
+        StandingOrder rent = monthlyOrder(RUN_DATE);
+        givenChunk(origin, rent);
+        when(transferRepository.findExistingIdempotencyKeys(anyCollection()))
+                .thenReturn(Set.of(rent.occurrenceKey(RUN_DATE).value()));
+
+        StandingOrderChunkResult result = generateUseCase.generate(List.of(ORIGIN_ACCOUNT_ID), RUN_DATE);
+
+        assertThat(result).isEqualTo(new StandingOrderChunkResult(1, 0, 0, 1));
+        assertThat(origin.getBalance().value()).isEqualByComparingTo("1000.00");
+        verify(transferRepository, never()).saveAll(anyList());
+        verify(eventOutbox, never()).appendAll(anyList());
+        verify(standingOrderRepository).saveAll(List.of(rent));
+        assertThat(rent.getNextExecutionDate()).isEqualTo(LocalDate.of(2024, 4, 1));
+    }
+
+    @Test
+    void shouldSkipOccurrenceWithoutFundsAndStillAdvance() {
+        Account origin = originAccount("50.00");
+        StandingOrder rent = monthlyOrder(RUN_DATE);
+        givenChunk(origin, rent);
+        when(transferRepository.findExistingIdempotencyKeys(anyCollection())).thenReturn(Set.of());
+
+        StandingOrderChunkResult result = generateUseCase.generate(List.of(ORIGIN_ACCOUNT_ID), RUN_DATE);
+
+        assertThat(result).isEqualTo(new StandingOrderChunkResult(1, 0, 1, 0));
+        verify(transferRepository, never()).saveAll(anyList());
+        verify(accountRepository, never()).saveAll(anyList());
+        assertThat(rent.getNextExecutionDate()).isEqualTo(LocalDate.of(2024, 4, 1));
+        verify(standingOrderRepository).saveAll(List.of(rent));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCatchUpEveryMissedOccurrence() {
+        Account origin = originAccount("1000.00");
+        StandingOrder rent = monthlyOrder(LocalDate.of(2024, 1, 1));
+        givenChunk(origin, rent);
+        when(transferRepository.findExistingIdempotencyKeys(anyCollection())).thenReturn(Set.of());
+        when(transferRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StandingOrderChunkResult result = generateUseCase.generate(List.of(ORIGIN_ACCOUNT_ID), RUN_DATE);
+
+        assertThat(result.materialized()).isEqualTo(3);
+        ArgumentCaptor<List<Transfer>> transfers = ArgumentCaptor.forClass(List.class);
+        verify(transferRepository).saveAll(transfers.capture());
+        assertThat(transfers.getValue())
+                .extracting(Transfer::getIdempotencyKey)
+                .containsExactly(
+                        rent.occurrenceKey(LocalDate.of(2024, 1, 1)),
+                        rent.occurrenceKey(LocalDate.of(2024, 2, 1)),
+                        rent.occurrenceKey(LocalDate.of(2024, 3, 1)));
+        assertThat(origin.getBalance().value()).isEqualByComparingTo("700.00");
+        assertThat(rent.getNextExecutionDate()).isEqualTo(LocalDate.of(2024, 4, 1));
+    }
+
+    private void givenChunk(Account origin, StandingOrder order) {
+        when(standingOrderRepository.findDueByOriginAccounts(List.of(ORIGIN_ACCOUNT_ID), RUN_DATE))
+                .thenReturn(List.of(order));
+        when(accountRepository.findAllById(List.of(ORIGIN_ACCOUNT_ID))).thenReturn(List.of(origin));
+    }
+
+    private Account originAccount(String balance) {
+        return Account.withId(ORIGIN_ACCOUNT_ID, USER_ID, ORIGIN_CBU, "origen.alias",
+                new BigDecimal(balance), LocalDateTime.now());
+    }
+
+    private StandingOrder monthlyOrder(LocalDate nextExecutionDate) {
+        return StandingOrder.reconstruct(
+                UUID.randomUUID(),
+                ORIGIN_ACCOUNT_ID,
+                Cbu.of(PAYEE),
+                TransferAmount.of(new BigDecimal("100.00")),
+                TransferDescription.of("Alquiler"),
+                RecurrenceRule.monthly(1),
+                nextExecutionDate,
+                true,
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,89 @@
+package com.homebanking.application.usecase.account;
+
+import com.homebanking.application.dto.account.response.AccountBalanceAtOutputResponse;
+import com.homebanking.domain.entity.Account;
+import com.homebanking.domain.entity.User;
+import com.homebanking.domain.exception.security.AccessDeniedException;
+import com.homebanking.port.out.account.AccountLedger;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetAccountBalanceAtUseCaseImplTest {
+
+    private static final String OWNER_EMAIL = "owner@test.com";
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 1, 1, 2, 0);
+
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private AccountLedger accountLedger;
+
+    private GetAccountBalanceAtUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetAccountBalanceAtUseCaseImpl(accountRepository, userRepository, accountLedger);
+    }
+
+    @Test
+    void shouldReturnLedgerBalance_WhenRequesterOwnsAccount() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID accountId = UUID.randomUUID();
+        when(userRepository.findByEmail(OWNER_EMAIL)).thenReturn(Optional.of(user(userId)));
+        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account(accountId, userId)));
+        when(accountLedger.balanceAt(accountId, AT)).thenReturn(new BigDecimal("1070.00"));
+
+        // Act
+        AccountBalanceAtOutputResponse response = useCase.getBalanceAt(accountId, AT, OWNER_EMAIL);
+
+        // Assert: el saldo sale del ledger, no del saldo actual de la cuenta
+        assertThat(response.accountId()).isEqualTo(accountId);
+        assertThat(response.at()).isEqualTo(AT);
+        assertThat(response.balance()).isEqualByComparingTo("1070.00");
+    }
+
+    @Test
+    void shouldDenyAccess_WhenAccountBelongsToAnotherUser() {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        when(userRepository.findByEmail(OWNER_EMAIL)).thenReturn(Optional.of(user(UUID.randomUUID())));
+        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account(accountId, UUID.randomUUID())));
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.getBalanceAt(accountId, AT, OWNER_EMAIL))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(accountLedger, never()).balanceAt(any(), any());
+    }
+
+    private static Account account(UUID accountId, UUID userId) {
+        return Account.withId(accountId, userId, "1234567890123456789012", "owner.alias",
+                new BigDecimal("1120.00"), LocalDateTime.now());
+    }
+
+    private static User user(UUID userId) {
+        return User.withId(userId, OWNER_EMAIL, "Password123!", "Owner", "User", "30111222",
+                LocalDate.of(1990, 1, 1), "Address", LocalDateTime.now());
+    }
+}
@@ -89,12 +89,57 @@ class PayBillUseCaseImplTest {
         when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
         when(billPaymentRepository.save(any(BillPayment.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(billProcessorOutputPort.process(any(BillPayment.class))).thenReturn(true);
-        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(accountRepository.saveDebit(account, request.amount())).thenReturn(true);
 
         BillPaymentOutputResponse output = useCase.pay(request);
 
         assertThat(output.status()).isEqualTo("PAID");
         assertThat(output.failureReason()).isNull();
     }
-}
 
+    @Test
+    void shouldFailPayment_WhenConcurrentDebitDrainedBalance() {
+        UUID accountId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        PayBillInputRequest request = new PayBillInputRequest(
+                accountId,
+                "EDENOR",
+                "INV-124",
+                new BigDecimal("1500.00"),
+                "idem-2",
+                "user@test.com"
+        );
+        Account account = Account.withId(
+                accountId,
+                userId,
+                "1234567890123456789012",
+                "usuario.test",
+                new BigDecimal("5000.00"),
+                LocalDateTime.now()
+        );
+        User user = User.withId(
+                userId,
+                "user@test.com",
+                "Password123!",
+                "Test",
+                "User",
+                "30111222",
+                LocalDate.of(1990, 1, 1),
+                "Street 123",
+                LocalDateTime.now()
+        );
+
+        when(billPaymentRepository.findByIdempotencyKey("idem-2")).thenReturn(Optional.empty());
+        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+        when(billPaymentRepository.save(any(BillPayment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(billProcessorOutputPort.process(any(BillPayment.class))).thenReturn(true);
+        // El saldo leído alcanzaba, pero en la base ya no
+        when(accountRepository.saveDebit(account, request.amount())).thenReturn(false);
+
+        BillPaymentOutputResponse output = useCase.pay(request);
+
+        assertThat(output.status()).isEqualTo("FAILED");
+        assertThat(output.failureReason()).isNotNull();
+    }
+}
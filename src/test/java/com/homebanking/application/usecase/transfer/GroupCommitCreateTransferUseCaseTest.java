@@ -0,0 +1,141 @@
+package com.homebanking.application.usecase.transfer;
+
+import com.homebanking.application.dto.transfer.request.CreateTransferInputRequest;
+import com.homebanking.application.dto.transfer.response.TransferOutputResponse;
+import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitCreateTransferUseCaseTest {
+
+    private static final UUID ORIGIN = UUID.randomUUID();
+
+    @Mock
+    private CreateTransferUseCaseImpl delegate;
+
+    private final Map<String, TransferOutputResponse> responses = new ConcurrentHashMap<>();
+    private GroupCommitCreateTransferUseCase useCase;
+
+    @AfterEach
+    void tearDown() {
+        if (useCase != null) {
+            useCase.stop();
+        }
+    }
+
+    @Test
+    void shouldCommitConcurrentRequestsInOneGroup() throws Exception {
+        start(8, Duration.ofMillis(500));
+        when(delegate.createTransfers(anyList())).thenAnswer(invocation -> responsesFor(invocation.getArgument(0)));
+
+        List<TransferOutputResponse> results = createConcurrently(8);
+
+        verify(delegate, times(1)).createTransfers(anyList());
+        assertThat(results).containsExactlyElementsOf(
+                IntStream.range(0, 8).mapToObj(i -> responses.get("key-" + i)).toList());
+    }
+
+    @Test
+    void shouldFailOnlyTheFailingRequestAndRetryTheRestOfTheGroup() throws Exception {
+        start(3, Duration.ofMillis(500));
+        InvalidTransferDataException failure = new InvalidTransferDataException("monto invalido");
+        when(delegate.createTransfers(anyList())).thenAnswer(invocation -> {
+            List<CreateTransferInputRequest> group = invocation.getArgument(0);
+            for (int i = 0; i < group.size(); i++) {
+                if (group.get(i).idempotencyKey().equals("key-1")) {
+                    throw new CreateTransferUseCaseImpl.ItemFailedException(i, failure);
+                }
+            }
+            return responsesFor(group);
+        });
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(3)) {
+            List<Future<TransferOutputResponse>> results = IntStream.range(0, 3)
+                    .mapToObj(i -> callers.submit(() -> useCase.createTransfer(request(i))))
+                    .toList();
+
+            assertThat(results.get(0).get()).isSameAs(responses.get("key-0"));
+            assertThat(results.get(2).get()).isSameAs(responses.get("key-2"));
+            assertThatThrownBy(results.get(1)::get).hasCause(failure);
+        }
+        verify(delegate, times(2)).createTransfers(anyList());
+    }
+
+    @Test
+    void shouldCreateEachInItsOwnTransactionWhenGroupCommitFails() throws Exception {
+        start(2, Duration.ofMillis(500));
+        when(delegate.createTransfers(anyList())).thenThrow(new IllegalStateException("commit fallido"));
+        when(delegate.createTransfer(any())).thenAnswer(invocation -> {
+            CreateTransferInputRequest request = invocation.getArgument(0);
+            return responsesFor(List.of(request)).getFirst();
+        });
+
+        List<TransferOutputResponse> results = createConcurrently(2);
+
+        assertThat(results).containsExactly(responses.get("key-0"), responses.get("key-1"));
+        verify(delegate, times(2)).createTransfer(any());
+    }
+
+    @Test
+    void shouldCreateDirectlyWhenNotRunning() {
+        useCase = new GroupCommitCreateTransferUseCase(delegate, 1, 8, Duration.ofMillis(1));
+        CreateTransferInputRequest request = request(0);
+        TransferOutputResponse response = mock(TransferOutputResponse.class);
+        when(delegate.createTransfer(request)).thenReturn(response);
+
+        assertThat(useCase.createTransfer(request)).isSameAs(response);
+        verify(delegate, never()).createTransfers(anyList());
+    }
+
+    private void start(int maxBatchSize, Duration maxDelay) {
+        useCase = new GroupCommitCreateTransferUseCase(delegate, 1, maxBatchSize, maxDelay);
+        useCase.start();
+    }
+
+    private List<TransferOutputResponse> createConcurrently(int count) throws Exception {
+        try (ExecutorService callers = Executors.newFixedThreadPool(count)) {
+            List<Future<TransferOutputResponse>> futures = IntStream.range(0, count)
+                    .mapToObj(i -> callers.submit(() -> useCase.createTransfer(request(i))))
+                    .toList();
+            List<TransferOutputResponse> results = new ArrayList<>();
+            for (Future<TransferOutputResponse> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    private List<TransferOutputResponse> responsesFor(List<CreateTransferInputRequest> group) {
+        return group.stream()
+                .map(request -> responses.computeIfAbsent(request.idempotencyKey(),
+                        key -> mock(TransferOutputResponse.class)))
+                .toList();
+    }
+
+    private static CreateTransferInputRequest request(int index) {
+        return new CreateTransferInputRequest(
+                ORIGIN, "0000000000000000000001", new BigDecimal("10.00"), "alquiler", "key-" + index);
+    }
+}
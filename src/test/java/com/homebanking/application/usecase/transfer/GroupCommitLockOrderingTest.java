@@ -0,0 +1,131 @@
+package com.homebanking.application.usecase.transfer;
+
+import com.homebanking.application.dto.transfer.request.CreateTransferInputRequest;
+import com.homebanking.application.mapper.TransferMapper;
+import com.homebanking.domain.entity.Account;
+import com.homebanking.port.out.account.AccountRepository;
+import com.homebanking.port.out.event.EventOutbox;
+import com.homebanking.port.out.transfer.TransferRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Group commit con liquidación interna sobre H2: dos writers cuyos grupos
+ * cruzan el mismo par de cuentas (A→C, A→B contra B→C, B→A). Con los
+ * locks tomados de a uno en orden de llegada, uno de los dos se traba
+ * con el otro; con lockGroup ambos confirman en un solo commit.
+ */
+@SpringBootTest(classes = GroupCommitLockOrderingTest.PersistenceWithUseCase.class, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:group-commit-locks;LOCK_TIMEOUT=2000",
+        "spring.autoconfigure.exclude=org.springframework.boot.data.redis.autoconfigure.DataRedisAutoConfiguration"
+})
+class GroupCommitLockOrderingTest {
+
+    private static final int ROUNDS = 20;
+    private static final BigDecimal OPENING = new BigDecimal("100.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+    /**
+     * Sin @Configuration: la registra solo @SpringBootTest.
+     */
+    @EnableAutoConfiguration
+    @EnableJpaRepositories(basePackages = {
+            "com.homebanking.adapter.out.persistence.account",
+            "com.homebanking.adapter.out.persistence.transfer",
+            "com.homebanking.adapter.out.persistence.outbox"})
+    @EntityScan(basePackages = {
+            "com.homebanking.adapter.out.persistence.account",
+            "com.homebanking.adapter.out.persistence.transfer",
+            "com.homebanking.adapter.out.persistence.outbox"})
+    @ComponentScan(basePackages = {
+            "com.homebanking.adapter.out.persistence.account",
+            "com.homebanking.adapter.out.persistence.transfer",
+            "com.homebanking.adapter.out.persistence.outbox"})
+    static class PersistenceWithUseCase {
+
+        @Bean
+        CreateTransferUseCaseImpl createTransferUseCase(
+                AccountRepository accountRepository,
+                TransferRepository transferRepository,
+                EventOutbox eventOutbox) {
+            return new CreateTransferUseCaseImpl(
+                    accountRepository, transferRepository, eventOutbox, new TransferMapper(), true);
+        }
+    }
+
+    @Autowired
+    private CreateTransferUseCaseImpl createTransferUseCase;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void shouldCommitBothGroups_WhenWritersCrossTheSameAccountPair() throws Exception {
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            Account a = open(round, 'a');
+            Account b = open(round, 'b');
+            Account c = open(round, 'c');
+            List<CreateTransferInputRequest> first = List.of(request(a, c), request(a, b));
+            List<CreateTransferInputRequest> second = List.of(request(b, c), request(b, a));
+
+            CyclicBarrier start = new CyclicBarrier(2);
+            try (ExecutorService writers = Executors.newFixedThreadPool(2)) {
+                for (List<CreateTransferInputRequest> group : List.of(first, second)) {
+                    writers.submit(() -> {
+                        try {
+                            start.await();
+                            createTransferUseCase.createTransfers(group);
+                        } catch (Throwable ex) {
+                            failures.add(ex);
+                        }
+                    });
+                }
+            }
+
+            assertThat(failures).as("ronda %d", round).isEmpty();
+            assertThat(balance(a)).isEqualByComparingTo("99.00");
+            assertThat(balance(b)).isEqualByComparingTo("99.00");
+            assertThat(balance(c)).isEqualByComparingTo("102.00");
+        }
+    }
+
+    private Account open(int round, char name) {
+        String cbu = String.format("%c%021d", (char) ('1' + name - 'a'), round);
+        return transactionTemplate.execute(status -> accountRepository.save(
+                new Account(UUID.randomUUID(), cbu, "lock" + name + round, OPENING)));
+    }
+
+    private BigDecimal balance(Account account) {
+        return accountRepository.findById(account.getId()).orElseThrow().getBalance().value();
+    }
+
+    private static CreateTransferInputRequest request(Account origin, Account target) {
+        return new CreateTransferInputRequest(
+                origin.getId(), target.getCbu().value(), AMOUNT, "Cruce", UUID.randomUUID().toString());
+    }
+}
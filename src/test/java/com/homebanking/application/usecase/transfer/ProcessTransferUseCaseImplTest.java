@@ -5,8 +5,15 @@ import com.homebanking.application.dto.transfer.response.TransferProcessingResul
 import com.homebanking.application.mapper.TransferMapper;
 import com.homebanking.application.service.transfer.TransferStateTransitionService;
 import com.homebanking.domain.entity.Transfer;
+import com.homebanking.domain.enums.TransferStatus;
 import com.homebanking.domain.exception.transfer.TransferProcessingException;
+import com.homebanking.domain.exception.transfer.InvalidTransferDataException;
+import com.homebanking.domain.valueobject.common.Cbu;
+import com.homebanking.domain.valueobject.transfer.IdempotencyKey;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import com.homebanking.domain.valueobject.transfer.TransferDescription;
 import com.homebanking.port.out.transfer.TransferProcessorOutputPort;
+import com.homebanking.port.out.transfer.TransferProcessorOutputPort.SubmissionResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,9 +21,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -103,6 +116,117 @@ class ProcessTransferUseCaseImplTest {
         assertThat(resultCaptor.getValue().errorMessage())
                 .isPresent();
     }
-}
 
+    @Test
+    void shouldSubmitChunkInSingleCallAndFinalizeEachResult() {
+        Transfer accepted = preparedTransfer();
+        Transfer retryable = preparedTransfer();
+        Transfer rejected = preparedTransfer();
+        when(transferProcessor.processTransfers(List.of(accepted, retryable, rejected))).thenReturn(List.of(
+                SubmissionResult.accepted(accepted.getId()),
+                SubmissionResult.retryableFailure(retryable.getId(), "timeout"),
+                SubmissionResult.permanentFailure(rejected.getId(), "INVALID_CBU", "CBU invalido")
+        ));
+        when(stateService.finalizeBatch(anyMap())).thenReturn(List.of(accepted, retryable, rejected));
+        when(transferMapper.toDto(any(Transfer.class))).thenReturn(mock(TransferOutputResponse.class));
+
+        List<TransferOutputResponse> responses = processTransferUseCase.processTransfers(
+                List.of(accepted.getId(), retryable.getId(), rejected.getId()));
+
+        assertThat(responses).hasSize(3);
+        verify(transferProcessor).processTransfers(anyList());
+        verify(transferProcessor, never()).processTransfer(any(Transfer.class));
+        verify(stateService, never()).finalizeProcessing(any(), any());
+        Map<UUID, TransferProcessingResult> finalized = captureBatch();
+        assertThat(finalized.get(accepted.getId()).outcome()).isEqualTo(TransferProcessingResult.Outcome.SUCCESS);
+        assertThat(finalized.get(retryable.getId()).outcome())
+                .isEqualTo(TransferProcessingResult.Outcome.RECOVERABLE_FAILURE);
+        assertThat(finalized.get(rejected.getId()).outcome())
+                .isEqualTo(TransferProcessingResult.Outcome.NON_RECOVERABLE_FAILURE);
+    }
+
+    @Test
+    void shouldFinalizeOneByOneWhenBatchFinalizeFails() {
+        Transfer first = preparedTransfer();
+        Transfer second = preparedTransfer();
+        when(transferProcessor.processTransfers(List.of(first, second))).thenReturn(List.of(
+                SubmissionResult.accepted(first.getId()),
+                SubmissionResult.accepted(second.getId())
+        ));
+        when(stateService.finalizeBatch(anyMap())).thenThrow(new InvalidTransferDataException("conflict"));
+        when(stateService.finalizeProcessing(eq(first.getId()), any(TransferProcessingResult.class)))
+                .thenThrow(new InvalidTransferDataException("conflict"));
+        when(stateService.finalizeProcessing(eq(second.getId()), any(TransferProcessingResult.class)))
+                .thenReturn(second);
+        when(transferMapper.toDto(second)).thenReturn(mock(TransferOutputResponse.class));
+
+        List<TransferOutputResponse> responses =
+                processTransferUseCase.processTransfers(List.of(first.getId(), second.getId()));
+
+        assertThat(responses).hasSize(1);
+        assertOutcome(first, TransferProcessingResult.Outcome.SUCCESS);
+        assertOutcome(second, TransferProcessingResult.Outcome.SUCCESS);
+    }
+
+    @Test
+    void shouldSkipTransfersThatCannotBePreparedWithoutAbortingChunk() {
+        Transfer prepared = preparedTransfer();
+        UUID notEligible = UUID.randomUUID();
+        when(stateService.prepareForProcessing(notEligible))
+                .thenThrow(new InvalidTransferDataException("not eligible"));
+        when(transferProcessor.processTransfers(List.of(prepared)))
+                .thenReturn(List.of(SubmissionResult.accepted(prepared.getId())));
+        when(stateService.finalizeBatch(anyMap())).thenReturn(List.of(prepared));
+        when(transferMapper.toDto(prepared)).thenReturn(mock(TransferOutputResponse.class));
+
+        List<TransferOutputResponse> responses =
+                processTransferUseCase.processTransfers(List.of(notEligible, prepared.getId()));
+
+        assertThat(responses).hasSize(1);
+        assertThat(captureBatch()).containsOnlyKeys(prepared.getId());
+    }
+
+    @Test
+    void shouldMarkWholeChunkRecoverableWhenBatchCallFails() {
+        Transfer first = preparedTransfer();
+        Transfer second = preparedTransfer();
+        when(transferProcessor.processTransfers(anyList()))
+                .thenThrow(new TransferProcessingException("Error", true, "EXT-01"));
+        when(stateService.finalizeBatch(anyMap())).thenReturn(List.of(first, second));
+        when(transferMapper.toDto(any(Transfer.class))).thenReturn(mock(TransferOutputResponse.class));
+
+        processTransferUseCase.processTransfers(List.of(first.getId(), second.getId()));
+
+        assertThat(captureBatch().values())
+                .extracting(TransferProcessingResult::outcome)
+                .containsOnly(TransferProcessingResult.Outcome.RECOVERABLE_FAILURE);
+    }
+
+    private Transfer preparedTransfer() {
+        Transfer transfer = Transfer.reconstruct(
+                UUID.randomUUID(),
+                IdempotencyKey.of("idem-" + UUID.randomUUID()),
+                UUID.randomUUID(),
+                Cbu.of("1234567890123456789012"),
+                TransferAmount.of(new BigDecimal("100")),
+                TransferDescription.of("Test"),
+                TransferStatus.PROCESSING,
+                LocalDateTime.now(), null, null, null, 0, null, null, null, null, null, null
+        );
+        when(stateService.prepareForProcessing(transfer.getId())).thenReturn(transfer);
+        return transfer;
+    }
 
+    @SuppressWarnings("unchecked")
+    private Map<UUID, TransferProcessingResult> captureBatch() {
+        ArgumentCaptor<Map<UUID, TransferProcessingResult>> batchCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(stateService).finalizeBatch(batchCaptor.capture());
+        return batchCaptor.getValue();
+    }
+
+    private void assertOutcome(Transfer transfer, TransferProcessingResult.Outcome expected) {
+        ArgumentCaptor<TransferProcessingResult> resultCaptor = ArgumentCaptor.forClass(TransferProcessingResult.class);
+        verify(stateService).finalizeProcessing(eq(transfer.getId()), resultCaptor.capture());
+        assertThat(resultCaptor.getValue().outcome()).isEqualTo(expected);
+    }
+}
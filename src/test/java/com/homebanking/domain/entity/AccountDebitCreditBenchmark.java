@@ -0,0 +1,85 @@
+package com.homebanking.domain.entity;
+
+import com.homebanking.domain.valueobject.common.Money;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark: Account.debit / Account.credit con el monto ya en Money (lo
+ * que llega desde TransferAmount), incluido el movimiento que queda
+ * pendiente en el ledger. Cada PENDING operaciones se vacía el ledger,
+ * como hace persistencia al guardar.
+ * Reporta ns/op y bytes asignados por op (contador de la JVM por hilo).
+
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=AccountDebitCreditBenchmark
+ */
+@Tag("benchmark")
+class AccountDebitCreditBenchmark {
+
+    private static final int OPERATIONS = 5_000_000;
+    private static final int PENDING = 16;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 5;
+
+    private static final String REFERENCE = UUID.randomUUID().toString();
+    private static final Money[] AMOUNTS = {
+            Money.of(new BigDecimal("10.00")), Money.of(new BigDecimal("0.01")),
+            Money.of(new BigDecimal("1234.56")), Money.of(new BigDecimal("99.99"))};
+
+    @Test
+    void measureDebitAndCredit() {
+        Account account = Account.reconstruct(UUID.randomUUID(), UUID.randomUUID(), "1234567890123456789012",
+                "bench.alias", new BigDecimal("1000000.00"), LocalDateTime.now(), 0L);
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += run(account);
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long bestNanos = Long.MAX_VALUE;
+        long allocated = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            sink += run(account);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            allocated += threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        }
+        double bytesPerOperation = (double) allocated / ROUNDS / OPERATIONS;
+
+        System.out.printf("debit+credit   %.2f ns/op  %.1f bytes/op%n",
+                (double) bestNanos / OPERATIONS, bytesPerOperation);
+
+        assertThat(sink).isNotZero();
+        assertThat(account.getBalance().value()).isEqualByComparingTo("1000000.00");
+        // Ni un objeto por operación: saldo en centavos y ledger en PendingLedger
+        assertThat(bytesPerOperation).isLessThan(16.0);
+    }
+
+    /**
+     * Cada operación es un débito y el crédito que lo devuelve.
+     */
+    private static long run(Account account) {
+        long sink = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            Money amount = AMOUNTS[i & 3];
+            account.debit(amount, REFERENCE);
+            account.credit(amount, REFERENCE);
+            if ((i & (PENDING - 1)) == PENDING - 1) {
+                account.clearLedgerEntries();
+            }
+            sink += amount.minor();
+        }
+        account.clearLedgerEntries();
+        return sink;
+    }
+}
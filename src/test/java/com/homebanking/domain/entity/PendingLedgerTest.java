@@ -0,0 +1,65 @@
+package com.homebanking.domain.entity;
+
+import com.homebanking.domain.enums.LedgerDirection;
+import com.homebanking.domain.valueobject.account.LedgerEntry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PendingLedgerTest {
+
+    @Test
+    void shouldBuildEntriesInOrder_WhenMovementsExceedInitialCapacity() {
+        // Arrange
+        Account account = Account.reconstruct(UUID.randomUUID(), UUID.randomUUID(), "1234567890123456789012",
+                "pending.alias", new BigDecimal("100.00"), LocalDateTime.now(), 0L);
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        // Act
+        for (int i = 1; i <= 5; i++) {
+            account.debit(new BigDecimal(i + ".25"), "debit-" + i);
+        }
+        account.credit(new BigDecimal("0.01"), "credit");
+        LocalDateTime after = LocalDateTime.now();
+
+        // Assert
+        List<LedgerEntry> entries = account.getLedgerEntries();
+        assertThat(entries).extracting(LedgerEntry::direction, LedgerEntry::amount, LedgerEntry::reference)
+                .containsExactly(
+                        tuple(LedgerDirection.DEBIT, new BigDecimal("1.25"), "debit-1"),
+                        tuple(LedgerDirection.DEBIT, new BigDecimal("2.25"), "debit-2"),
+                        tuple(LedgerDirection.DEBIT, new BigDecimal("3.25"), "debit-3"),
+                        tuple(LedgerDirection.DEBIT, new BigDecimal("4.25"), "debit-4"),
+                        tuple(LedgerDirection.DEBIT, new BigDecimal("5.25"), "debit-5"),
+                        tuple(LedgerDirection.CREDIT, new BigDecimal("0.01"), "credit"));
+        assertThat(entries).allSatisfy(entry ->
+                assertThat(entry.occurredAt()).isBetween(before, after));
+        assertThat(account.getBalance().value()).isEqualByComparingTo("83.76");
+    }
+
+    @Test
+    void shouldStartEmptyAgain_WhenCleared() {
+        // Arrange
+        Account account = Account.reconstruct(UUID.randomUUID(), UUID.randomUUID(), "1234567890123456789012",
+                "pending.alias", new BigDecimal("100.00"), LocalDateTime.now(), 0L);
+        account.debit(new BigDecimal("10.00"), "first");
+
+        // Act
+        account.clearLedgerEntries();
+        account.credit(new BigDecimal("5.00"), "second");
+
+        // Assert
+        assertThat(account.hasLedgerEntries()).isTrue();
+        assertThat(account.getLedgerEntries()).extracting(LedgerEntry::reference).containsExactly("second");
+        account.clearLedgerEntries();
+        assertThat(account.hasLedgerEntries()).isFalse();
+        assertThat(account.getLedgerEntries()).isEmpty();
+    }
+}
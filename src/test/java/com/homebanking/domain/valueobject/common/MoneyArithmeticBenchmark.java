@@ -0,0 +1,118 @@
+package com.homebanking.domain.valueobject.common;
+
+import com.homebanking.domain.valueobject.account.AccountBalance;
+import com.homebanking.domain.valueobject.transfer.TransferAmount;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark: núcleo del débito/crédito del saldo.
+ * - BigDecimal: lo que hacía Account antes (compareTo, subtract/add y
+ *   AccountBalance sobre BigDecimal)
+ * - Money: saldo en centavos (long) como lo guarda Account ahora, con el
+ *   Money que TransferAmount ya trae armado
+ * Por operación: validar monto positivo, comparar contra el saldo,
+ * restar y volver a sumar (crédito).
+ * Reporta ns/op y bytes asignados por op (contador de la JVM por hilo).
+
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=MoneyArithmeticBenchmark
+ */
+@Tag("benchmark")
+class MoneyArithmeticBenchmark {
+
+    private static final int OPERATIONS = 5_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 5;
+
+    private static final BigDecimal OPENING = new BigDecimal("1000000.00");
+    private static final BigDecimal[] AMOUNTS = {
+            new BigDecimal("10.00"), new BigDecimal("0.01"), new BigDecimal("1234.56"), new BigDecimal("99.99")};
+
+    @Test
+    void compareBigDecimalAndMinorUnits() {
+        TransferAmount[] amounts = new TransferAmount[AMOUNTS.length];
+        for (int i = 0; i < AMOUNTS.length; i++) {
+            amounts[i] = TransferAmount.of(AMOUNTS[i]);
+        }
+
+        Result bigDecimal = measure("BigDecimal", () -> bigDecimalOperations(AMOUNTS));
+        Result money = measure("Money (long)", () -> moneyOperations(amounts));
+
+        report(bigDecimal);
+        report(money);
+
+        assertThat(money.checksum()).isEqualTo(bigDecimal.checksum());
+        assertThat(money.bytesPerOperation()).isLessThan(bigDecimal.bytesPerOperation());
+    }
+
+    private static long bigDecimalOperations(BigDecimal[] amounts) {
+        BigDecimal balance = OPENING;
+        for (int i = 0; i < OPERATIONS; i++) {
+            BigDecimal amount = amounts[i & 3];
+            if (amount.compareTo(BigDecimal.ZERO) <= 0 || balance.compareTo(amount) < 0) {
+                throw new IllegalStateException();
+            }
+            balance = legacyBalance(balance.subtract(amount));
+            balance = legacyBalance(balance.add(amount));
+        }
+        return balance.movePointRight(2).longValueExact();
+    }
+
+    private static long moneyOperations(TransferAmount[] amounts) {
+        long balance = AccountBalance.of(OPENING).minor();
+        for (int i = 0; i < OPERATIONS; i++) {
+            Money amount = amounts[i & 3].amount();
+            if (amount.signum() <= 0 || balance < amount.minor()) {
+                throw new IllegalStateException();
+            }
+            balance -= amount.minor();
+            balance = Math.addExact(balance, amount.minor());
+        }
+        return balance;
+    }
+
+    /**
+     * Lo que validaba AccountBalance.of sobre BigDecimal.
+     */
+    private static BigDecimal legacyBalance(BigDecimal value) {
+        if (value.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalStateException();
+        }
+        return value;
+    }
+
+    private static Result measure(String label, LongSupplier operations) {
+        long checksum = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            checksum = operations.getAsLong();
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long bestNanos = Long.MAX_VALUE;
+        long allocated = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            checksum = operations.getAsLong();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            allocated += threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        }
+        return new Result(label, (double) bestNanos / OPERATIONS,
+                (double) allocated / ROUNDS / OPERATIONS, checksum);
+    }
+
+    private static void report(Result result) {
+        System.out.printf("%-14s %.2f ns/op  %.1f bytes/op%n",
+                result.label(), result.nanosPerOperation(), result.bytesPerOperation());
+    }
+
+    private record Result(String label, double nanosPerOperation, double bytesPerOperation, long checksum) {
+    }
+}
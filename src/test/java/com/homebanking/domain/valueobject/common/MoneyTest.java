@@ -0,0 +1,81 @@
+package com.homebanking.domain.valueobject.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void shouldRoundTripBigDecimalThroughMinorUnits() {
+        // Arrange
+        BigDecimal amount = new BigDecimal("1234.56");
+
+        // Act
+        Money money = Money.of(amount);
+
+        // Assert
+        assertThat(money.minor()).isEqualTo(123_456L);
+        assertThat(money.toBigDecimal()).isEqualTo(amount);
+        assertThat(money.toBigDecimal().scale()).isEqualTo(Money.SCALE);
+    }
+
+    @Test
+    void shouldNormalizeShorterScaleToTwoDecimals() {
+        assertThat(Money.of(new BigDecimal("10")).toBigDecimal()).isEqualTo(new BigDecimal("10.00"));
+        assertThat(Money.of(new BigDecimal("0.5")).minor()).isEqualTo(50L);
+        assertThat(Money.of(new BigDecimal("-7.25")).toBigDecimal()).isEqualTo(new BigDecimal("-7.25"));
+    }
+
+    @Test
+    void shouldAcceptTrailingZerosBeyondScale() {
+        assertThat(Money.of(new BigDecimal("10.500")).minor()).isEqualTo(1_050L);
+    }
+
+    @Test
+    void shouldRejectMoreThanTwoDecimals() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("10.001")))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.toMinor(new BigDecimal("0.005")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldRejectAmountOutOfLongRange() {
+        BigDecimal tooLarge = BigDecimal.valueOf(Long.MAX_VALUE).movePointLeft(2).add(new BigDecimal("0.01"));
+
+        assertThatThrownBy(() -> Money.of(tooLarge))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldRejectOverflowOnPlus() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldRejectOverflowOnMinus() {
+        Money min = Money.ofMinor(Long.MIN_VALUE);
+
+        assertThatThrownBy(() -> min.minus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldAddSubtractAndCompareInMinorUnits() {
+        Money ten = Money.of(new BigDecimal("10.00"));
+        Money cent = Money.of(new BigDecimal("0.01"));
+
+        assertThat(ten.plus(cent).toBigDecimal()).isEqualTo(new BigDecimal("10.01"));
+        assertThat(ten.minus(cent).minor()).isEqualTo(999L);
+        assertThat(cent.isLessThan(ten)).isTrue();
+        assertThat(ten.minus(ten)).isSameAs(Money.ZERO);
+        assertThat(Money.of(new BigDecimal("10"))).isEqualTo(ten).hasSameHashCodeAs(ten);
+    }
+}